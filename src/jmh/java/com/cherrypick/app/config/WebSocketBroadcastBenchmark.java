@@ -0,0 +1,107 @@
+package com.cherrypick.app.config;
+
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.cherrypick.app.domain.websocket.outbound.OutboundMessageDispatcher;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLogs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 구독자 브로드캐스트(fan-out) 비용 벤치마크
+ *
+ * - perSessionSerialization: 기존 방식 (구독자 세션마다 ObjectMapper 직렬화 후 TextMessage 생성)
+ * - serializeOnce: WebSocketHandler.broadcastToAuction (한 번 직렬화한 TextMessage 를 모든 세션이 공유)
+ *
+ * 세션은 전송 바이트 수만 더하는 가짜 세션이므로 네트워크 전송 비용은 포함하지 않는다.
+ * 송신 대기열은 호출 스레드에서 바로 비우도록 구성해 전송까지 한 번에 측정한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=WebSocketBroadcastBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebSocketBroadcastBenchmark {
+
+    private static final String AUCTION_ID = "1";
+
+    @Param({"100", "1000", "5000"})
+    private int subscriberCount;
+
+    private WebSocketHandler handler;
+    private ObjectMapper objectMapper;
+    private List<WebSocketSession> sessions;
+    private AuctionUpdateMessage message;
+    private long sentBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SessionLivenessManager livenessManager = new SessionLivenessManager(new SimpleMeterRegistry(), 1000, 90_000);
+        handler = new WebSocketHandler(event -> { }, null,
+                new OutboundMessageDispatcher(new SimpleMeterRegistry(), Runnable::run, 1024, 1 << 20, 10_000),
+                livenessManager, new TopicReplayLogs(livenessManager, 64, 60_000));
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        sessions = new ArrayList<>(subscriberCount);
+        for (int i = 0; i < subscriberCount; i++) {
+            WebSocketSession session = fakeSession("session-" + i);
+            handler.afterConnectionEstablished(session);
+            handler.handleTextMessage(session,
+                    new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"" + AUCTION_ID + "\"}"));
+            sessions.add(session);
+        }
+        message = AuctionUpdateMessage.newBid(1L, BigDecimal.valueOf(125_000), 42, "체리****");
+    }
+
+    @Benchmark
+    public long perSessionSerialization() throws Exception {
+        for (WebSocketSession session : sessions) {
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+        }
+        return sentBytes;
+    }
+
+    @Benchmark
+    public long serializeOnce() {
+        handler.broadcastToAuction(AUCTION_ID, message);
+        return sentBytes;
+    }
+
+    private WebSocketSession fakeSession(String id) {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> true;
+                    case "sendMessage" -> {
+                        sentBytes += ((WebSocketMessage<?>) args[0]).getPayloadLength();
+                        yield null;
+                    }
+                    case "hashCode" -> id.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
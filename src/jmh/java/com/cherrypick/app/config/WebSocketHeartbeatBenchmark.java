@@ -0,0 +1,115 @@
+package com.cherrypick.app.config;
+
+import com.cherrypick.app.domain.websocket.event.UserConnectionEvent;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.cherrypick.app.domain.websocket.outbound.OutboundMessageDispatcher;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLogs;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 하트비트(PING) 수신 처리 비용 벤치마크
+ *
+ * - legacyPing: 기존 방식 (readTree 로 트리 생성, PING 마다 UserConnectionEvent 발행, Map 을 ObjectMapper 로 직렬화해 PONG)
+ * - streamingPing: WebSocketHandler.handleTextMessage (스트리밍 파싱, 활동 시각만 기록, PONG 틀 사용)
+ * - streamingSubscribe: 같은 경로의 SUBSCRIBE 요청 (구독 확인 응답 포함)
+ *
+ * 요청당 할당량(gc.alloc.rate.norm)은 build.gradle 의 jmh 설정에 켜둔 gc 프로파일러 결과로 비교한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=WebSocketHeartbeatBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WebSocketHeartbeatBenchmark {
+
+    private static final String SESSION_ID = "session-1";
+    private static final long USER_ID = 7L;
+
+    private WebSocketHandler handler;
+    private ObjectMapper objectMapper;
+    private ApplicationEventPublisher eventPublisher;
+    private WebSocketSession session;
+    private TextMessage ping;
+    private TextMessage subscribe;
+    private long sentBytes;
+    private long publishedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        eventPublisher = event -> publishedEvents++;
+        SessionLivenessManager livenessManager = new SessionLivenessManager(new SimpleMeterRegistry(), 1000, 90_000);
+        handler = new WebSocketHandler(eventPublisher, null,
+                new OutboundMessageDispatcher(new SimpleMeterRegistry(), Runnable::run, 1024, 1 << 20, 10_000),
+                livenessManager, new TopicReplayLogs(livenessManager, 64, 60_000));
+        objectMapper = new ObjectMapper();
+
+        session = fakeSession();
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"AUTH\",\"userId\":" + USER_ID + "}"));
+
+        ping = new TextMessage("{\"type\":\"PING\",\"timestamp\":1700000000000}");
+        subscribe = new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"1\"}");
+    }
+
+    @Benchmark
+    public long legacyPing() throws Exception {
+        JsonNode node = objectMapper.readTree(ping.getPayload());
+        String type = node.has("type") ? node.get("type").asText() : "";
+        if ("PING".equals(type)) {
+            long timestamp = node.has("timestamp") ? node.get("timestamp").asLong() : System.currentTimeMillis();
+            eventPublisher.publishEvent(new UserConnectionEvent(
+                    this, USER_ID, SESSION_ID, UserConnectionEvent.ConnectionEventType.ACTIVITY_UPDATE));
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(Map.of(
+                    "type", "PONG",
+                    "timestamp", timestamp,
+                    "serverTime", System.currentTimeMillis()))));
+        }
+        return sentBytes + publishedEvents;
+    }
+
+    @Benchmark
+    public long streamingPing() throws Exception {
+        handler.handleTextMessage(session, ping);
+        return sentBytes + publishedEvents;
+    }
+
+    @Benchmark
+    public long streamingSubscribe() throws Exception {
+        handler.handleTextMessage(session, subscribe);
+        return sentBytes;
+    }
+
+    private WebSocketSession fakeSession() {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> SESSION_ID;
+                    case "isOpen" -> true;
+                    case "sendMessage" -> {
+                        sentBytes += ((WebSocketMessage<?>) args[0]).getPayloadLength();
+                        yield null;
+                    }
+                    case "hashCode" -> SESSION_ID.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,119 @@
+package com.cherrypick.app.config;
+
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.cherrypick.app.domain.websocket.outbound.OutboundMessageDispatcher;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLogs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 대상 전송(sendToUser) 세션 조회 비용 벤치마크
+ *
+ * - fullScan: 기존 방식 (sessionUserMapping 전체를 순회해 userId 가 같은 세션 탐색)
+ * - reverseIndex: WebSocketHandler.sendToUser (userId -> 세션 역색인 조회)
+ *
+ * 사용자 1명당 세션 2개로 연결하고, 매 호출마다 다른 사용자에게 알림 1건을 보낸다.
+ * 실행: ./gradlew jmh -Pjmh.includes=WebSocketSendToUserBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WebSocketSendToUserBenchmark {
+
+    private static final int SESSIONS_PER_USER = 2;
+
+    @Param({"1000", "50000"})
+    private int sessionCount;
+
+    private WebSocketHandler handler;
+    private ObjectMapper objectMapper;
+    private final Map<String, Long> sessionUserMapping = new ConcurrentHashMap<>();
+    private final Map<String, WebSocketSession> activeSessions = new ConcurrentHashMap<>();
+    private Map<String, Object> notification;
+    private int userCount;
+    private long nextUser;
+    private long sentBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SessionLivenessManager livenessManager = new SessionLivenessManager(new SimpleMeterRegistry(), 1000, 90_000);
+        handler = new WebSocketHandler(event -> { }, null,
+                new OutboundMessageDispatcher(new SimpleMeterRegistry(), Runnable::run, 1024, 1 << 20, 10_000),
+                livenessManager, new TopicReplayLogs(livenessManager, 64, 60_000));
+        objectMapper = new ObjectMapper();
+        userCount = sessionCount / SESSIONS_PER_USER;
+
+        for (int i = 0; i < sessionCount; i++) {
+            long userId = i % userCount + 1;
+            WebSocketSession session = fakeSession("session-" + i);
+            handler.afterConnectionEstablished(session);
+            handler.handleTextMessage(session, new TextMessage("{\"type\":\"AUTH\",\"userId\":" + userId + "}"));
+            sessionUserMapping.put(session.getId(), userId);
+            activeSessions.put(session.getId(), session);
+        }
+        notification = Map.of("type", "UNREAD_COUNT", "count", 3);
+    }
+
+    @Benchmark
+    public long fullScan() throws Exception {
+        Long userId = nextUserId();
+        TextMessage encoded = null;
+        for (Map.Entry<String, Long> entry : sessionUserMapping.entrySet()) {
+            if (entry.getValue().equals(userId)) {
+                WebSocketSession session = activeSessions.get(entry.getKey());
+                if (session != null && session.isOpen()) {
+                    if (encoded == null) {
+                        encoded = new TextMessage(objectMapper.writeValueAsBytes(notification));
+                    }
+                    session.sendMessage(encoded);
+                }
+            }
+        }
+        return sentBytes;
+    }
+
+    @Benchmark
+    public long reverseIndex() {
+        handler.sendToUser(String.valueOf(nextUserId()), notification);
+        return sentBytes;
+    }
+
+    private long nextUserId() {
+        nextUser = nextUser % userCount + 1;
+        return nextUser;
+    }
+
+    private WebSocketSession fakeSession(String id) {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> true;
+                    case "sendMessage" -> {
+                        sentBytes += ((WebSocketMessage<?>) args[0]).getPayloadLength();
+                        yield null;
+                    }
+                    case "hashCode" -> id.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
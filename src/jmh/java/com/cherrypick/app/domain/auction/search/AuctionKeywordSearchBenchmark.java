@@ -0,0 +1,148 @@
+package com.cherrypick.app.domain.auction.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매 키워드 검색 벤치마크 (경매 100,000건, 한국어 상품명/설명)
+ *
+ * - likeScan: 기존 쿼리의 계산 부분
+ *   (모든 행의 LOWER(title)/LOWER(description) 에 '%키워드%' 부분 문자열 검사)
+ * - ngramIndex: AuctionSearchTokenizer 토큰의 역색인(= auction_search_documents GIN 인덱스)에서
+ *   검색어 2-gram 의 게시 목록만 교집합하고, 인접 조건(<->)은 후보에만 확인
+ *
+ * DB에서는 여기에 전체 행을 읽는 I/O 차이가 더해진다.
+ * 실제 실행 계획은 EXPLAIN ANALYZE 로 idx_auction_search_documents_document 사용 여부를 확인한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=AuctionKeywordSearchBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AuctionKeywordSearchBenchmark {
+
+    private static final String[] BRANDS = {"애플", "삼성", "엘지", "나이키", "아디다스", "소니", "다이슨", "캐논", "샤오미", "코베아"};
+    private static final String[] PRODUCTS = {"아이폰", "갤럭시", "노트북", "가방", "운동화", "헤드폰", "청소기", "카메라",
+            "텐트", "캠핑의자", "모니터", "키보드", "자전거", "패딩", "시계"};
+    private static final String[] WORDS = {"상태", "좋아요", "거의", "새것", "박스", "포함", "직거래", "택배", "가능",
+            "사용감", "있습니다", "정품", "구매", "영수증", "급처", "네고", "사절", "깨끗합니다"};
+
+    @Param({"100000"})
+    private int auctionCount;
+
+    @Param({"아이폰", "가방", "캠핑"})
+    private String keyword;
+
+    private String[] titles;
+    private String[] descriptions;
+    private Map<String, int[]> postings;
+    private List<String> keywordBigrams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        titles = new String[auctionCount];
+        descriptions = new String[auctionCount];
+        Map<String, List<Integer>> building = new HashMap<>();
+        for (int i = 0; i < auctionCount; i++) {
+            titles[i] = BRANDS[random.nextInt(BRANDS.length)] + " " + PRODUCTS[random.nextInt(PRODUCTS.length)]
+                    + (random.nextInt(3) == 0 ? random.nextInt(20) : "") + " 팝니다";
+            StringBuilder description = new StringBuilder();
+            for (int w = 0; w < 30; w++) {
+                description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            descriptions[i] = description.toString();
+
+            Set<String> tokens = new LinkedHashSet<>();
+            tokens.addAll(Arrays.asList(AuctionSearchTokenizer.documentTokens(titles[i]).split(" ")));
+            tokens.addAll(Arrays.asList(AuctionSearchTokenizer.documentTokens(descriptions[i]).split(" ")));
+            for (String token : tokens) {
+                building.computeIfAbsent(token, t -> new ArrayList<>()).add(i);
+            }
+        }
+        postings = new HashMap<>();
+        building.forEach((token, ids) -> postings.put(token, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        keywordBigrams = new ArrayList<>();
+        for (int i = 0; i + 2 <= keyword.length(); i++) {
+            keywordBigrams.add(keyword.substring(i, i + 2));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> likeScan() {
+        String pattern = keyword.toLowerCase(Locale.ROOT);
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < auctionCount; i++) {
+            if (titles[i].toLowerCase(Locale.ROOT).contains(pattern)
+                    || descriptions[i].toLowerCase(Locale.ROOT).contains(pattern)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> ngramIndex() {
+        // 가장 짧은 게시 목록부터 교집합
+        List<int[]> lists = new ArrayList<>();
+        for (String bigram : keywordBigrams) {
+            int[] list = postings.get(bigram);
+            if (list == null) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+        int[] candidates = lists.get(0);
+        for (int l = 1; l < lists.size(); l++) {
+            candidates = intersect(candidates, lists.get(l));
+        }
+
+        // 인접 조건 확인 (tsvector 위치 비교에 해당)
+        List<Integer> result = new ArrayList<>();
+        for (int id : candidates) {
+            if (titles[id].contains(keyword) || descriptions[id].contains(keyword)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] out = new int[Math.min(left.length, right.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                out[n++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cherrypick.app.domain.bid.proxy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프록시 입찰 해소 벤치마크 (경매당 자동입찰 1,000건 경쟁)
+ *
+ * - legacyFullScan: 기존 AutoBidService 경로의 CPU 부분
+ *   (활성 설정 전체를 목록으로 적재한 뒤 stream max 로 최고 상한 탐색)
+ * - ladderTopTwo: ProxyBidLadder 상위 2건 + ProxyBidResolver 해소
+ *
+ * 기존 경로는 여기에 더해 입찰마다 설정 1,000행을 DB에서 읽고 엔티티로 만드는 비용이 있으므로
+ * 실제 차이는 이 결과보다 크다. 실행: ./gradlew jmh -Pjmh.includes=ProxyBidBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProxyBidBenchmark {
+
+    private static final BigDecimal INCREMENT = new BigDecimal("1000");
+
+    @Param({"1000"})
+    private int proxyCount;
+
+    private List<ProxyBid> settingRows;
+    private ProxyBidLadder ladder;
+    private BigDecimal manualBidAmount;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42);
+        settingRows = new ArrayList<>(proxyCount);
+        ladder = new ProxyBidLadder();
+        for (long bidderId = 1; bidderId <= proxyCount; bidderId++) {
+            BigDecimal max = BigDecimal.valueOf(100_000 + random.nextInt(900_000) / 100 * 100);
+            settingRows.add(new ProxyBid(bidderId, max, bidderId));
+            ladder.register(bidderId, max);
+        }
+        manualBidAmount = new BigDecimal("150000");
+    }
+
+    @Benchmark
+    public Optional<ProxyBidExecution> legacyFullScan() {
+        // 기존: findActiveAutoBidSettingsExcludingBidder 결과 전체를 매 입찰마다 새로 적재
+        List<ProxyBid> loaded = new ArrayList<>(settingRows);
+        ProxyBid highest = loaded.stream()
+                .max((a, b) -> a.getMaxAmount().compareTo(b.getMaxAmount()))
+                .orElse(null);
+        if (highest == null) {
+            return Optional.empty();
+        }
+        BigDecimal next = manualBidAmount.add(INCREMENT);
+        if (next.compareTo(highest.getMaxAmount()) > 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new ProxyBidExecution(highest.getBidderId(), next, highest.getMaxAmount()));
+    }
+
+    @Benchmark
+    public Optional<ProxyBidExecution> ladderTopTwo() {
+        return ProxyBidResolver.resolveManualBid(ladder.topTwo(), manualBidAmount, INCREMENT, null);
+    }
+
+    @Benchmark
+    public List<ProxyBidExecution> ladderNewProxyWithChurn() {
+        // 설정 재등록(취소 + 등록) 후 본인 제외 최고 상한과 경쟁
+        long bidderId = 1 + random.nextInt(proxyCount);
+        BigDecimal max = BigDecimal.valueOf(100_000 + random.nextInt(900_000) / 100 * 100);
+        ladder.register(bidderId, max);
+        return ProxyBidResolver.resolveNewProxy(ladder.topTwo(), bidderId, max, manualBidAmount, INCREMENT);
+    }
+}
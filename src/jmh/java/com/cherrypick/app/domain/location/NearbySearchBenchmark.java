@@ -0,0 +1,124 @@
+package com.cherrypick.app.domain.location;
+
+import com.cherrypick.app.domain.location.dto.GeoBoundingBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내 주변 경매 검색 벤치마크 (진행 중 경매 100,000건, 국내 좌표 균등 분포)
+ *
+ * - fullScanHaversine: 기존 쿼리의 계산 부분
+ *   (모든 행에 acos 거리 계산 후 반경 필터, 거리순 정렬)
+ * - boundingBoxPrefilter: 위도순 정렬 배열(= (status, latitude, longitude) B-tree)에서
+ *   경계 상자 위도 범위만 이분 탐색으로 읽고, 경도 조건을 통과한 후보에만 거리 계산
+ *
+ * DB에서는 여기에 전체 행을 읽는 I/O 차이가 더해진다.
+ * 실제 실행 계획은 EXPLAIN ANALYZE 로 idx_auctions_status_location 범위 스캔 여부를 확인한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=NearbySearchBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearbySearchBenchmark {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Param({"100000"})
+    private int auctionCount;
+
+    @Param({"5", "10", "50"})
+    private double radiusKm;
+
+    private double[][] rows;
+    private double[][] rowsByLatitude;
+    private double[] sortedLatitudes;
+    private double centerLatitude;
+    private double centerLongitude;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new double[auctionCount][];
+        for (int i = 0; i < auctionCount; i++) {
+            // {id, latitude, longitude}
+            rows[i] = new double[]{i, 33.0 + random.nextDouble() * 5.5, 126.0 + random.nextDouble() * 3.5};
+        }
+        rowsByLatitude = rows.clone();
+        Arrays.sort(rowsByLatitude, Comparator.comparingDouble(row -> row[1]));
+        sortedLatitudes = new double[auctionCount];
+        for (int i = 0; i < auctionCount; i++) {
+            sortedLatitudes[i] = rowsByLatitude[i][1];
+        }
+        // 서울 시청
+        centerLatitude = 37.5665;
+        centerLongitude = 126.9780;
+    }
+
+    @Benchmark
+    public List<double[]> fullScanHaversine() {
+        List<double[]> result = new ArrayList<>();
+        for (double[] row : rows) {
+            double distance = distance(centerLatitude, centerLongitude, row[1], row[2]);
+            if (distance <= radiusKm) {
+                result.add(new double[]{row[0], distance});
+            }
+        }
+        result.sort(Comparator.comparingDouble(row -> row[1]));
+        return result;
+    }
+
+    @Benchmark
+    public List<double[]> boundingBoxPrefilter() {
+        GeoBoundingBox box = GeoBoundingBox.of(centerLatitude, centerLongitude, radiusKm);
+        List<double[]> result = new ArrayList<>();
+        for (int i = lowerBound(box.getMinLatitude()); i < auctionCount && sortedLatitudes[i] <= box.getMaxLatitude(); i++) {
+            double[] row = rowsByLatitude[i];
+            if (row[2] < box.getMinLongitude() || row[2] > box.getMaxLongitude()) {
+                continue;
+            }
+            double distance = distance(centerLatitude, centerLongitude, row[1], row[2]);
+            if (distance <= radiusKm) {
+                result.add(new double[]{row[0], distance});
+            }
+        }
+        result.sort(Comparator.comparingDouble(row -> row[1]));
+        return result;
+    }
+
+    private int lowerBound(double latitude) {
+        int low = 0;
+        int high = auctionCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedLatitudes[mid] < latitude) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 쿼리와 같은 구면 코사인 법칙 (acos)
+    private static double distance(double lat1, double lon1, double lat2, double lon2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        double cosine = Math.cos(lat1Rad) * Math.cos(lat2Rad) * Math.cos(Math.toRadians(lon2) - Math.toRadians(lon1))
+                + Math.sin(lat1Rad) * Math.sin(lat2Rad);
+        return EARTH_RADIUS_KM * Math.acos(Math.min(1.0, cosine));
+    }
+}
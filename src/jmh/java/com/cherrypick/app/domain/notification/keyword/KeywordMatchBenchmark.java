@@ -0,0 +1,122 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키워드 알림 매칭 벤치마크 (활성 키워드 1,000,000건, 한국어 상품명 제목)
+ *
+ * - likeScan: 기존 findMatchingKeywords 쿼리의 계산 부분
+ *   (모든 활성 행에 LOWER(title) LIKE '%키워드%' 와 카테고리 조건 검사)
+ * - automaton: UserKeywordIndex (제목을 Aho–Corasick 오토마톤으로 한 번 훑고, 찾은 키워드의 카테고리별 구독만 수집)
+ * - buildAutomaton: 전체 키워드로 오토마톤을 새로 만드는 비용 (새 키워드 반영/전체 재적재 시)
+ *
+ * 키워드는 상품명 사전 + 2~4음절 무작위 단어로 만들어, 인기 키워드는 여러 사용자가 함께 구독한다.
+ * DB에서는 likeScan 에 user_keywords 전체를 읽는 I/O 가 더해진다.
+ * 실행: ./gradlew jmh -Pjmh.includes=KeywordMatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatchBenchmark {
+
+    private static final String[] PRODUCTS = {"아이폰", "갤럭시", "맥북", "노트북", "에어팟", "가방", "운동화", "헤드폰",
+            "청소기", "카메라", "텐트", "캠핑의자", "모니터", "키보드", "자전거", "패딩", "시계", "닌텐도", "플스", "아이패드"};
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하거너더러머버서어저처커터퍼허고노도로모보소오조초코토포호";
+    private static final Category[] CATEGORIES = Category.values();
+
+    @Param({"1000000"})
+    private int subscriptionCount;
+
+    private String[] titles;
+    private Category[] titleCategories;
+    private KeywordSubscription[] rows;
+    private List<String> keywords;
+    private UserKeywordIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rows = new KeywordSubscription[subscriptionCount];
+        keywords = new ArrayList<>(subscriptionCount);
+        index = new UserKeywordIndex(null, new SimpleMeterRegistry(), 10_000, TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < subscriptionCount; i++) {
+            String keyword = random.nextInt(10) == 0
+                    ? PRODUCTS[random.nextInt(PRODUCTS.length)]
+                    : randomWord(random, 2 + random.nextInt(3));
+            // 30% 는 카테고리 지정
+            Category category = random.nextInt(10) < 3 ? CATEGORIES[random.nextInt(CATEGORIES.length)] : null;
+            rows[i] = new KeywordSubscription((long) i + 1, (long) random.nextInt(subscriptionCount / 5) + 1, keyword, category);
+            keywords.add(keyword);
+        }
+        // 실제 기동 시 전체 적재와 같은 상태 (모든 키워드가 오토마톤에 있음)
+        for (KeywordSubscription row : rows) {
+            index.add(row);
+        }
+        index.rebuildAutomaton();
+
+        titles = new String[256];
+        titleCategories = new Category[titles.length];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = randomWord(random, 2) + " " + PRODUCTS[random.nextInt(PRODUCTS.length)] + " "
+                    + randomWord(random, 3) + " " + random.nextInt(20) + " 팝니다";
+            titleCategories[i] = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.stop();
+    }
+
+    @Benchmark
+    public List<KeywordSubscription> likeScan() {
+        int i = next++ & (titles.length - 1);
+        String title = titles[i].toLowerCase();
+        Category category = titleCategories[i];
+        List<KeywordSubscription> result = new ArrayList<>();
+        for (KeywordSubscription row : rows) {
+            if (title.contains(row.getKeyword()) && (row.getCategory() == null || row.getCategory() == category)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<KeywordSubscription> automaton() {
+        int i = next++ & (titles.length - 1);
+        return index.findMatches(titles[i], titleCategories[i]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public KeywordAutomaton buildAutomaton() {
+        return KeywordAutomaton.build(keywords);
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return builder.toString();
+    }
+}
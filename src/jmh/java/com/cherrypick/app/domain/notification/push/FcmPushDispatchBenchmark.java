@@ -0,0 +1,161 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.google.firebase.messaging.Message;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 푸시 발송 처리량 벤치마크 (로컬 HTTP 스텁 대상)
+ *
+ * FCM HTTP v1 엔드포인트를 흉내 내는 로컬 HTTP 서버가 요청마다 latencyMillis 만큼 지연 후 응답한다.
+ * - legacySendOneByOne: 기존 방식 (알림마다 send 1회, 응답을 기다린 뒤 다음 알림)
+ * - batchedDispatcher: FcmPushDispatcher 로 제출 (배치마다 sendEach 처럼 메시지별 요청을 동시에 보냄)
+ *
+ * 결과는 notifications 건 전체 발송에 걸린 시간이며, 처리량(건/초)은 notifications / 시간 으로 계산한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=FcmPushDispatchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FcmPushDispatchBenchmark {
+
+    private static final byte[] STUB_RESPONSE =
+            "{\"name\":\"projects/cherrypick/messages/0:1\"}".getBytes(StandardCharsets.UTF_8);
+    private static final String STUB_REQUEST =
+            "{\"message\":{\"token\":\"stub\",\"notification\":{\"title\":\"마감 임박\",\"body\":\"5분 남았습니다\"}}}";
+
+    @Param({"5", "20"})
+    private long latencyMillis;
+
+    @Param({"500"})
+    private int notifications;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private HttpClient httpClient;
+    private URI endpoint;
+    private FcmPushDispatcher dispatcher;
+    private List<PushRequest> requests;
+    private volatile CountDownLatch delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        serverExecutor = Executors.newFixedThreadPool(256);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.createContext("/v1/projects/cherrypick/messages:send", exchange -> {
+            try {
+                exchange.getRequestBody().readAllBytes();
+                Thread.sleep(latencyMillis);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, STUB_RESPONSE.length);
+                exchange.getResponseBody().write(STUB_RESPONSE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort()
+                + "/v1/projects/cherrypick/messages:send");
+        httpClient = HttpClient.newBuilder()
+                .executor(Executors.newCachedThreadPool())
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        // 알림 내역 ID 가 없고 토큰이 모두 유효하므로 저장소/설정 캐시는 사용하지 않음
+        dispatcher = new FcmPushDispatcher(new HttpStubSender(), null, null, null, new SimpleMeterRegistry(),
+                notifications * 2, FcmPushDispatcher.MAX_BATCH_SIZE, 20, 1, 0, 0,
+                Executors.newSingleThreadScheduledExecutor());
+        dispatcher.start();
+
+        requests = new ArrayList<>(notifications);
+        for (int i = 0; i < notifications; i++) {
+            String token = "token-" + i;
+            requests.add(new PushRequest(token, Message.builder().setToken(token).build(), null));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dispatcher.stop();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int legacySendOneByOne() throws Exception {
+        int sent = 0;
+        for (int i = 0; i < notifications; i++) {
+            HttpResponse<Void> response = httpClient.send(post(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() == 200) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    @Benchmark
+    public long batchedDispatcher() throws Exception {
+        CountDownLatch latch = new CountDownLatch(notifications);
+        delivered = latch;
+        for (PushRequest request : requests) {
+            dispatcher.submit(request);
+        }
+        latch.await();
+        return latch.getCount();
+    }
+
+    private HttpRequest post() {
+        return HttpRequest.newBuilder(endpoint)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(STUB_REQUEST))
+                .build();
+    }
+
+    /**
+     * sendEach 처럼 배치의 메시지마다 요청을 동시에 보내고 모두 끝날 때까지 기다림
+     */
+    private class HttpStubSender implements PushSender {
+
+        @Override
+        public List<PushOutcome> sendEach(List<Message> messages) {
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(messages.size());
+            for (int i = 0; i < messages.size(); i++) {
+                responses.add(httpClient.sendAsync(post(), HttpResponse.BodyHandlers.discarding()));
+            }
+            List<PushOutcome> outcomes = new ArrayList<>(messages.size());
+            for (CompletableFuture<HttpResponse<Void>> response : responses) {
+                outcomes.add(response.join().statusCode() == 200 ? PushOutcome.SENT : PushOutcome.FAILED);
+                delivered.countDown();
+            }
+            return outcomes;
+        }
+    }
+}
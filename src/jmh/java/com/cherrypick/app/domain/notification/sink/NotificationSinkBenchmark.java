@@ -0,0 +1,229 @@
+package com.cherrypick.app.domain.notification.sink;
+
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
+import com.cherrypick.app.domain.notification.entity.NotificationHistory;
+import com.cherrypick.app.domain.notification.entity.NotificationSetting;
+import com.cherrypick.app.domain.notification.event.KeywordAlertEvent;
+import com.cherrypick.app.domain.notification.event.NotificationEvent;
+import com.cherrypick.app.domain.notification.repository.NotificationHistoryRepository;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 알림 저장 처리량 벤치마크 (DB 왕복 지연을 흉내 내는 저장소 스텁 대상)
+ *
+ * 저장소 호출 1번 = DB 왕복 1번으로 보고 roundTripMicros 만큼 지연한다.
+ * 커밋도 왕복 1번이며, INSERT 되는 행마다 20µs 의 서버 처리 시간을 더한다. (두 방식 동일)
+ * - legacyPerEvent: 기존 리스너 방식 (이벤트마다 트랜잭션: findById → findByUserId → save → 커밋)
+ * - batchedSink: NotificationSink 로 제출 (배치당 findAllById → 알림 설정 캐시 → nextval → 배치 INSERT → 커밋)
+ *
+ * 결과는 notifications 건 전체 저장/발송에 걸린 시간이며, 처리량(건/초)은 notifications / 시간 으로 계산한다.
+ * 실제 DB 에서는 배치 INSERT 의 전송량이 늘어나는 만큼 차이가 다소 줄어든다.
+ * 실행: ./gradlew jmh -Pjmh.includes=NotificationSinkBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NotificationSinkBenchmark {
+
+    private static final long ROW_MICROS = 20;
+
+    @Param({"300", "1000"})
+    private long roundTripMicros;
+
+    @Param({"1000"})
+    private int notifications;
+
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private Map<Long, User> users;
+    private Map<Long, NotificationSetting> settings;
+    private List<NotificationEvent> events;
+    private UserRepository userRepository;
+    private NotificationSettingRepository notificationSettingRepository;
+    private NotificationHistoryRepository notificationHistoryRepository;
+    private TransactionTemplate transactionTemplate;
+    private NotificationSink sink;
+    private volatile CountDownLatch delivered;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = new HashMap<>();
+        settings = new HashMap<>();
+        events = new ArrayList<>(notifications);
+        for (long userId = 1; userId <= notifications; userId++) {
+            User user = User.builder().id(userId).nickname("user" + userId).build();
+            users.put(userId, user);
+            // FCM 토큰이 없는 사용자만 두어 WebSocket 발송까지만 측정
+            settings.put(userId, NotificationSetting.createDefaultSetting(user));
+            events.add(new KeywordAlertEvent(this, userId, 100L, "아이폰 15 프로 256GB", "아이폰", 1_000_000L, "디지털기기"));
+        }
+
+        userRepository = repository(UserRepository.class, (method, args) -> switch (method) {
+            case "findById" -> Optional.ofNullable(users.get((Long) args[0]));
+            case "findAllById" -> {
+                List<User> found = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(id -> found.add(users.get((Long) id)));
+                yield found;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+        notificationSettingRepository = repository(NotificationSettingRepository.class, (method, args) -> switch (method) {
+            case "findByUserId" -> Optional.ofNullable(settings.get((Long) args[0]));
+            case "findByUserIdIn" -> {
+                List<NotificationSetting> found = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(id -> found.add(settings.get((Long) id)));
+                yield found;
+            }
+            default -> throw new UnsupportedOperationException(method);
+        });
+        notificationHistoryRepository = repository(NotificationHistoryRepository.class, (method, args) -> {
+            if (!method.equals("save")) {
+                throw new UnsupportedOperationException(method);
+            }
+            rowWork(1);
+            return ((NotificationHistory) args[0]).withId(nextId.getAndIncrement());
+        });
+        transactionTemplate = new TransactionTemplate(new StubTransactionManager());
+
+        NotificationHistoryBatchWriter historyBatchWriter = new NotificationHistoryBatchWriter(null) {
+            @Override
+            public List<NotificationHistory> insertAll(List<NotificationHistory> notifications) {
+                roundTrip(); // nextval 구간 확보
+                roundTrip(); // 배치 INSERT
+                rowWork(notifications.size());
+                List<NotificationHistory> saved = new ArrayList<>(notifications.size());
+                for (NotificationHistory notification : notifications) {
+                    saved.add(notification.withId(nextId.getAndIncrement()));
+                }
+                return saved;
+            }
+        };
+        WebSocketMessagingService webSocketMessagingService = new WebSocketMessagingService(null, null) {
+            @Override
+            public void sendNotificationToUser(Long userId, Object notification) {
+                delivered.countDown();
+            }
+        };
+
+        // 토큰이 없는 사용자만 사용하므로 FcmService 는 호출되지 않음
+        // 매 반복마다 같은 사용자에게 보내므로 첫 배치 이후 알림 설정은 캐시에서 읽음
+        NotificationSettingCache settingCache = new NotificationSettingCache(
+                notificationSettingRepository, new SimpleMeterRegistry(), notifications, 30);
+        sink = new NotificationSink(userRepository, notificationSettingRepository, settingCache, historyBatchWriter,
+                transactionTemplate, null, webSocketMessagingService, new SimpleMeterRegistry(),
+                notifications, notifications * 2, 500, 50);
+        sink.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        sink.stop();
+    }
+
+    @Benchmark
+    public long legacyPerEvent() {
+        for (NotificationEvent event : events) {
+            NotificationHistory saved = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(event.getTargetUserId()).orElseThrow();
+                notificationSettingRepository.findByUserId(user.getId()).orElseThrow();
+                return notificationHistoryRepository.save(NotificationHistory.createNotification(
+                        user, event.getNotificationType(), event.getTitle(), event.getMessage(), event.getResourceId()));
+            });
+            if (saved == null) {
+                throw new IllegalStateException();
+            }
+        }
+        return roundTrips.get();
+    }
+
+    @Benchmark
+    public long batchedSink() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(notifications);
+        delivered = latch;
+        for (NotificationEvent event : events) {
+            sink.submit(event);
+        }
+        latch.await();
+        return roundTrips.get();
+    }
+
+    private void roundTrip() {
+        roundTrips.incrementAndGet();
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+    }
+
+    private void rowWork(int rows) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROW_MICROS * rows));
+    }
+
+    /**
+     * 호출마다 DB 왕복 1번을 흉내 내는 저장소 스텁
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T repository(Class<T> type, StubHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(this, args);
+            }
+            roundTrip();
+            return handler.handle(method.getName(), args);
+        });
+    }
+
+    private interface StubHandler {
+        Object handle(String method, Object[] args);
+    }
+
+    /**
+     * 커밋할 때 DB 왕복 1번을 흉내 내는 트랜잭션 관리자
+     */
+    private class StubTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            // BEGIN 은 첫 쿼리와 함께 전송되므로 왕복으로 세지 않음
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            roundTrip();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            roundTrip();
+        }
+    }
+}
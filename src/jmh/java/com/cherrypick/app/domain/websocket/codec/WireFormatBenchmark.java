@@ -0,0 +1,96 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket 프레임 인코딩별 크기/처리 비용 벤치마크
+ *
+ * 수신 (PING / CHAT 요청)
+ * - decodeJsonTree: 기존 방식 (ObjectMapper.readTree 로 JsonNode 트리 생성 후 필드 조회)
+ * - decodeJsonStreaming: WebSocketCodec.decode(TextMessage) (스트리밍 파서로 InboundFrame 읽기)
+ * - decodeCborStreaming: WebSocketCodec.decode(BinaryMessage)
+ *
+ * 송신 (NEW_BID 경매 갱신)
+ * - encodeJson: JSON 텍스트 프레임만 생성 (기존 클라이언트만 있는 경우)
+ * - encodeJsonAndCbor: JSON 생성 후 CBOR 프레임 변환 (CBOR 세션이 하나라도 있는 브로드캐스트 1회 비용)
+ *
+ * 프레임 크기(CBOR 가 JSON 보다 작음)는 WebSocketCodecTest 에서 검증하고, 메시지당 할당량은 gc 프로파일러 결과(gc.alloc.rate.norm)로 확인한다.
+ * 실행: ./gradlew jmh -Pjmh.includes=WireFormatBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WireFormatBenchmark {
+
+    @Param({"PING", "MESSAGE"})
+    private String requestType;
+
+    private ObjectMapper objectMapper;
+    private WebSocketCodec codec;
+    private TextMessage jsonRequest;
+    private BinaryMessage cborRequest;
+    private AuctionUpdateMessage update;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        codec = new WebSocketCodec(objectMapper);
+
+        Map<String, Object> request = "PING".equals(requestType)
+                ? Map.of("type", "PING", "timestamp", 1_700_000_000_000L)
+                : Map.of("type", "MESSAGE", "roomId", "77", "content", "혹시 직거래 가능할까요?");
+        jsonRequest = new TextMessage(objectMapper.writeValueAsBytes(request));
+        cborRequest = new BinaryMessage(new ObjectMapper(new CBORFactory()).writeValueAsBytes(request));
+
+        update = AuctionUpdateMessage.newBid(1L, BigDecimal.valueOf(125_000), 42, "체리****");
+    }
+
+    @Benchmark
+    public String decodeJsonTree() throws Exception {
+        JsonNode node = objectMapper.readTree(jsonRequest.getPayload());
+        return node.has("type") ? node.get("type").asText() : "";
+    }
+
+    @Benchmark
+    public InboundType decodeJsonStreaming() throws Exception {
+        return codec.decode(jsonRequest).getType();
+    }
+
+    @Benchmark
+    public InboundType decodeCborStreaming() throws Exception {
+        return codec.decode(cborRequest).getType();
+    }
+
+    @Benchmark
+    public WebSocketMessage<?> encodeJson() {
+        return codec.encode(update).json();
+    }
+
+    @Benchmark
+    public WebSocketMessage<?> encodeJsonAndCbor() {
+        return codec.encode(update).forFormat(WireFormat.CBOR);
+    }
+}
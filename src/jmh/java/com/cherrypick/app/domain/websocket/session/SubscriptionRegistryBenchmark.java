@@ -0,0 +1,106 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 경매 구독/해제 반복 비용 벤치마크
+ *
+ * 한 경매에 구독자 watchers 명이 있는 상태에서 한 세션이 구독했다가 바로 해제한다.
+ * - cowChurn: 기존 방식 (Map<String, CopyOnWriteArraySet<String>>, 구독/해제마다 전체 배열 복사)
+ * - registryChurn: SubscriptionRegistry (long 키, 배열 끝 추가/자리 바꿔 제거)
+ * - registryChurnWithBroadcast: 구독/해제 사이에 브로드캐스트 스냅샷을 한 번 떠서 한 번의 복사가 생기는 경우
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=SubscriptionRegistryBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SubscriptionRegistryBenchmark {
+
+    private static final long AUCTION_ID = 1L;
+
+    @Param({"100", "10000"})
+    private int watchers;
+
+    private final Map<String, Set<String>> cowSubscribers = new ConcurrentHashMap<>();
+    private SubscriptionRegistry registry;
+    private WebSocketSession[] joiners;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new SubscriptionRegistry();
+        Set<String> cow = new CopyOnWriteArraySet<>();
+        for (int i = 0; i < watchers; i++) {
+            WebSocketSession session = fakeSession("watcher-" + i);
+            cow.add(session.getId());
+            registry.add(AUCTION_ID, session);
+        }
+        cowSubscribers.put(String.valueOf(AUCTION_ID), cow);
+
+        joiners = new WebSocketSession[64];
+        for (int i = 0; i < joiners.length; i++) {
+            joiners[i] = fakeSession("joiner-" + i);
+        }
+    }
+
+    @Benchmark
+    public int cowChurn() {
+        String sessionId = nextJoiner().getId();
+        Set<String> subscribers = cowSubscribers.get(String.valueOf(AUCTION_ID));
+        subscribers.add(sessionId);
+        subscribers.remove(sessionId);
+        return subscribers.size();
+    }
+
+    @Benchmark
+    public int registryChurn() {
+        WebSocketSession session = nextJoiner();
+        registry.add(AUCTION_ID, session);
+        registry.remove(AUCTION_ID, session.getId());
+        return registry.size(AUCTION_ID);
+    }
+
+    @Benchmark
+    public int registryChurnWithBroadcast() {
+        WebSocketSession session = nextJoiner();
+        registry.add(AUCTION_ID, session);
+        int size = registry.members(AUCTION_ID).size();
+        registry.remove(AUCTION_ID, session.getId());
+        return size;
+    }
+
+    private WebSocketSession nextJoiner() {
+        next = (next + 1) & (joiners.length - 1);
+        return joiners[next];
+    }
+
+    private static WebSocketSession fakeSession(String id) {
+        return (WebSocketSession) Proxy.newProxyInstance(
+                WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "isOpen" -> true;
+                    case "hashCode" -> id.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+}
@@ -0,0 +1,169 @@
+package com.cherrypick.app.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기(@Async) 작업별 전용 실행기 설정
+ *
+ * 기본 풀 하나를 모든 @Async 작업이 나눠 쓰면 마감 임박/경매 종료 알림처럼 한꺼번에 수백 건이 생기는 작업이
+ * 입찰/낙찰/거래 알림을 뒤로 밀어낸다. 작업 성격별로 스레드 수와 대기열 크기가 제한된 풀을 따로 둔다.
+ * - notificationExecutor: 사용자 한 명에게 가는 즉시성 알림 (입찰, 낙찰, 연결/거래, 계정 복구)
+ * - bulkNotificationExecutor: 여러 사용자에게 한꺼번에 퍼지는 알림 (마감 임박, 경매 종료 참여자, 키워드)
+ * - keywordMatchExecutor: 경매 등록 시 키워드 매칭
+ *
+ * 대기열이 가득 차면 제출한 스레드를 offer-timeout-ms 동안 기다리게 해(역압) 속도를 맞추고,
+ * 그래도 자리가 없으면 작업을 버리고 async.executor.dropped 로 집계한다.
+ * (호출자 스레드에서 직접 실행하면 리스너가 발행자의 트랜잭션에 참여하게 되므로 쓰지 않음)
+ *
+ * notification.async.virtual-threads 를 켜면 작업자 스레드를 가상 스레드로 만든다. (JDK 21 이상, 동시 실행 수/대기열 제한은 동일)
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig implements AsyncConfigurer {
+
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+    public static final String BULK_NOTIFICATION_EXECUTOR = "bulkNotificationExecutor";
+    public static final String KEYWORD_MATCH_EXECUTOR = "keywordMatchExecutor";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.async.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Value("${notification.async.offer-timeout-ms:1000}")
+    private long offerTimeoutMillis;
+
+    @Value("${notification.async.default.threads:4}")
+    private int defaultThreads;
+
+    @Value("${notification.async.default.queue-capacity:500}")
+    private int defaultQueueCapacity;
+
+    public AsyncConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = NOTIFICATION_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor notificationExecutor(
+            @Value("${notification.async.interactive.threads:4}") int threads,
+            @Value("${notification.async.interactive.queue-capacity:1000}") int queueCapacity) {
+        return boundedExecutor("notification", threads, queueCapacity);
+    }
+
+    @Bean(name = BULK_NOTIFICATION_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor bulkNotificationExecutor(
+            @Value("${notification.async.bulk.threads:2}") int threads,
+            @Value("${notification.async.bulk.queue-capacity:5000}") int queueCapacity) {
+        return boundedExecutor("notification-bulk", threads, queueCapacity);
+    }
+
+    @Bean(name = KEYWORD_MATCH_EXECUTOR, destroyMethod = "shutdown")
+    public ThreadPoolExecutor keywordMatchExecutor(
+            @Value("${notification.async.keyword.threads:2}") int threads,
+            @Value("${notification.async.keyword.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("keyword-match", threads, queueCapacity);
+    }
+
+    /**
+     * 실행기를 지정하지 않은 @Async 작업용 (Executor 빈을 직접 정의하면 Spring Boot 기본 풀이 만들어지지 않음)
+     */
+    @Bean(name = "taskExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor taskExecutor() {
+        return boundedExecutor("async-default", defaultThreads, defaultQueueCapacity);
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (e, method, params) -> log.error("비동기 작업 실패: {}.{}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), e);
+    }
+
+    private ThreadPoolExecutor boundedExecutor(String name, int threads, int queueCapacity) {
+        Counter rejectedCounter = Counter.builder("async.executor.rejected")
+                .description("대기열이 가득 차 제출이 지연된 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Counter droppedCounter = Counter.builder("async.executor.dropped")
+                .description("대기열 자리를 얻지 못해 버린 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(name),
+                blockingRejection(name, rejectedCounter, droppedCounter));
+
+        Gauge.builder("async.executor.queue.size", executor, e -> e.getQueue().size())
+                .description("실행 대기 중인 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+        Gauge.builder("async.executor.completed", executor, ThreadPoolExecutor::getCompletedTaskCount)
+                .description("완료된 작업 수")
+                .tag("executor", name)
+                .register(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * 대기열이 가득 차면 offer-timeout-ms 동안 자리를 기다린 뒤, 끝내 없으면 버림
+     */
+    private RejectedExecutionHandler blockingRejection(String name, Counter rejectedCounter, Counter droppedCounter) {
+        return (task, executor) -> {
+            rejectedCounter.increment();
+            boolean queued = false;
+            if (!executor.isShutdown()) {
+                try {
+                    queued = executor.getQueue().offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (!queued) {
+                droppedCounter.increment();
+                log.error("비동기 작업 대기열이 가득 차 작업을 버립니다: executor={}, queued={}",
+                        name, executor.getQueue().size());
+            }
+        };
+    }
+
+    private ThreadFactory threadFactory(String name) {
+        if (virtualThreads) {
+            try {
+                return new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory();
+            } catch (UnsupportedOperationException e) {
+                log.warn("가상 스레드를 지원하지 않는 JDK 입니다. 플랫폼 스레드로 실행합니다: executor={}", name);
+            }
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,7 +1,11 @@
 package com.cherrypick.app.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * 스케줄러 설정 클래스
@@ -10,10 +14,34 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * - 경매 종료 자동 처리
  * - 낙찰자 결정 및 연결 서비스 생성
  * - 정기적인 시스템 정리 작업
+ *
+ * 기본 스케줄러는 스레드 1개라 조회수/찜 수 플러시, 경매 종료 스윕, WebSocket 생존 확인/활동 기록 같은
+ * 주기 작업이 모두 한 줄로 실행되고, 플러시 하나가 DB 에서 늦어지면 나머지 작업이 전부 밀린다.
+ * 풀 크기를 정한 스케줄러를 두어 주기 작업들이 서로를 기다리지 않게 한다.
+ * (같은 작업은 fixedDelay 라 겹쳐 실행되지 않음)
  */
+@Slf4j
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
-    // 기본 스케줄러 설정
-    // ThreadPoolTaskScheduler 커스텀이 필요한 경우 추가 구현
-}
\ No newline at end of file
+
+    @Value("${scheduling.pool-size:8}")
+    private int poolSize;
+
+    @Value("${scheduling.await-termination-seconds:10}")
+    private int awaitTerminationSeconds;
+
+    /**
+     * @Scheduled 작업 공용 스케줄러 (빈 이름 taskScheduler 로 등록해야 @Scheduled 가 사용)
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setErrorHandler(e -> log.error("주기 작업 실패", e));
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return scheduler;
+    }
+}
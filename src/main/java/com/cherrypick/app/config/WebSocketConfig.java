@@ -9,6 +9,7 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 /**
  * 순수 WebSocket 설정 클래스 (STOMP 없음)
  * JSON 메시지 기반 실시간 통신 지원
+ * (Sec-WebSocket-Protocol: cherrypick.cbor 를 요청한 클라이언트는 CBOR 바이너리 프레임 사용)
  * 
  * 주요 기능:
  * - 실시간 입찰 업데이트
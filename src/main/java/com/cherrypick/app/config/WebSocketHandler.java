@@ -1,71 +1,139 @@
 package com.cherrypick.app.config;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import com.cherrypick.app.domain.websocket.event.UserActivityEvent;
 import com.cherrypick.app.domain.websocket.event.UserConnectionEvent;
 import com.cherrypick.app.domain.websocket.event.TypingEvent;
 import com.cherrypick.app.domain.chat.service.ChatService;
 import com.cherrypick.app.domain.chat.dto.request.SendMessageRequest;
 import com.cherrypick.app.domain.chat.dto.response.ChatMessageResponse;
+import com.cherrypick.app.domain.websocket.cluster.ClusterChannels;
+import com.cherrypick.app.domain.websocket.cluster.WebSocketClusterRelay;
+import com.cherrypick.app.domain.websocket.codec.EncodedFrame;
+import com.cherrypick.app.domain.websocket.codec.InboundFrame;
+import com.cherrypick.app.domain.websocket.codec.PongFrames;
+import com.cherrypick.app.domain.websocket.codec.WebSocketCodec;
+import com.cherrypick.app.domain.websocket.codec.WireFormat;
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.cherrypick.app.domain.websocket.outbound.OutboundMessageDispatcher;
+import com.cherrypick.app.domain.websocket.replay.ReplayListener;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLog;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLogs;
+import com.cherrypick.app.domain.websocket.session.SessionActivityTracker;
+import com.cherrypick.app.domain.websocket.session.SubscriptionRegistry;
+import com.cherrypick.app.domain.websocket.session.UserSessionIndex;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
 
 /**
  * 순수 WebSocket 핸들러 (STOMP 없이)
  * React Native 호환성을 위한 JSON 메시지 기반 통신
+ * 서브프로토콜 "cherrypick.cbor" 를 협상한 클라이언트와는 같은 메시지를 CBOR 바이너리 프레임으로 주고받는다.
+ *
+ * 경매/채팅방 토픽 메시지에는 토픽별 순번(seq)이 붙는다. 재연결한 클라이언트가 SUBSCRIBE/CHAT_SUBSCRIBE 에
+ * 마지막으로 받은 lastSeq 와 구독 응답의 epoch 를 함께 보내면 놓친 메시지만 다시 보내고,
+ * 이어받을 수 없으면 구독 응답의 resyncRequired 로 전체 조회가 필요함을 알린다.
  */
 @Slf4j
 @Component
-public class WebSocketHandler extends TextWebSocketHandler {
+public class WebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
 
     private final ObjectMapper objectMapper;
+    private final WebSocketCodec codec;
     private final ApplicationEventPublisher eventPublisher;
     private final ChatService chatService;
+    private final OutboundMessageDispatcher outboundDispatcher;
+    private final SessionLivenessManager livenessManager;
+    private final TopicReplayLog auctionReplay;
+    private final TopicReplayLog chatRoomReplay;
 
-    public WebSocketHandler(ApplicationEventPublisher eventPublisher, ChatService chatService) {
+    public WebSocketHandler(ApplicationEventPublisher eventPublisher, ChatService chatService,
+                            OutboundMessageDispatcher outboundDispatcher, SessionLivenessManager livenessManager,
+                            TopicReplayLogs replayLogs) {
         this.eventPublisher = eventPublisher;
         this.chatService = chatService;
+        this.outboundDispatcher = outboundDispatcher;
+        this.livenessManager = livenessManager;
+        this.auctionReplay = replayLogs.auctions();
+        this.chatRoomReplay = replayLogs.chatRooms();
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
         this.objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.codec = new WebSocketCodec(objectMapper);
     }
     
     // 세션별 구독 경매 ID들 저장
-    private final Map<String, Set<String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> sessionSubscriptions = new ConcurrentHashMap<>();
     
-    // 경매별 구독자 세션들 저장 (auctionId -> Set<sessionId>)
-    private final Map<String, Set<String>> auctionSubscribers = new ConcurrentHashMap<>();
+    // 경매별 구독자 세션들 저장 (auctionId -> sessions)
+    private final SubscriptionRegistry auctionSubscribers = new SubscriptionRegistry();
     
-    // 채팅방별 구독자 세션들 저장 (roomId -> Set<sessionId>)
-    private final Map<String, Set<String>> chatRoomSubscribers = new ConcurrentHashMap<>();
+    // 채팅방별 구독자 세션들 저장 (roomId -> sessions)
+    private final SubscriptionRegistry chatRoomSubscribers = new SubscriptionRegistry();
     
     // 세션별 채팅방 구독 ID들 저장
-    private final Map<String, Set<String>> sessionChatSubscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> sessionChatSubscriptions = new ConcurrentHashMap<>();
     
     // 활성 WebSocket 세션들 (sessionId -> WebSocketSession)
     private final Map<String, WebSocketSession> activeSessions = new ConcurrentHashMap<>();
     
     // 세션별 사용자 ID 매핑 (sessionId -> userId)
     private final Map<String, Long> sessionUserMapping = new ConcurrentHashMap<>();
+
+    // 사용자별 세션 역색인 (userId -> sessions, 사용자 대상 전송용)
+    private final UserSessionIndex userSessions = new UserSessionIndex();
+
+    // 인증 세션별 마지막 활동 시각 (하트비트마다 기록, 주기적으로 모아 발행)
+    private final SessionActivityTracker activityTracker = new SessionActivityTracker();
+
+    // 다른 노드로의 중계 (클러스터 모드가 아니면 NONE)
+    private volatile WebSocketClusterRelay clusterRelay = WebSocketClusterRelay.NONE;
+
+    /**
+     * 클러스터 중계 연결 (WebSocketClusterBus 초기화 시 호출)
+     */
+    public void setClusterRelay(WebSocketClusterRelay clusterRelay) {
+        this.clusterRelay = clusterRelay;
+    }
+
+    /**
+     * 지원 서브프로토콜 (요청하지 않은 클라이언트는 JSON)
+     */
+    @Override
+    public List<String> getSubProtocols() {
+        return WireFormat.subProtocols();
+    }
     
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         String sessionId = session.getId();
+        outboundDispatcher.register(session);
         activeSessions.put(sessionId, session);
         sessionSubscriptions.put(sessionId, new CopyOnWriteArraySet<>());
         sessionChatSubscriptions.put(sessionId, new CopyOnWriteArraySet<>());
+
+        // 수신 프레임이 일정 시간 없으면 정리 (응답 없는 반쯤 열린 연결 포함)
+        livenessManager.watchSession(sessionId, () -> reapIdleSession(session));
         
         // 연결 확인 메시지 전송
         sendMessage(session, createConnectedMessage(sessionId));
@@ -73,49 +141,63 @@ public class WebSocketHandler extends TextWebSocketHandler {
     
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        String sessionId = session.getId();
-        String payload = message.getPayload();
-        
+        livenessManager.touch(session.getId());
         try {
-            JsonNode messageNode = objectMapper.readTree(payload);
-            String type = messageNode.has("type") ? messageNode.get("type").asText() : "";
-            
-            switch (type) {
-                case "AUTH":
-                    handleAuthentication(session, messageNode);
-                    break;
-                case "SUBSCRIBE":
-                    handleSubscribe(session, messageNode);
-                    break;
-                case "UNSUBSCRIBE":
-                    handleUnsubscribe(session, messageNode);
-                    break;
-                case "CHAT_SUBSCRIBE":
-                    handleChatSubscribe(session, messageNode);
-                    break;
-                case "CHAT_UNSUBSCRIBE":
-                    handleChatUnsubscribe(session, messageNode);
-                    break;
-                case "PING":
-                    handlePing(session, messageNode);
-                    break;
-                case "TYPING_START":
-                    handleTypingStart(session, messageNode);
-                    break;
-                case "TYPING_STOP":
-                    handleTypingStop(session, messageNode);
-                    break;
-                case "MESSAGE":
-                    handleChatMessage(session, messageNode);
-                    break;
-                default:
-                    sendErrorMessage(session, "UNKNOWN_MESSAGE_TYPE", "알 수 없는 메시지 타입: " + type);
-            }
-            
+            handleFrame(session, codec.decode(message));
+        } catch (Exception e) {
+            sendErrorMessage(session, "MESSAGE_PROCESSING_ERROR", "메시지 처리 중 오류가 발생했습니다");
+        }
+    }
+
+    /**
+     * CBOR 바이너리 프레임 수신 (JSON 텍스트 프레임과 같은 요청 형식)
+     */
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        livenessManager.touch(session.getId());
+        try {
+            handleFrame(session, codec.decode(message));
         } catch (Exception e) {
             sendErrorMessage(session, "MESSAGE_PROCESSING_ERROR", "메시지 처리 중 오류가 발생했습니다");
         }
     }
+
+    /**
+     * 요청 타입별 처리
+     */
+    private void handleFrame(WebSocketSession session, InboundFrame frame) {
+        switch (frame.getType()) {
+            case PING:
+                handlePing(session, frame);
+                break;
+            case AUTH:
+                handleAuthentication(session, frame);
+                break;
+            case SUBSCRIBE:
+                handleSubscribe(session, frame);
+                break;
+            case UNSUBSCRIBE:
+                handleUnsubscribe(session, frame);
+                break;
+            case CHAT_SUBSCRIBE:
+                handleChatSubscribe(session, frame);
+                break;
+            case CHAT_UNSUBSCRIBE:
+                handleChatUnsubscribe(session, frame);
+                break;
+            case TYPING_START:
+                handleTypingStart(session, frame);
+                break;
+            case TYPING_STOP:
+                handleTypingStop(session, frame);
+                break;
+            case MESSAGE:
+                handleChatMessage(session, frame);
+                break;
+            default:
+                sendErrorMessage(session, "UNKNOWN_MESSAGE_TYPE", "알 수 없는 메시지 타입: " + frame.getTypeName());
+        }
+    }
     
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
@@ -125,49 +207,61 @@ public class WebSocketHandler extends TextWebSocketHandler {
         Long userId = sessionUserMapping.get(sessionId);
 
         // 채팅방 구독 정보 정리 + 오프라인 상태 브로드캐스트
-        Set<String> subscribedChatRooms = sessionChatSubscriptions.remove(sessionId);
-        if (subscribedChatRooms != null && userId != null) {
+        Set<Long> subscribedChatRooms = sessionChatSubscriptions.remove(sessionId);
+        if (subscribedChatRooms != null) {
             // 먼저 오프라인 상태를 브로드캐스트 (구독 정보 제거 전에)
-            subscribedChatRooms.forEach(roomId -> {
-                broadcastUserOnlineStatus(roomId, userId, false, sessionId);
-            });
+            if (userId != null) {
+                subscribedChatRooms.forEach(roomId -> {
+                    broadcastUserOnlineStatus(roomId, userId, false, sessionId);
+                });
+            }
 
             // 그 다음 구독 정보 제거
-            subscribedChatRooms.forEach(roomId -> {
-                Set<String> subscribers = chatRoomSubscribers.get(roomId);
-                if (subscribers != null) {
-                    subscribers.remove(sessionId);
-                    if (subscribers.isEmpty()) {
-                        chatRoomSubscribers.remove(roomId);
-                    }
-                }
-            });
+            subscribedChatRooms.forEach(roomId -> removeChatRoomSubscriber(roomId, sessionId));
         }
 
         // 사용자 연결 해제 이벤트 발행
         sessionUserMapping.remove(sessionId);
+        activityTracker.unregister(sessionId);
         if (userId != null) {
+            if (userSessions.remove(userId, sessionId)) {
+                clusterRelay.topicDeactivated(ClusterChannels.user(userId));
+            }
             eventPublisher.publishEvent(new UserConnectionEvent(
                 this, userId, sessionId, UserConnectionEvent.ConnectionEventType.DISCONNECTED
             ));
         }
 
         // 경매 구독 정보 정리
-        Set<String> subscribedAuctions = sessionSubscriptions.remove(sessionId);
+        Set<Long> subscribedAuctions = sessionSubscriptions.remove(sessionId);
         if (subscribedAuctions != null) {
-            subscribedAuctions.forEach(auctionId -> {
-                Set<String> subscribers = auctionSubscribers.get(auctionId);
-                if (subscribers != null) {
-                    subscribers.remove(sessionId);
-                    if (subscribers.isEmpty()) {
-                        auctionSubscribers.remove(auctionId);
-                    }
-                }
-            });
+            subscribedAuctions.forEach(auctionId -> removeAuctionSubscriber(auctionId, sessionId));
         }
 
         // 활성 세션에서 제거
         activeSessions.remove(sessionId);
+        outboundDispatcher.unregister(sessionId);
+        livenessManager.cancel(sessionId);
+    }
+
+    /**
+     * 유휴 세션 정리 (SessionLivenessManager 만료 콜백)
+     * 끊긴 연결은 닫기 핸드셰이크가 끝나지 않아 afterConnectionClosed 가 오지 않을 수 있으므로
+     * 구독/사용자 정보를 먼저 정리한 뒤 세션을 닫는다. (이후 afterConnectionClosed 가 다시 와도 무해)
+     */
+    private void reapIdleSession(WebSocketSession session) {
+        String sessionId = session.getId();
+        log.info("유휴 WebSocket 세션 종료 [{}]", sessionId);
+        try {
+            afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.error("유휴 세션 정리 실패 [{}]", sessionId, e);
+        }
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("유휴 세션 닫기 실패 [{}]", sessionId, e);
+        }
     }
     
     @Override
@@ -179,19 +273,27 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * 사용자 인증 처리
      */
-    private void handleAuthentication(WebSocketSession session, JsonNode messageNode) {
+    private void handleAuthentication(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         
-        if (!messageNode.has("userId")) {
+        if (!frame.hasUserId()) {
             sendErrorMessage(session, "MISSING_USER_ID", "인증 요청에 userId가 필요합니다");
             return;
         }
         
         try {
-            Long userId = messageNode.get("userId").asLong();
+            Long userId = frame.getUserId();
             
-            // 세션-사용자 매핑 저장
-            sessionUserMapping.put(sessionId, userId);
+            // 세션-사용자 매핑 저장 (같은 세션의 재인증이면 이전 사용자 색인에서 제거)
+            Long previousUserId = sessionUserMapping.put(sessionId, userId);
+            if (previousUserId != null && !previousUserId.equals(userId)
+                    && userSessions.remove(previousUserId, sessionId)) {
+                clusterRelay.topicDeactivated(ClusterChannels.user(previousUserId));
+            }
+            if (userSessions.add(userId, session)) {
+                clusterRelay.topicActivated(ClusterChannels.user(userId));
+            }
+            activityTracker.register(sessionId, userId, System.currentTimeMillis());
             
             // 사용자 연결 이벤트 발행
             eventPublisher.publishEvent(new UserConnectionEvent(
@@ -213,55 +315,54 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * 구독 요청 처리
      */
-    private void handleSubscribe(WebSocketSession session, JsonNode messageNode) {
+    private void handleSubscribe(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
 
-        if (!messageNode.has("auctionId")) {
+        if (frame.getAuctionId() == null) {
             log.warn("⚠️ [DEBUG] Missing auctionId in subscribe request");
             sendErrorMessage(session, "MISSING_AUCTION_ID", "구독 요청에 auctionId가 필요합니다");
             return;
         }
 
-        String auctionId = messageNode.get("auctionId").asText();
-
-        // 구독 정보 저장
-        sessionSubscriptions.get(sessionId).add(auctionId);
-        auctionSubscribers.computeIfAbsent(auctionId, k -> new CopyOnWriteArraySet<>()).add(sessionId);
+        String auctionId = frame.getAuctionId();
+        Long auctionKey = parseTopicId(auctionId);
+        if (auctionKey == null) {
+            sendErrorMessage(session, "INVALID_AUCTION_ID", "유효하지 않은 auctionId입니다");
+            return;
+        }
 
-        // 구독 확인 메시지 전송
-        sendMessage(session, Map.of(
-            "type", "SUBSCRIBED",
-            "auctionId", auctionId,
-            "timestamp", System.currentTimeMillis()
-        ));
+        // 구독 정보 저장 (재연결이면 놓친 메시지를 먼저 보낸 뒤 구독 등록)
+        sessionSubscriptions.get(sessionId).add(auctionKey);
+        auctionReplay.join(auctionKey, frame.getEpoch(), frame.hasLastSeq() ? frame.getLastSeq() : -1,
+                new SubscriptionReplay(session, "SUBSCRIBED", "auctionId", auctionId),
+                () -> addAuctionSubscriber(auctionKey, session));
     }
     
     /**
      * 구독 해제 요청 처리
      */
-    private void handleUnsubscribe(WebSocketSession session, JsonNode messageNode) {
+    private void handleUnsubscribe(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         
-        if (!messageNode.has("auctionId")) {
+        if (frame.getAuctionId() == null) {
             sendErrorMessage(session, "MISSING_AUCTION_ID", "구독 해제 요청에 auctionId가 필요합니다");
             return;
         }
         
-        String auctionId = messageNode.get("auctionId").asText();
+        String auctionId = frame.getAuctionId();
+        Long auctionKey = parseTopicId(auctionId);
+        if (auctionKey == null) {
+            sendErrorMessage(session, "INVALID_AUCTION_ID", "유효하지 않은 auctionId입니다");
+            return;
+        }
         
         // 구독 정보 제거
-        Set<String> subscribedAuctions = sessionSubscriptions.get(sessionId);
+        Set<Long> subscribedAuctions = sessionSubscriptions.get(sessionId);
         if (subscribedAuctions != null) {
-            subscribedAuctions.remove(auctionId);
+            subscribedAuctions.remove(auctionKey);
         }
         
-        Set<String> subscribers = auctionSubscribers.get(auctionId);
-        if (subscribers != null) {
-            subscribers.remove(sessionId);
-            if (subscribers.isEmpty()) {
-                auctionSubscribers.remove(auctionId);
-            }
-        }
+        removeAuctionSubscriber(auctionKey, sessionId);
         
         // 구독 해제 확인 메시지 전송
         sendMessage(session, Map.of(
@@ -274,30 +375,32 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * PING 요청 처리 (하트비트)
      */
-    private void handlePing(WebSocketSession session, JsonNode messageNode) {
-        String sessionId = session.getId();
-        long timestamp = messageNode.has("timestamp") ? messageNode.get("timestamp").asLong() : System.currentTimeMillis();
+    private void handlePing(WebSocketSession session, InboundFrame frame) {
+        long now = System.currentTimeMillis();
+        long timestamp = frame.hasTimestamp() ? frame.getTimestamp() : now;
         
-        // 사용자 활동 업데이트 이벤트 발행
-        Long userId = sessionUserMapping.get(sessionId);
-        if (userId != null) {
-            eventPublisher.publishEvent(new UserConnectionEvent(
-                this, userId, sessionId, UserConnectionEvent.ConnectionEventType.ACTIVITY_UPDATE
-            ));
-        }
+        // 사용자 활동 시각 기록 (이벤트는 flushUserActivity 가 모아서 발행)
+        activityTracker.touch(session.getId(), now);
         
-        // PONG 응답 전송
-        sendMessage(session, Map.of(
-            "type", "PONG",
-            "timestamp", timestamp,
-            "serverTime", System.currentTimeMillis()
-        ));
+        // PONG 응답 전송 (미리 만든 틀에 시각만 채움)
+        outboundDispatcher.send(session, PongFrames.of(WireFormat.of(session), timestamp, now), null);
+    }
+
+    /**
+     * 하트비트로 기록된 사용자 활동 시각을 모아 한 번에 발행
+     */
+    @Scheduled(fixedDelayString = "${websocket.activity.flush-interval-ms:5000}")
+    public void flushUserActivity() {
+        Map<Long, Long> activity = activityTracker.drain();
+        if (!activity.isEmpty()) {
+            eventPublisher.publishEvent(new UserActivityEvent(this, activity));
+        }
     }
     
     /**
      * 타이핑 시작 요청 처리
      */
-    private void handleTypingStart(WebSocketSession session, JsonNode messageNode) {
+    private void handleTypingStart(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         Long userId = sessionUserMapping.get(sessionId);
         
@@ -306,14 +409,14 @@ public class WebSocketHandler extends TextWebSocketHandler {
             return;
         }
         
-        if (!messageNode.has("chatRoomId") || !messageNode.has("userNickname")) {
+        if (!frame.hasChatRoomId() || frame.getUserNickname() == null) {
             sendErrorMessage(session, "MISSING_REQUIRED_FIELDS", "chatRoomId와 userNickname이 필요합니다");
             return;
         }
         
         try {
-            Long chatRoomId = messageNode.get("chatRoomId").asLong();
-            String userNickname = messageNode.get("userNickname").asText();
+            Long chatRoomId = frame.getChatRoomId();
+            String userNickname = frame.getUserNickname();
             
             eventPublisher.publishEvent(new TypingEvent(
                 this, chatRoomId, userId, userNickname, TypingEvent.TypingEventType.START
@@ -327,7 +430,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * 타이핑 중단 요청 처리
      */
-    private void handleTypingStop(WebSocketSession session, JsonNode messageNode) {
+    private void handleTypingStop(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         Long userId = sessionUserMapping.get(sessionId);
         
@@ -336,13 +439,13 @@ public class WebSocketHandler extends TextWebSocketHandler {
             return;
         }
         
-        if (!messageNode.has("chatRoomId")) {
+        if (!frame.hasChatRoomId()) {
             sendErrorMessage(session, "MISSING_CHAT_ROOM_ID", "chatRoomId가 필요합니다");
             return;
         }
         
         try {
-            Long chatRoomId = messageNode.get("chatRoomId").asLong();
+            Long chatRoomId = frame.getChatRoomId();
             
             eventPublisher.publishEvent(new TypingEvent(
                 this, chatRoomId, userId, null, TypingEvent.TypingEventType.STOP
@@ -355,16 +458,35 @@ public class WebSocketHandler extends TextWebSocketHandler {
     
     /**
      * 특정 경매/채팅방 구독자들에게 메시지 전송 (기존 WebSocketMessagingService와 호환성)
+     * 이 노드의 구독자에게 전달하고, 클러스터 모드면 다른 노드에도 중계한다.
      */
     public void sendToAuctionSubscribers(String destination, Object message) {
+        EncodedFrame encoded = codec.encode(message);
+        if (encoded == null) {
+            return;
+        }
+        String coalesceKey = coalesceKeyOf(message);
+        deliverLocal(destination, encoded, coalesceKey);
+        clusterRelay.publish(destination, encoded.json(), coalesceKey);
+    }
+
+    /**
+     * 직렬화된 메시지를 이 노드의 구독자에게만 전달 (다른 노드에서 중계된 메시지도 이 경로로 전달)
+     */
+    public void deliverLocal(String destination, TextMessage encoded, String coalesceKey) {
+        deliverLocal(destination, codec.wrap(encoded), coalesceKey);
+    }
+
+    private void deliverLocal(String destination, EncodedFrame encoded, String coalesceKey) {
         // Destination 예시:
         // "/topic/auctions/123" -> auctionId: "123"
+        // "/topic/chat/77" -> roomId: "77" (채팅방 메시지)
         // "/topic/notifications/456" -> userId: "456" (알림용)
         // "/topic/users/488/status" -> userId: "488" (상태 업데이트용)
 
         if (destination.startsWith("/topic/notifications/")) {
             String userId = destination.substring("/topic/notifications/".length());
-            sendToUser(userId, message);
+            sendToUser(userId, encoded);
             return;
         }
 
@@ -373,35 +495,45 @@ public class WebSocketHandler extends TextWebSocketHandler {
             String remaining = destination.substring("/topic/users/".length());
             int slashIndex = remaining.indexOf('/');
             String userId = (slashIndex != -1) ? remaining.substring(0, slashIndex) : remaining;
-            sendToUser(userId, message);
+            sendToUser(userId, encoded);
             return;
         }
 
-        String auctionId = extractAuctionId(destination);
+        if (destination.startsWith("/topic/chat/") && destination.indexOf('/', "/topic/chat/".length()) < 0) {
+            Long roomId = parseTopicId(destination.substring("/topic/chat/".length()));
+            if (roomId != null) {
+                broadcastToChatRoom(roomId, encoded);
+                return;
+            }
+        }
+
+        Long auctionId = parseTopicId(extractAuctionId(destination));
         if (auctionId != null) {
-            broadcastToAuction(auctionId, message);
+            broadcastToAuction(auctionId, encoded, coalesceKey);
         } else {
             log.warn("⚠️ [DEBUG] Unknown destination format: {}", destination);
         }
     }
 
     /**
-     * 특정 사용자에게 메시지 전송 (알림용)
+     * 특정 사용자에게 메시지 전송 (알림용, 이 노드의 세션만)
      */
     public void sendToUser(String userIdStr, Object message) {
+        EncodedFrame encoded = codec.encode(message);
+        if (encoded != null) {
+            sendToUser(userIdStr, encoded);
+        }
+    }
+
+    private void sendToUser(String userIdStr, EncodedFrame encoded) {
         try {
-            Long userId = Long.parseLong(userIdStr);
+            long userId = Long.parseLong(userIdStr);
 
-            // 해당 사용자의 모든 활성 세션 찾기
+            // 역색인으로 해당 사용자의 활성 세션만 조회
             int sentCount = 0;
-            for (Map.Entry<String, Long> entry : sessionUserMapping.entrySet()) {
-                if (entry.getValue().equals(userId)) {
-                    WebSocketSession session = activeSessions.get(entry.getKey());
-                    if (session != null && session.isOpen()) {
-                        if (sendMessage(session, message)) {
-                            sentCount++;
-                        }
-                    }
+            for (WebSocketSession session : userSessions.sessionsOf(userId)) {
+                if (session.isOpen() && send(session, encoded, null, false)) {
+                    sentCount++;
                 }
             }
 
@@ -413,51 +545,108 @@ public class WebSocketHandler extends TextWebSocketHandler {
     }
     
     /**
-     * 특정 경매 구독자들에게 메시지 브로드캐스트
+     * 특정 경매 구독자들에게 메시지 브로드캐스트 (이 노드의 구독자만)
      */
     public void broadcastToAuction(String auctionId, Object message) {
-        Set<String> subscriberIds = auctionSubscribers.get(auctionId);
+        Long auctionKey = parseTopicId(auctionId);
+        if (auctionKey == null || !auctionReplay.isTracking(auctionKey) && auctionSubscribers.size(auctionKey) == 0) {
+            log.debug("No subscribers for auction: {}", auctionId);
+            return;
+        }
+
+        EncodedFrame encoded = codec.encode(message);
+        if (encoded != null) {
+            broadcastToAuction(auctionKey, encoded, coalesceKeyOf(message));
+        }
+    }
 
-        if (subscriberIds == null || subscriberIds.isEmpty()) {
-            log.warn("⚠️ [DEBUG] No subscribers for auction: {}", auctionId);
+    private void broadcastToAuction(long auctionId, EncodedFrame encoded, String coalesceKey) {
+        // 순번을 붙여 기록한 뒤 구독자 목록을 읽어야 그 사이 이어받은 세션에도 빠짐없이 전달됨
+        EncodedFrame sequenced = auctionReplay.append(auctionId, encoded);
+        SubscriptionRegistry.Members subscribers = auctionSubscribers.members(auctionId);
+
+        if (subscribers.isEmpty()) {
             return;
         }
 
-        int successCount = 0;
-        int failCount = 0;
+        // 순번을 붙인 프레임은 대기 프레임을 버리고 맨 뒤에 넣어 병합 (순번 순서 유지, 버린 순번은 클라이언트가 재요청)
+        int successCount = fanOut(subscribers, sequenced, coalesceKey, sequenced != encoded, null,
+                sessionId -> removeAuctionSubscriber(auctionId, sessionId));
+
+        log.debug("📊 Broadcast complete - auctionId: {}, success: {}, subscribers: {}",
+                auctionId, successCount, subscribers.size());
+    }
 
-        for (String sessionId : subscriberIds) {
-            WebSocketSession session = activeSessions.get(sessionId);
+    /**
+     * 구독자 세션들에 같은 메시지 전송
+     * 모든 세션이 미리 직렬화된 프레임을 인코딩별로 공유한다.
+     * 스냅샷을 순회하므로 닫힌 세션은 순회 중에 바로 구독에서 제거해도 된다.
+     *
+     * @param coalesceKey 송신 대기열 병합 키 (없으면 null)
+     * @param ordered 순번이 붙은 프레임 여부 (병합 시 순번 순서 유지)
+     * @param excludeSessionId 보내지 않을 세션 ID (없으면 null)
+     * @param onClosed 닫힌 세션 정리
+     * @return 전송 성공 세션 수
+     */
+    private int fanOut(SubscriptionRegistry.Members subscribers, EncodedFrame encoded, String coalesceKey,
+                       boolean ordered, String excludeSessionId, Consumer<String> onClosed) {
+        int successCount = 0;
+        for (int i = 0; i < subscribers.size(); i++) {
+            WebSocketSession session = subscribers.get(i);
+            String sessionId = session.getId();
+            if (sessionId.equals(excludeSessionId)) {
+                continue;
+            }
 
-            if (session != null && session.isOpen()) {
-                if (sendMessage(session, message)) {
-                    log.info("✅ [DEBUG] Message sent to session: {}", sessionId);
+            if (session.isOpen()) {
+                if (send(session, encoded, coalesceKey, ordered)) {
                     successCount++;
                 } else {
-                    log.warn("❌ [DEBUG] Failed to send message to session: {}", sessionId);
-                    failCount++;
+                    log.debug("Failed to send message to session: {}", sessionId);
                 }
             } else {
-                // 세션이 없거나 닫혀있는 경우 정리
-                log.warn("🔴 [DEBUG] Session closed or null: {}", sessionId);
-                subscriberIds.remove(sessionId);
-                failCount++;
+                // 닫혀있는 경우 정리
+                onClosed.accept(sessionId);
             }
         }
-
-        log.info("📊 [DEBUG] Broadcast complete - success: {}, fail: {}", successCount, failCount);
+        return successCount;
     }
     
     /**
      * 개별 세션에 메시지 전송
      */
     private boolean sendMessage(WebSocketSession session, Object message) {
-        try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(jsonMessage));
-            return true;
-        } catch (Exception e) {
-            return false;
+        EncodedFrame encoded = codec.encode(message);
+        return encoded != null && send(session, encoded, null, false);
+    }
+
+    /**
+     * 세션 인코딩에 맞는 프레임을 송신 대기열에 추가 (실제 전송은 OutboundMessageDispatcher 작성자 스레드가 수행)
+     */
+    private boolean send(WebSocketSession session, EncodedFrame encoded, String coalesceKey, boolean ordered) {
+        WebSocketMessage<?> frame = encoded.forFormat(WireFormat.of(session));
+        return frame != null && outboundDispatcher.send(session, frame, coalesceKey, ordered);
+    }
+
+    /**
+     * 송신 대기열 병합 키
+     * 현재가/입찰 수처럼 최신 값만 의미 있는 경매 갱신 메시지는 같은 경매의 이전 메시지가
+     * 아직 전송 전이면 대체해도 된다. 종료/연장 등 상태 전이 메시지는 병합하지 않는다.
+     * 순번이 붙은 메시지는 대기 프레임을 맨 뒤로 옮겨 병합하므로 클라이언트는 버려진 순번을 빈 순번으로 보고
+     * 재구독(lastSeq)으로 이어받을 수 있다.
+     */
+    private static String coalesceKeyOf(Object message) {
+        if (!(message instanceof AuctionUpdateMessage update) || update.getAuctionId() == null
+                || update.getMessageType() == null) {
+            return null;
+        }
+        switch (update.getMessageType()) {
+            case NEW_BID:
+            case AUTO_BID_COMPETING:
+            case BIDDER_COUNT_CHANGED:
+                return update.getMessageType() + ":" + update.getAuctionId();
+            default:
+                return null;
         }
     }
     
@@ -497,6 +686,91 @@ public class WebSocketHandler extends TextWebSocketHandler {
         );
     }
     
+    /**
+     * 경매 구독자 추가 (이 노드의 첫 구독자면 클러스터 채널 구독)
+     */
+    private void addAuctionSubscriber(long auctionId, WebSocketSession session) {
+        if (auctionSubscribers.add(auctionId, session)) {
+            clusterRelay.topicActivated(ClusterChannels.auction(auctionId));
+        }
+    }
+
+    /**
+     * 경매 구독자 제거 (이 노드의 마지막 구독자면 클러스터 채널 해제)
+     */
+    private void removeAuctionSubscriber(long auctionId, String sessionId) {
+        if (auctionSubscribers.remove(auctionId, sessionId)) {
+            clusterRelay.topicDeactivated(ClusterChannels.auction(auctionId));
+            retireReplay(auctionReplay, auctionSubscribers, auctionId);
+        }
+    }
+
+    /**
+     * 채팅방 구독자 추가 (이 노드의 첫 구독자면 클러스터 채널 구독)
+     */
+    private void addChatRoomSubscriber(long roomId, WebSocketSession session) {
+        if (chatRoomSubscribers.add(roomId, session)) {
+            clusterRelay.topicActivated(ClusterChannels.chatRoom(roomId));
+        }
+    }
+
+    /**
+     * 채팅방 구독자 제거 (이 노드의 마지막 구독자면 클러스터 채널 해제)
+     */
+    private void removeChatRoomSubscriber(long roomId, String sessionId) {
+        if (chatRoomSubscribers.remove(roomId, sessionId)) {
+            clusterRelay.topicDeactivated(ClusterChannels.chatRoom(roomId));
+            retireReplay(chatRoomReplay, chatRoomSubscribers, roomId);
+        }
+    }
+
+    /**
+     * 마지막 구독자가 떠난 토픽의 메시지 기록 정리
+     * 단일 노드면 보존 기간 동안 기록을 이어가 재연결한 클라이언트가 이어받을 수 있게 한다.
+     * 클러스터 모드에서는 채널 구독을 해제해 다른 노드의 메시지가 더 이상 오지 않으므로 기록을 바로 버린다.
+     */
+    private void retireReplay(TopicReplayLog replayLog, SubscriptionRegistry subscribers, long topicId) {
+        if (clusterRelay == WebSocketClusterRelay.NONE) {
+            replayLog.retire(topicId, id -> subscribers.size(id) > 0);
+        } else {
+            replayLog.discard(topicId, id -> subscribers.size(id) > 0);
+        }
+    }
+
+    /**
+     * 구독 확인 응답과 놓친 메시지 재전송
+     */
+    private final class SubscriptionReplay implements ReplayListener {
+        private final WebSocketSession session;
+        private final String confirmType;
+        private final String topicField;
+        private final String topicId;
+
+        private SubscriptionReplay(WebSocketSession session, String confirmType, String topicField, String topicId) {
+            this.session = session;
+            this.confirmType = confirmType;
+            this.topicField = topicField;
+            this.topicId = topicId;
+        }
+
+        @Override
+        public void resumed(String epoch, long seq, boolean resyncRequired) {
+            Map<String, Object> confirm = new HashMap<>();
+            confirm.put("type", confirmType);
+            confirm.put(topicField, topicId);
+            confirm.put("epoch", epoch);
+            confirm.put("seq", seq);
+            confirm.put("resyncRequired", resyncRequired);
+            confirm.put("timestamp", System.currentTimeMillis());
+            sendMessage(session, confirm);
+        }
+
+        @Override
+        public void replay(EncodedFrame frame) {
+            send(session, frame, null, true);
+        }
+    }
+
     /**
      * destination에서 auctionId 추출
      * "/topic/auctions/123" -> "123"
@@ -507,6 +781,22 @@ public class WebSocketHandler extends TextWebSocketHandler {
         }
         return null;
     }
+
+    /**
+     * 경매/채팅방 ID 문자열을 구독 색인 키로 변환
+     *
+     * @return 숫자 ID 가 아니면 null
+     */
+    private static Long parseTopicId(String id) {
+        if (id == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
     
     /**
      * 현재 활성 연결 수 조회 (모니터링용)
@@ -519,23 +809,23 @@ public class WebSocketHandler extends TextWebSocketHandler {
      * 특정 경매의 구독자 수 조회 (모니터링용)
      */
     public int getAuctionSubscriberCount(String auctionId) {
-        Set<String> subscribers = auctionSubscribers.get(auctionId);
-        return subscribers != null ? subscribers.size() : 0;
+        Long auctionKey = parseTopicId(auctionId);
+        return auctionKey != null ? auctionSubscribers.size(auctionKey) : 0;
     }
     
     /**
      * 채팅방 구독 요청 처리
      */
-    private void handleChatSubscribe(WebSocketSession session, JsonNode messageNode) {
+    private void handleChatSubscribe(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         
         // roomId 필드 확인 (프론트엔드에서 전송한 형식)
         String roomId = null;
-        if (messageNode.has("roomId")) {
-            roomId = messageNode.get("roomId").asText();
-        } else if (messageNode.has("destination")) {
+        if (frame.getRoomId() != null) {
+            roomId = frame.getRoomId();
+        } else if (frame.getDestination() != null) {
             // destination에서 roomId 추출: "/topic/chat/123" -> "123"
-            String destination = messageNode.get("destination").asText();
+            String destination = frame.getDestination();
             if (destination.startsWith("/topic/chat/")) {
                 roomId = destination.substring("/topic/chat/".length());
             }
@@ -546,59 +836,59 @@ public class WebSocketHandler extends TextWebSocketHandler {
             sendErrorMessage(session, "MISSING_ROOM_ID", "채팅방 구독 요청에 roomId가 필요합니다");
             return;
         }
+
+        Long roomKey = parseTopicId(roomId);
+        if (roomKey == null) {
+            sendErrorMessage(session, "INVALID_ROOM_ID", "유효하지 않은 roomId입니다");
+            return;
+        }
         
-        // 채팅방 구독 정보 저장
-        sessionChatSubscriptions.get(sessionId).add(roomId);
-        chatRoomSubscribers.computeIfAbsent(roomId, k -> new CopyOnWriteArraySet<>()).add(sessionId);
+        // 채팅방 구독 정보 저장 (재연결이면 놓친 메시지를 먼저 보낸 뒤 구독 등록)
+        sessionChatSubscriptions.get(sessionId).add(roomKey);
+        chatRoomReplay.join(roomKey, frame.getEpoch(), frame.hasLastSeq() ? frame.getLastSeq() : -1,
+                new SubscriptionReplay(session, "CHAT_SUBSCRIBED", "roomId", roomId),
+                () -> addChatRoomSubscriber(roomKey, session));
 
         log.info("💬 [DEBUG] Chat subscribe: sessionId={}, roomId={}", sessionId, roomId);
 
-        // 구독 확인 메시지 전송
-        sendMessage(session, Map.of(
-            "type", "CHAT_SUBSCRIBED",
-            "roomId", roomId,
-            "timestamp", System.currentTimeMillis()
-        ));
-
         // 현재 사용자의 온라인 상태를 채팅방의 다른 참여자에게 알림
         Long userId = sessionUserMapping.get(sessionId);
         if (userId != null) {
-            broadcastUserOnlineStatus(roomId, userId, true, sessionId);
+            broadcastUserOnlineStatus(roomKey, userId, true, sessionId);
         }
     }
     
     /**
      * 채팅방 구독 해제 요청 처리
      */
-    private void handleChatUnsubscribe(WebSocketSession session, JsonNode messageNode) {
+    private void handleChatUnsubscribe(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         
-        if (!messageNode.has("roomId")) {
+        if (frame.getRoomId() == null) {
             sendErrorMessage(session, "MISSING_ROOM_ID", "채팅방 구독 해제 요청에 roomId가 필요합니다");
             return;
         }
         
-        String roomId = messageNode.get("roomId").asText();
+        String roomId = frame.getRoomId();
+        Long roomKey = parseTopicId(roomId);
+        if (roomKey == null) {
+            sendErrorMessage(session, "INVALID_ROOM_ID", "유효하지 않은 roomId입니다");
+            return;
+        }
         
         // 사용자 오프라인 상태를 먼저 브로드캐스트 (구독 정보 제거 전에)
         Long userId = sessionUserMapping.get(sessionId);
         if (userId != null) {
-            broadcastUserOnlineStatus(roomId, userId, false, sessionId);
+            broadcastUserOnlineStatus(roomKey, userId, false, sessionId);
         }
 
         // 채팅방 구독 정보 제거
-        Set<String> subscribedChatRooms = sessionChatSubscriptions.get(sessionId);
+        Set<Long> subscribedChatRooms = sessionChatSubscriptions.get(sessionId);
         if (subscribedChatRooms != null) {
-            subscribedChatRooms.remove(roomId);
+            subscribedChatRooms.remove(roomKey);
         }
 
-        Set<String> subscribers = chatRoomSubscribers.get(roomId);
-        if (subscribers != null) {
-            subscribers.remove(sessionId);
-            if (subscribers.isEmpty()) {
-                chatRoomSubscribers.remove(roomId);
-            }
-        }
+        removeChatRoomSubscriber(roomKey, sessionId);
 
         log.info("💬 [DEBUG] Chat unsubscribe: sessionId={}, roomId={}", sessionId, roomId);
 
@@ -613,7 +903,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
     /**
      * 채팅 메시지 처리 (WebSocket을 통한 실시간 메시지 전송)
      */
-    private void handleChatMessage(WebSocketSession session, JsonNode messageNode) {
+    private void handleChatMessage(WebSocketSession session, InboundFrame frame) {
         String sessionId = session.getId();
         Long userId = sessionUserMapping.get(sessionId);
 
@@ -624,11 +914,11 @@ public class WebSocketHandler extends TextWebSocketHandler {
 
         // roomId 추출
         String roomIdStr = null;
-        if (messageNode.has("roomId")) {
-            roomIdStr = messageNode.get("roomId").asText();
-        } else if (messageNode.has("destination")) {
+        if (frame.getRoomId() != null) {
+            roomIdStr = frame.getRoomId();
+        } else if (frame.getDestination() != null) {
             // destination에서 roomId 추출: "/app/chat/123" -> "123"
-            String destination = messageNode.get("destination").asText();
+            String destination = frame.getDestination();
             if (destination.startsWith("/app/chat/")) {
                 roomIdStr = destination.substring("/app/chat/".length());
             }
@@ -639,7 +929,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
             return;
         }
 
-        String content = messageNode.has("content") ? messageNode.get("content").asText() : "";
+        String content = frame.getContent() != null ? frame.getContent() : "";
         if (content.isEmpty()) {
             sendErrorMessage(session, "EMPTY_CONTENT", "메시지 내용이 비어있습니다");
             return;
@@ -669,47 +959,42 @@ public class WebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * 특정 채팅방 구독자들에게 메시지 브로드캐스트
+     * 특정 채팅방 구독자들에게 메시지 브로드캐스트 (이 노드의 구독자만)
      */
     public void broadcastToChatRoom(String roomId, Object message) {
-        Set<String> subscriberIds = chatRoomSubscribers.get(roomId);
-        
-        if (subscriberIds == null || subscriberIds.isEmpty()) {
-            log.warn("⚠️ [DEBUG] No subscribers for chat room: {}", roomId);
+        Long roomKey = parseTopicId(roomId);
+        if (roomKey == null) {
+            log.debug("No subscribers for chat room: {}", roomId);
             return;
         }
+        EncodedFrame encoded = codec.encode(message);
+        if (encoded != null) {
+            broadcastToChatRoom(roomKey, encoded);
+        }
+    }
+
+    private void broadcastToChatRoom(long roomId, EncodedFrame encoded) {
+        EncodedFrame sequenced = chatRoomReplay.append(roomId, encoded);
+        SubscriptionRegistry.Members subscribers = chatRoomSubscribers.members(roomId);
         
-        int successCount = 0;
-        int failCount = 0;
-        
-        for (String sessionId : subscriberIds) {
-            WebSocketSession session = activeSessions.get(sessionId);
-            
-            if (session != null && session.isOpen()) {
-                if (sendMessage(session, message)) {
-                    log.info("✅ [DEBUG] Chat message sent to session: {}", sessionId);
-                    successCount++;
-                } else {
-                    log.warn("❌ [DEBUG] Failed to send chat message to session: {}", sessionId);
-                    failCount++;
-                }
-            } else {
-                // 세션이 없거나 닫혀있는 경우 정리
-                log.warn("🔴 [DEBUG] Chat session closed or null: {}", sessionId);
-                subscriberIds.remove(sessionId);
-                failCount++;
-            }
+        if (subscribers.isEmpty()) {
+            log.debug("No subscribers for chat room: {}", roomId);
+            return;
         }
         
-        log.info("📊 [DEBUG] Chat broadcast complete - roomId: {}, success: {}, fail: {}", roomId, successCount, failCount);
+        int successCount = fanOut(subscribers, sequenced, null, true, null,
+                sessionId -> removeChatRoomSubscriber(roomId, sessionId));
+        
+        log.debug("📊 Chat broadcast complete - roomId: {}, success: {}, subscribers: {}",
+                roomId, successCount, subscribers.size());
     }
     
     /**
      * 특정 채팅방의 구독자 수 조회 (모니터링용)
      */
     public int getChatRoomSubscriberCount(String roomId) {
-        Set<String> subscribers = chatRoomSubscribers.get(roomId);
-        return subscribers != null ? subscribers.size() : 0;
+        Long roomKey = parseTopicId(roomId);
+        return roomKey != null ? chatRoomSubscribers.size(roomKey) : 0;
     }
 
     /**
@@ -720,10 +1005,12 @@ public class WebSocketHandler extends TextWebSocketHandler {
      * @param isOnline 온라인 여부
      * @param excludeSessionId 브로드캐스트에서 제외할 세션 ID (본인 세션)
      */
-    private void broadcastUserOnlineStatus(String roomId, Long userId, boolean isOnline, String excludeSessionId) {
-        Set<String> subscriberIds = chatRoomSubscribers.get(roomId);
+    private void broadcastUserOnlineStatus(long roomId, Long userId, boolean isOnline, String excludeSessionId) {
+        SubscriptionRegistry.Members subscribers = chatRoomSubscribers.members(roomId);
+        boolean hasLocalSubscribers = !subscribers.isEmpty();
 
-        if (subscriberIds == null || subscriberIds.isEmpty()) {
+        // 클러스터 모드면 다른 노드의 참여자에게도 알려야 하므로 로컬 구독자가 없어도 진행
+        if (!hasLocalSubscribers && clusterRelay == WebSocketClusterRelay.NONE) {
             return;
         }
 
@@ -731,27 +1018,22 @@ public class WebSocketHandler extends TextWebSocketHandler {
         String messageType = isOnline ? "CHAT_USER_ONLINE" : "CHAT_USER_OFFLINE";
         Map<String, Object> statusMessage = Map.of(
             "messageType", messageType,
-            "roomId", Long.parseLong(roomId),
+            "roomId", roomId,
             "senderId", userId,
             "timestamp", System.currentTimeMillis()
         );
 
-        int sentCount = 0;
-        for (String sessionId : subscriberIds) {
-            // 본인 세션에는 보내지 않음
-            if (sessionId.equals(excludeSessionId)) {
-                continue;
-            }
-
-            WebSocketSession session = activeSessions.get(sessionId);
-            if (session != null && session.isOpen()) {
-                if (sendMessage(session, statusMessage)) {
-                    sentCount++;
-                }
-            }
+        EncodedFrame encoded = codec.encode(statusMessage);
+        if (encoded == null) {
+            return;
         }
+        // 본인 세션에는 보내지 않음 (다른 노드에는 본인 세션이 없으므로 그대로 중계)
+        int sentCount = hasLocalSubscribers
+                ? fanOut(subscribers, encoded, null, false, excludeSessionId, sessionId -> removeChatRoomSubscriber(roomId, sessionId))
+                : 0;
+        clusterRelay.publish("/topic/chat/" + roomId, encoded.json(), null);
 
-        log.info("📡 [DEBUG] User {} status broadcast: roomId={}, isOnline={}, sentTo={} sessions",
+        log.debug("📡 [DEBUG] User {} status broadcast: roomId={}, isOnline={}, sentTo={} sessions",
                 userId, roomId, isOnline, sentCount);
     }
 }
\ No newline at end of file
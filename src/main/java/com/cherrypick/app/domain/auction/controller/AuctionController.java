@@ -257,9 +257,11 @@ public class AuctionController {
                    - ENDING_SOON: 마감 임박순
                    - VIEW_COUNT_DESC: 조회수 높은순
                    - BID_COUNT_DESC: 입찰수 높은순
+                   - RELEVANCE: 관련도순 (키워드 검색 시)
                    
                    **사용 예시:**
                    - 키워드 검색: keyword=아이폰
+                   - 관련도순 키워드 검색: keyword=아이폰15&sortBy=RELEVANCE
                    - 가격 범위: minPrice=100000&maxPrice=500000
                    - 마감 임박: endingSoonHours=24&sortBy=ENDING_SOON
                    - 인기 경매: minBidCount=5&sortBy=BID_COUNT_DESC
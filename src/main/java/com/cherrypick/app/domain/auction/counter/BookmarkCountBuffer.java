@@ -0,0 +1,134 @@
+package com.cherrypick.app.domain.auction.counter;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경매 북마크 수 증감 버퍼 (스트라이프 잠금)
+ *
+ * 북마크 토글마다 auctions 행을 갱신하지 않고 경매별 증감값만 모아두고,
+ * BookmarkCountFlusher 가 주기적으로 비워 한 번에 반영한다.
+ * 경매 ID로 스트라이프를 나눠 서로 다른 경매의 토글끼리는 잠금 경합이 없다.
+ *
+ * 트랜잭션 안에서 기록된 증감은 커밋 후에만 버퍼에 합쳐지므로 롤백된 토글은 반영되지 않고,
+ * 같은 트랜잭션 안의 조회에는 즉시 보인다.
+ */
+@Component
+public class BookmarkCountBuffer {
+
+    private static final int STRIPES = 16;
+
+    private final Map<Long, Long>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public BookmarkCountBuffer() {
+        stripes = new Map[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new HashMap<>();
+        }
+    }
+
+    /**
+     * 북마크 수 증감 기록 (트랜잭션 중이면 커밋 후 반영)
+     */
+    public void record(Long auctionId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(auctionId, delta);
+            return;
+        }
+
+        Map<Long, Long> transactionDeltas = currentTransactionDeltas();
+        if (transactionDeltas == null) {
+            Map<Long, Long> deltas = new HashMap<>();
+            transactionDeltas = deltas;
+            TransactionSynchronizationManager.bindResource(this, deltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deltas.forEach(BookmarkCountBuffer.this::add);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BookmarkCountBuffer.this);
+                }
+            });
+        }
+        transactionDeltas.merge(auctionId, delta, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감값 (현재 트랜잭션에서 기록한 값 포함)
+     */
+    public long getPendingDelta(Long auctionId) {
+        Map<Long, Long> stripe = stripeOf(auctionId);
+        long pending;
+        synchronized (stripe) {
+            pending = stripe.getOrDefault(auctionId, 0L);
+        }
+        Map<Long, Long> transactionDeltas = currentTransactionDeltas();
+        if (transactionDeltas != null) {
+            pending += transactionDeltas.getOrDefault(auctionId, 0L);
+        }
+        return pending;
+    }
+
+    /**
+     * 모든 증감값을 꺼내고 버퍼를 비움 (반영 실패 시 restore 로 되돌림)
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map<Long, Long> stripe : stripes) {
+            synchronized (stripe) {
+                drained.putAll(stripe);
+                stripe.clear();
+            }
+        }
+        drained.values().removeIf(delta -> delta == 0);
+        return drained;
+    }
+
+    /**
+     * 반영하지 못한 증감값을 버퍼에 되돌림
+     */
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    /**
+     * 반영 대기 중인 경매 수
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Long, Long> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private void add(Long auctionId, long delta) {
+        Map<Long, Long> stripe = stripeOf(auctionId);
+        synchronized (stripe) {
+            stripe.merge(auctionId, delta, Long::sum);
+        }
+    }
+
+    private Map<Long, Long> stripeOf(Long auctionId) {
+        int hash = auctionId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> currentTransactionDeltas() {
+        return (Map<Long, Long>) TransactionSynchronizationManager.getResource(this);
+    }
+}
@@ -0,0 +1,126 @@
+package com.cherrypick.app.domain.auction.counter;
+
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 북마크 수 비동기 반영 및 보정 작업
+ *
+ * - flush: BookmarkCountBuffer 의 증감값을 주기적으로 비워 하나의 트랜잭션에서 auctions.bookmark_count 에 반영한다.
+ *   같은 증감값을 가진 경매끼리 UPDATE 한 번으로 묶으므로 경매 수가 많아도 문장 수는 증감값 종류 수 정도다.
+ * - reconcile: 저장된 값과 실제 북마크 행 수가 다른 경매를 찾아 보정한다.
+ *   반영 대기 중인 증감이 있는 경매는 다음 주기로 미룬다.
+ */
+@Slf4j
+@Component
+public class BookmarkCountFlusher {
+
+    private static final int MAX_IDS_PER_UPDATE = 500;
+
+    private final BookmarkCountBuffer buffer;
+    private final AuctionRepository auctionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushedCounter;
+    private final Counter repairedCounter;
+
+    @Value("${auction.bookmark-count.reconcile-batch-size:1000}")
+    private int reconcileBatchSize;
+
+    public BookmarkCountFlusher(BookmarkCountBuffer buffer,
+                                AuctionRepository auctionRepository,
+                                TransactionTemplate transactionTemplate,
+                                MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.auctionRepository = auctionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedCounter = Counter.builder("auction.bookmark.count.flushed")
+                .description("DB에 반영된 경매별 북마크 수 증감 건수")
+                .register(meterRegistry);
+        this.repairedCounter = Counter.builder("auction.bookmark.count.repaired")
+                .description("보정 작업으로 수정된 경매 북마크 수 건수")
+                .register(meterRegistry);
+        Gauge.builder("auction.bookmark.count.pending", buffer, BookmarkCountBuffer::size)
+                .description("반영 대기 중인 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 버퍼에 쌓인 증감값 일괄 반영 (실패 시 버퍼로 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${auction.bookmark-count.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 증감값별로 경매 ID 묶기
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        deltas.forEach((auctionId, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(auctionId));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> idsByDelta.forEach((delta, ids) -> {
+                for (int from = 0; from < ids.size(); from += MAX_IDS_PER_UPDATE) {
+                    auctionRepository.addBookmarkCount(ids.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, ids.size())), delta);
+                }
+            }));
+            flushedCounter.increment(deltas.size());
+            log.debug("북마크 수 반영: 경매 {}건, UPDATE {}회", deltas.size(), idsByDelta.size());
+        } catch (RuntimeException e) {
+            buffer.restore(deltas);
+            log.error("북마크 수 반영 실패 - 경매 {}건 다음 주기에 재시도", deltas.size(), e);
+        }
+    }
+
+    /**
+     * 저장된 북마크 수와 실제 북마크 행 수의 차이 보정
+     */
+    @Scheduled(fixedDelayString = "${auction.bookmark-count.reconcile-interval-ms:600000}",
+               initialDelayString = "${auction.bookmark-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        flush();
+
+        List<AuctionRepository.BookmarkCountDrift> drifts =
+                auctionRepository.findBookmarkCountDrifts(PageRequest.of(0, reconcileBatchSize));
+        if (drifts.isEmpty()) {
+            return;
+        }
+
+        int repaired = 0;
+        for (AuctionRepository.BookmarkCountDrift drift : drifts) {
+            // 조회 이후 새로 기록된 증감이 있으면 그 반영 후 다시 확인
+            if (buffer.getPendingDelta(drift.getAuctionId()) != 0) {
+                continue;
+            }
+            Integer updated = transactionTemplate.execute(status -> auctionRepository.repairBookmarkCount(
+                    drift.getAuctionId(), drift.getStoredCount(), drift.getActualCount()));
+            if (updated != null && updated > 0) {
+                repaired++;
+                log.info("경매 {} 북마크 수 보정: {} -> {}",
+                        drift.getAuctionId(), drift.getStoredCount(), drift.getActualCount());
+            }
+        }
+        repairedCounter.increment(repaired);
+        log.info("북마크 수 보정 완료: 불일치 {}건 중 {}건 보정", drifts.size(), repaired);
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 종료 전 남은 증감값 반영 (누락분은 다음 기동 후 보정 작업이 복구)
+        flush();
+    }
+}
@@ -0,0 +1,93 @@
+package com.cherrypick.app.domain.auction.counter;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 경매 조회수 증가 버퍼
+ *
+ * 조회마다 경매 행을 잠그고 갱신하지 않고 경매별 LongAdder 에 누적한 뒤,
+ * ViewCountFlusher 가 주기적으로 비워 한 번에 반영한다.
+ * 같은 경매에 조회가 몰려도 증가 연산은 LongAdder 셀로 분산되어 경합하지 않는다.
+ */
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * 조회 1건 기록
+     */
+    public void record(Long auctionId) {
+        LongAdder counter = counters.computeIfAbsent(auctionId, id -> new LongAdder());
+        counter.increment();
+        if (counters.get(auctionId) != counter) {
+            // drain 이 방금 제거한 카운터에 더한 경우 - 남은 값을 새 카운터로 옮김
+            reclaim(auctionId, counter);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 경매 조회수
+     */
+    public long getPendingViews(Long auctionId) {
+        LongAdder counter = counters.get(auctionId);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 전체 조회수
+     */
+    public long getPendingTotal() {
+        long total = 0;
+        for (LongAdder counter : counters.values()) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 누적된 조회수를 꺼내고 초기화 (반영 실패 시 restore 로 되돌림)
+     * 지난 주기 이후 조회가 없던 경매는 버퍼에서 제거한다.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+            LongAdder counter = entry.getValue();
+            long views = counter.sumThenReset();
+            if (views > 0) {
+                drained.put(entry.getKey(), views);
+            } else if (counters.remove(entry.getKey(), counter)) {
+                // 제거 직전에 더해진 조회수는 다음 주기에 반영
+                reclaim(entry.getKey(), counter);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * 반영하지 못한 조회수를 버퍼에 되돌림
+     */
+    public void restore(Map<Long, Long> views) {
+        views.forEach(this::add);
+    }
+
+    /**
+     * 제거된 카운터에 남은 값을 현재 카운터로 이동
+     * (sumThenReset 은 셀마다 원자적으로 비우므로 drain 과 record 가 동시에 옮겨도 중복/유실이 없다)
+     */
+    private void reclaim(Long auctionId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late > 0) {
+            add(auctionId, late);
+        }
+    }
+
+    private void add(Long auctionId, long views) {
+        counters.computeIfAbsent(auctionId, id -> new LongAdder()).add(views);
+    }
+}
@@ -0,0 +1,87 @@
+package com.cherrypick.app.domain.auction.counter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 경매 조회수 비동기 반영
+ *
+ * ViewCountBuffer 의 누적 조회수를 주기적으로 비워 경매별 UPDATE 를 하나의 JDBC 배치로 실행한다.
+ * 입찰 트랜잭션과의 잠금 대기가 생기지 않도록 경매 ID 순서로 갱신하고 바로 커밋한다.
+ * 반영에 실패하면 버퍼로 되돌려 다음 주기에 재시도하고, 종료 시 남은 조회수를 반영한다.
+ */
+@Slf4j
+@Component
+public class ViewCountFlusher {
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE auctions SET view_count = view_count + ? WHERE id = ?";
+
+    private final ViewCountBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushedCounter;
+
+    public ViewCountFlusher(ViewCountBuffer buffer,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry) {
+        this.buffer = buffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedCounter = Counter.builder("auction.view.count.flushed")
+                .description("DB에 반영된 조회수")
+                .register(meterRegistry);
+        Gauge.builder("auction.view.count.pending", buffer, ViewCountBuffer::getPendingTotal)
+                .description("반영 대기 중인 조회수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 누적 조회수 일괄 반영 (실패 시 버퍼로 되돌려 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${auction.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> views = new TreeMap<>(buffer.drain());
+        if (views.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(views.size());
+        long total = 0;
+        for (Map.Entry<Long, Long> entry : views.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+            total += entry.getValue();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs));
+            flushedCounter.increment(total);
+            log.debug("조회수 반영: 경매 {}건, 조회 {}건", views.size(), total);
+        } catch (RuntimeException e) {
+            buffer.restore(views);
+            log.error("조회수 반영 실패 - 경매 {}건, 조회 {}건 다음 주기에 재시도", views.size(), total, e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 종료 전 남은 조회수 반영
+        flush();
+        long remaining = buffer.getPendingTotal();
+        if (remaining > 0) {
+            log.warn("종료 시점 미반영 조회수 {}건", remaining);
+        }
+    }
+}
@@ -51,7 +51,8 @@ public class AuctionSearchRequest {
         ENDING_SOON,       // 마감 임박순
         VIEW_COUNT_DESC,   // 조회수 높은순
         BID_COUNT_DESC,    // 입찰수 높은순
-        DISTANCE_ASC       // 거리순 (가까운 순) - GPS 검색 시에만 사용
+        DISTANCE_ASC,      // 거리순 (가까운 순) - GPS 검색 시에만 사용
+        RELEVANCE          // 관련도순 - 키워드 검색 시에만 사용 (그 외에는 최신순)
     }
     
     /**
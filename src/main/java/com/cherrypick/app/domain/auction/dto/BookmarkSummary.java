@@ -0,0 +1,20 @@
+package com.cherrypick.app.domain.auction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경매별 북마크 집계 (목록 응답 조립용)
+ */
+@Getter
+@AllArgsConstructor
+public class BookmarkSummary {
+
+    public static final BookmarkSummary EMPTY = new BookmarkSummary(0L, false);
+
+    /** 전체 북마크 수 */
+    private final long bookmarkCount;
+
+    /** 조회 사용자의 북마크 여부 */
+    private final boolean bookmarked;
+}
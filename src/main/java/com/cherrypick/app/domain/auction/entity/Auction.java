@@ -63,7 +63,8 @@ public class Auction extends BaseEntity {
     @Column(nullable = false)
     private AuctionStatus status;
 
-    @Column(name = "view_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    // 조회수 (ViewCountFlusher 가 일괄 반영, 엔티티 저장으로는 갱신하지 않음)
+    @Column(name = "view_count", nullable = false, updatable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer viewCount;
 
     @Column(name = "current_price", nullable = false, precision = 10, scale = 0)
@@ -75,6 +76,11 @@ public class Auction extends BaseEntity {
     @Column(name = "bid_count", nullable = false, columnDefinition = "INTEGER DEFAULT 0")
     private Integer bidCount;
 
+    // 북마크 수 (BookmarkCountFlusher 가 일괄 반영, 엔티티 저장으로는 갱신하지 않음)
+    @Column(name = "bookmark_count", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Builder.Default
+    private Long bookmarkCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "winner_id")
     private User winner;
@@ -237,13 +243,6 @@ public class Auction extends BaseEntity {
 
     // === 비즈니스 메서드 ===
 
-    /**
-     * 조회수 증가
-     */
-    public void increaseViewCount() {
-        this.viewCount = (this.viewCount == null ? 0 : this.viewCount) + 1;
-    }
-
     /**
      * Reserve Price 달성 여부 확인
      * reservePrice가 null이거나 0 이하면 Reserve Price 없음으로 간주
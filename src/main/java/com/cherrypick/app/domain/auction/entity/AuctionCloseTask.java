@@ -0,0 +1,101 @@
+package com.cherrypick.app.domain.auction.entity;
+
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseTaskStatus;
+import com.cherrypick.app.domain.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 경매 종료 후처리 아웃박스
+ * 경매 상태 변경과 같은 트랜잭션에 첫 단계를 기록하고, 각 단계는 자신의 작업과 같은 트랜잭션에서
+ * 완료 처리 + 다음 단계 기록을 하므로 단계가 유실되거나 두 번 반영되지 않는다.
+ */
+@Entity
+@Table(name = "auction_close_outbox",
+    uniqueConstraints = @UniqueConstraint(name = "uk_auction_close_outbox_auction_stage",
+            columnNames = {"auction_id", "stage"}),
+    indexes = @Index(name = "idx_auction_close_outbox_due", columnList = "stage, status, next_attempt_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionCloseTask extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private AuctionCloseStage stage;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AuctionCloseTaskStatus status;
+
+    /**
+     * 이전 단계 결과 (채팅방 ID, 획득 경험치 등 JSON)
+     */
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    // === 정적 팩토리 메서드 ===
+
+    public static AuctionCloseTask create(Long auctionId, AuctionCloseStage stage, String payload) {
+        return AuctionCloseTask.builder()
+                .auctionId(auctionId)
+                .stage(stage)
+                .status(AuctionCloseTaskStatus.PENDING)
+                .payload(payload)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    // === 비즈니스 메서드 ===
+
+    public void complete() {
+        this.status = AuctionCloseTaskStatus.DONE;
+        this.attempts++;
+        this.lastError = null;
+    }
+
+    /**
+     * 단계 실행 결과 기록 (알림 단계는 발송 표시가 포함되어 재처리 시 다시 보내지 않음)
+     */
+    public void updatePayload(String payload) {
+        this.payload = payload;
+    }
+
+    /**
+     * 처리 실패 기록 (최대 시도 횟수 초과 시 DEAD)
+     *
+     * @return DEAD 로 전환되었으면 true
+     */
+    public boolean recordFailure(String error, int maxAttempts, long backoffMillis) {
+        this.attempts++;
+        this.lastError = error;
+        if (this.attempts >= maxAttempts) {
+            this.status = AuctionCloseTaskStatus.DEAD;
+            return true;
+        }
+        this.nextAttemptAt = LocalDateTime.now().plus(Duration.ofMillis(backoffMillis));
+        return false;
+    }
+}
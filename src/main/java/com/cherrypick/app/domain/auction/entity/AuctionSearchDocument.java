@@ -0,0 +1,28 @@
+package com.cherrypick.app.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경매 검색 문서 (제목/설명 n-gram tsvector)
+ * 쓰기는 AuctionSearchDocumentRepository.upsert 네이티브 쿼리로만 하고,
+ * 엔티티는 스키마 정의(테스트의 ddl-auto 포함)와 조인 대상으로만 사용한다.
+ */
+@Entity
+@Table(name = "auction_search_documents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuctionSearchDocument {
+
+    @Id
+    @Column(name = "auction_id")
+    private Long auctionId;
+
+    /**
+     * 제목(가중치 A) + 설명(가중치 B) 토큰의 tsvector
+     */
+    @Column(name = "document", columnDefinition = "tsvector", insertable = false, updatable = false)
+    private String document;
+}
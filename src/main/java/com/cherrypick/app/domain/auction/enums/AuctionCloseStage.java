@@ -0,0 +1,58 @@
+package com.cherrypick.app.domain.auction.enums;
+
+/**
+ * 경매 종료 후처리 단계
+ * 낙찰: 거래 생성 → 낙찰 경험치 → 연결 서비스 → 채팅방 → 낙찰 알림
+ * 유찰: 유찰 알림
+ *
+ * 거래~채팅방은 앞 단계가 만든 데이터에 의존하므로 하나가 DEAD 가 되면 뒤 단계는 진행하지 않는다.
+ * 알림 단계는 앞 단계 결과가 없어도 보낼 수 있는 독립 단계라 (채팅방 ID 등은 있으면 포함) 앞 단계가 DEAD 여도 발송한다.
+ */
+public enum AuctionCloseStage {
+    TRANSACTION(4),        // 거래(Transaction) 생성
+    EXPERIENCE(4),         // 낙찰 경험치 지급
+    CONNECTION(4),         // 연결 서비스 생성
+    CHAT_ROOM(4),          // 판매자-낙찰자 채팅방 생성
+    NOTIFY_SOLD(8),        // 낙찰 실시간 알림 + 알림 이벤트 발행
+    NOTIFY_NOT_SOLD(8);    // 유찰 실시간 알림 + 알림 이벤트 발행
+
+    private final int defaultConcurrency;
+
+    AuctionCloseStage(int defaultConcurrency) {
+        this.defaultConcurrency = defaultConcurrency;
+    }
+
+    public int getDefaultConcurrency() {
+        return defaultConcurrency;
+    }
+
+    /**
+     * 다음 단계 (마지막 단계면 null)
+     */
+    public AuctionCloseStage next() {
+        return switch (this) {
+            case TRANSACTION -> EXPERIENCE;
+            case EXPERIENCE -> CONNECTION;
+            case CONNECTION -> CHAT_ROOM;
+            case CHAT_ROOM -> NOTIFY_SOLD;
+            case NOTIFY_SOLD, NOTIFY_NOT_SOLD -> null;
+        };
+    }
+
+    /**
+     * 알림 단계 여부 (다른 단계에 의존하지 않음)
+     */
+    public boolean isNotification() {
+        return this == NOTIFY_SOLD || this == NOTIFY_NOT_SOLD;
+    }
+
+    /**
+     * 이 단계가 속한 흐름의 알림 단계 (의존 단계가 DEAD 로 멈춰도 발송, 알림 단계 자신이면 null)
+     */
+    public AuctionCloseStage notification() {
+        return switch (this) {
+            case TRANSACTION, EXPERIENCE, CONNECTION, CHAT_ROOM -> NOTIFY_SOLD;
+            case NOTIFY_SOLD, NOTIFY_NOT_SOLD -> null;
+        };
+    }
+}
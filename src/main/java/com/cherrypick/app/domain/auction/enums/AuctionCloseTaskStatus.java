@@ -0,0 +1,7 @@
+package com.cherrypick.app.domain.auction.enums;
+
+public enum AuctionCloseTaskStatus {
+    PENDING,   // 처리 대기 (재시도 대기 포함)
+    DONE,      // 처리 완료
+    DEAD       // 최대 재시도 초과 (수동 확인 필요, status를 PENDING으로 되돌리면 재처리 후 멈췄던 다음 단계부터 이어서 진행)
+}
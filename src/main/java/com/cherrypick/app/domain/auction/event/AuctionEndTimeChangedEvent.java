@@ -0,0 +1,24 @@
+package com.cherrypick.app.domain.auction.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 종료 시각 변경 이벤트
+ * - 경매 등록, 스나이핑 방지 연장, 시간 조정/재활성화 시 발행
+ * - 경매 종료 타이머 재등록 트리거
+ */
+@Getter
+public class AuctionEndTimeChangedEvent extends ApplicationEvent {
+
+    private final Long auctionId;
+    private final LocalDateTime endAt;
+
+    public AuctionEndTimeChangedEvent(Object source, Long auctionId, LocalDateTime endAt) {
+        super(source);
+        this.auctionId = auctionId;
+        this.endAt = endAt;
+    }
+}
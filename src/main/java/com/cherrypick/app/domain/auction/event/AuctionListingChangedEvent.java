@@ -0,0 +1,20 @@
+package com.cherrypick.app.domain.auction.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 진행 중 경매 목록 변경 이벤트
+ * - 경매 등록, 종료(낙찰/유찰/강제 종료), 삭제, 재활성화 시 발행
+ * - 진행 중 경매 위치 격자(ActiveAuctionGeoIndex) 갱신 트리거
+ */
+@Getter
+public class AuctionListingChangedEvent extends ApplicationEvent {
+
+    private final Long auctionId;
+
+    public AuctionListingChangedEvent(Object source, Long auctionId) {
+        super(source);
+        this.auctionId = auctionId;
+    }
+}
@@ -0,0 +1,245 @@
+package com.cherrypick.app.domain.auction.geo;
+
+import com.cherrypick.app.domain.auction.enums.AuctionStatus;
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.auction.event.AuctionListingChangedEvent;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 진행 중 경매 위치 격자 (상태별 목록의 반경 필터용)
+ *
+ * 기동 시 위치가 있는 ACTIVE 경매를 AuctionGeoGrid 에 적재하고, AuctionListingChangedEvent 로
+ * 등록/종료/삭제/재활성화를 반영한다. 반경 검색은 테이블을 훑지 않고 격자에서 조건에 맞는 경매 ID를
+ * 모두 구한 뒤 정렬·페이징하므로 전체 건수가 정확하다.
+ * 가격은 입찰마다 바뀌어 격자에 두지 않고, 가격순 정렬 시 후보 ID의 현재가만 조회한다.
+ * 이벤트 유실에 대비해 주기적으로 전체를 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class ActiveAuctionGeoIndex {
+
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    private final AuctionRepository auctionRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 으로 보호
+    private AuctionGeoGrid grid = new AuctionGeoGrid();
+    private boolean rebuilding;
+    private final Set<Long> changedDuringRebuild = new HashSet<>();
+
+    private volatile boolean ready;
+
+    public ActiveAuctionGeoIndex(AuctionRepository auctionRepository, MeterRegistry meterRegistry) {
+        this.auctionRepository = auctionRepository;
+        Gauge.builder("auction.geo.index.size", this, ActiveAuctionGeoIndex::size)
+                .description("위치 격자에 적재된 진행 중 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        rebuild();
+    }
+
+    /**
+     * 진행 중 경매 위치 전체 재적재
+     * 적재하는 동안 들어온 변경은 교체 후 다시 반영해 이전 조회 결과로 덮어쓰지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${auction.geo-index.rebuild-interval-ms:600000}",
+               initialDelayString = "${auction.geo-index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        AuctionGeoGrid rebuilt = new AuctionGeoGrid();
+        List<Long> changed;
+        try {
+            for (AuctionRepository.AuctionLocation location : auctionRepository.findActiveAuctionLocations()) {
+                rebuilt.put(toEntry(location));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("경매 위치 격자 적재 실패", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            grid = rebuilt;
+            rebuilding = false;
+            changed = new ArrayList<>(changedDuringRebuild);
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        changed.forEach(this::refresh);
+        ready = true;
+        log.info("경매 위치 격자 적재 완료: {}건", rebuilt.size());
+    }
+
+    /**
+     * 경매 등록/종료/삭제/재활성화 반영 (트랜잭션 커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingChanged(AuctionListingChangedEvent event) {
+        try {
+            refresh(event.getAuctionId());
+        } catch (RuntimeException e) {
+            // 다음 전체 재적재에서 복구
+            log.warn("경매 {} 위치 격자 갱신 실패: {}", event.getAuctionId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 경매 1건의 현재 상태를 DB에서 읽어 격자에 반영
+     */
+    public void refresh(Long auctionId) {
+        AuctionRepository.AuctionLocation location = auctionRepository.findAuctionLocationById(auctionId)
+                .filter(l -> l.getStatus() == AuctionStatus.ACTIVE)
+                .filter(l -> l.getLatitude() != null && l.getLongitude() != null)
+                .orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(auctionId);
+            }
+            if (location != null) {
+                grid.put(toEntry(location));
+            } else {
+                grid.remove(auctionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 최초 적재가 끝나 검색에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 반경 내 진행 중 경매 ID 페이지 조회
+     * 구매자 반경 안에 있고 판매자 노출 반경 안에 구매자가 있는 경매를 정렬해 요청한 페이지만 반환한다.
+     *
+     * @param category 카테고리 (null 이면 전체)
+     * @param sort createdAt 또는 currentPrice 기준 정렬 (그 외는 최신순)
+     */
+    public Page<Long> findAuctionIdsWithin(double latitude, double longitude, double radiusKm,
+                                           Category category, Sort sort, Pageable pageable) {
+        List<AuctionGeoGrid.Match> matches;
+        lock.readLock().lock();
+        try {
+            matches = grid.findWithin(latitude, longitude, radiusKm, category);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<AuctionGeoGrid.Entry> entries = new ArrayList<>(matches.size());
+        for (AuctionGeoGrid.Match match : matches) {
+            entries.add(match.getEntry());
+        }
+        entries.sort(comparator(sort, entries));
+
+        int from = (int) Math.min(pageable.getOffset(), entries.size());
+        int to = Math.min(from + pageable.getPageSize(), entries.size());
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (AuctionGeoGrid.Entry entry : entries.subList(from, to)) {
+            pageIds.add(entry.getAuctionId());
+        }
+        return new PageImpl<>(pageIds, pageable, entries.size());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return grid.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Comparator<AuctionGeoGrid.Entry> comparator(Sort sort, List<AuctionGeoGrid.Entry> entries) {
+        Sort.Order priceOrder = sort.getOrderFor("currentPrice");
+        if (priceOrder != null) {
+            Map<Long, BigDecimal> prices = findCurrentPrices(entries);
+            Comparator<AuctionGeoGrid.Entry> byPrice = Comparator.comparing(
+                    entry -> prices.getOrDefault(entry.getAuctionId(), BigDecimal.ZERO));
+            if (priceOrder.isDescending()) {
+                byPrice = byPrice.reversed();
+            }
+            return byPrice.thenComparing(AuctionGeoGrid.Entry::getAuctionId, Comparator.reverseOrder());
+        }
+
+        Sort.Order createdOrder = sort.getOrderFor("createdAt");
+        Comparator<AuctionGeoGrid.Entry> byCreated = Comparator.comparing(
+                AuctionGeoGrid.Entry::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+        Comparator<AuctionGeoGrid.Entry> byId = Comparator.comparing(AuctionGeoGrid.Entry::getAuctionId);
+        if (createdOrder == null || createdOrder.isDescending()) {
+            return byCreated.reversed().thenComparing(byId.reversed());
+        }
+        return byCreated.thenComparing(byId);
+    }
+
+    private Map<Long, BigDecimal> findCurrentPrices(List<AuctionGeoGrid.Entry> entries) {
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        List<Long> ids = new ArrayList<>(entries.size());
+        entries.forEach(entry -> ids.add(entry.getAuctionId()));
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+            for (AuctionRepository.AuctionPrice price : auctionRepository.findCurrentPrices(chunk)) {
+                prices.put(price.getId(), price.getCurrentPrice());
+            }
+        }
+        return prices;
+    }
+
+    private AuctionGeoGrid.Entry toEntry(AuctionRepository.AuctionLocation location) {
+        return new AuctionGeoGrid.Entry(
+                location.getId(),
+                location.getLatitude(),
+                location.getLongitude(),
+                location.getRegionRadiusKm(),
+                location.getCategory(),
+                location.getCreatedAt());
+    }
+}
@@ -0,0 +1,168 @@
+package com.cherrypick.app.domain.auction.geo;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.location.dto.GeoBoundingBox;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경매 위치 격자 인덱스 (위도/경도 고정 크기 셀)
+ *
+ * 좌표를 CELL_DEGREES 단위 셀로 나눠 보관하고, 반경 검색 시 경계 상자에 걸치는 셀만 훑어
+ * 후보에만 정확한 거리를 계산한다. 반경이 커서 훑을 셀 수가 채워진 셀 수보다 많으면 채워진 셀만 훑는다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽(ActiveAuctionGeoIndex)이 잠금을 건다.
+ */
+public class AuctionGeoGrid {
+
+    // 약 5.5km (위도 기준)
+    static final double CELL_DEGREES = 0.05;
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final Map<Long, Map<Long, Entry>> cells = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /**
+     * 경매 위치 추가 (이미 있으면 교체)
+     */
+    public void put(Entry entry) {
+        remove(entry.getAuctionId());
+        entries.put(entry.getAuctionId(), entry);
+        cells.computeIfAbsent(cellKey(entry.getLatitude(), entry.getLongitude()), key -> new HashMap<>())
+                .put(entry.getAuctionId(), entry);
+    }
+
+    /**
+     * 경매 위치 제거
+     *
+     * @return 제거되었으면 true
+     */
+    public boolean remove(Long auctionId) {
+        Entry removed = entries.remove(auctionId);
+        if (removed == null) {
+            return false;
+        }
+        long key = cellKey(removed.getLatitude(), removed.getLongitude());
+        Map<Long, Entry> cell = cells.get(key);
+        cell.remove(auctionId);
+        if (cell.isEmpty()) {
+            cells.remove(key);
+        }
+        return true;
+    }
+
+    /**
+     * 반경 내 경매 조회
+     * 구매자 반경(radiusKm) 안에 있고, 판매자가 지정한 노출 반경(regionRadiusKm) 안에 구매자가 있는 경매만 반환한다.
+     *
+     * @param category 카테고리 (null 이면 전체)
+     */
+    public List<Match> findWithin(double latitude, double longitude, double radiusKm, Category category) {
+        GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+        int minRow = index(box.getMinLatitude());
+        int maxRow = index(box.getMaxLatitude());
+        int minCol = index(box.getMinLongitude());
+        int maxCol = index(box.getMaxLongitude());
+
+        List<Match> matches = new ArrayList<>();
+        long boxCells = (long) (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (boxCells > cells.size()) {
+            for (Map<Long, Entry> cell : cells.values()) {
+                collect(cell, box, latitude, longitude, radiusKm, category, matches);
+            }
+            return matches;
+        }
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                Map<Long, Entry> cell = cells.get(cellKey(row, col));
+                if (cell != null) {
+                    collect(cell, box, latitude, longitude, radiusKm, category, matches);
+                }
+            }
+        }
+        return matches;
+    }
+
+    public boolean contains(Long auctionId) {
+        return entries.containsKey(auctionId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void collect(Map<Long, Entry> cell, GeoBoundingBox box, double latitude, double longitude,
+                         double radiusKm, Category category, List<Match> matches) {
+        for (Entry entry : cell.values()) {
+            if (category != null && entry.getCategory() != category) {
+                continue;
+            }
+            if (!box.contains(entry.getLatitude(), entry.getLongitude())) {
+                continue;
+            }
+            double distance = distanceKm(latitude, longitude, entry.getLatitude(), entry.getLongitude());
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (entry.getRegionRadiusKm() != null && distance > entry.getRegionRadiusKm()) {
+                continue;
+            }
+            matches.add(new Match(entry, distance));
+        }
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(index(latitude), index(longitude));
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    private static int index(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    /**
+     * 두 좌표 사이 거리 (Haversine, LocationService.calculateDistance 와 같은 공식)
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 격자에 보관하는 경매 정보 (위치와 목록 필터/정렬에 필요한 불변 값만)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Long auctionId;
+        private final double latitude;
+        private final double longitude;
+        private final Integer regionRadiusKm;
+        private final Category category;
+        private final LocalDateTime createdAt;
+    }
+
+    /**
+     * 반경 검색 결과 (경매 정보와 중심으로부터의 거리)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Match {
+        private final Entry entry;
+        private final double distanceKm;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,4 +56,11 @@ public interface AuctionBookmarkRepository extends JpaRepository<AuctionBookmark
      */
     @Query("SELECT ab.user.id FROM AuctionBookmark ab WHERE ab.auction.id = :auctionId")
     List<Long> findUserIdsByAuctionId(@Param("auctionId") Long auctionId);
+
+    /**
+     * 여러 경매 중 사용자가 북마크한 경매 ID 조회 ((auction_id, user_id) 유니크 인덱스로 처리)
+     */
+    @Query("SELECT ab.auction.id FROM AuctionBookmark ab WHERE ab.user.id = :userId AND ab.auction.id IN :auctionIds")
+    List<Long> findBookmarkedAuctionIds(@Param("userId") Long userId,
+                                        @Param("auctionIds") Collection<Long> auctionIds);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.cherrypick.app.domain.auction.repository;
+
+import com.cherrypick.app.domain.auction.entity.AuctionCloseTask;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AuctionCloseTaskRepository extends JpaRepository<AuctionCloseTask, Long> {
+
+    // 처리할 단계 작업 1건 선점 (다른 작업자/인스턴스가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM auction_close_outbox " +
+                   "WHERE stage = :stage AND status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<AuctionCloseTask> claimNext(@Param("stage") String stage, @Param("now") LocalDateTime now);
+
+    boolean existsByAuctionIdAndStage(Long auctionId, AuctionCloseStage stage);
+
+    // 경매 재활성화 시 이전 종료 후처리 기록 삭제
+    void deleteByAuctionId(Long auctionId);
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.LockModeType;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,18 +56,79 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     // 종료 시간이 지난 진행 중인 경매 조회
     @Query("SELECT a FROM Auction a WHERE a.status = 'ACTIVE' AND a.endAt < :now")
     List<Auction> findExpiredActiveAuctions(@Param("now") LocalDateTime now);
-    
-    // 제목으로 검색
-    @Query("SELECT a FROM Auction a WHERE a.status = 'ACTIVE' AND a.title LIKE %:keyword%")
-    Page<Auction> findByTitleContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    // 종료 시간이 지난 진행 중인 경매 ID 조회 (엔티티 적재 없이)
+    @Query("SELECT a.id FROM Auction a WHERE a.status = 'ACTIVE' AND a.endAt < :now")
+    List<Long> findExpiredActiveAuctionIds(@Param("now") LocalDateTime now);
+
+    // 진행 중인 경매의 종료 시각 조회 (종료 타이머 적재용, 엔티티 적재 없이)
+    @Query("SELECT a.id AS id, a.endAt AS endAt FROM Auction a WHERE a.status = 'ACTIVE'")
+    List<AuctionDeadline> findActiveAuctionDeadlines();
+
+    interface AuctionDeadline {
+        Long getId();
+        LocalDateTime getEndAt();
+    }
+
+    // 진행 중인 경매의 위치 정보 조회 (위치 격자 적재용, 엔티티 적재 없이)
+    @Query("SELECT a.id AS id, a.status AS status, a.latitude AS latitude, a.longitude AS longitude, " +
+           "a.regionRadiusKm AS regionRadiusKm, a.category AS category, a.createdAt AS createdAt " +
+           "FROM Auction a WHERE a.status = 'ACTIVE' AND a.latitude IS NOT NULL AND a.longitude IS NOT NULL")
+    List<AuctionLocation> findActiveAuctionLocations();
+
+    // 경매 1건의 위치 정보 조회 (위치 격자 갱신용)
+    @Query("SELECT a.id AS id, a.status AS status, a.latitude AS latitude, a.longitude AS longitude, " +
+           "a.regionRadiusKm AS regionRadiusKm, a.category AS category, a.createdAt AS createdAt " +
+           "FROM Auction a WHERE a.id = :auctionId")
+    Optional<AuctionLocation> findAuctionLocationById(@Param("auctionId") Long auctionId);
+
+    interface AuctionLocation {
+        Long getId();
+        AuctionStatus getStatus();
+        Double getLatitude();
+        Double getLongitude();
+        Integer getRegionRadiusKm();
+        Category getCategory();
+        LocalDateTime getCreatedAt();
+    }
+
+    // 경매 현재가 조회 (위치 격자 검색 결과 가격순 정렬용)
+    @Query("SELECT a.id AS id, a.currentPrice AS currentPrice FROM Auction a WHERE a.id IN :auctionIds")
+    List<AuctionPrice> findCurrentPrices(@Param("auctionIds") Collection<Long> auctionIds);
+
+    interface AuctionPrice {
+        Long getId();
+        BigDecimal getCurrentPrice();
+    }
     
     // === 고급 검색 메소드들 ===
     
-    // 키워드 검색 (제목 + 설명)
-    @Query("SELECT a FROM Auction a WHERE a.status = :status " +
-           "AND (LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "OR LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Auction> searchByKeyword(@Param("keyword") String keyword, @Param("status") AuctionStatus status, Pageable pageable);
+    /**
+     * 키워드 검색 (제목 + 설명, n-gram 전문 검색)
+     * auction_search_documents 의 GIN 인덱스로 후보를 찾고, 관련도(search_rank, 제목 가중치가 더 큼)로 정렬할 수 있다.
+     *
+     * @param tsQuery AuctionSearchTokenizer.toTsQuery 결과
+     * @param status 경매 상태
+     * @param pageable 페이징 정보 (정렬은 search_rank 또는 컬럼명)
+     */
+    @Query(value = """
+        SELECT * FROM (
+            SELECT a.*, ts_rank_cd(d.document, to_tsquery('simple', :tsQuery)) AS search_rank
+            FROM auctions a
+            JOIN auction_search_documents d ON d.auction_id = a.id
+            WHERE d.document @@ to_tsquery('simple', :tsQuery)
+              AND a.status = :status
+        ) a
+    """,
+    countQuery = """
+        SELECT COUNT(*)
+        FROM auctions a
+        JOIN auction_search_documents d ON d.auction_id = a.id
+        WHERE d.document @@ to_tsquery('simple', :tsQuery)
+          AND a.status = :status
+    """,
+    nativeQuery = true)
+    Page<Auction> searchByKeyword(@Param("tsQuery") String tsQuery, @Param("status") String status, Pageable pageable);
     
     // 가격 범위로 검색
     @Query("SELECT a FROM Auction a WHERE a.status = :status " +
@@ -90,12 +152,9 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
                                    @Param("status") AuctionStatus status, 
                                    Pageable pageable);
     
-    // 복합 검색 (키워드 + 카테고리 + 지역 + 가격범위)
+    // 복합 검색 (카테고리 + 지역 + 가격범위, 키워드가 있으면 searchAuctionsByKeyword 사용)
     @Query("SELECT a FROM Auction a WHERE " +
            "(:status IS NULL OR a.status = :status) " +
-           "AND (:keyword IS NULL OR " +
-           "     LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "     LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
            "AND (:category IS NULL OR a.category = :category) " +
            "AND (:regionScope IS NULL OR a.regionScope = :regionScope) " +
            "AND (:regionCode IS NULL OR a.regionCode = :regionCode) " +
@@ -104,7 +163,6 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
            "AND (:minBidCount IS NULL OR a.bidCount >= :minBidCount) " +
            "AND (:endingSoonTime IS NULL OR a.endAt <= :endingSoonTime)")
     Page<Auction> searchAuctions(@Param("status") AuctionStatus status,
-                                @Param("keyword") String keyword,
                                 @Param("category") Category category,
                                 @Param("regionScope") RegionScope regionScope,
                                 @Param("regionCode") String regionCode,
@@ -113,6 +171,54 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
                                 @Param("minBidCount") Integer minBidCount,
                                 @Param("endingSoonTime") LocalDateTime endingSoonTime,
                                 Pageable pageable);
+
+    /**
+     * 키워드 복합 검색 (n-gram 전문 검색 + 카테고리/지역/가격/입찰 수/마감 필터)
+     *
+     * @param tsQuery AuctionSearchTokenizer.toTsQuery 결과
+     * @param pageable 페이징 정보 (정렬은 search_rank 또는 컬럼명)
+     */
+    @Query(value = """
+        SELECT * FROM (
+            SELECT a.*, ts_rank_cd(d.document, to_tsquery('simple', :tsQuery)) AS search_rank
+            FROM auctions a
+            JOIN auction_search_documents d ON d.auction_id = a.id
+            WHERE d.document @@ to_tsquery('simple', :tsQuery)
+              AND (CAST(:status AS VARCHAR) IS NULL OR a.status = CAST(:status AS VARCHAR))
+              AND (CAST(:category AS VARCHAR) IS NULL OR a.category = CAST(:category AS VARCHAR))
+              AND (CAST(:regionScope AS VARCHAR) IS NULL OR a.region_scope = CAST(:regionScope AS VARCHAR))
+              AND (CAST(:regionCode AS VARCHAR) IS NULL OR a.region_code = CAST(:regionCode AS VARCHAR))
+              AND (CAST(:minPrice AS NUMERIC) IS NULL OR a.current_price >= CAST(:minPrice AS NUMERIC))
+              AND (CAST(:maxPrice AS NUMERIC) IS NULL OR a.current_price <= CAST(:maxPrice AS NUMERIC))
+              AND (CAST(:minBidCount AS INTEGER) IS NULL OR a.bid_count >= CAST(:minBidCount AS INTEGER))
+              AND (CAST(:endingSoonTime AS TIMESTAMP) IS NULL OR a.end_at <= CAST(:endingSoonTime AS TIMESTAMP))
+        ) a
+    """,
+    countQuery = """
+        SELECT COUNT(*)
+        FROM auctions a
+        JOIN auction_search_documents d ON d.auction_id = a.id
+        WHERE d.document @@ to_tsquery('simple', :tsQuery)
+          AND (CAST(:status AS VARCHAR) IS NULL OR a.status = CAST(:status AS VARCHAR))
+          AND (CAST(:category AS VARCHAR) IS NULL OR a.category = CAST(:category AS VARCHAR))
+          AND (CAST(:regionScope AS VARCHAR) IS NULL OR a.region_scope = CAST(:regionScope AS VARCHAR))
+          AND (CAST(:regionCode AS VARCHAR) IS NULL OR a.region_code = CAST(:regionCode AS VARCHAR))
+          AND (CAST(:minPrice AS NUMERIC) IS NULL OR a.current_price >= CAST(:minPrice AS NUMERIC))
+          AND (CAST(:maxPrice AS NUMERIC) IS NULL OR a.current_price <= CAST(:maxPrice AS NUMERIC))
+          AND (CAST(:minBidCount AS INTEGER) IS NULL OR a.bid_count >= CAST(:minBidCount AS INTEGER))
+          AND (CAST(:endingSoonTime AS TIMESTAMP) IS NULL OR a.end_at <= CAST(:endingSoonTime AS TIMESTAMP))
+    """,
+    nativeQuery = true)
+    Page<Auction> searchAuctionsByKeyword(@Param("tsQuery") String tsQuery,
+                                          @Param("status") String status,
+                                          @Param("category") String category,
+                                          @Param("regionScope") String regionScope,
+                                          @Param("regionCode") String regionCode,
+                                          @Param("minPrice") BigDecimal minPrice,
+                                          @Param("maxPrice") BigDecimal maxPrice,
+                                          @Param("minBidCount") Integer minBidCount,
+                                          @Param("endingSoonTime") LocalDateTime endingSoonTime,
+                                          Pageable pageable);
     
     // 조회수 높은 순으로 정렬
     Page<Auction> findByStatusOrderByViewCountDesc(AuctionStatus status, Pageable pageable);
@@ -140,70 +246,114 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     @Query("SELECT a FROM Auction a WHERE a.id = :id")
     Optional<Auction> findByIdForUpdate(@Param("id") Long id);
 
+    // 인메모리 호가창 상태 반영 (입찰 수가 더 적은 과거 상태로 되돌리지 않음)
+    @Modifying
+    @Query("UPDATE Auction a SET a.currentPrice = :currentPrice, a.bidCount = :bidCount, a.endAt = :endAt " +
+           "WHERE a.id = :auctionId AND a.status = 'ACTIVE' AND a.bidCount <= :bidCount")
+    int applyOrderBookState(@Param("auctionId") Long auctionId,
+                            @Param("currentPrice") BigDecimal currentPrice,
+                            @Param("bidCount") Integer bidCount,
+                            @Param("endAt") LocalDateTime endAt);
+
+    // 북마크 수 증감 일괄 반영 (같은 증감값을 가진 경매끼리 한 번에, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Auction a SET a.bookmarkCount = CASE WHEN a.bookmarkCount + :delta < 0 THEN 0 " +
+           "ELSE a.bookmarkCount + :delta END WHERE a.id IN :auctionIds")
+    int addBookmarkCount(@Param("auctionIds") Collection<Long> auctionIds, @Param("delta") long delta);
+
+    // 저장된 북마크 수와 실제 북마크 행 수가 다른 경매 조회 (보정 작업용)
+    @Query("SELECT a.id AS auctionId, a.bookmarkCount AS storedCount, COUNT(ab.id) AS actualCount " +
+           "FROM Auction a LEFT JOIN AuctionBookmark ab ON ab.auction = a " +
+           "GROUP BY a.id, a.bookmarkCount HAVING a.bookmarkCount <> COUNT(ab.id)")
+    List<BookmarkCountDrift> findBookmarkCountDrifts(Pageable pageable);
+
+    // 북마크 수 보정 (조회 이후 다른 반영이 없었던 경우에만)
+    @Modifying
+    @Query("UPDATE Auction a SET a.bookmarkCount = :actualCount WHERE a.id = :auctionId AND a.bookmarkCount = :storedCount")
+    int repairBookmarkCount(@Param("auctionId") Long auctionId,
+                            @Param("storedCount") Long storedCount,
+                            @Param("actualCount") Long actualCount);
+
+    interface BookmarkCountDrift {
+        Long getAuctionId();
+        Long getStoredCount();
+        Long getActualCount();
+    }
+
     // === GPS 위치 기반 검색 메소드들 ===
 
     /**
      * 거리 기반 경매 검색 (Haversine 공식 사용)
      * 사용자 위치 기준 N km 이내의 경매를 거리순으로 정렬
      *
+     * 위도/경도 경계 상자로 (status, latitude, longitude) 인덱스 범위를 먼저 읽고,
+     * 정확한 거리는 경계 상자를 통과한 후보에 대해서만 한 번 계산한다.
+     * 최대 거리 10000km 이상이면 경계 상자는 전 세계이며 위치 없는 경매도 포함한다.
+     *
      * @param latitude 사용자 위치 위도
      * @param longitude 사용자 위치 경도
      * @param maxDistanceKm 최대 거리 (km)
+     * @param minLatitude 경계 상자 최소 위도 (GeoBoundingBox)
+     * @param maxLatitude 경계 상자 최대 위도
+     * @param minLongitude 경계 상자 최소 경도
+     * @param maxLongitude 경계 상자 최대 경도
      * @param status 경매 상태
      * @param pageable 페이징 정보
      * @return 거리순으로 정렬된 경매 목록
      */
     @Query(value = """
-        SELECT a.*,
-               CASE 
-                   WHEN a.latitude IS NOT NULL AND a.longitude IS NOT NULL THEN
-                       (6371 * acos(
-                           cos(radians(:latitude))
-                           * cos(radians(a.latitude))
+        SELECT * FROM (
+            SELECT a.*,
+                   CASE
+                       WHEN a.latitude IS NOT NULL AND a.longitude IS NOT NULL THEN
+                       (6371 * acos(LEAST(1.0,
+                           cos(radians(:latitude)) * cos(radians(a.latitude))
                            * cos(radians(a.longitude) - radians(:longitude))
-                           + sin(radians(:latitude))
-                           * sin(radians(a.latitude))
-                       ))
-                   ELSE NULL
-               END AS distance
-        FROM auctions a
-        WHERE a.status = :status
-          AND (
-              (:maxDistanceKm >= 10000) 
-              OR 
-              (a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND 
-               (6371 * acos(
-                   cos(radians(:latitude))
-                   * cos(radians(a.latitude))
-                   * cos(radians(a.longitude) - radians(:longitude))
-                   + sin(radians(:latitude))
-                   * sin(radians(a.latitude))
-               )) <= :maxDistanceKm)
-          )
+                           + sin(radians(:latitude)) * sin(radians(a.latitude))
+                       )))
+                       ELSE NULL
+                   END AS distance
+            FROM auctions a
+            WHERE a.status = :status
+              AND (
+                  (a.latitude BETWEEN :minLatitude AND :maxLatitude
+                   AND a.longitude BETWEEN :minLongitude AND :maxLongitude)
+                  OR (:maxDistanceKm >= 10000 AND a.latitude IS NULL)
+              )
+        ) a
+        WHERE (:maxDistanceKm >= 10000 OR a.distance <= :maxDistanceKm)
         ORDER BY distance ASC NULLS LAST
-    """, 
+    """,
     countQuery = """
-        SELECT COUNT(*)
-        FROM auctions a
-        WHERE a.status = :status
-          AND (
-              (:maxDistanceKm >= 10000) 
-              OR 
-              (a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND 
-               (6371 * acos(
-                   cos(radians(:latitude))
-                   * cos(radians(a.latitude))
-                   * cos(radians(a.longitude) - radians(:longitude))
-                   + sin(radians(:latitude))
-                   * sin(radians(a.latitude))
-               )) <= :maxDistanceKm)
-          )
+        SELECT COUNT(*) FROM (
+            SELECT CASE
+                       WHEN a.latitude IS NOT NULL AND a.longitude IS NOT NULL THEN
+                       (6371 * acos(LEAST(1.0,
+                           cos(radians(:latitude)) * cos(radians(a.latitude))
+                           * cos(radians(a.longitude) - radians(:longitude))
+                           + sin(radians(:latitude)) * sin(radians(a.latitude))
+                       )))
+                       ELSE NULL
+                   END AS distance
+            FROM auctions a
+            WHERE a.status = :status
+              AND (
+                  (a.latitude BETWEEN :minLatitude AND :maxLatitude
+                   AND a.longitude BETWEEN :minLongitude AND :maxLongitude)
+                  OR (:maxDistanceKm >= 10000 AND a.latitude IS NULL)
+              )
+        ) a
+        WHERE (:maxDistanceKm >= 10000 OR a.distance <= :maxDistanceKm)
     """,
     nativeQuery = true)
     Page<Auction> findNearbyAuctions(
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude,
         @Param("maxDistanceKm") Double maxDistanceKm,
+        @Param("minLatitude") Double minLatitude,
+        @Param("maxLatitude") Double maxLatitude,
+        @Param("minLongitude") Double minLongitude,
+        @Param("maxLongitude") Double maxLongitude,
         @Param("status") String status,
         Pageable pageable
     );
@@ -211,10 +361,15 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     /**
      * 거리 계산을 포함한 복합 검색
      * 키워드, 카테고리, 가격 범위와 함께 거리 기반 필터링 지원
+     * (경계 상자 사전 필터와 후보별 1회 거리 계산은 findNearbyAuctions 와 동일)
      *
      * @param latitude 사용자 위치 위도
      * @param longitude 사용자 위치 경도
      * @param maxDistanceKm 최대 거리 (km)
+     * @param minLatitude 경계 상자 최소 위도 (GeoBoundingBox)
+     * @param maxLatitude 경계 상자 최대 위도
+     * @param minLongitude 경계 상자 최소 경도
+     * @param maxLongitude 경계 상자 최대 경도
      * @param keyword 검색 키워드
      * @param category 카테고리
      * @param minPrice 최소 가격
@@ -224,89 +379,68 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
      * @return 거리순으로 정렬된 경매 목록
      */
     @Query(value = """
-        SELECT a.*,
-               CASE 
-                   WHEN a.latitude IS NOT NULL AND a.longitude IS NOT NULL THEN
-                       (6371 * acos(
-                           cos(radians(:latitude))
-                           * cos(radians(a.latitude))
+        SELECT * FROM (
+            SELECT a.*,
+                   CASE
+                       WHEN a.latitude IS NOT NULL AND a.longitude IS NOT NULL THEN
+                       (6371 * acos(LEAST(1.0,
+                           cos(radians(:latitude)) * cos(radians(a.latitude))
                            * cos(radians(a.longitude) - radians(:longitude))
-                           + sin(radians(:latitude))
-                           * sin(radians(a.latitude))
-                       ))
-                   ELSE NULL
-               END AS distance
-        FROM auctions a
-        WHERE a.status = :status
-          AND (:keyword IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
-          AND (:category IS NULL OR a.category = :category)
-          AND (:minPrice IS NULL OR a.current_price >= :minPrice)
-          AND (:maxPrice IS NULL OR a.current_price <= :maxPrice)
-          AND (
-              (:maxDistanceKm >= 10000) 
-              OR 
-              (a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND 
-               (6371 * acos(
-                   cos(radians(:latitude))
-                   * cos(radians(a.latitude))
-                   * cos(radians(a.longitude) - radians(:longitude))
-                   + sin(radians(:latitude))
-                   * sin(radians(a.latitude))
-               )) <= :maxDistanceKm)
-          )
-          AND (
-              (a.region_radius_km IS NULL)
-              OR 
-              (a.region_radius_km IS NOT NULL AND 
-               a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND 
-               (6371 * acos(
-                   cos(radians(:latitude))
-                   * cos(radians(a.latitude))
-                   * cos(radians(a.longitude) - radians(:longitude))
-                   + sin(radians(:latitude))
-                   * sin(radians(a.latitude))
-               )) <= a.region_radius_km)
-          )
-    """, 
+                           + sin(radians(:latitude)) * sin(radians(a.latitude))
+                       )))
+                       ELSE NULL
+                   END AS distance
+            FROM auctions a
+            WHERE a.status = :status
+              AND (:keyword IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:category IS NULL OR a.category = :category)
+              AND (:minPrice IS NULL OR a.current_price >= :minPrice)
+              AND (:maxPrice IS NULL OR a.current_price <= :maxPrice)
+              AND (
+                  (a.latitude BETWEEN :minLatitude AND :maxLatitude
+                   AND a.longitude BETWEEN :minLongitude AND :maxLongitude)
+                  OR (:maxDistanceKm >= 10000 AND a.latitude IS NULL)
+              )
+        ) a
+        WHERE (:maxDistanceKm >= 10000 OR a.distance <= :maxDistanceKm)
+          AND (a.region_radius_km IS NULL OR a.distance <= a.region_radius_km)
+    """,
     countQuery = """
-        SELECT COUNT(*)
-        FROM auctions a
-        WHERE a.status = :status
-          AND (:keyword IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
-          AND (:category IS NULL OR a.category = :category)
-          AND (:minPrice IS NULL OR a.current_price >= :minPrice)
-          AND (:maxPrice IS NULL OR a.current_price <= :maxPrice)
-          AND (
-              (:maxDistanceKm >= 10000) 
-              OR 
-              (a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND 
-               (6371 * acos(
-                   cos(radians(:latitude))
-                   * cos(radians(a.latitude))
-                   * cos(radians(a.longitude) - radians(:longitude))
-                   + sin(radians(:latitude))
-                   * sin(radians(a.latitude))
-               )) <= :maxDistanceKm)
-          )
-          AND (
-              (a.region_radius_km IS NULL)
-              OR 
-              (a.region_radius_km IS NOT NULL AND 
-               a.latitude IS NOT NULL AND a.longitude IS NOT NULL AND 
-               (6371 * acos(
-                   cos(radians(:latitude))
-                   * cos(radians(a.latitude))
-                   * cos(radians(a.longitude) - radians(:longitude))
-                   + sin(radians(:latitude))
-                   * sin(radians(a.latitude))
-               )) <= a.region_radius_km)
-          )
+        SELECT COUNT(*) FROM (
+            SELECT a.region_radius_km,
+                   CASE
+                       WHEN a.latitude IS NOT NULL AND a.longitude IS NOT NULL THEN
+                       (6371 * acos(LEAST(1.0,
+                           cos(radians(:latitude)) * cos(radians(a.latitude))
+                           * cos(radians(a.longitude) - radians(:longitude))
+                           + sin(radians(:latitude)) * sin(radians(a.latitude))
+                       )))
+                       ELSE NULL
+                   END AS distance
+            FROM auctions a
+            WHERE a.status = :status
+              AND (:keyword IS NULL OR LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
+              AND (:category IS NULL OR a.category = :category)
+              AND (:minPrice IS NULL OR a.current_price >= :minPrice)
+              AND (:maxPrice IS NULL OR a.current_price <= :maxPrice)
+              AND (
+                  (a.latitude BETWEEN :minLatitude AND :maxLatitude
+                   AND a.longitude BETWEEN :minLongitude AND :maxLongitude)
+                  OR (:maxDistanceKm >= 10000 AND a.latitude IS NULL)
+              )
+        ) a
+        WHERE (:maxDistanceKm >= 10000 OR a.distance <= :maxDistanceKm)
+          AND (a.region_radius_km IS NULL OR a.distance <= a.region_radius_km)
     """,
     nativeQuery = true)
     Page<Auction> searchNearbyAuctions(
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude,
         @Param("maxDistanceKm") Double maxDistanceKm,
+        @Param("minLatitude") Double minLatitude,
+        @Param("maxLatitude") Double maxLatitude,
+        @Param("minLongitude") Double minLongitude,
+        @Param("maxLongitude") Double maxLongitude,
         @Param("keyword") String keyword,
         @Param("category") String category,
         @Param("minPrice") BigDecimal minPrice,
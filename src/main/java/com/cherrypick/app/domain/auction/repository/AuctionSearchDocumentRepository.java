@@ -0,0 +1,43 @@
+package com.cherrypick.app.domain.auction.repository;
+
+import com.cherrypick.app.domain.auction.entity.AuctionSearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AuctionSearchDocumentRepository extends JpaRepository<AuctionSearchDocument, Long> {
+
+    // 검색 문서 생성/교체 (토큰은 AuctionSearchTokenizer.documentTokens 결과)
+    @Modifying
+    @Query(value = """
+        INSERT INTO auction_search_documents (auction_id, document)
+        VALUES (:auctionId,
+                setweight(to_tsvector('simple', :titleTokens), 'A') ||
+                setweight(to_tsvector('simple', :descriptionTokens), 'B'))
+        ON CONFLICT (auction_id) DO UPDATE SET document = EXCLUDED.document
+    """, nativeQuery = true)
+    int upsert(@Param("auctionId") Long auctionId,
+               @Param("titleTokens") String titleTokens,
+               @Param("descriptionTokens") String descriptionTokens);
+
+    // 검색 문서가 없는 경매 조회 (기동 시 색인 보충용)
+    @Query(value = """
+        SELECT a.id AS id, a.title AS title, a.description AS description
+        FROM auctions a
+        WHERE NOT EXISTS (SELECT 1 FROM auction_search_documents d WHERE d.auction_id = a.id)
+        ORDER BY a.id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<UnindexedAuction> findUnindexedAuctions(@Param("limit") int limit);
+
+    interface UnindexedAuction {
+        Long getId();
+        String getTitle();
+        String getDescription();
+    }
+}
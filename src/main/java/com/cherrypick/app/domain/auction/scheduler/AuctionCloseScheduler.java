@@ -0,0 +1,232 @@
+package com.cherrypick.app.domain.auction.scheduler;
+
+import com.cherrypick.app.domain.auction.event.AuctionEndTimeChangedEvent;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.auction.service.AuctionSchedulerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 타이머 휠 기반 경매 종료 스케줄러
+ *
+ * 기동 시 진행 중인 경매의 end_at 을 타이머 휠에 적재하고, 1초 틱으로 종료 시각이 된 경매를
+ * 제한된 크기의 작업 스레드 풀에서 경매별 독립 트랜잭션으로 종료한다.
+ * 종료 시각이 바뀌면(등록, 스나이핑 연장, 시간 조정) AuctionEndTimeChangedEvent 로 재등록한다.
+ * 재등록을 놓쳐 이른 시각에 실행되더라도 종료 처리 시 DB의 end_at 을 다시 확인해 재등록한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.close.timer-wheel.enabled", havingValue = "true", matchIfMissing = true)
+public class AuctionCloseScheduler {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionSchedulerService auctionSchedulerService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.close.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${auction.close.workers:4}")
+    private int workerCount;
+
+    @Value("${auction.close.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${auction.close.retry-delay-ms:10000}")
+    private long retryDelayMillis;
+
+    private volatile AuctionTimerWheel wheel;
+    private ScheduledExecutorService ticker;
+    private ThreadPoolExecutor workers;
+
+    // 처리 중인 경매 (같은 경매의 동시 종료 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger scheduledCount = new AtomicInteger();
+
+    private Timer closeLag;
+    private Counter closedCounter;
+    private Counter rescheduledCounter;
+    private Counter failedCounter;
+    private Counter rejectedCounter;
+
+    public AuctionCloseScheduler(AuctionRepository auctionRepository,
+                                 AuctionSchedulerService auctionSchedulerService,
+                                 MeterRegistry meterRegistry) {
+        this.auctionRepository = auctionRepository;
+        this.auctionSchedulerService = auctionSchedulerService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 진행 중인 경매 적재 및 틱 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), daemonThreadFactory("auction-close-worker"));
+
+        closeLag = Timer.builder("auction.close.lag")
+                .description("경매 종료 시각부터 종료 처리 완료까지 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        closedCounter = closeCounter("closed");
+        rescheduledCounter = closeCounter("rescheduled");
+        failedCounter = closeCounter("failed");
+        rejectedCounter = closeCounter("rejected");
+        Gauge.builder("auction.close.scheduled", scheduledCount, AtomicInteger::get)
+                .description("종료 대기 중인 경매 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.close.queue.size", workers, executor -> executor.getQueue().size())
+                .description("종료 처리 대기열 크기")
+                .register(meterRegistry);
+
+        // 적재 중 발생한 변경 이벤트도 받도록 휠을 먼저 공개한다
+        // (DB 조회값이 더 이른 시각으로 덮어써도 실행 시 DB 재확인 후 재등록되므로 안전)
+        AuctionTimerWheel wheel = new AuctionTimerWheel(tickMillis, System.currentTimeMillis());
+        this.wheel = wheel;
+        List<AuctionRepository.AuctionDeadline> deadlines = auctionRepository.findActiveAuctionDeadlines();
+        synchronized (wheel) {
+            for (AuctionRepository.AuctionDeadline deadline : deadlines) {
+                wheel.schedule(deadline.getId(), toMillis(deadline.getEndAt()));
+            }
+            scheduledCount.set(wheel.size());
+        }
+
+        ticker = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("auction-close-ticker"));
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("경매 종료 타이머 휠 시작: 진행 중 경매 {}건, workers={}", deadlines.size(), workerCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 종료 시각 변경 반영 (커밋 후, 트랜잭션 밖에서 발행된 경우 즉시)
+     * 롤백된 연장으로 타이머가 DB보다 늦어지지 않도록 커밋 이후에만 재등록한다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEndTimeChanged(AuctionEndTimeChangedEvent event) {
+        if (event.getEndAt() == null) {
+            return;
+        }
+        schedule(event.getAuctionId(), toMillis(event.getEndAt()));
+    }
+
+    private void tick() {
+        try {
+            List<AuctionTimerWheel.Timer> expired;
+            synchronized (wheel) {
+                expired = wheel.advance(System.currentTimeMillis());
+                scheduledCount.set(wheel.size());
+            }
+            for (AuctionTimerWheel.Timer timer : expired) {
+                dispatch(timer.getAuctionId(), timer.getDeadlineMillis());
+            }
+        } catch (Exception e) {
+            // 틱 스레드가 죽으면 이후 모든 종료가 멈추므로 예외를 삼킨다
+            log.error("경매 종료 타이머 틱 처리 실패", e);
+        }
+    }
+
+    private void dispatch(Long auctionId, long deadlineMillis) {
+        if (!inFlight.add(auctionId)) {
+            // 이미 처리 중 - 처리 결과에 따라 재등록됨
+            return;
+        }
+        try {
+            workers.execute(() -> close(auctionId, deadlineMillis));
+        } catch (RejectedExecutionException e) {
+            // 대기열 가득 참: 틱 스레드를 막지 않고 다음 틱에 다시 시도
+            inFlight.remove(auctionId);
+            rejectedCounter.increment();
+            schedule(auctionId, System.currentTimeMillis() + tickMillis);
+        }
+    }
+
+    private void close(Long auctionId, long deadlineMillis) {
+        try {
+            Optional<LocalDateTime> nextEndAt = auctionSchedulerService.closeAuction(auctionId);
+            if (nextEndAt.isPresent()) {
+                // 종료 시각 연장됨 - 새 시각으로 재등록
+                rescheduledCounter.increment();
+                schedule(auctionId, toMillis(nextEndAt.get()));
+                return;
+            }
+            closedCounter.increment();
+            closeLag.record(Math.max(0, System.currentTimeMillis() - deadlineMillis), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("경매 {} 종료 처리 실패, {}ms 후 재시도", auctionId, retryDelayMillis, e);
+            schedule(auctionId, System.currentTimeMillis() + retryDelayMillis);
+        } finally {
+            inFlight.remove(auctionId);
+        }
+    }
+
+    private void schedule(Long auctionId, long deadlineMillis) {
+        AuctionTimerWheel wheel = this.wheel;
+        if (wheel == null) {
+            // 기동 전 변경분은 기동 시 DB 적재에 포함된다
+            return;
+        }
+        synchronized (wheel) {
+            wheel.schedule(auctionId, deadlineMillis);
+            scheduledCount.set(wheel.size());
+        }
+    }
+
+    private Counter closeCounter(String result) {
+        return Counter.builder("auction.close.processed")
+                .description("경매 종료 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(KOREA_ZONE).toInstant().toEpochMilli();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
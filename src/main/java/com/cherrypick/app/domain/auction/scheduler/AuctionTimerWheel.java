@@ -0,0 +1,149 @@
+package com.cherrypick.app.domain.auction.scheduler;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 경매 종료 시각용 계층형 타이머 휠
+ *
+ * 틱(기본 1초) 단위 64슬롯 x 4단계로 약 64^4 틱(1초 틱 기준 약 194일)까지 표현한다.
+ * 등록/취소/재등록은 O(1)이고, 매 틱마다 해당 슬롯만 확인하므로 경매 수와 무관하게 동작한다.
+ * 상위 단계 슬롯은 하위 단계가 한 바퀴 돌 때마다 하위 단계로 내려보낸다(cascade).
+ *
+ * 스레드 안전하지 않으므로 호출자가 동기화한다.
+ */
+public class AuctionTimerWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final List<List<Set<Timer>>> wheels = new ArrayList<>(LEVELS);
+    private final Map<Long, Timer> timers = new HashMap<>();
+    private long currentTick;
+
+    public AuctionTimerWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Timer>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /**
+     * 경매 종료 시각 등록 (이미 등록된 경매는 새 시각으로 재등록)
+     * 이미 지난 시각은 다음 틱에 만료된다.
+     */
+    public void schedule(Long auctionId, long deadlineMillis) {
+        cancel(auctionId);
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Timer timer = new Timer(auctionId, deadlineMillis, tick);
+        timers.put(auctionId, timer);
+        place(timer);
+    }
+
+    /**
+     * 등록 취소
+     *
+     * @return 등록되어 있었으면 true
+     */
+    public boolean cancel(Long auctionId) {
+        Timer timer = timers.remove(auctionId);
+        if (timer == null) {
+            return false;
+        }
+        wheels.get(timer.level).get(timer.slot).remove(timer);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 틱을 진행하고 만료된 타이머 반환
+     */
+    public List<Timer> advance(long nowMillis) {
+        List<Timer> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(expired);
+
+            Set<Timer> slot = wheels.get(0).get((int) (currentTick & SLOT_MASK));
+            for (Timer timer : slot) {
+                timers.remove(timer.auctionId);
+                expired.add(timer);
+            }
+            slot.clear();
+        }
+        return expired;
+    }
+
+    public int size() {
+        return timers.size();
+    }
+
+    /**
+     * 하위 단계가 한 바퀴를 돈 시점에 상위 단계의 현재 슬롯을 하위 단계로 재배치
+     */
+    private void cascade(List<Timer> expired) {
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            Set<Timer> slot = wheels.get(level).get((int) ((currentTick >>> shift) & SLOT_MASK));
+            List<Timer> moving = new ArrayList<>(slot);
+            slot.clear();
+            for (Timer timer : moving) {
+                if (timer.tick <= currentTick) {
+                    timers.remove(timer.auctionId);
+                    expired.add(timer);
+                } else {
+                    place(timer);
+                }
+            }
+        }
+    }
+
+    /**
+     * 현재 틱과 처음 달라지는 자리수 단계에 배치
+     * (해당 단계 슬롯은 항상 현재 슬롯보다 앞이므로 cascade 시점에 정확히 내려온다)
+     */
+    private void place(Timer timer) {
+        long diff = timer.tick ^ currentTick;
+        int level = Math.min((63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS, LEVELS - 1);
+        int slot = (int) ((timer.tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        timer.level = level;
+        timer.slot = slot;
+        wheels.get(level).get(slot).add(timer);
+    }
+
+    /**
+     * 등록된 경매 종료 타이머
+     */
+    @Getter
+    public static class Timer {
+
+        private final Long auctionId;
+        private final long deadlineMillis;
+        private final long tick;
+        private int level;
+        private int slot;
+
+        private Timer(Long auctionId, long deadlineMillis, long tick) {
+            this.auctionId = auctionId;
+            this.deadlineMillis = deadlineMillis;
+            this.tick = tick;
+        }
+    }
+}
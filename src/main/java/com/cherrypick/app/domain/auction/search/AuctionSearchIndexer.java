@@ -0,0 +1,72 @@
+package com.cherrypick.app.domain.auction.search;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.repository.AuctionSearchDocumentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 경매 검색 문서 색인
+ *
+ * 경매 등록/수정과 같은 트랜잭션에서 제목/설명의 n-gram tsvector 를 auction_search_documents 에 기록한다.
+ * 기존 경매(마이그레이션 이전 데이터)는 기동 후 문서가 없는 경매만 배치로 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionSearchIndexer {
+
+    private final AuctionSearchDocumentRepository searchDocumentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${auction.search.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    /**
+     * 경매 검색 문서 생성/갱신 (호출한 트랜잭션에 참여)
+     */
+    public void index(Auction auction) {
+        index(auction.getId(), auction.getTitle(), auction.getDescription());
+    }
+
+    /**
+     * 검색 문서가 없는 경매 색인 보충
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int indexed = 0;
+        try {
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> {
+                    List<AuctionSearchDocumentRepository.UnindexedAuction> batch =
+                            searchDocumentRepository.findUnindexedAuctions(backfillBatchSize);
+                    batch.forEach(auction -> index(auction.getId(), auction.getTitle(), auction.getDescription()));
+                    return batch.size();
+                });
+                if (count == null || count == 0) {
+                    break;
+                }
+                indexed += count;
+            }
+        } catch (RuntimeException e) {
+            log.error("경매 검색 색인 보충 실패 ({}건 완료 후 중단, 다음 기동 시 재시도)", indexed, e);
+            return;
+        }
+        if (indexed > 0) {
+            log.info("경매 검색 색인 보충 완료: {}건", indexed);
+        }
+    }
+
+    private void index(Long auctionId, String title, String description) {
+        searchDocumentRepository.upsert(auctionId,
+                AuctionSearchTokenizer.documentTokens(title),
+                AuctionSearchTokenizer.documentTokens(description));
+    }
+}
@@ -0,0 +1,138 @@
+package com.cherrypick.app.domain.auction.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 경매 검색용 n-gram 토크나이저
+ *
+ * 한국어는 형태소 분석기 없이 띄어쓰기만으로는 "아이폰15프로" 같은 붙여 쓴 단어를 찾을 수 없으므로,
+ * 문자열을 글자 종류(한글/그 외 문자/숫자)가 바뀌는 지점에서 끊은 뒤 각 구간을 2-gram 으로 나눈다.
+ * 구간 끝에는 마지막 글자 1-gram 을 덧붙여 한 글자 검색어도 찾을 수 있게 한다.
+ *
+ * 예) "아이폰15 케이스" → 아이 이폰 폰 15 5 케이 이스 스
+ *
+ * 문서 토큰은 순서대로 tsvector 위치가 매겨지고 1-gram 은 구간 끝에만 있으므로, 검색어 토큰 전체를
+ * 인접 연산자(<->)로 이으면 검색어가 문서에 연속해서 나올 때만 일치한다.
+ * 기존 LIKE '%검색어%' 와 같은 의미를 GIN 인덱스로 처리하되, 구간 사이의 공백/기호는 구분하지 않는다.
+ * (예: "폰15" 는 "아이폰15" 와 "아이폰 15" 에 일치하고, "폰 케이스 15개" 에는 일치하지 않음)
+ *
+ * 제목(가중치 A)과 설명(가중치 B)은 한 tsvector 로 이어 붙어 제목 끝과 설명 앞이 인접 위치가 되므로,
+ * 검색어는 가중치별로 따로 이어 제목 안 또는 설명 안에서만 연속해서 나올 때 일치하게 한다.
+ */
+public final class AuctionSearchTokenizer {
+
+    private static final int HANGUL = 1;
+    private static final int LETTER = 2;
+    private static final int DIGIT = 3;
+
+    private AuctionSearchTokenizer() {
+    }
+
+    /**
+     * 문서(제목/설명) 토큰 문자열 (to_tsvector('simple', ?) 입력용)
+     */
+    public static String documentTokens(String text) {
+        StringBuilder tokens = new StringBuilder();
+        for (String run : runs(text)) {
+            for (String gram : grams(run)) {
+                if (tokens.length() > 0) {
+                    tokens.append(' ');
+                }
+                tokens.append(gram);
+            }
+        }
+        return tokens.toString();
+    }
+
+    /**
+     * 검색어 tsquery 문자열 (to_tsquery('simple', ?) 입력용)
+     * 검색어 토큰을 모두 인접(<->)으로 잇는다. 다음 구간이 이어지는 구간은 문서에서도 그 자리에서 구간이 끝나야 하므로
+     * 마지막 글자 1-gram 까지 넣는다. 같은 구를 제목(A)/설명(B) 가중치로 한 번씩 만들어 OR 로 잇는다.
+     * 검색할 글자가 없으면 null.
+     *
+     * 예) "아이폰 케이스" → (아이:A <-> 이폰:A <-> 폰:A <-> 케이:A <-> 이스:A) | (아이:B <-> ... <-> 이스:B)
+     */
+    public static String toTsQuery(String keyword) {
+        List<String> runs = runs(keyword);
+        if (runs.isEmpty()) {
+            return null;
+        }
+        return "(" + phrase(runs, 'A') + ") | (" + phrase(runs, 'B') + ")";
+    }
+
+    /**
+     * 한 필드(가중치) 안에서 연속해야 일치하는 구
+     */
+    private static String phrase(List<String> runs, char weight) {
+        List<String> terms = new ArrayList<>();
+        for (int r = 0; r < runs.size(); r++) {
+            String run = runs.get(r);
+            boolean lastRun = r == runs.size() - 1;
+            for (int i = 0; i + 2 <= run.length(); i++) {
+                terms.add(run.substring(i, i + 2) + ":" + weight);
+            }
+            String lastChar = run.substring(run.length() - 1);
+            if (!lastRun) {
+                terms.add(lastChar + ":" + weight);
+            } else if (run.length() == 1) {
+                // 마지막 한 글자: 구간 끝 1-gram 또는 그 글자로 시작하는 2-gram
+                terms.add("(" + lastChar + ":" + weight + " | " + lastChar + ":*" + weight + ")");
+            }
+        }
+        return String.join(" <-> ", terms);
+    }
+
+    /**
+     * 구간 하나의 토큰: 2-gram 들과 마지막 글자 1-gram (한 글자 구간은 그 글자만)
+     */
+    static List<String> grams(String run) {
+        List<String> grams = new ArrayList<>(run.length());
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            grams.add(run.substring(i, i + 2));
+        }
+        grams.add(run.substring(run.length() - 1));
+        return grams;
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 글자 종류가 같은 연속 구간으로 분리 (공백/기호는 구분자)
+     */
+    static List<String> runs(String text) {
+        List<String> runs = new ArrayList<>();
+        if (text == null) {
+            return runs;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        int currentType = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            int type = typeOf(normalized.charAt(i));
+            if (type != currentType) {
+                if (start >= 0) {
+                    runs.add(normalized.substring(start, i));
+                }
+                start = type == 0 ? -1 : i;
+                currentType = type;
+            }
+        }
+        if (start >= 0) {
+            runs.add(normalized.substring(start));
+        }
+        return runs;
+    }
+
+    private static int typeOf(char c) {
+        if (c >= '가' && c <= '힣') {
+            return HANGUL;
+        }
+        if (Character.isDigit(c)) {
+            return DIGIT;
+        }
+        if (Character.isLetter(c)) {
+            return LETTER;
+        }
+        return 0;
+    }
+}
@@ -1,5 +1,7 @@
 package com.cherrypick.app.domain.auction.service;
 
+import com.cherrypick.app.domain.auction.counter.BookmarkCountBuffer;
+import com.cherrypick.app.domain.auction.dto.BookmarkSummary;
 import com.cherrypick.app.domain.auction.entity.Auction;
 import com.cherrypick.app.domain.auction.entity.AuctionBookmark;
 import com.cherrypick.app.domain.auction.repository.AuctionBookmarkRepository;
@@ -13,10 +15,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -27,6 +30,7 @@ public class AuctionBookmarkService {
     private final AuctionBookmarkRepository bookmarkRepository;
     private final AuctionRepository auctionRepository;
     private final UserRepository userRepository;
+    private final BookmarkCountBuffer bookmarkCountBuffer;
 
     /**
      * 북마크 토글 (추가/삭제)
@@ -44,17 +48,19 @@ public class AuctionBookmarkService {
         if (isBookmarked) {
             // 북마크 제거
             bookmarkRepository.deleteByAuctionAndUser(auction, user);
+            bookmarkCountBuffer.record(auctionId, -1);
             log.info("북마크 제거: 사용자 ID = {}, 경매 ID = {}", userId, auctionId);
         } else {
             // 북마크 추가
             AuctionBookmark bookmark = AuctionBookmark.create(auction, user);
             bookmarkRepository.save(bookmark);
+            bookmarkCountBuffer.record(auctionId, 1);
             log.info("북마크 추가: 사용자 ID = {}, 경매 ID = {}", userId, auctionId);
         }
 
         // 현재 상태 반환
         boolean currentStatus = !isBookmarked;
-        long bookmarkCount = bookmarkRepository.countByAuction(auction);
+        long bookmarkCount = getBookmarkCount(auction);
 
         return Map.of(
                 "isBookmarked", currentStatus,
@@ -69,7 +75,15 @@ public class AuctionBookmarkService {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.AUCTION_NOT_FOUND));
 
-        return bookmarkRepository.countByAuction(auction);
+        return getBookmarkCount(auction);
+    }
+
+    /**
+     * 경매의 북마크 수 (저장된 값 + 아직 반영되지 않은 증감, 북마크 행을 세지 않음)
+     */
+    public long getBookmarkCount(Auction auction) {
+        long stored = auction.getBookmarkCount() != null ? auction.getBookmarkCount() : 0L;
+        return Math.max(0L, stored + bookmarkCountBuffer.getPendingDelta(auction.getId()));
     }
 
     /**
@@ -106,7 +120,7 @@ public class AuctionBookmarkService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         boolean isBookmarked = bookmarkRepository.existsByAuctionAndUser(auction, user);
-        long bookmarkCount = bookmarkRepository.countByAuction(auction);
+        long bookmarkCount = getBookmarkCount(auction);
 
         return Map.of(
                 "isBookmarked", isBookmarked,
@@ -114,44 +128,52 @@ public class AuctionBookmarkService {
         );
     }
 
+    /**
+     * 여러 경매의 북마크 수와 사용자 북마크 여부를 한 번에 조회
+     * 북마크 수는 경매 행의 값을 사용하고, 사용자 북마크 여부만 쿼리 1회로 조회한다.
+     *
+     * @param userId 조회 사용자 ID (null 이면 북마크 여부는 모두 false, 쿼리 없음)
+     * @return 경매 ID별 북마크 집계
+     */
+    public Map<Long, BookmarkSummary> getBookmarkSummaries(List<Auction> auctions, Long userId) {
+        if (auctions == null || auctions.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> bookmarkedIds = userId == null ? Set.of() : new HashSet<>(
+                bookmarkRepository.findBookmarkedAuctionIds(userId, auctions.stream().map(Auction::getId).toList()));
+
+        Map<Long, BookmarkSummary> summaries = new HashMap<>();
+        for (Auction auction : auctions) {
+            summaries.put(auction.getId(),
+                    new BookmarkSummary(getBookmarkCount(auction), bookmarkedIds.contains(auction.getId())));
+        }
+        return summaries;
+    }
+
     /**
      * 여러 경매의 북마크 정보를 배치로 조회
      */
     public Map<String, Object> getBatchBookmarkInfo(List<Long> auctionIds, Long userId) {
         // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
         // 유효한 경매만 필터링
         List<Auction> auctions = auctionRepository.findAllById(auctionIds);
-        Map<Long, Auction> auctionMap = auctions.stream()
-                .collect(Collectors.toMap(Auction::getId, auction -> auction));
-
-        // 배치로 북마크 상태 조회
-        List<AuctionBookmark> userBookmarks = bookmarkRepository.findByUserAndAuctionIn(user, auctions);
-        Map<Long, Boolean> bookmarkStatusMap = userBookmarks.stream()
-                .collect(Collectors.toMap(
-                        bookmark -> bookmark.getAuction().getId(),
-                        bookmark -> true
-                ));
-
-        // 배치로 북마크 수 조회
-        Map<Long, Long> bookmarkCountMap = new HashMap<>();
-        for (Auction auction : auctions) {
-            long count = bookmarkRepository.countByAuction(auction);
-            bookmarkCountMap.put(auction.getId(), count);
-        }
+
+        // 북마크 수와 사용자 북마크 상태를 한 번에 조회
+        Map<Long, BookmarkSummary> summaries = getBookmarkSummaries(auctions, userId);
 
         // 결과 조합
         Map<String, Object> result = new HashMap<>();
-        for (Long auctionId : auctionIds) {
-            if (auctionMap.containsKey(auctionId)) {
-                Map<String, Object> info = Map.of(
-                        "isBookmarked", bookmarkStatusMap.getOrDefault(auctionId, false),
-                        "bookmarkCount", bookmarkCountMap.getOrDefault(auctionId, 0L)
-                );
-                result.put(auctionId.toString(), info);
-            }
+        for (Auction auction : auctions) {
+            BookmarkSummary summary = summaries.getOrDefault(auction.getId(), BookmarkSummary.EMPTY);
+            result.put(auction.getId().toString(), Map.of(
+                    "isBookmarked", summary.isBookmarked(),
+                    "bookmarkCount", summary.getBookmarkCount()
+            ));
         }
 
         log.info("배치 북마크 정보 조회: 사용자 ID = {}, 경매 수 = {}", userId, result.size());
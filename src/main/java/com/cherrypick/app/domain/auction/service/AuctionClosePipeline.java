@@ -0,0 +1,307 @@
+package com.cherrypick.app.domain.auction.service;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.entity.AuctionCloseTask;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.repository.AuctionCloseTaskRepository;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 경매 종료 후처리 파이프라인 (트랜잭션 아웃박스 기반)
+ *
+ * 경매 종료 트랜잭션은 상태 변경과 첫 단계 작업만 기록하고 바로 커밋한다.
+ * 단계마다 독립된 작업자들이 auction_close_outbox 에서 자기 단계 작업을 선점(SKIP LOCKED)해
+ * 실행하고, 같은 트랜잭션에서 완료 처리와 다음 단계 기록을 한다.
+ * 실패한 단계는 지수 백오프로 재시도하며, 최대 시도 횟수를 넘으면 DEAD 로 남긴다.
+ * DEAD 가 된 의존 단계(거래~채팅방) 뒤로는 진행하지 않고 auction.close.dead 로 집계해 수동 복구를 기다리며,
+ * 독립 단계인 알림만 이어서 기록한다. 알림 단계는 커밋 후 발송하고 발송 표시를 payload 에 남겨 두 번 보내지 않는다.
+ */
+@Slf4j
+@Component
+public class AuctionClosePipeline {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final AuctionCloseTaskRepository taskRepository;
+    private final AuctionRepository auctionRepository;
+    private final AuctionCloseStageHandler stageHandler;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${auction.close.pipeline.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${auction.close.pipeline.retry-backoff-ms:2000}")
+    private long retryBackoffMillis;
+
+    @Value("${auction.close.pipeline.max-backoff-ms:300000}")
+    private long maxBackoffMillis;
+
+    @Value("${auction.close.pipeline.poll-interval-ms:5000}")
+    private long pollIntervalMillis;
+
+    // 단계별 작업 도착 신호 (대기 중인 작업자를 깨움, 신호를 놓쳐도 poll 주기마다 확인)
+    private final Map<AuctionCloseStage, Semaphore> signals = new EnumMap<>(AuctionCloseStage.class);
+    private final Map<AuctionCloseStage, Integer> concurrency = new EnumMap<>(AuctionCloseStage.class);
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    public AuctionClosePipeline(AuctionCloseTaskRepository taskRepository,
+                                AuctionRepository auctionRepository,
+                                AuctionCloseStageHandler stageHandler,
+                                TransactionTemplate transactionTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                Environment environment) {
+        this.taskRepository = taskRepository;
+        this.auctionRepository = auctionRepository;
+        this.stageHandler = stageHandler;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        for (AuctionCloseStage stage : AuctionCloseStage.values()) {
+            signals.put(stage, new Semaphore(0));
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 단계별 작업자 시작 (이전 실행에서 남은 작업도 이어서 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int total = 0;
+        for (AuctionCloseStage stage : AuctionCloseStage.values()) {
+            int stageConcurrency = environment.getProperty(
+                    "auction.close.pipeline.concurrency." + stage.name().toLowerCase().replace('_', '-'),
+                    Integer.class, stage.getDefaultConcurrency());
+            concurrency.put(stage, stageConcurrency);
+            total += stageConcurrency;
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(total, runnable -> {
+            Thread thread = new Thread(runnable, "auction-close-stage-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        running = true;
+        concurrency.forEach((stage, count) -> {
+            for (int i = 0; i < count; i++) {
+                workers.execute(() -> runWorker(stage));
+            }
+        });
+        log.info("경매 종료 후처리 파이프라인 시작: {}", concurrency);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 단계 작업 기록 (호출자 트랜잭션에 참여, 커밋 후 해당 단계 작업자를 깨움)
+     * 같은 경매/단계 작업이 이미 있으면 기록하지 않는다.
+     */
+    public void enqueue(Long auctionId, AuctionCloseStage stage, Map<String, Object> payload) {
+        if (taskRepository.existsByAuctionIdAndStage(auctionId, stage)) {
+            log.debug("경매 {} 후처리 단계 {} 이미 기록됨", auctionId, stage);
+            return;
+        }
+        taskRepository.save(AuctionCloseTask.create(auctionId, stage, writePayload(payload)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp(stage);
+                }
+            });
+        } else {
+            wakeUp(stage);
+        }
+    }
+
+    private void wakeUp(AuctionCloseStage stage) {
+        Semaphore signal = signals.get(stage);
+        if (signal.availablePermits() < concurrency.getOrDefault(stage, 1)) {
+            signal.release();
+        }
+    }
+
+    private void runWorker(AuctionCloseStage stage) {
+        Semaphore signal = signals.get(stage);
+        while (running) {
+            try {
+                if (!processNext(stage)) {
+                    signal.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // DB 연결 실패 등 선점 자체가 실패한 경우 - 잠시 후 다시 시도
+                log.error("경매 종료 후처리 단계 {} 작업 선점 실패", stage, e);
+                try {
+                    signal.tryAcquire(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 단계 작업 1건 처리 (작업자 루프에서 호출)
+     *
+     * @return 처리할 작업이 있었으면 true (성공/실패 무관)
+     */
+    boolean processNext(AuctionCloseStage stage) {
+        AtomicReference<Long> claimedTaskId = new AtomicReference<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Boolean processed = transactionTemplate.execute(status -> {
+                Optional<AuctionCloseTask> claimed = taskRepository.claimNext(stage.name(), LocalDateTime.now());
+                if (claimed.isEmpty()) {
+                    return false;
+                }
+                AuctionCloseTask task = claimed.get();
+                claimedTaskId.set(task.getId());
+
+                Auction auction = auctionRepository.findById(task.getAuctionId())
+                        .orElseThrow(() -> new IllegalStateException("경매를 찾을 수 없습니다: " + task.getAuctionId()));
+                Map<String, Object> payload = readPayload(task.getPayload());
+
+                stageHandler.execute(stage, auction, payload);
+
+                task.complete();
+                task.updatePayload(writePayload(payload));
+                enqueueNext(task, payload);
+                return true;
+            });
+            if (Boolean.TRUE.equals(processed)) {
+                sample.stop(stageTimer(stage, "success"));
+                return true;
+            }
+            return false;
+        } catch (RuntimeException e) {
+            if (claimedTaskId.get() == null) {
+                throw e;
+            }
+            boolean dead = recordFailure(claimedTaskId.get(), e);
+            sample.stop(stageTimer(stage, dead ? "dead" : "retry"));
+            return true;
+        }
+    }
+
+    /**
+     * 실패 기록 (단계 트랜잭션은 롤백되었으므로 별도 트랜잭션)
+     *
+     * @return DEAD 로 전환되었으면 true
+     */
+    private boolean recordFailure(Long taskId, Exception cause) {
+        Boolean dead = transactionTemplate.execute(status -> {
+            AuctionCloseTask task = taskRepository.findById(taskId).orElse(null);
+            if (task == null) {
+                return false;
+            }
+            long backoff = Math.min(maxBackoffMillis, retryBackoffMillis << Math.min(task.getAttempts(), 20));
+            String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            if (task.recordFailure(error, maxAttempts, backoff)) {
+                deadCounter(task.getStage()).increment();
+                // 의존 단계는 여기서 멈추고(status 를 PENDING 으로 되돌리면 이어서 진행), 알림은 독립 단계라 계속 진행
+                log.error("경매 {} 후처리 단계 {} 최대 재시도 초과 - DEAD 처리, 이후 단계 중단 (수동 복구 필요)",
+                        task.getAuctionId(), task.getStage(), cause);
+                AuctionCloseStage notification = task.getStage().notification();
+                if (notification != null) {
+                    enqueue(task.getAuctionId(), notification, readPayload(task.getPayload()));
+                }
+                return true;
+            }
+            log.warn("경매 {} 후처리 단계 {} 실패 ({}회), {}ms 후 재시도: {}",
+                    task.getAuctionId(), task.getStage(), task.getAttempts(), backoff, error);
+            return false;
+        });
+        return Boolean.TRUE.equals(dead);
+    }
+
+    private void enqueueNext(AuctionCloseTask task, Map<String, Object> payload) {
+        AuctionCloseStage next = task.getStage().next();
+        if (next != null) {
+            enqueue(task.getAuctionId(), next, payload);
+        }
+    }
+
+    private Counter deadCounter(AuctionCloseStage stage) {
+        return Counter.builder("auction.close.dead")
+                .description("최대 재시도를 넘겨 수동 복구가 필요한 후처리 단계 수")
+                .tag("stage", stage.name())
+                .register(meterRegistry);
+    }
+
+    private Timer stageTimer(AuctionCloseStage stage, String result) {
+        return Timer.builder("auction.close.stage")
+                .description("경매 종료 후처리 단계 실행 시간")
+                .tag("stage", stage.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Map<String, Object> readPayload(String payload) {
+        if (payload == null || payload.isBlank()) {
+            return new HashMap<>();
+        }
+        try {
+            return objectMapper.readValue(payload, PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("후처리 payload 파싱 실패: " + payload, e);
+        }
+    }
+
+    private String writePayload(Map<String, Object> payload) {
+        if (payload == null || payload.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("후처리 payload 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.cherrypick.app.domain.auction.service;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.repository.BidRepository;
+import com.cherrypick.app.domain.chat.entity.ChatRoom;
+import com.cherrypick.app.domain.chat.service.ChatService;
+import com.cherrypick.app.domain.connection.dto.response.ConnectionResponse;
+import com.cherrypick.app.domain.connection.service.ConnectionServiceImpl;
+import com.cherrypick.app.domain.notification.event.AuctionEndedForParticipantEvent;
+import com.cherrypick.app.domain.notification.event.AuctionNotSoldForHighestBidderEvent;
+import com.cherrypick.app.domain.notification.event.AuctionNotSoldNotificationEvent;
+import com.cherrypick.app.domain.notification.event.AuctionSoldNotificationEvent;
+import com.cherrypick.app.domain.notification.event.AuctionWonNotificationEvent;
+import com.cherrypick.app.domain.transaction.service.TransactionService;
+import com.cherrypick.app.domain.user.dto.response.ExperienceGainResponse;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.service.ExperienceService;
+import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 경매 종료 후처리 단계 실행기
+ * AuctionClosePipeline 이 단계별 작업 트랜잭션 안에서 호출한다.
+ * 예외를 삼키지 않고 던져야 해당 단계가 롤백 후 재시도된다.
+ * 알림 단계는 발송 내용만 트랜잭션 안에서 만들고 실제 발송은 커밋 후에 하며, 발송 표시를 payload 에 남겨
+ * 재시도나 수동 재처리로 같은 단계가 다시 실행되어도 알림을 두 번 보내지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuctionCloseStageHandler {
+
+    static final String CHAT_ROOM_ID = "chatRoomId";
+    static final String EXP_GAINED = "expGained";
+    static final String NOTIFIED_AT = "notifiedAt";
+
+    private final BidRepository bidRepository;
+    private final ConnectionServiceImpl connectionService;
+    private final WebSocketMessagingService webSocketMessagingService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ChatService chatService;
+    private final TransactionService transactionService;
+    private final ExperienceService experienceService;
+
+    /**
+     * 단계 실행
+     *
+     * @param payload 이전 단계 결과 (이 단계 결과를 추가하면 다음 단계로 전달됨)
+     */
+    public void execute(AuctionCloseStage stage, Auction auction, Map<String, Object> payload) {
+        switch (stage) {
+            case TRANSACTION -> createTransaction(auction);
+            case EXPERIENCE -> awardWinExperience(auction, payload);
+            case CONNECTION -> createConnection(auction);
+            case CHAT_ROOM -> createChatRoom(auction, payload);
+            case NOTIFY_SOLD -> {
+                if (markNotified(auction, stage, payload)) {
+                    notifySold(auction, payload);
+                }
+            }
+            case NOTIFY_NOT_SOLD -> {
+                if (markNotified(auction, stage, payload)) {
+                    notifyNotSold(auction);
+                }
+            }
+        }
+    }
+
+    /**
+     * 알림 단계 발송 표시 (이미 발송한 단계면 false)
+     * 표시는 단계 완료와 같은 트랜잭션으로 저장되고 발송은 커밋 후에 하므로, 커밋 전에 실패하면 표시도 발송도 남지 않는다.
+     */
+    private boolean markNotified(Auction auction, AuctionCloseStage stage, Map<String, Object> payload) {
+        if (payload.containsKey(NOTIFIED_AT)) {
+            log.info("경매 {} {} 이미 발송됨 ({}) - 건너뜀", auction.getId(), stage, payload.get(NOTIFIED_AT));
+            return false;
+        }
+        payload.put(NOTIFIED_AT, LocalDateTime.now().toString());
+        return true;
+    }
+
+    /**
+     * 단계 트랜잭션 커밋 후 발송 (롤백되면 보내지 않음)
+     * 커밋 후에는 단계가 이미 완료되었으므로 발송 실패는 로그만 남긴다.
+     */
+    private void afterCommit(Long auctionId, Runnable send) {
+        Runnable guarded = () -> {
+            try {
+                send.run();
+            } catch (RuntimeException e) {
+                log.error("경매 {} 종료 알림 발송 실패", auctionId, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    /**
+     * Transaction 자동 생성 (PENDING 상태, 이미 있으면 기존 것 사용)
+     */
+    private void createTransaction(Auction auction) {
+        Bid winningBid = bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auction.getId())
+                .orElseThrow(() -> new IllegalStateException("낙찰 입찰을 찾을 수 없습니다: auctionId=" + auction.getId()));
+        transactionService.createTransactionFromAuction(auction, winningBid);
+        log.info("경매 {} Transaction 생성 완료", auction.getId());
+    }
+
+    /**
+     * 낙찰 성공 경험치 지급
+     */
+    private void awardWinExperience(Auction auction, Map<String, Object> payload) {
+        ExperienceGainResponse experienceGain =
+                experienceService.awardAuctionWinExperience(auction.getWinner().getId(), auction);
+        payload.put(EXP_GAINED, experienceGain.getExpGained());
+        log.info("경매 {} 낙찰 경험치 지급 완료: {} EXP", auction.getId(), experienceGain.getExpGained());
+    }
+
+    /**
+     * 연결 서비스 자동 생성 (PENDING 상태)
+     */
+    private void createConnection(Auction auction) {
+        ConnectionResponse connectionResponse = connectionService.createConnection(
+                auction.getId(), auction.getWinner().getId());
+        log.info("경매 {} 연결 서비스 생성 완료: {}", auction.getId(), connectionResponse.getId());
+    }
+
+    /**
+     * 채팅방 자동 생성 (낙찰 시 판매자-낙찰자 채팅방, 이미 있으면 기존 것 사용)
+     */
+    private void createChatRoom(Auction auction, Map<String, Object> payload) {
+        ChatRoom chatRoom = chatService.createAuctionChatRoom(auction, auction.getSeller(), auction.getWinner());
+        payload.put(CHAT_ROOM_ID, chatRoom.getId());
+        log.info("경매 {} 채팅방 자동 생성 완료: chatRoomId={}", auction.getId(), chatRoom.getId());
+    }
+
+    /**
+     * 낙찰 알림 (경매 페이지 구독자, 구매자, 판매자, 다른 참여자)
+     */
+    private void notifySold(Auction auction, Map<String, Object> payload) {
+        User winner = auction.getWinner();
+        BigDecimal finalPrice = auction.getCurrentPrice();
+
+        String winnerNickname = winner.getNickname() != null ?
+            winner.getNickname() :
+            "익명" + winner.getId();
+
+        String sellerNickname = auction.getSeller().getNickname() != null ?
+            auction.getSeller().getNickname() :
+            "익명" + auction.getSeller().getId();
+
+        Long chatRoomId = payload.get(CHAT_ROOM_ID) instanceof Number id ? id.longValue() : null;
+
+        // 알림 문구에는 획득 경험치만 사용된다
+        ExperienceGainResponse experienceGain = payload.get(EXP_GAINED) instanceof Number exp ?
+            ExperienceGainResponse.builder().type("buyer").expGained(exp.intValue()).build() : null;
+
+        // 낙찰 알림 이벤트 (구매자에게)
+        AuctionWonNotificationEvent wonEvent = new AuctionWonNotificationEvent(
+            this,                              // source
+            winner.getId(),                    // buyerId
+            auction.getId(),                   // auctionId
+            auction.getTitle(),                // auctionTitle
+            finalPrice.longValue(),            // finalPrice
+            sellerNickname,                    // sellerNickname
+            chatRoomId,                        // chatRoomId
+            experienceGain                     // experienceGain
+        );
+
+        // 판매자에게 낙찰 알림
+        AuctionSoldNotificationEvent soldEvent = new AuctionSoldNotificationEvent(
+            this,
+            auction.getSeller().getId(),
+            auction.getId(),
+            auction.getTitle(),
+            finalPrice.longValue(),
+            winnerNickname,
+            chatRoomId  // 생성된 채팅방 ID 포함
+        );
+
+        // 모든 입찰 참여자에게 경매 종료 알림 (낙찰자 제외)
+        List<AuctionEndedForParticipantEvent> participantEvents =
+                participantEvents(auction, winner.getId(), finalPrice.longValue(), true);
+
+        afterCommit(auction.getId(), () -> {
+            // 경매 페이지 구독자 실시간 알림 → 구매자 → 판매자 → 다른 참여자
+            webSocketMessagingService.notifyAuctionEnded(auction.getId(), finalPrice, winnerNickname);
+            applicationEventPublisher.publishEvent(wonEvent);
+            applicationEventPublisher.publishEvent(soldEvent);
+            participantEvents.forEach(applicationEventPublisher::publishEvent);
+        });
+
+        log.info("경매 {} 낙찰 알림 완료 - 낙찰가: {}원, 낙찰자: {}, 채팅방: {}",
+                auction.getId(), finalPrice.intValue(), winnerNickname, chatRoomId);
+    }
+
+    /**
+     * 유찰 알림 (입찰 없음 또는 Reserve Price 미달)
+     */
+    private void notifyNotSold(Auction auction) {
+        // 최고 입찰 조회 (유찰이지만 입찰자가 있을 수 있음)
+        Optional<Bid> highestBidOpt = bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auction.getId());
+
+        // 실시간 유찰 알림 (WebSocket) - 판매자에게 상세 정보 전달
+        boolean isNoReserve = auction.getReservePrice() == null;
+        int bidCount = highestBidOpt.isPresent() ? (int) bidRepository.countByAuctionId(auction.getId()) : 0;
+        Long highestBidderId = highestBidOpt.map(bid -> bid.getBidder().getId()).orElse(null);
+        String highestBidderNickname = highestBidOpt.map(bid -> bid.getBidder().getNickname()).orElse(null);
+
+        // 유찰 알림 이벤트 (판매자에게)
+        AuctionNotSoldNotificationEvent notSoldEvent = new AuctionNotSoldNotificationEvent(
+            this,
+            auction.getSeller().getId(),
+            auction.getId(),
+            auction.getTitle(),
+            highestBidOpt.orElse(null)
+        );
+
+        // 최고 입찰자에게 유찰 알림, 다른 참여자들에게 경매 종료 알림 (입찰자가 있는 경우)
+        AuctionNotSoldForHighestBidderEvent highestBidderEvent = highestBidOpt
+                .map(highestBid -> new AuctionNotSoldForHighestBidderEvent(
+                    this,
+                    highestBid.getBidder().getId(),
+                    auction.getId(),
+                    auction.getTitle(),
+                    highestBid.getBidAmount().longValue()
+                ))
+                .orElse(null);
+        List<AuctionEndedForParticipantEvent> participantEvents = highestBidOpt.isPresent()
+                ? participantEvents(auction, highestBidderId, 0L, false)
+                : List.of();
+
+        afterCommit(auction.getId(), () -> {
+            webSocketMessagingService.notifyAuctionNotSold(
+                auction.getId(),
+                bidCount,
+                highestBidOpt.isPresent(), // hasHighestBidder
+                highestBidderId,
+                highestBidderNickname,
+                isNoReserve
+            );
+            applicationEventPublisher.publishEvent(notSoldEvent);
+            if (highestBidderEvent != null) {
+                applicationEventPublisher.publishEvent(highestBidderEvent);
+            }
+            participantEvents.forEach(applicationEventPublisher::publishEvent);
+        });
+
+        if (highestBidOpt.isPresent()) {
+            log.info("경매 {} 유찰 알림 완료 - 최고 입찰자 {}원", auction.getId(), highestBidOpt.get().getBidAmount().longValue());
+        } else {
+            log.info("경매 {} 유찰 알림 완료 - 입찰자 없음", auction.getId());
+        }
+    }
+
+    /**
+     * 모든 입찰 참여자에게 보낼 경매 종료 알림
+     *
+     * @param auction 종료된 경매
+     * @param excludeUserId 제외할 사용자 ID (낙찰자 또는 최고 입찰자)
+     * @param finalPrice 낙찰가 (낙찰 시) 또는 0 (유찰 시)
+     * @param wasSuccessful 낙찰 성공 여부
+     */
+    private List<AuctionEndedForParticipantEvent> participantEvents(Auction auction, Long excludeUserId,
+                                                                    Long finalPrice, boolean wasSuccessful) {
+        // 해당 경매의 모든 입찰자 조회 (중복 제거)
+        List<Bid> allBids = bidRepository.findByAuctionIdOrderByBidAmountDesc(auction.getId());
+
+        // 중복 제거 및 제외 대상 필터링
+        Set<Long> notifiedUserIds = allBids.stream()
+                .map(bid -> bid.getBidder().getId())
+                .filter(userId -> !userId.equals(excludeUserId)) // 낙찰자/최고입찰자 제외
+                .filter(userId -> !userId.equals(auction.getSeller().getId())) // 판매자 제외
+                .collect(Collectors.toSet());
+
+        // 각 참여자에게 보낼 알림 이벤트
+        List<AuctionEndedForParticipantEvent> events = notifiedUserIds.stream()
+                .map(participantId -> new AuctionEndedForParticipantEvent(
+                    this,
+                    participantId,
+                    auction.getId(),
+                    auction.getTitle(),
+                    finalPrice,
+                    wasSuccessful
+                ))
+                .toList();
+
+        log.info("경매 {} 참여자 {}명에게 종료 알림 발행 예정 (낙찰: {})",
+                auction.getId(), events.size(), wasSuccessful);
+        return events;
+    }
+}
@@ -1,40 +1,30 @@
 package com.cherrypick.app.domain.auction.service;
 
-import com.cherrypick.app.config.BusinessConfig;
 import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.enums.AuctionStatus;
+import com.cherrypick.app.domain.auction.event.AuctionListingChangedEvent;
 import com.cherrypick.app.domain.auction.repository.AuctionRepository;
 import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.orderbook.BidOrderBookService;
 import com.cherrypick.app.domain.bid.repository.BidRepository;
-import com.cherrypick.app.domain.connection.dto.response.ConnectionResponse;
-import com.cherrypick.app.domain.connection.service.ConnectionServiceImpl;
-import com.cherrypick.app.domain.notification.event.AuctionNotSoldNotificationEvent;
-import com.cherrypick.app.domain.notification.event.AuctionSoldNotificationEvent;
-import com.cherrypick.app.domain.notification.event.AuctionWonNotificationEvent;
-import com.cherrypick.app.domain.notification.event.AuctionEndedForParticipantEvent;
-import com.cherrypick.app.domain.notification.event.AuctionNotSoldForHighestBidderEvent;
-import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
-import com.cherrypick.app.domain.chat.service.ChatService;
-import com.cherrypick.app.domain.chat.entity.ChatRoom;
-import com.cherrypick.app.domain.transaction.service.TransactionService;
-import com.cherrypick.app.domain.user.service.ExperienceService;
-import com.cherrypick.app.domain.user.dto.response.ExperienceGainResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * 경매 스케줄러 서비스
- * 경매 종료, 낙찰 처리, 연결 서비스 자동 생성 등을 담당
+ * 경매 종료 및 낙찰/유찰 판정을 담당 (거래/연결 서비스/채팅방 생성과 알림은 AuctionClosePipeline 후처리)
  */
 @Slf4j
 @Service
@@ -43,278 +33,105 @@ public class AuctionSchedulerService {
     
     private final AuctionRepository auctionRepository;
     private final BidRepository bidRepository;
-    private final ConnectionServiceImpl connectionService;
-    private final WebSocketMessagingService webSocketMessagingService;
-    private final BusinessConfig businessConfig;
+    private final AuctionClosePipeline auctionClosePipeline;
+    private final Optional<BidOrderBookService> bidOrderBookService;
+    private final TransactionTemplate transactionTemplate;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final ChatService chatService;
-    private final TransactionService transactionService;
-    private final ExperienceService experienceService;
     
     /**
-     * 경매 종료 처리 스케줄러
-     * 매 1분마다 실행하여 종료된 경매를 자동 처리
+     * 경매 종료 처리 스케줄러 (안전망)
+     * 종료 시각 도달 즉시 처리는 AuctionCloseScheduler 타이머 휠이 담당하고,
+     * 이 스윕은 타이머에 등록되지 않은 경매(다른 인스턴스 등록 등)만 주기적으로 보정한다.
      */
-    @Scheduled(fixedDelay = 60000) // 1분마다 실행
-    @Transactional
+    @Scheduled(fixedDelayString = "${auction.close.sweep-interval-ms:60000}")
     public void processEndedAuctions() {
         LocalDateTime now = LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
         log.debug("경매 종료 처리 스케줄러 실행: {}", now);
-        
-        // 종료 시간이 지난 활성 경매들 조회
-        List<Auction> endedAuctions = auctionRepository.findExpiredActiveAuctions(now);
-        
-        if (endedAuctions.isEmpty()) {
+
+        // 종료 시간이 지난 활성 경매 ID 조회
+        List<Long> endedAuctionIds = auctionRepository.findExpiredActiveAuctionIds(now);
+
+        if (endedAuctionIds.isEmpty()) {
             log.debug("종료 처리할 경매가 없습니다.");
             return;
         }
-        
-        log.info("종료 처리할 경매 {}개 발견", endedAuctions.size());
-        
-        for (Auction auction : endedAuctions) {
+
+        log.info("종료 처리할 경매 {}개 발견", endedAuctionIds.size());
+
+        // 경매마다 별도 트랜잭션으로 처리 (한 건 실패가 다른 경매 종료를 롤백하지 않음)
+        for (Long auctionId : endedAuctionIds) {
             try {
-                processAuctionEnd(auction);
-                log.info("경매 {} 종료 처리 완료", auction.getId());
+                closeAuction(auctionId);
             } catch (Exception e) {
-                log.error("경매 {} 종료 처리 중 오류 발생", auction.getId(), e);
+                log.error("경매 {} 종료 처리 중 오류 발생", auctionId, e);
             }
         }
     }
-    
-    /**
-     * 개별 경매 종료 처리
-     * 
-     * @param auction 종료할 경매
-     */
-    private void processAuctionEnd(Auction auction) {
-        // 최고 입찰 조회
-        Optional<Bid> highestBidOpt = bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auction.getId());
-        
-        if (highestBidOpt.isEmpty()) {
-            // 입찰이 없는 경우 - 유찰 처리
-            handleNoReserveAuction(auction);
-            return;
-        }
-        
-        Bid highestBid = highestBidOpt.get();
-        BigDecimal finalPrice = highestBid.getBidAmount();
-        
-        // Reserve Price 확인
-        if (!auction.isReservePriceMet(finalPrice)) {
-            // Reserve Price 미달 - 유찰 처리
-            handleNoReserveAuction(auction);
-            return;
-        }
-        
-        // 정상 낙찰 처리
-        handleSuccessfulAuction(auction, highestBid, finalPrice);
-    }
-    
-    /**
-     * 정상 낙찰 처리
-     */
-    private void handleSuccessfulAuction(Auction auction, Bid winningBid, BigDecimal finalPrice) {
-        // 1. 경매 상태를 종료로 변경하고 낙찰자 설정
-        auction.endAuction(winningBid.getBidder(), finalPrice);
-        auctionRepository.save(auction);
-
-        // 2. Transaction 자동 생성 (PENDING 상태)
-        try {
-            transactionService.createTransactionFromAuction(auction, winningBid);
-            log.info("경매 {} Transaction 생성 완료", auction.getId());
-        } catch (Exception e) {
-            log.error("경매 {} Transaction 생성 실패", auction.getId(), e);
-        }
 
-        // 2.5. 낙찰 성공 경험치 지급
-        ExperienceGainResponse experienceGain = null;
-        try {
-            experienceGain = experienceService.awardAuctionWinExperience(winningBid.getBidder().getId(), auction);
-            log.info("경매 {} 낙찰 경험치 지급 완료: {} EXP", auction.getId(), experienceGain.getExpGained());
-        } catch (Exception e) {
-            log.error("경매 {} 낙찰 경험치 지급 실패", auction.getId(), e);
-        }
-
-        // 3. 연결 서비스 자동 생성 (PENDING 상태)
-        try {
-            ConnectionResponse connectionResponse = connectionService.createConnection(
-                auction.getId(), winningBid.getBidder().getId()
-            );
-            log.info("경매 {} 연결 서비스 생성 완료: {}", auction.getId(), connectionResponse.getId());
-        } catch (Exception e) {
-            log.error("경매 {} 연결 서비스 생성 실패", auction.getId(), e);
-        }
-
-        // 4. 채팅방 자동 생성 (낙찰 시 판매자-낙찰자 채팅방)
-        ChatRoom chatRoom = null;
-        try {
-            chatRoom = chatService.createAuctionChatRoom(
-                auction,
-                auction.getSeller(),
-                winningBid.getBidder()
-            );
-            log.info("경매 {} 채팅방 자동 생성 완료: chatRoomId={}", auction.getId(), chatRoom.getId());
-        } catch (Exception e) {
-            log.error("경매 {} 채팅방 생성 실패", auction.getId(), e);
-        }
-
-        // 3. 실시간 낙찰 알림 전송 (경매 페이지 구독자들에게)
-        String winnerNickname = winningBid.getBidder().getNickname() != null ?
-            winningBid.getBidder().getNickname() :
-            "익명" + winningBid.getBidder().getId();
-
-        webSocketMessagingService.notifyAuctionEnded(
-            auction.getId(),
-            finalPrice,
-            winnerNickname
-        );
-
-        // 4. 낙찰 알림 이벤트 발행 (구매자에게)
-        String sellerNickname = auction.getSeller().getNickname() != null ?
-            auction.getSeller().getNickname() :
-            "익명" + auction.getSeller().getId();
-
-        Long chatRoomId = chatRoom != null ? chatRoom.getId() : null;
-
-        applicationEventPublisher.publishEvent(new AuctionWonNotificationEvent(
-            this,                              // source
-            winningBid.getBidder().getId(),    // buyerId
-            auction.getId(),                   // auctionId
-            auction.getTitle(),                // auctionTitle
-            finalPrice.longValue(),            // finalPrice
-            sellerNickname,                    // sellerNickname
-            chatRoomId,                        // chatRoomId
-            experienceGain                     // experienceGain
-        ));
-
-        // 5. 판매자에게 낙찰 알림 발행
-        applicationEventPublisher.publishEvent(new AuctionSoldNotificationEvent(
-            this,
-            auction.getSeller().getId(),
-            auction.getId(),
-            auction.getTitle(),
-            finalPrice.longValue(),
-            winnerNickname,
-            chatRoomId  // 생성된 채팅방 ID 포함
-        ));
-
-        // 6. 모든 입찰 참여자에게 경매 종료 알림 발행 (낙찰자 제외)
-        notifyAllParticipants(auction, winningBid.getBidder().getId(), finalPrice.longValue(), true);
-
-        log.info("경매 {} 낙찰 처리 완료 - 낙찰가: {}원, 낙찰자: {}, 채팅방: {}, 참여자 {}명에게 알림 전송",
-                auction.getId(), finalPrice.intValue(), winnerNickname, chatRoomId,
-                bidRepository.countDistinctBiddersByAuctionId(auction.getId()) - 1);
-    }
-    
     /**
-     * 유찰 처리 (입찰 없음 또는 Reserve Price 미달)
+     * 경매 1건 종료 처리 (독립 트랜잭션)
+     * 경매 행을 잠근 상태에서 상태와 종료 시각을 다시 확인하므로 중복 호출되어도 한 번만 종료된다.
+     *
+     * @param auctionId 종료할 경매 ID
+     * @return 아직 종료 시각 전이면(연장 등) 새 종료 시각, 종료 처리했거나 대상이 아니면 empty
      */
-    private void handleNoReserveAuction(Auction auction) {
-        // 경매 상태를 Reserve Price 미달로 변경
-        auction.endAuction(null, BigDecimal.ZERO);
-        auctionRepository.save(auction);
-
-        // 최고 입찰 조회 (유찰이지만 입찰자가 있을 수 있음)
-        Optional<Bid> highestBidOpt = bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auction.getId());
-
-        // 실시간 유찰 알림 전송 (WebSocket) - 판매자에게 상세 정보 전달
-        if (highestBidOpt.isPresent()) {
-            Bid highestBid = highestBidOpt.get();
-            webSocketMessagingService.notifyAuctionNotSold(
-                auction.getId(),
-                (int) bidRepository.countByAuctionId(auction.getId()),
-                true, // hasHighestBidder
-                highestBid.getBidder().getId(),
-                highestBid.getBidder().getNickname(),
-                auction.getReservePrice() == null // isNoReserve
-            );
-        } else {
-            // 입찰자가 없는 경우
-            webSocketMessagingService.notifyAuctionNotSold(
-                auction.getId(),
-                0, // bidCount
-                false, // hasHighestBidder
-                null, // winnerId
-                null, // winnerNickname
-                auction.getReservePrice() == null // isNoReserve
-            );
-        }
-
-        // 유찰 알림 이벤트 발행 (판매자에게)
-        applicationEventPublisher.publishEvent(new AuctionNotSoldNotificationEvent(
-            this,
-            auction.getSeller().getId(),
-            auction.getId(),
-            auction.getTitle(),
-            highestBidOpt.orElse(null)
-        ));
-
-        // 최고 입찰자에게 유찰 알림 (입찰자가 있는 경우)
-        if (highestBidOpt.isPresent()) {
-            Bid highestBid = highestBidOpt.get();
+    public Optional<LocalDateTime> closeAuction(Long auctionId) {
+        // 인메모리 호가창 사용 시: 호가창을 닫고 대기 중인 입찰을 먼저 DB에 반영
+        // (연장된 경매는 호가창이 열린 채 반영 후 아래 확인에서 제외됨, 반영 실패 시 예외로 종료를 미룸)
+        bidOrderBookService.ifPresent(service -> service.closeAndDrain(List.of(auctionId)));
+
+        Optional<LocalDateTime> nextEndAt = transactionTemplate.execute(status -> {
+            Auction auction = auctionRepository.findByIdForUpdate(auctionId).orElse(null);
+            if (auction == null || auction.getStatus() != AuctionStatus.ACTIVE) {
+                return Optional.<LocalDateTime>empty();
+            }
 
-            // 최고 입찰자에게 유찰 알림
-            applicationEventPublisher.publishEvent(new AuctionNotSoldForHighestBidderEvent(
-                this,
-                highestBid.getBidder().getId(),
-                auction.getId(),
-                auction.getTitle(),
-                highestBid.getBidAmount().longValue()
-            ));
+            LocalDateTime now = LocalDateTime.now(java.time.ZoneId.of("Asia/Seoul"));
+            if (!auction.getEndAt().isBefore(now)) {
+                return Optional.of(auction.getEndAt());
+            }
 
-            // 다른 참여자들에게 경매 종료 알림 (최고 입찰자 제외)
-            notifyAllParticipants(auction, highestBid.getBidder().getId(), 0L, false);
+            processAuctionEnd(auction);
+            log.info("경매 {} 종료 처리 완료", auctionId);
+            return Optional.<LocalDateTime>empty();
+        });
 
-            log.info("경매 {} 유찰 처리 완료 - 최고 입찰자 {}원, 참여자 {}명에게 알림 전송",
-                    auction.getId(),
-                    highestBid.getBidAmount().longValue(),
-                    bidRepository.countDistinctBiddersByAuctionId(auction.getId()));
-        } else {
-            log.info("경매 {} 유찰 처리 완료 - 입찰자 없음", auction.getId());
+        if (nextEndAt.isEmpty()) {
+            bidOrderBookService.ifPresent(service -> service.release(List.of(auctionId)));
         }
+        return nextEndAt;
     }
 
     /**
-     * 모든 입찰 참여자에게 경매 종료 알림 발행
+     * 개별 경매 종료 처리
+     * 상태 변경과 후처리 첫 단계 기록만 하고, 거래/경험치/연결/채팅방/알림은 AuctionClosePipeline 에서 처리한다.
      *
-     * @param auction 종료된 경매
-     * @param excludeUserId 제외할 사용자 ID (낙찰자 또는 최고 입찰자)
-     * @param finalPrice 낙찰가 (낙찰 시) 또는 0 (유찰 시)
-     * @param wasSuccessful 낙찰 성공 여부
+     * @param auction 종료할 경매
      */
-    private void notifyAllParticipants(Auction auction, Long excludeUserId, Long finalPrice, boolean wasSuccessful) {
-        // 해당 경매의 모든 입찰자 조회 (중복 제거)
-        List<Bid> allBids = bidRepository.findByAuctionIdOrderByBidAmountDesc(auction.getId());
-
-        log.info("🔍 경매 {} 참여자 알림 발송 시작 - 전체 입찰 {}건, 낙찰자/판매자 제외할 ID: {}, 판매자 ID: {}",
-                auction.getId(), allBids.size(), excludeUserId, auction.getSeller().getId());
-
-        // 중복 제거 및 제외 대상 필터링
-        Set<Long> notifiedUserIds = allBids.stream()
-                .map(bid -> bid.getBidder().getId())
-                .filter(userId -> !userId.equals(excludeUserId)) // 낙찰자/최고입찰자 제외
-                .filter(userId -> !userId.equals(auction.getSeller().getId())) // 판매자 제외
-                .collect(Collectors.toSet());
-
-        log.info("📋 경매 {} 알림 대상 참여자 목록: {}", auction.getId(), notifiedUserIds);
+    private void processAuctionEnd(Auction auction) {
+        // 최고 입찰 조회
+        Optional<Bid> highestBidOpt = bidRepository.findTopByAuctionIdOrderByBidAmountDesc(auction.getId());
 
-        // 각 참여자에게 알림 이벤트 발행
-        for (Long participantId : notifiedUserIds) {
-            log.info("📤 경매 종료 알림 이벤트 발행 (참여자 {})", participantId);
-            applicationEventPublisher.publishEvent(new AuctionEndedForParticipantEvent(
-                this,
-                participantId,
-                auction.getId(),
-                auction.getTitle(),
-                finalPrice,
-                wasSuccessful
-            ));
+        // 입찰이 없거나 Reserve Price 미달 - 유찰 처리
+        if (highestBidOpt.isEmpty() || !auction.isReservePriceMet(highestBidOpt.get().getBidAmount())) {
+            auction.endAuction(null, BigDecimal.ZERO);
+            auctionRepository.save(auction);
+            auctionClosePipeline.enqueue(auction.getId(), AuctionCloseStage.NOTIFY_NOT_SOLD, Map.of());
+            applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, auction.getId()));
+            log.info("경매 {} 유찰 처리", auction.getId());
+            return;
         }
 
-        log.info("✅ 경매 {} 참여자 {}명에게 종료 알림 발행 완료 (낙찰: {})",
-                auction.getId(), notifiedUserIds.size(), wasSuccessful);
+        // 정상 낙찰 처리: 경매 상태를 종료로 변경하고 낙찰자 설정
+        Bid highestBid = highestBidOpt.get();
+        auction.endAuction(highestBid.getBidder(), highestBid.getBidAmount());
+        auctionRepository.save(auction);
+        auctionClosePipeline.enqueue(auction.getId(), AuctionCloseStage.TRANSACTION, Map.of());
+        applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, auction.getId()));
+        log.info("경매 {} 낙찰 처리 - 낙찰가: {}원, 낙찰자: {}",
+                auction.getId(), highestBid.getBidAmount().intValue(), highestBid.getBidder().getId());
     }
-    
+
     /**
      * 정리 작업 스케줄러 (매일 새벽 3시 실행)
      * 완료된 경매, 만료된 세션 등 정리
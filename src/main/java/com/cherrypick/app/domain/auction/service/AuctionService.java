@@ -1,19 +1,27 @@
 package com.cherrypick.app.domain.auction.service;
 
+import com.cherrypick.app.domain.auction.counter.ViewCountBuffer;
 import com.cherrypick.app.domain.auction.dto.AuctionResponse;
 import com.cherrypick.app.domain.auction.dto.AuctionSearchRequest;
+import com.cherrypick.app.domain.auction.dto.BookmarkSummary;
 import com.cherrypick.app.domain.auction.dto.CreateAuctionRequest;
 import com.cherrypick.app.domain.auction.entity.Auction;
 import com.cherrypick.app.domain.auction.entity.AuctionImage;
+import com.cherrypick.app.domain.auction.event.AuctionEndTimeChangedEvent;
+import com.cherrypick.app.domain.auction.event.AuctionListingChangedEvent;
+import com.cherrypick.app.domain.auction.geo.ActiveAuctionGeoIndex;
+import com.cherrypick.app.domain.auction.search.AuctionSearchIndexer;
+import com.cherrypick.app.domain.auction.search.AuctionSearchTokenizer;
 import com.cherrypick.app.domain.common.entity.UploadedImage;
 import com.cherrypick.app.domain.auction.enums.AuctionStatus;
 import com.cherrypick.app.domain.auction.enums.Category;
 import com.cherrypick.app.domain.auction.enums.RegionScope;
 import com.cherrypick.app.domain.auction.repository.AuctionImageRepository;
 import com.cherrypick.app.domain.auction.repository.AuctionRepository;
-import com.cherrypick.app.domain.auction.repository.AuctionBookmarkRepository;
+import com.cherrypick.app.domain.auction.repository.AuctionCloseTaskRepository;
 import com.cherrypick.app.domain.user.entity.User;
 import com.cherrypick.app.domain.user.repository.UserRepository;
+import com.cherrypick.app.domain.location.dto.GeoBoundingBox;
 import com.cherrypick.app.domain.location.service.LocationService;
 import com.cherrypick.app.common.exception.BusinessException;
 import com.cherrypick.app.common.exception.ErrorCode;
@@ -48,11 +56,11 @@ import com.cherrypick.app.domain.notification.service.KeywordAlertService;
 import java.time.LocalDateTime;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -67,12 +75,16 @@ public class AuctionService {
     private final ChatService chatService;
     private final BidRepository bidRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final AuctionBookmarkRepository bookmarkRepository;
+    private final AuctionBookmarkService auctionBookmarkService;
+    private final ViewCountBuffer viewCountBuffer;
     private final WebSocketMessagingService webSocketMessagingService;
     private final TransactionService transactionService;
     private final LocationService locationService;
     private final com.cherrypick.app.domain.common.service.ImageUploadService imageUploadService;
     private final KeywordAlertService keywordAlertService;
+    private final AuctionCloseTaskRepository auctionCloseTaskRepository;
+    private final ActiveAuctionGeoIndex activeAuctionGeoIndex;
+    private final AuctionSearchIndexer auctionSearchIndexer;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -148,6 +160,12 @@ public class AuctionService {
         }
         
         Auction savedAuction = auctionRepository.save(auction);
+        auctionSearchIndexer.index(savedAuction);
+
+        // 경매 종료 타이머 등록
+        applicationEventPublisher.publishEvent(
+                new AuctionEndTimeChangedEvent(this, savedAuction.getId(), savedAuction.getEndAt()));
+        applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, savedAuction.getId()));
 
         // 상품 이미지 저장 (순서 보장)
         List<AuctionImage> images = saveAuctionImages(auction, request.getImageUrls());
@@ -196,9 +214,12 @@ public class AuctionService {
         List<AuctionImage> images = auctionImageRepository.findByAuctionIdOrderBySortOrder(auctionId);
         AuctionResponse response = AuctionResponse.from(auction, images);
 
-        // 북마크 카운트 설정
-        long bookmarkCount = bookmarkRepository.countByAuction(auction);
-        response.setBookmarkCount(bookmarkCount);
+        // 북마크 카운트 설정 (비정규화 컬럼)
+        response.setBookmarkCount(auctionBookmarkService.getBookmarkCount(auction));
+
+        // 아직 반영되지 않은 조회수 포함
+        int storedViewCount = auction.getViewCount() != null ? auction.getViewCount() : 0;
+        response.setViewCount((int) (storedViewCount + viewCountBuffer.getPendingViews(auctionId)));
 
         return response;
     }
@@ -216,14 +237,14 @@ public class AuctionService {
     
     /**
      * 조회수만 증가시키는 메서드
+     * 경매 행을 잠그지 않도록 버퍼에 누적하고 ViewCountFlusher 가 주기적으로 일괄 반영한다.
      */
-    @Transactional
     public void increaseAuctionViewCount(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
-        
-        auction.increaseViewCount();
-        auctionRepository.save(auction);
+        if (!auctionRepository.existsById(auctionId)) {
+            throw new IllegalArgumentException("경매를 찾을 수 없습니다.");
+        }
+
+        viewCountBuffer.record(auctionId);
     }
     
     public Page<AuctionResponse> getMyAuctions(Long userId, Pageable pageable) {
@@ -282,6 +303,16 @@ public class AuctionService {
      * N+1 문제 해결을 위한 헬퍼 메서드 - 경매 목록과 이미지를 효율적으로 조합
      */
     private Page<AuctionResponse> createAuctionResponsePage(Page<Auction> auctions, Long userId) {
+        return createAuctionResponsePage(auctions, userId, (auction, response) -> {});
+    }
+
+    /**
+     * 경매 목록 응답 조립 - 페이지 크기와 무관하게 이미지 1회, 사용자 북마크 여부 1회 조회
+     *
+     * @param customizer 경매별 응답 추가 설정 (거리 계산 등)
+     */
+    private Page<AuctionResponse> createAuctionResponsePage(Page<Auction> auctions, Long userId,
+                                                            BiConsumer<Auction, AuctionResponse> customizer) {
         // 경매가 없으면 빈 페이지 반환
         if (auctions.isEmpty()) {
             return auctions.map(auction -> AuctionResponse.from(auction, List.of()));
@@ -298,31 +329,16 @@ public class AuctionService {
         Map<Long, List<AuctionImage>> imageMap = allImages.stream()
                 .collect(Collectors.groupingBy(image -> image.getAuction().getId()));
 
-        // 경매별 북마크 카운트를 한 번에 조회
-        List<Auction> auctionList = auctions.getContent();
-        Map<Long, Long> bookmarkCountMap = auctionList.stream()
-                .collect(Collectors.toMap(
-                        Auction::getId,
-                        auction -> bookmarkRepository.countByAuction(auction)
-                ));
-
-        // 사용자별 북마크 상태를 한 번에 조회
-        Map<Long, Boolean> bookmarkStatusMap = new HashMap<>();
-        if (userId != null) {
-            User user = userRepository.findById(userId).orElse(null);
-            if (user != null) {
-                for (Auction auction : auctionList) {
-                    boolean isBookmarked = bookmarkRepository.existsByAuctionAndUser(auction, user);
-                    bookmarkStatusMap.put(auction.getId(), isBookmarked);
-                }
-            }
-        }
+        // 경매별 북마크 수와 사용자 북마크 상태를 한 번에 조회
+        Map<Long, BookmarkSummary> bookmarkMap = auctionBookmarkService.getBookmarkSummaries(auctions.getContent(), userId);
 
         return auctions.map(auction -> {
             List<AuctionImage> images = imageMap.getOrDefault(auction.getId(), List.of());
             AuctionResponse response = AuctionResponse.from(auction, images);
-            response.setBookmarkCount(bookmarkCountMap.getOrDefault(auction.getId(), 0L));
-            response.setBookmarked(bookmarkStatusMap.getOrDefault(auction.getId(), false));
+            BookmarkSummary bookmark = bookmarkMap.getOrDefault(auction.getId(), BookmarkSummary.EMPTY);
+            response.setBookmarkCount(bookmark.getBookmarkCount());
+            response.setBookmarked(bookmark.isBookmarked());
+            customizer.accept(auction, response);
             return response;
         });
     }
@@ -361,6 +377,7 @@ public class AuctionService {
         }
         
         auctionRepository.save(auction);
+        applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, auctionId));
     }
     
     /**
@@ -438,15 +455,31 @@ public class AuctionService {
         
         Page<Auction> auctions;
         
-        // 특별한 정렬 조건들 처리
-        if (searchRequest.getSortBy() == AuctionSearchRequest.SortOption.ENDING_SOON) {
+        // 키워드가 있으면 n-gram 전문 검색 (검색할 글자가 없는 키워드는 결과 없음)
+        if (searchRequest.getKeyword() != null && !searchRequest.getKeyword().isBlank()) {
+            String tsQuery = AuctionSearchTokenizer.toTsQuery(searchRequest.getKeyword());
+            if (tsQuery == null) {
+                return Page.empty(pageable);
+            }
+            auctions = auctionRepository.searchAuctionsByKeyword(
+                tsQuery,
+                searchRequest.getStatus() != null ? searchRequest.getStatus().name() : null,
+                searchRequest.getCategory() != null ? searchRequest.getCategory().name() : null,
+                searchRequest.getRegionScope() != null ? searchRequest.getRegionScope().name() : null,
+                searchRequest.getRegionCode(),
+                searchRequest.getMinPrice(),
+                searchRequest.getMaxPrice(),
+                searchRequest.getMinBidCount(),
+                endingSoonTime,
+                createKeywordSearchPageable(searchRequest.getSortBy(), pageable)
+            );
+        } else if (searchRequest.getSortBy() == AuctionSearchRequest.SortOption.ENDING_SOON) {
             // 마감 임박 순 정렬 - 별도 쿼리 사용
             auctions = auctionRepository.findActiveAuctionsOrderByEndingSoon(sortedPageable);
         } else {
             // 일반 복합 검색
             auctions = auctionRepository.searchAuctions(
                 searchRequest.getStatus(),
-                searchRequest.getKeyword(),
                 searchRequest.getCategory(),
                 searchRequest.getRegionScope(),
                 searchRequest.getRegionCode(),
@@ -462,14 +495,19 @@ public class AuctionService {
     }
 
     /**
-     * 키워드 검색 (제목 + 설명)
+     * 키워드 검색 (제목 + 설명, 관련도순)
      */
     public Page<AuctionResponse> searchByKeyword(String keyword, AuctionStatus status, Pageable pageable, Long userId) {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAuctionsByStatus(status, null, null, null, null, null, pageable, userId);
         }
 
-        Page<Auction> auctions = auctionRepository.searchByKeyword(keyword.trim(), status, pageable);
+        String tsQuery = AuctionSearchTokenizer.toTsQuery(keyword);
+        if (tsQuery == null) {
+            return Page.empty(pageable);
+        }
+        Page<Auction> auctions = auctionRepository.searchByKeyword(tsQuery, status.name(),
+                createKeywordSearchPageable(AuctionSearchRequest.SortOption.RELEVANCE, pageable));
 
         return createAuctionResponsePage(auctions, userId);
     }
@@ -540,6 +578,12 @@ public class AuctionService {
         }
         Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
 
+        // 반경 필터 (프론트엔드에서 전달받은 GPS 위치 사용)
+        if (radiusKm != null && radiusKm > 0 && latitude != null && longitude != null) {
+            return createAuctionResponsePage(
+                    findAuctionsWithinRadius(status, category, sort, radiusKm, latitude, longitude, sortedPageable), userId);
+        }
+
         Page<Auction> auctions;
 
         // 카테고리 필터 여부에 따라 쿼리 선택
@@ -551,49 +595,51 @@ public class AuctionService {
             auctions = auctionRepository.findByStatus(status, sortedPageable);
         }
 
-        // 반경 필터 적용 (프론트엔드에서 전달받은 GPS 위치 사용)
-        if (radiusKm != null && radiusKm > 0 && latitude != null && longitude != null) {
-            log.info("🔍 반경 필터 적용: radiusKm={}km, 사용자위치=[lat={}, lng={}]", radiusKm, latitude, longitude);
-
-            // 반경 내 경매만 필터링
-            List<Auction> filteredList = auctions.getContent().stream()
-                    .filter(auction -> {
-                        if (auction.getLatitude() == null || auction.getLongitude() == null) {
-                            log.warn("❌ 경매 ID={} GPS 좌표 없음 (lat={}, lng={})",
-                                    auction.getId(), auction.getLatitude(), auction.getLongitude());
-                            return false;
-                        }
-
-                        double distance = locationService.calculateDistance(
-                                latitude, longitude,
-                                auction.getLatitude(), auction.getLongitude());
-                        
-                        // 1. 구매자가 설정한 반경 내에 있는지 확인
-                        boolean withinBuyerRadius = distance <= radiusKm;
-
-                        // 2. 판매자가 설정한 반경 내에 구매자가 있는지 확인
-                        boolean withinSellerRadius = true;
-                        if (auction.getRegionRadiusKm() != null) {
-                            withinSellerRadius = distance <= auction.getRegionRadiusKm();
-                        }
-
-                        log.info("📍 경매 ID={}, 제목='{}', 거리={:.2f}km, 구매자반경({}km)내={}, 판매자반경({}km)내={}",
-                                auction.getId(), auction.getTitle(),
-                                distance, radiusKm, withinBuyerRadius, 
-                                auction.getRegionRadiusKm() != null ? auction.getRegionRadiusKm() : "제한없음", 
-                                withinSellerRadius);
-
-                        return withinBuyerRadius && withinSellerRadius;
-                    })
+        return createAuctionResponsePage(auctions, userId);
+    }
+    
+    /**
+     * 반경 내 경매 조회 (구매자 반경 + 판매자 노출 반경)
+     * 진행 중 경매는 위치 격자에서 조건에 맞는 ID를 정렬·페이징한 뒤 해당 페이지만 조회하고,
+     * 그 외 상태이거나 격자 적재 전이면 경계 상자 인덱스를 사용하는 DB 검색으로 처리한다.
+     */
+    private Page<Auction> findAuctionsWithinRadius(AuctionStatus status, Category category, Sort sort,
+                                                   Integer radiusKm, Double latitude, Double longitude,
+                                                   Pageable sortedPageable) {
+        if (status == AuctionStatus.ACTIVE && activeAuctionGeoIndex.isReady()) {
+            Page<Long> idPage = activeAuctionGeoIndex.findAuctionIdsWithin(
+                    latitude, longitude, radiusKm, category, sort, sortedPageable);
+
+            // 격자 순서대로 정렬 (조회 사이 종료된 경매는 제외)
+            Map<Long, Auction> auctionsById = auctionRepository.findAllById(idPage.getContent()).stream()
+                    .collect(Collectors.toMap(Auction::getId, auction -> auction));
+            List<Auction> content = idPage.getContent().stream()
+                    .map(auctionsById::get)
+                    .filter(auction -> auction != null && auction.getStatus() == AuctionStatus.ACTIVE)
                     .toList();
-
-            log.info("✅ 반경 필터 결과: 전체 {}개 → 필터링 후 {}개", auctions.getContent().size(), filteredList.size());
-            auctions = new PageImpl<>(filteredList, sortedPageable, filteredList.size());
-        } else {
-            log.info("⚠️ 반경 필터 미적용: radiusKm={}, latitude={}, longitude={}", radiusKm, latitude, longitude);
+            return new PageImpl<>(content, sortedPageable, idPage.getTotalElements());
         }
 
-        return createAuctionResponsePage(auctions, userId);
+        // Native Query이므로 컬럼명 사용
+        Sort.Order order = sort.iterator().next();
+        String column = "currentPrice".equals(order.getProperty()) ? "current_price" : "created_at";
+        Sort nativeSort = Sort.by(order.getDirection(), column);
+        GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+        return auctionRepository.searchNearbyAuctions(
+                latitude,
+                longitude,
+                radiusKm.doubleValue(),
+                box.getMinLatitude(),
+                box.getMaxLatitude(),
+                box.getMinLongitude(),
+                box.getMaxLongitude(),
+                null,
+                category != null ? category.name() : null,
+                null,
+                null,
+                status.name(),
+                PageRequest.of(sortedPageable.getPageNumber(), sortedPageable.getPageSize(), nativeSort)
+        );
     }
     
     /**
@@ -612,6 +658,25 @@ public class AuctionService {
         
         return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
+
+    /**
+     * 키워드 검색용 Pageable 생성 (Native Query이므로 컬럼명/Alias 사용, 동률은 최신순)
+     */
+    private Pageable createKeywordSearchPageable(AuctionSearchRequest.SortOption sortOption, Pageable pageable) {
+        Sort sort = switch (sortOption) {
+            case RELEVANCE -> Sort.by(Sort.Direction.DESC, "search_rank");
+            case CREATED_ASC -> Sort.by(Sort.Direction.ASC, "created_at");
+            case PRICE_ASC -> Sort.by(Sort.Direction.ASC, "current_price");
+            case PRICE_DESC -> Sort.by(Sort.Direction.DESC, "current_price");
+            case VIEW_COUNT_DESC -> Sort.by(Sort.Direction.DESC, "view_count");
+            case BID_COUNT_DESC -> Sort.by(Sort.Direction.DESC, "bid_count");
+            case ENDING_SOON -> Sort.by(Sort.Direction.ASC, "end_at");
+            default -> Sort.unsorted();
+        };
+
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                sort.and(Sort.by(Sort.Direction.DESC, "created_at")));
+    }
     
     /**
      * 경매 시간 조정 (개발/테스트용)
@@ -630,6 +695,8 @@ public class AuctionService {
         // 시간 조정
         auction.adjustEndTime(minutes);
         Auction savedAuction = auctionRepository.save(auction);
+        applicationEventPublisher.publishEvent(
+                new AuctionEndTimeChangedEvent(this, savedAuction.getId(), savedAuction.getEndAt()));
 
         // 시간 조정 완료
 
@@ -669,6 +736,11 @@ public class AuctionService {
         // 재활성화
         auction.reactivateAuction(hours);
         Auction savedAuction = auctionRepository.save(auction);
+        // 다시 종료될 때 후처리가 새로 기록되도록 이전 기록 삭제
+        auctionCloseTaskRepository.deleteByAuctionId(auctionId);
+        applicationEventPublisher.publishEvent(
+                new AuctionEndTimeChangedEvent(this, savedAuction.getId(), savedAuction.getEndAt()));
+        applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, savedAuction.getId()));
 
         // 재활성화 완료
 
@@ -737,6 +809,7 @@ public class AuctionService {
         }
 
         Auction savedAuction = auctionRepository.save(auction);
+        applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, savedAuction.getId()));
 
         // 저장 후 실제 낙찰 여부 확인 (setWinner 내부에서 Reserve Price 재검증)
         if (savedAuction.getWinner() != null && savedAuction.getStatus() == AuctionStatus.ENDED) {
@@ -927,6 +1000,7 @@ public class AuctionService {
         }
 
         Auction updatedAuction = auctionRepository.save(auction);
+        auctionSearchIndexer.index(updatedAuction);
         List<AuctionImage> images = auctionImageRepository.findByAuctionIdOrderBySortOrder(auctionId);
 
         // 경매 수정 완료
@@ -976,6 +1050,7 @@ public class AuctionService {
         // 4. 소프트 삭제 (상태 변경)
         auction.markAsDeleted();
         auctionRepository.save(auction);
+        applicationEventPublisher.publishEvent(new AuctionListingChangedEvent(this, auctionId));
 
         // 경매 삭제 완료
     }
@@ -1080,11 +1155,16 @@ public class AuctionService {
         // 정렬이 적용된 Pageable 생성
         Pageable sortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
 
-        // Repository를 통해 거리 기반 검색
+        // 경계 상자로 인덱스 범위를 먼저 좁힌 뒤 거리 기반 검색
+        GeoBoundingBox box = GeoBoundingBox.of(searchRequest.getLatitude(), searchRequest.getLongitude(), maxDistanceKm);
         Page<Auction> auctionPage = auctionRepository.searchNearbyAuctions(
                 searchRequest.getLatitude(),
                 searchRequest.getLongitude(),
                 maxDistanceKm,
+                box.getMinLatitude(),
+                box.getMaxLatitude(),
+                box.getMinLongitude(),
+                box.getMaxLongitude(),
                 searchRequest.getKeyword(),
                 searchRequest.getCategory() != null ? searchRequest.getCategory().name() : null,
                 searchRequest.getMinPrice(),
@@ -1093,11 +1173,8 @@ public class AuctionService {
                 sortedPageable
         );
 
-        // AuctionResponse 변환 및 거리 계산
-        return auctionPage.map(auction -> {
-            List<AuctionImage> images = auctionImageRepository.findByAuctionIdOrderBySortOrder(auction.getId());
-            AuctionResponse response = AuctionResponse.from(auction, images);
-
+        // AuctionResponse 변환 (이미지/북마크 배치 조회) 및 거리 계산
+        return createAuctionResponsePage(auctionPage, userId, (auction, response) -> {
             // 거리 계산 (Haversine)
             if (auction.getLatitude() != null && auction.getLongitude() != null) {
                 double distance = locationService.calculateDistance(
@@ -1108,17 +1185,6 @@ public class AuctionService {
                 );
                 response.setDistanceKm(Math.round(distance * 10.0) / 10.0); // 소수점 1자리 반올림
             }
-
-            // 북마크 정보 설정
-            if (userId != null) {
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    boolean isBookmarked = bookmarkRepository.existsByAuctionAndUser(auction, user);
-                    response.setBookmarked(isBookmarked);
-                }
-            }
-
-            return response;
         });
     }
 
@@ -1150,20 +1216,22 @@ public class AuctionService {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 좌표입니다. 대한민국 범위 내의 좌표를 입력해주세요.");
         }
 
-        // Repository를 통해 거리 기반 검색
+        // 경계 상자로 인덱스 범위를 먼저 좁힌 뒤 거리 기반 검색
+        GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
         Page<Auction> auctionPage = auctionRepository.findNearbyAuctions(
                 latitude,
                 longitude,
                 radiusKm,
+                box.getMinLatitude(),
+                box.getMaxLatitude(),
+                box.getMinLongitude(),
+                box.getMaxLongitude(),
                 status.name(),
                 pageable
         );
 
-        // AuctionResponse 변환 및 거리 계산
-        return auctionPage.map(auction -> {
-            List<AuctionImage> images = auctionImageRepository.findByAuctionIdOrderBySortOrder(auction.getId());
-            AuctionResponse response = AuctionResponse.from(auction, images);
-
+        // AuctionResponse 변환 (이미지/북마크 배치 조회) 및 거리 계산
+        return createAuctionResponsePage(auctionPage, userId, (auction, response) -> {
             // 거리 계산 (Haversine)
             if (auction.getLatitude() != null && auction.getLongitude() != null) {
                 double distance = locationService.calculateDistance(
@@ -1174,17 +1242,6 @@ public class AuctionService {
                 );
                 response.setDistanceKm(Math.round(distance * 10.0) / 10.0); // 소수점 1자리 반올림
             }
-
-            // 북마크 정보 설정
-            if (userId != null) {
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    boolean isBookmarked = bookmarkRepository.existsByAuctionAndUser(auction, user);
-                    response.setBookmarked(isBookmarked);
-                }
-            }
-
-            return response;
         });
     }
 }
\ No newline at end of file
@@ -46,6 +46,9 @@ public class Bid extends BaseEntity {
     @Column(name = "bid_time", nullable = false)
     private LocalDateTime bidTime;
 
+    @Column(name = "journal_seq")
+    private Long journalSeq; // 호가창 저널 시퀀스 (비동기 기록 시 중복 반영 방지)
+
     // === 정적 팩토리 메서드 ===
 
     /**
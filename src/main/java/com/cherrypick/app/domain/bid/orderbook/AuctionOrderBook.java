@@ -0,0 +1,312 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import com.cherrypick.app.domain.bid.proxy.ProxyBidExecution;
+import com.cherrypick.app.domain.bid.proxy.ProxyBidLadder;
+import com.cherrypick.app.domain.bid.proxy.ProxyBidResolver;
+import com.cherrypick.app.domain.bid.service.BidValidationService;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 경매 1건의 인메모리 호가창
+ * 현재가, 최고 입찰자, 자동입찰 상한, 종료 시각을 보관하고 입찰 수락/거절을 메모리에서 결정한다.
+ *
+ * 소유 샤드의 단일 스레드에서만 접근하므로 동기화하지 않는다.
+ * 입찰 규칙은 BidService / AutoBidService 의 JPA 경로와 동일하게 유지한다.
+ */
+@Getter
+public class AuctionOrderBook {
+
+    private static final int ANTI_SNIPING_THRESHOLD_MINUTES = 3;
+
+    private final Long auctionId;
+    private final Long sellerId;
+    private final BigDecimal startPrice;
+
+    private BigDecimal currentPrice;
+    private int bidCount;
+    private Long topBidderId;
+    private BigDecimal topBidAmount;
+    private LocalDateTime endAt;
+    private boolean closed;
+
+    // 자동입찰 상한 (최대 금액 내림차순, 동일 금액 시 먼저 등록한 사람 우선)
+    private final ProxyBidLadder proxyBids = new ProxyBidLadder();
+
+    public AuctionOrderBook(Long auctionId, Long sellerId, BigDecimal startPrice, BigDecimal currentPrice,
+                            int bidCount, Long topBidderId, BigDecimal topBidAmount,
+                            LocalDateTime endAt, boolean closed) {
+        this.auctionId = auctionId;
+        this.sellerId = sellerId;
+        this.startPrice = startPrice;
+        this.currentPrice = currentPrice;
+        this.bidCount = bidCount;
+        this.topBidderId = topBidderId;
+        this.topBidAmount = topBidAmount;
+        this.endAt = endAt;
+        this.closed = closed;
+    }
+
+    /**
+     * DB에서 읽은 활성 자동입찰 설정 복원 (등록 순서대로 호출)
+     */
+    void restoreAutoBidCeiling(Long bidderId, BigDecimal maxAutoBidAmount) {
+        proxyBids.register(bidderId, maxAutoBidAmount);
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 저널 항목 덧입히기 (DB 적재 직후 시퀀스 순으로 호출)
+     * 이미 DB에 반영된 항목이 다시 들어와도 결과가 같도록 상태 스냅샷과 최댓값으로만 갱신한다.
+     * 격리된 과거 항목이 이후 반영된 DB 상태를 되돌리지 않도록 입찰 수가 줄어드는 스냅샷은 건너뛴다.
+     */
+    void replay(BidJournalEntry entry) {
+        if (entry.getBidCountAfter() >= bidCount) {
+            currentPrice = entry.getPriceAfter();
+            bidCount = entry.getBidCountAfter();
+            endAt = entry.getEndAtAfter();
+        }
+        switch (entry.getType()) {
+            case EXECUTION -> {
+                if (topBidAmount == null || entry.getBidAmount().compareTo(topBidAmount) > 0) {
+                    topBidderId = entry.getBidderId();
+                    topBidAmount = entry.getBidAmount();
+                }
+            }
+            case AUTO_BID_SETTING -> proxyBids.register(entry.getBidderId(), entry.getMaxAutoBidAmount());
+            case AUTO_BID_CANCEL -> proxyBids.remove(entry.getBidderId());
+        }
+    }
+
+    /**
+     * 수동 입찰 처리 + 자동입찰 반응
+     */
+    public BidPlacementResult placeManualBid(Long bidderId, BigDecimal bidAmount, LocalDateTime now,
+                                             BidValidationService validationService) {
+        // 1. 입찰 검증 (BidValidationService.validateBid 와 동일한 순서)
+        validationService.validate100Unit(bidAmount);
+        validateOpen(now);
+        validateNotSeller(bidderId);
+
+        boolean isFirstBid = topBidderId == null;
+        if (isFirstBid) {
+            validationService.validateFirstBid(startPrice, bidAmount);
+        } else {
+            validationService.validateMinimumBid(currentPrice, bidAmount);
+        }
+        validationService.validateMaximumBidLimit(currentPrice, bidAmount);
+
+        // 2. 이전 최고 입찰자 (Outbid 알림용, 본인이면 제외)
+        Long previousTopBidderId = null;
+        BigDecimal previousTopBidAmount = null;
+        if (!isFirstBid && !topBidderId.equals(bidderId)) {
+            previousTopBidderId = topBidderId;
+            previousTopBidAmount = topBidAmount;
+        }
+
+        List<BidJournalEntry> entries = new ArrayList<>();
+        boolean extended = execute(entries, bidderId, bidAmount, false, null, now);
+
+        // 3. 자동입찰 반응: 최대 금액이 가장 높은 자동입찰자가 (수동입찰가 + 입찰단위)로 입찰
+        Optional<ProxyBidExecution> reaction = ProxyBidResolver.resolveManualBid(proxyBids.topTwo(), bidAmount,
+                validationService.calculateMinimumIncrement(bidAmount), topBidderId);
+        if (reaction.isPresent()) {
+            extended |= execute(entries, reaction.get(), now);
+        }
+
+        return result(entries, previousTopBidderId, previousTopBidAmount, extended);
+    }
+
+    /**
+     * 자동입찰 설정 + 즉시 실행 (AutoBidService.setupAutoBid 와 동일한 규칙)
+     */
+    public BidPlacementResult setupAutoBid(Long bidderId, BigDecimal maxAutoBidAmount, LocalDateTime now,
+                                           BidValidationService validationService) {
+        validateOpen(now);
+        validateNotSeller(bidderId);
+        validationService.validate100Unit(maxAutoBidAmount);
+
+        BigDecimal minBidAmount = currentPrice.add(validationService.calculateMinimumIncrement(currentPrice));
+        if (maxAutoBidAmount.compareTo(minBidAmount) < 0) {
+            throw new IllegalArgumentException(
+                    String.format("최대 자동입찰 금액은 현재가(%s원)보다 높아야 합니다 (최소: %s원)",
+                            currentPrice, minBidAmount));
+        }
+
+        Long previousTopBidderId = topBidderId;
+        BigDecimal previousTopBidAmount = topBidAmount;
+
+        // 기존 설정 취소 후 재등록 (등록 순서도 갱신)
+        proxyBids.register(bidderId, maxAutoBidAmount);
+
+        List<BidJournalEntry> entries = new ArrayList<>();
+        entries.add(BidJournalEntry.builder()
+                .type(BidJournalEntry.Type.AUTO_BID_SETTING)
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .bidAmount(BigDecimal.ZERO)
+                .autoBid(true)
+                .maxAutoBidAmount(maxAutoBidAmount)
+                .bidTime(now)
+                .priceAfter(currentPrice)
+                .bidCountAfter(bidCount)
+                .endAtAfter(endAt)
+                .build());
+
+        boolean extended = executeAutoBidImmediately(entries, bidderId, maxAutoBidAmount, now, validationService);
+
+        if (previousTopBidderId != null && previousTopBidderId.equals(topBidderId)) {
+            previousTopBidderId = null;
+            previousTopBidAmount = null;
+        }
+        return result(entries, previousTopBidderId, previousTopBidAmount, extended);
+    }
+
+    /**
+     * 자동입찰 설정 취소
+     */
+    public BidPlacementResult cancelAutoBid(Long bidderId, LocalDateTime now) {
+        List<BidJournalEntry> entries = new ArrayList<>();
+        if (proxyBids.remove(bidderId)) {
+            entries.add(BidJournalEntry.builder()
+                    .type(BidJournalEntry.Type.AUTO_BID_CANCEL)
+                    .auctionId(auctionId)
+                    .bidderId(bidderId)
+                    .bidAmount(BigDecimal.ZERO)
+                    .autoBid(true)
+                    .bidTime(now)
+                    .priceAfter(currentPrice)
+                    .bidCountAfter(bidCount)
+                    .endAtAfter(endAt)
+                    .build());
+        }
+        return result(entries, null, null, false);
+    }
+
+    /**
+     * 경매 종료 - 이후 모든 입찰 거절
+     */
+    public void close() {
+        this.closed = true;
+    }
+
+    /**
+     * 종료 시각이 지났으면 닫음 (스나이핑 방지로 연장되어 아직 진행 중이면 그대로 둠)
+     *
+     * @return 닫혀 있으면 true
+     */
+    public boolean closeIfEnded(LocalDateTime now) {
+        if (!closed && now.isBefore(endAt)) {
+            return false;
+        }
+        close();
+        return true;
+    }
+
+    private boolean executeAutoBidImmediately(List<BidJournalEntry> entries, Long bidderId,
+                                              BigDecimal maxAutoBidAmount, LocalDateTime now,
+                                              BidValidationService validationService) {
+        // 첫 입찰 - 시작가로 입찰
+        if (topBidderId == null) {
+            return execute(entries, bidderId, startPrice, true, maxAutoBidAmount, now);
+        }
+
+        // 이미 최고 입찰자
+        if (topBidderId.equals(bidderId)) {
+            return false;
+        }
+
+        // 본인을 제외한 최고 상한과 한 번에 경쟁 해소 (최종 패자/승자 실행만 기록)
+        List<ProxyBidExecution> executions = ProxyBidResolver.resolveNewProxy(proxyBids.topTwo(), bidderId,
+                maxAutoBidAmount, currentPrice, validationService.calculateMinimumIncrement(currentPrice));
+
+        boolean extended = false;
+        for (ProxyBidExecution execution : executions) {
+            extended |= execute(entries, execution, now);
+        }
+        return extended;
+    }
+
+    private boolean execute(List<BidJournalEntry> entries, ProxyBidExecution execution, LocalDateTime now) {
+        return execute(entries, execution.getBidderId(), execution.getBidAmount(), true,
+                execution.getMaxAutoBidAmount(), now);
+    }
+
+    /**
+     * 입찰 실행을 호가창에 반영하고 저널 항목 생성
+     * 현재가보다 높은 경우에만 현재가/입찰수/종료시각을 갱신한다 (AutoBidService.createAutoBidExecution 규칙).
+     *
+     * @return 스나이핑 방지로 종료 시간이 연장되었으면 true
+     */
+    private boolean execute(List<BidJournalEntry> entries, Long bidderId, BigDecimal amount,
+                            boolean autoBid, BigDecimal maxAutoBidAmount, LocalDateTime now) {
+        boolean extended = false;
+        if (!autoBid || amount.compareTo(currentPrice) > 0) {
+            currentPrice = amount;
+            bidCount++;
+            extended = extendEndTimeIfWithinSnipingWindow(now);
+        }
+
+        if (topBidAmount == null || amount.compareTo(topBidAmount) > 0) {
+            topBidderId = bidderId;
+            topBidAmount = amount;
+        }
+
+        entries.add(BidJournalEntry.builder()
+                .type(BidJournalEntry.Type.EXECUTION)
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .bidAmount(amount)
+                .autoBid(autoBid)
+                .maxAutoBidAmount(maxAutoBidAmount)
+                .bidTime(now)
+                .priceAfter(currentPrice)
+                .bidCountAfter(bidCount)
+                .endAtAfter(endAt)
+                .build());
+        return extended;
+    }
+
+    private boolean extendEndTimeIfWithinSnipingWindow(LocalDateTime now) {
+        LocalDateTime snipingThreshold = endAt.minusMinutes(ANTI_SNIPING_THRESHOLD_MINUTES);
+        if (now.isAfter(snipingThreshold) && now.isBefore(endAt)) {
+            endAt = now.plusMinutes(ANTI_SNIPING_THRESHOLD_MINUTES);
+            return true;
+        }
+        return false;
+    }
+
+    private void validateOpen(LocalDateTime now) {
+        if (closed) {
+            throw new IllegalArgumentException("진행 중인 경매가 아닙니다");
+        }
+        if (now.isAfter(endAt)) {
+            throw new IllegalArgumentException("경매가 종료되었습니다");
+        }
+    }
+
+    private void validateNotSeller(Long bidderId) {
+        if (sellerId.equals(bidderId)) {
+            throw new IllegalArgumentException("자신의 경매에는 입찰할 수 없습니다");
+        }
+    }
+
+    private BidPlacementResult result(List<BidJournalEntry> entries, Long previousTopBidderId,
+                                      BigDecimal previousTopBidAmount, boolean extended) {
+        return BidPlacementResult.builder()
+                .auctionId(auctionId)
+                .entries(entries)
+                .previousTopBidderId(previousTopBidderId)
+                .previousTopBidAmount(previousTopBidAmount)
+                .topBidderId(topBidderId)
+                .currentPrice(currentPrice)
+                .bidCount(bidCount)
+                .endAt(endAt)
+                .extended(extended)
+                .build();
+    }
+}
@@ -0,0 +1,290 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 저널 (Write-Ahead Log)
+ *
+ * 호가창에서 수락된 입찰은 응답 전에 이 파일에 먼저 기록되고, DB 반영이 끝나면 ACK 가 기록된다.
+ * 재시작 시 ACK 되지 않은 항목을 다시 DB에 기록하여 크래시 후에도 입찰이 유실되지 않게 한다.
+ * 재시도 한도를 넘겨 DB에 기록하지 못한 항목은 격리 파일(dead-letter-path)로 옮기고 수동 복구 전까지 보관한다.
+ *
+ * 파일 형식 (탭 구분, 한 줄 = 레코드 1건):
+ *   E seq type auctionId bidderId bidAmount autoBid maxAutoBidAmount bidTime priceAfter bidCountAfter endAtAfter
+ *   A seq
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bid.order-book.enabled", havingValue = "true")
+public class BidJournal {
+
+    private static final String ENTRY = "E";
+    private static final String ACK = "A";
+    private static final String NULL = "-";
+
+    @Value("${bid.order-book.journal-path:data/bid-journal.log}")
+    private String journalPath;
+
+    @Value("${bid.order-book.dead-letter-path:data/bid-journal-dead.log}")
+    private String deadLetterPath;
+
+    @Value("${bid.order-book.journal-fsync:true}")
+    private boolean fsync;
+
+    @Value("${bid.order-book.journal-compact-bytes:67108864}")
+    private long compactBytes;
+
+    // 재시작 후에도 시퀀스가 겹치지 않도록 기동 시각 기반으로 시작
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    // DB 반영 전 항목 (seq -> 항목)
+    private final Map<Long, BidJournalEntry> pending = new ConcurrentHashMap<>();
+    // 격리된 항목 (경매 ID -> 항목, 수동 복구 전까지 유지)
+    private final Map<Long, List<BidJournalEntry>> deadLettered = new ConcurrentHashMap<>();
+
+    private FileChannel channel;
+    private FileChannel deadLetterChannel;
+    private List<BidJournalEntry> recovered = List.of();
+
+    @PostConstruct
+    public void open() throws IOException {
+        Path path = Paths.get(journalPath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        if (Files.exists(path)) {
+            recovered = readPending(path);
+            recovered.forEach(entry -> pending.put(entry.getSeq(), entry));
+            if (!recovered.isEmpty()) {
+                log.warn("입찰 저널에서 미반영 입찰 {}건 복구", recovered.size());
+            }
+        }
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+
+        Path deadLetter = Paths.get(deadLetterPath);
+        if (deadLetter.getParent() != null) {
+            Files.createDirectories(deadLetter.getParent());
+        }
+        if (Files.exists(deadLetter)) {
+            List<BidJournalEntry> entries = readDeadLettered(deadLetter);
+            entries.forEach(entry ->
+                    deadLettered.computeIfAbsent(entry.getAuctionId(), id -> new ArrayList<>()).add(entry));
+            if (!entries.isEmpty()) {
+                log.error("수동 복구가 필요한 격리 입찰 {}건 (경매 {}개): {}",
+                        entries.size(), deadLettered.size(), deadLettered.keySet());
+            }
+        }
+        deadLetterChannel = FileChannel.open(deadLetter, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        if (deadLetterChannel != null) {
+            deadLetterChannel.close();
+        }
+    }
+
+    /**
+     * 직전 실행에서 DB에 반영되지 못한 항목 (기동 시 1회 사용)
+     */
+    public List<BidJournalEntry> takeRecovered() {
+        List<BidJournalEntry> result = recovered;
+        recovered = List.of();
+        return result;
+    }
+
+    /**
+     * 항목 기록 후 시퀀스가 부여된 항목 반환
+     * fsync 가 켜져 있으면 디스크 반영까지 기다린다.
+     */
+    public synchronized List<BidJournalEntry> append(List<BidJournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        List<BidJournalEntry> sequenced = new ArrayList<>(entries.size());
+        StringBuilder sb = new StringBuilder();
+        for (BidJournalEntry entry : entries) {
+            BidJournalEntry withSeq = entry.toBuilder().seq(sequence.incrementAndGet()).build();
+            sequenced.add(withSeq);
+            sb.append(format(withSeq)).append('\n');
+        }
+        write(channel, sb.toString());
+        sequenced.forEach(entry -> pending.put(entry.getSeq(), entry));
+        return sequenced;
+    }
+
+    /**
+     * DB 반영 완료 기록
+     * 미반영 항목이 없고 파일이 커졌으면 파일을 비운다.
+     */
+    public synchronized void acknowledge(List<BidJournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (BidJournalEntry entry : entries) {
+            sb.append(ACK).append('\t').append(entry.getSeq()).append('\n');
+            pending.remove(entry.getSeq());
+        }
+        write(channel, sb.toString());
+
+        try {
+            if (pending.isEmpty() && channel.size() > compactBytes) {
+                channel.truncate(0);
+                log.info("입찰 저널 압축 완료");
+            }
+        } catch (IOException e) {
+            log.warn("입찰 저널 압축 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 기록 재시도 한도를 넘긴 항목 격리
+     * 격리 파일에 원본 레코드와 사유를 남기고 저널에서는 ACK 처리한다 (재기동 시 재시도하지 않음).
+     * 파일 기록이 실패해도 메모리의 격리 상태는 유지되어 해당 경매의 종료를 막는다.
+     */
+    public synchronized void deadLetter(BidJournalEntry entry, String reason) {
+        deadLettered.computeIfAbsent(entry.getAuctionId(), id -> new ArrayList<>()).add(entry);
+        write(deadLetterChannel, format(entry) + '\t' + reason.replaceAll("[\\t\\r\\n]", " ") + '\n');
+        acknowledge(List.of(entry));
+    }
+
+    /**
+     * 경매의 DB 미반영 항목 (기록 대기 중 + 격리됨, 시퀀스 순)
+     * 호가창을 DB에서 다시 적재할 때 DB에 아직 없는 변경을 덧입히는 데 사용한다.
+     */
+    public synchronized List<BidJournalEntry> unpersisted(Long auctionId) {
+        List<BidJournalEntry> entries = new ArrayList<>(deadLettered.getOrDefault(auctionId, List.of()));
+        for (BidJournalEntry entry : pending.values()) {
+            if (entry.getAuctionId().equals(auctionId)) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong(BidJournalEntry::getSeq));
+        return entries;
+    }
+
+    /**
+     * 수동 복구 전인 격리 항목이 있는 경매인지 여부
+     */
+    public boolean hasDeadLettered(Long auctionId) {
+        return deadLettered.containsKey(auctionId);
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void write(FileChannel target, String text) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            if (fsync) {
+                target.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("입찰 저널 기록 실패", e);
+        }
+    }
+
+    private List<BidJournalEntry> readPending(Path path) throws IOException {
+        Map<Long, BidJournalEntry> pending = new LinkedHashMap<>();
+        long maxSeq = 0;
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t");
+            try {
+                if (ENTRY.equals(fields[0]) && fields.length == 12) {
+                    BidJournalEntry entry = parse(fields);
+                    pending.put(entry.getSeq(), entry);
+                    maxSeq = Math.max(maxSeq, entry.getSeq());
+                } else if (ACK.equals(fields[0]) && fields.length == 2) {
+                    pending.remove(Long.parseLong(fields[1]));
+                }
+            } catch (RuntimeException e) {
+                // 크래시 도중 잘린 마지막 줄은 무시 (응답 전 기록이므로 클라이언트에는 실패로 전달됨)
+                log.warn("입찰 저널 손상 레코드 무시: {}", line);
+            }
+        }
+        sequence.accumulateAndGet(maxSeq, Math::max);
+        return new ArrayList<>(pending.values());
+    }
+
+    private List<BidJournalEntry> readDeadLettered(Path path) throws IOException {
+        List<BidJournalEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t");
+            try {
+                // 원본 레코드 12개 필드 + 사유
+                if (ENTRY.equals(fields[0]) && fields.length >= 12) {
+                    entries.add(parse(fields));
+                }
+            } catch (RuntimeException e) {
+                log.warn("입찰 격리 파일 손상 레코드 무시: {}", line);
+            }
+        }
+        return entries;
+    }
+
+    private String format(BidJournalEntry entry) {
+        return String.join("\t",
+                ENTRY,
+                String.valueOf(entry.getSeq()),
+                entry.getType().name(),
+                String.valueOf(entry.getAuctionId()),
+                String.valueOf(entry.getBidderId()),
+                entry.getBidAmount().toPlainString(),
+                String.valueOf(entry.isAutoBid()),
+                entry.getMaxAutoBidAmount() != null ? entry.getMaxAutoBidAmount().toPlainString() : NULL,
+                entry.getBidTime().toString(),
+                entry.getPriceAfter().toPlainString(),
+                String.valueOf(entry.getBidCountAfter()),
+                entry.getEndAtAfter().toString());
+    }
+
+    private BidJournalEntry parse(String[] fields) {
+        return BidJournalEntry.builder()
+                .seq(Long.parseLong(fields[1]))
+                .type(BidJournalEntry.Type.valueOf(fields[2]))
+                .auctionId(Long.parseLong(fields[3]))
+                .bidderId(Long.parseLong(fields[4]))
+                .bidAmount(new BigDecimal(fields[5]))
+                .autoBid(Boolean.parseBoolean(fields[6]))
+                .maxAutoBidAmount(NULL.equals(fields[7]) ? null : new BigDecimal(fields[7]))
+                .bidTime(LocalDateTime.parse(fields[8]))
+                .priceAfter(new BigDecimal(fields[9]))
+                .bidCountAfter(Integer.parseInt(fields[10]))
+                .endAtAfter(LocalDateTime.parse(fields[11]))
+                .recovered(true)
+                .build();
+    }
+}
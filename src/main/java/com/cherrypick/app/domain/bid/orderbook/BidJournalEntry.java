@@ -0,0 +1,39 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 호가창에서 확정되어 DB에 비동기로 기록될 입찰 변경 1건
+ * 저널 파일의 한 줄과 1:1로 대응한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class BidJournalEntry {
+
+    public enum Type {
+        EXECUTION,          // 실제 입찰 (수동/자동 실행)
+        AUTO_BID_SETTING,   // 자동입찰 설정 등록 (bidAmount = 0 레코드)
+        AUTO_BID_CANCEL     // 자동입찰 설정 취소
+    }
+
+    private final long seq;
+    private final Type type;
+    private final Long auctionId;
+    private final Long bidderId;
+    private final BigDecimal bidAmount;
+    private final boolean autoBid;
+    private final BigDecimal maxAutoBidAmount;
+    private final LocalDateTime bidTime;
+
+    // 실행 직후 경매 상태 스냅샷 (auctions 행 갱신용)
+    private final BigDecimal priceAfter;
+    private final int bidCountAfter;
+    private final LocalDateTime endAtAfter;
+
+    // 재시작 시 저널에서 복구된 항목 여부 (중복 기록 방지 확인 대상)
+    private final boolean recovered;
+}
@@ -0,0 +1,246 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.enums.AuctionStatus;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.enums.BidStatus;
+import com.cherrypick.app.domain.bid.repository.BidRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 경매 ID 기준으로 샤딩된 호가창 실행기
+ *
+ * 샤드마다 단일 스레드가 자신에게 배정된 경매의 호가창을 독점 소유한다(single-writer).
+ * 같은 경매에 대한 명령은 항상 같은 스레드에서 순서대로 처리되므로 DB 행 잠금 없이 직렬화된다.
+ * 호가창은 첫 명령 시 DB와 저널의 미반영 항목으로 적재하고, 경매를 닫으면 종료 처리가 끝날 때까지
+ * 닫힌 호가창을 남겨 두어 이후 명령을 거절한 뒤 제거한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bid.order-book.enabled", havingValue = "true")
+public class BidOrderBookEngine {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final BidJournal journal;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${bid.order-book.shards:8}")
+    private int shardCount;
+
+    @Value("${bid.order-book.command-timeout-ms:5000}")
+    private long commandTimeoutMs;
+
+    private ExecutorService[] shards;
+    private List<Map<Long, AuctionOrderBook>> books;
+
+    public BidOrderBookEngine(AuctionRepository auctionRepository, BidRepository bidRepository,
+                              BidJournal journal, PlatformTransactionManager transactionManager) {
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.journal = journal;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        shards = new ExecutorService[shardCount];
+        books = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            final int shardIndex = i;
+            shards[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "bid-order-book-" + shardIndex);
+                thread.setDaemon(true);
+                return thread;
+            });
+            // 샤드 스레드 전용 맵이므로 동기화 불필요
+            books.add(new HashMap<>());
+        }
+        log.info("입찰 호가창 엔진 시작: shards={}", shardCount);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            shard.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 경매의 호가창에서 명령 실행 (소유 샤드 스레드에서 실행 후 결과 대기)
+     * 명령에서 발생한 IllegalArgumentException 등은 그대로 호출자에게 전달된다.
+     * 닫힌 경매(종료 처리 중이거나 종료됨)의 명령은 모두 거절한다.
+     */
+    public <T> T execute(Long auctionId, Function<AuctionOrderBook, T> command) {
+        int shardIndex = shardOf(auctionId);
+        Map<Long, AuctionOrderBook> shardBooks = books.get(shardIndex);
+
+        Future<T> future = shards[shardIndex].submit(() -> {
+            AuctionOrderBook book = shardBooks.get(auctionId);
+            if (book == null) {
+                book = load(auctionId);
+                // 이미 종료된 경매는 메모리에 올리지 않음
+                if (!book.isClosed()) {
+                    shardBooks.put(auctionId, book);
+                }
+            }
+            if (book.isClosed()) {
+                throw new IllegalArgumentException("진행 중인 경매가 아닙니다");
+            }
+            try {
+                return command.apply(book);
+            } catch (IllegalArgumentException e) {
+                // 검증 실패: 호가창 상태 변경 없음
+                throw e;
+            } catch (RuntimeException e) {
+                // 저널 기록 실패 등: 메모리 상태를 신뢰할 수 없으므로 버리고 다음 명령 때 다시 적재
+                shardBooks.remove(auctionId);
+                log.error("호가창 명령 실패로 호가창 폐기: auctionId={}", auctionId, e);
+                throw e;
+            }
+        });
+        return await(future);
+    }
+
+    /**
+     * 경매 종료 준비: 종료 시각이 지난 호가창을 닫아 이후 명령을 거절
+     * 닫힌 호가창은 release 전까지 메모리에 남아 경매 상태가 DB에서 바뀌기 전의 명령도 막는다.
+     *
+     * @return 닫았으면 true, 메모리상 종료 시각이 아직 남았으면(연장) false
+     */
+    public boolean close(Long auctionId, LocalDateTime now) {
+        int shardIndex = shardOf(auctionId);
+        Map<Long, AuctionOrderBook> shardBooks = books.get(shardIndex);
+        return await(shards[shardIndex].submit(() -> {
+            AuctionOrderBook book = shardBooks.get(auctionId);
+            if (book == null) {
+                try {
+                    book = load(auctionId);
+                } catch (IllegalArgumentException e) {
+                    // 삭제된 경매: 닫을 호가창 없음
+                    return true;
+                }
+                shardBooks.put(auctionId, book);
+            }
+            return book.closeIfEnded(now);
+        }));
+    }
+
+    /**
+     * 종료 처리가 끝난 경매의 호가창 제거 (이후 명령은 DB에서 종료 상태로 적재되어 거절됨)
+     */
+    public void release(Long auctionId) {
+        int shardIndex = shardOf(auctionId);
+        Map<Long, AuctionOrderBook> shardBooks = books.get(shardIndex);
+        await(shards[shardIndex].submit(() -> {
+            shardBooks.remove(auctionId);
+            return null;
+        }));
+    }
+
+    private int shardOf(Long auctionId) {
+        return (int) Math.floorMod(auctionId, (long) shardCount);
+    }
+
+    /**
+     * 명령 결과 대기
+     * 시간 초과 시 아직 시작 전인 명령만 취소하고 실패로 응답한다. 이미 실행 중인 명령은 저널에 기록되어
+     * 반영될 수 있으므로 끝날 때까지 기다려 실제 결과를 돌려준다.
+     */
+    private <T> T await(Future<T> future) {
+        try {
+            try {
+                return future.get(commandTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    throw new IllegalStateException("입찰 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+                }
+                log.warn("호가창 명령이 {}ms 를 넘겨 실행 중 - 완료까지 대기", commandTimeoutMs);
+                return future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("입찰 처리 중 오류가 발생했습니다", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 처리가 중단되었습니다", e);
+        }
+    }
+
+    /**
+     * DB에서 호가창 적재 (잠금 없는 읽기 전용 조회) 후 저널의 미반영 항목을 덧입힘
+     * 미반영 항목을 DB 조회보다 먼저 읽어, 그 사이 반영된 항목은 DB 와 저널 양쪽에서 보이고 빠지는 항목은 없다.
+     * (같은 경매의 새 항목은 이 샤드 스레드에서만 생기므로 적재 중에 추가되지 않음)
+     */
+    private AuctionOrderBook load(Long auctionId) {
+        List<BidJournalEntry> unpersisted = journal.unpersisted(auctionId);
+        AuctionOrderBook book = loadFromDatabase(auctionId);
+        unpersisted.forEach(book::replay);
+        if (!unpersisted.isEmpty()) {
+            log.info("호가창 적재 시 미반영 입찰 {}건 반영: auctionId={}, currentPrice={}",
+                    unpersisted.size(), auctionId, book.getCurrentPrice());
+        }
+        return book;
+    }
+
+    private AuctionOrderBook loadFromDatabase(Long auctionId) {
+        return readOnlyTransaction.execute(status -> {
+            Auction auction = auctionRepository.findById(auctionId)
+                    .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다"));
+
+            Optional<Bid> topBid = bidRepository.findTopByAuctionIdAndBidAmountGreaterThanOrderByBidAmountDesc(
+                    auctionId, BigDecimal.ZERO);
+
+            AuctionOrderBook book = new AuctionOrderBook(
+                    auction.getId(),
+                    auction.getSeller().getId(),
+                    auction.getStartPrice(),
+                    auction.getCurrentPrice(),
+                    auction.getBidCount() != null ? auction.getBidCount() : 0,
+                    topBid.map(bid -> bid.getBidder().getId()).orElse(null),
+                    topBid.map(Bid::getBidAmount).orElse(null),
+                    auction.getEndAt(),
+                    auction.getStatus() != AuctionStatus.ACTIVE);
+
+            // 활성 자동입찰 설정을 등록 순서대로 복원
+            bidRepository.findActiveAutoBidSettingsExcludingBidder(auctionId, -1L, BidStatus.ACTIVE).stream()
+                    .sorted(Comparator.comparing(Bid::getBidTime).thenComparing(Bid::getId))
+                    .forEach(setting -> book.restoreAutoBidCeiling(
+                            setting.getBidder().getId(), setting.getMaxAutoBidAmount()));
+
+            log.debug("호가창 적재: auctionId={}, currentPrice={}, autoBids={}",
+                    auctionId, book.getCurrentPrice(), book.getProxyBids().size());
+            return book;
+        });
+    }
+}
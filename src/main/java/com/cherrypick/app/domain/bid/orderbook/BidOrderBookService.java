@@ -0,0 +1,102 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import com.cherrypick.app.domain.bid.service.BidValidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 인메모리 호가창 기반 입찰 처리 (bid.order-book.enabled=true 일 때 사용)
+ *
+ * 처리 순서: 호가창에서 수락/거절 결정 -> 저널 기록(응답 전) -> 비동기 DB 기록 대기열 등록
+ * 경매 행 비관적 잠금 없이 샤드 스레드에서 직렬화된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bid.order-book.enabled", havingValue = "true")
+public class BidOrderBookService {
+
+    private final BidOrderBookEngine engine;
+    private final BidJournal journal;
+    private final BidWriteBehindWriter writer;
+    private final BidValidationService validationService;
+
+    @Value("${bid.order-book.close-drain-timeout-ms:10000}")
+    private long closeDrainTimeoutMs;
+
+    /**
+     * 수동 입찰 (자동입찰 반응 포함)
+     */
+    public BidPlacementResult placeManualBid(Long auctionId, Long bidderId, BigDecimal bidAmount) {
+        return executeAndJournal(auctionId,
+                book -> book.placeManualBid(bidderId, bidAmount, LocalDateTime.now(), validationService));
+    }
+
+    /**
+     * 자동입찰 설정 및 즉시 실행
+     */
+    public BidPlacementResult setupAutoBid(Long auctionId, Long bidderId, BigDecimal maxAutoBidAmount) {
+        return executeAndJournal(auctionId,
+                book -> book.setupAutoBid(bidderId, maxAutoBidAmount, LocalDateTime.now(), validationService));
+    }
+
+    /**
+     * 자동입찰 취소
+     */
+    public BidPlacementResult cancelAutoBid(Long auctionId, Long bidderId) {
+        return executeAndJournal(auctionId, book -> book.cancelAutoBid(bidderId, LocalDateTime.now()));
+    }
+
+    /**
+     * 경매 종료 전 처리: 종료 시각이 지난 호가창을 닫고 해당 경매의 대기 중인 입찰을 모두 DB에 반영
+     * 종료 처리가 최고 입찰을 DB에서 조회하기 전에 호출해야 한다. 연장된 경매도 새 종료 시각이 DB에
+     * 반영되도록 함께 기다린다.
+     *
+     * @throws IllegalStateException 시간 안에 반영되지 않았거나 격리된 입찰이 있어 지금 종료하면 낙찰자가 틀릴 수 있는 경우
+     *                               (호출자는 종료를 확정하지 말고 나중에 다시 시도해야 함)
+     */
+    public void closeAndDrain(Collection<Long> auctionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        auctionIds.forEach(auctionId -> engine.close(auctionId, now));
+        try {
+            if (!writer.awaitDrained(auctionIds, closeDrainTimeoutMs)) {
+                throw new IllegalStateException("경매 종료 전 입찰 반영 대기 시간이 초과되었습니다: " + auctionIds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("경매 종료 전 입찰 반영 대기가 중단되었습니다: " + auctionIds, e);
+        }
+        for (Long auctionId : auctionIds) {
+            if (journal.hasDeadLettered(auctionId)) {
+                throw new IllegalStateException("DB에 기록되지 못한 입찰이 있어 수동 복구 전까지 경매를 종료할 수 없습니다: " + auctionId);
+            }
+        }
+    }
+
+    /**
+     * 경매 종료 처리 완료 후 닫힌 호가창 제거
+     */
+    public void release(Collection<Long> auctionIds) {
+        auctionIds.forEach(engine::release);
+    }
+
+    private BidPlacementResult executeAndJournal(Long auctionId,
+                                                 Function<AuctionOrderBook, BidPlacementResult> command) {
+        return engine.execute(auctionId, book -> {
+            BidPlacementResult result = command.apply(book);
+            // 샤드 스레드 안에서 저널 기록 -> 같은 경매의 기록 순서가 처리 순서와 일치
+            List<BidJournalEntry> sequenced = journal.append(result.getEntries());
+            writer.enqueue(sequenced);
+            return result;
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 호가창 명령 처리 결과
+ * 확정된 입찰 변경 목록과 알림 발송에 필요한 이전/이후 상태를 담는다.
+ */
+@Getter
+@Builder
+public class BidPlacementResult {
+
+    private final Long auctionId;
+    private final List<BidJournalEntry> entries;
+
+    // 이번 명령으로 밀려난 이전 최고 입찰자 (없으면 null)
+    private final Long previousTopBidderId;
+    private final BigDecimal previousTopBidAmount;
+
+    private final Long topBidderId;
+    private final BigDecimal currentPrice;
+    private final int bidCount;
+    private final LocalDateTime endAt;
+    private final boolean extended;
+}
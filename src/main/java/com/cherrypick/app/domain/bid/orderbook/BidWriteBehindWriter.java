@@ -0,0 +1,313 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.enums.BidStatus;
+import com.cherrypick.app.domain.bid.repository.BidRepository;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 호가창에서 확정된 입찰을 bids / auctions 테이블에 비동기로 일괄 기록
+ *
+ * - 단일 기록 스레드가 큐를 비우며 최대 batchSize 건씩 하나의 트랜잭션으로 저장한다.
+ * - 경매별로는 배치 안의 마지막 상태만 auctions 행에 반영한다.
+ * - 커밋 후 저널에 ACK 를 남기고, 실패 시 같은 배치를 백오프 후 재시도한다.
+ * - 재시도 한도(flush-max-attempts)를 넘기면 한 건씩 나눠 기록하고, 그래도 실패하는 항목만 저널 격리 파일로 옮겨
+ *   나머지 경매의 기록이 막히지 않게 한다. DB 연결 실패 같은 일시적 오류는 항목 탓이 아니므로 한도 없이 재시도한다.
+ * - 직전 실행의 미반영 항목은 기동 시 대기열 앞에 넣어 기록 스레드에서 복구한다 (기동을 막지 않음).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bid.order-book.enabled", havingValue = "true")
+public class BidWriteBehindWriter {
+
+    private static final long INITIAL_BACKOFF_MS = 50;
+    private static final long MAX_BACKOFF_MS = 5000;
+
+    private final BidJournal journal;
+    private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<BidJournalEntry> queue = new LinkedBlockingQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Object drainLock = new Object();
+    // 경매별 미반영 항목 수 (drainLock 으로 보호)
+    private final Map<Long, Integer> pendingByAuction = new HashMap<>();
+
+    @Value("${bid.order-book.flush-batch-size:200}")
+    private int batchSize;
+
+    @Value("${bid.order-book.flush-max-attempts:5}")
+    private int maxAttempts;
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public BidWriteBehindWriter(BidJournal journal, BidRepository bidRepository,
+                                AuctionRepository auctionRepository, UserRepository userRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.journal = journal;
+        this.bidRepository = bidRepository;
+        this.auctionRepository = auctionRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 호출 스레드의 트랜잭션(예: 스케줄러)과 분리
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 직전 실행에서 반영되지 못한 입찰을 먼저 기록하도록 대기열 앞에 등록
+        // (반영 전에도 호가창 적재와 경매 종료 대기는 저널의 미반영 항목을 기준으로 동작)
+        List<BidJournalEntry> recovered = journal.takeRecovered();
+        if (!recovered.isEmpty()) {
+            enqueue(recovered);
+            log.info("입찰 저널 복구 항목 {}건 기록 대기열 등록", recovered.size());
+        }
+
+        writerThread = new Thread(this::runLoop, "bid-write-behind");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        // 남은 항목은 저널에 남아 다음 기동 시 복구된다
+        if (!queue.isEmpty()) {
+            log.warn("종료 시점 미반영 입찰 {}건 - 다음 기동 시 저널에서 복구", queue.size());
+        }
+    }
+
+    /**
+     * 저널에 기록된 항목을 기록 대기열에 추가
+     */
+    public void enqueue(List<BidJournalEntry> entries) {
+        synchronized (drainLock) {
+            for (BidJournalEntry entry : entries) {
+                pendingByAuction.merge(entry.getAuctionId(), 1, Integer::sum);
+            }
+            pending.addAndGet(entries.size());
+        }
+        queue.addAll(entries);
+    }
+
+    /**
+     * 지정한 경매의 대기 중인 입찰이 모두 처리(DB 반영 또는 격리)될 때까지 대기 (경매 종료 처리 전 호출)
+     * 다른 경매의 기록 대기와는 무관하게 반환한다.
+     *
+     * @return 시간 안에 모두 처리되었으면 true
+     */
+    public boolean awaitDrained(Collection<Long> auctionIds, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (drainLock) {
+            while (hasPending(auctionIds)) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                drainLock.wait(remaining);
+            }
+        }
+        return true;
+    }
+
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    private boolean hasPending(Collection<Long> auctionIds) {
+        for (Long auctionId : auctionIds) {
+            if (pendingByAuction.containsKey(auctionId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void runLoop() {
+        List<BidJournalEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                BidJournalEntry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                persistOrDeadLetter(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 배치 기록 (재시도 한도를 넘기면 한 건씩 나눠 기록하고 끝내 실패한 항목만 격리)
+     */
+    private void persistOrDeadLetter(List<BidJournalEntry> batch) throws InterruptedException {
+        RuntimeException failure = persistWithRetry(batch);
+        if (failure == null) {
+            return;
+        }
+        if (batch.size() == 1) {
+            deadLetter(batch.get(0), failure);
+            return;
+        }
+        log.warn("입찰 일괄 기록 {}회 실패 - 실패 항목을 찾기 위해 {}건을 한 건씩 기록", maxAttempts, batch.size());
+        for (BidJournalEntry entry : batch) {
+            RuntimeException entryFailure = persistWithRetry(List.of(entry));
+            if (entryFailure != null) {
+                deadLetter(entry, entryFailure);
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 기록 후 ACK (실패 시 백오프 재시도)
+     * 인터럽트되면 항목은 저널에 남아 다음 기동 시 복구된다.
+     *
+     * @return 재시도 한도를 넘긴 마지막 오류, 기록되었으면 null
+     */
+    private RuntimeException persistWithRetry(List<BidJournalEntry> batch) throws InterruptedException {
+        long backoffMs = INITIAL_BACKOFF_MS;
+        int attempts = 0;
+        while (true) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> persist(batch));
+            } catch (RuntimeException e) {
+                if (!isTransient(e) && ++attempts >= maxAttempts) {
+                    return e;
+                }
+                log.error("입찰 일괄 기록 실패 ({}건) - {}ms 후 재시도", batch.size(), backoffMs, e);
+                Thread.sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+                continue;
+            }
+            acknowledge(batch);
+            return null;
+        }
+    }
+
+    private void acknowledge(List<BidJournalEntry> batch) {
+        try {
+            journal.acknowledge(batch);
+        } catch (RuntimeException e) {
+            // 이미 커밋되었으므로 다시 기록하지 않는다 (재기동 시 복구 항목은 journal_seq 로 중복 확인)
+            log.error("입찰 저널 ACK 기록 실패 ({}건)", batch.size(), e);
+        }
+        markDone(batch);
+    }
+
+    private void deadLetter(BidJournalEntry entry, RuntimeException failure) {
+        log.error("입찰 DB 기록 {}회 실패 - 격리 후 수동 복구 필요: seq={}, auctionId={}, bidderId={}, amount={}",
+                maxAttempts, entry.getSeq(), entry.getAuctionId(), entry.getBidderId(), entry.getBidAmount(), failure);
+        try {
+            journal.deadLetter(entry, failure.toString());
+        } catch (RuntimeException e) {
+            // 메모리의 격리 상태는 남아 있으므로 해당 경매 종료는 계속 막힌다
+            log.error("입찰 격리 파일 기록 실패: seq={}", entry.getSeq(), e);
+        }
+        markDone(List.of(entry));
+    }
+
+    private void markDone(List<BidJournalEntry> entries) {
+        synchronized (drainLock) {
+            for (BidJournalEntry entry : entries) {
+                pendingByAuction.computeIfPresent(entry.getAuctionId(), (id, count) -> count > 1 ? count - 1 : null);
+            }
+            pending.addAndGet(-entries.size());
+            drainLock.notifyAll();
+        }
+    }
+
+    /**
+     * 항목과 무관한 일시적 오류 (DB 연결/잠금 대기 등) - 재시도 한도에 포함하지 않음
+     */
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void persist(List<BidJournalEntry> batch) {
+        Map<Long, BidJournalEntry> latestByAuction = new LinkedHashMap<>();
+
+        for (BidJournalEntry entry : batch) {
+            // 크래시 직전 커밋되었지만 ACK 되지 못한 항목은 건너뜀
+            if (entry.isRecovered() && bidRepository.existsByJournalSeq(entry.getSeq())) {
+                continue;
+            }
+
+            Auction auction = auctionRepository.getReferenceById(entry.getAuctionId());
+            User bidder = userRepository.getReferenceById(entry.getBidderId());
+
+            switch (entry.getType()) {
+                case EXECUTION -> {
+                    Bid bid = entry.isAutoBid()
+                            ? Bid.createAutoBidExecution(auction, bidder, entry.getBidAmount(), entry.getMaxAutoBidAmount())
+                            : Bid.createManualBid(auction, bidder, entry.getBidAmount());
+                    bidRepository.save(bid.toBuilder()
+                            .bidTime(entry.getBidTime())
+                            .journalSeq(entry.getSeq())
+                            .build());
+                    latestByAuction.put(entry.getAuctionId(), entry);
+                }
+                case AUTO_BID_SETTING -> {
+                    cancelActiveAutoBidSetting(entry);
+                    Bid setting = Bid.createAutoBidSetting(auction, bidder, entry.getMaxAutoBidAmount());
+                    bidRepository.save(setting.toBuilder()
+                            .bidTime(entry.getBidTime())
+                            .journalSeq(entry.getSeq())
+                            .build());
+                }
+                case AUTO_BID_CANCEL -> cancelActiveAutoBidSetting(entry);
+            }
+        }
+
+        for (BidJournalEntry latest : latestByAuction.values()) {
+            auctionRepository.applyOrderBookState(
+                    latest.getAuctionId(),
+                    latest.getPriceAfter(),
+                    latest.getBidCountAfter(),
+                    latest.getEndAtAfter());
+        }
+    }
+
+    private void cancelActiveAutoBidSetting(BidJournalEntry entry) {
+        bidRepository.findByAuctionIdAndBidderIdAndIsAutoBidTrueAndStatus(
+                entry.getAuctionId(), entry.getBidderId(), BidStatus.ACTIVE)
+                .ifPresent(Bid::cancel);
+    }
+}
@@ -0,0 +1,19 @@
+package com.cherrypick.app.domain.bid.proxy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 자동입찰(프록시 입찰) 상한 1건
+ * sequence 는 등록 순서로, 상한이 같으면 먼저 등록한 쪽이 우선한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProxyBid {
+
+    private final Long bidderId;
+    private final BigDecimal maxAmount;
+    private final long sequence;
+}
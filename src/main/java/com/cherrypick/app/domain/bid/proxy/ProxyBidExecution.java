@@ -0,0 +1,18 @@
+package com.cherrypick.app.domain.bid.proxy;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 프록시 입찰 해소 결과로 기록할 자동입찰 실행 1건
+ */
+@Getter
+@AllArgsConstructor
+public class ProxyBidExecution {
+
+    private final Long bidderId;
+    private final BigDecimal bidAmount;
+    private final BigDecimal maxAutoBidAmount;
+}
@@ -0,0 +1,68 @@
+package com.cherrypick.app.domain.bid.proxy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 경매 1건의 자동입찰 상한을 최대 금액 내림차순으로 정렬 보관
+ *
+ * 등록/취소는 O(log n), 상위 2건 조회는 O(1)에 가깝게 동작하여
+ * 입찰마다 전체 설정을 읽어 최댓값을 찾던 방식을 대체한다.
+ * 스레드 안전하지 않으므로 호가창 소유 스레드에서만 사용한다.
+ */
+public class ProxyBidLadder {
+
+    private static final Comparator<ProxyBid> LADDER_ORDER = Comparator
+            .comparing(ProxyBid::getMaxAmount, Comparator.reverseOrder())
+            .thenComparingLong(ProxyBid::getSequence);
+
+    private final TreeSet<ProxyBid> ladder = new TreeSet<>(LADDER_ORDER);
+    private final Map<Long, ProxyBid> byBidder = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * 자동입찰 등록 (기존 설정은 취소 후 새 순번으로 재등록)
+     */
+    public void register(Long bidderId, BigDecimal maxAmount) {
+        remove(bidderId);
+        ProxyBid proxyBid = new ProxyBid(bidderId, maxAmount, nextSequence++);
+        ladder.add(proxyBid);
+        byBidder.put(bidderId, proxyBid);
+    }
+
+    /**
+     * 자동입찰 취소
+     *
+     * @return 취소된 설정이 있었으면 true
+     */
+    public boolean remove(Long bidderId) {
+        ProxyBid existing = byBidder.remove(bidderId);
+        if (existing == null) {
+            return false;
+        }
+        ladder.remove(existing);
+        return true;
+    }
+
+    /**
+     * 상한이 가장 높은 2건 (동일 금액은 먼저 등록한 순)
+     */
+    public List<ProxyBid> topTwo() {
+        List<ProxyBid> result = new ArrayList<>(2);
+        Iterator<ProxyBid> iterator = ladder.iterator();
+        while (iterator.hasNext() && result.size() < 2) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public int size() {
+        return byBidder.size();
+    }
+}
@@ -0,0 +1,87 @@
+package com.cherrypick.app.domain.bid.proxy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 프록시 입찰 해소 규칙 (eBay 스타일)
+ *
+ * 전체 자동입찰 설정이 아니라 상한 상위 2건만 보고 한 번에 결과를 결정한다.
+ * 중간 경합 단계는 기록하지 않고 최종 승자/차점자 실행만 반환한다.
+ * JPA 경로(AutoBidService)와 인메모리 호가창(AuctionOrderBook)이 같은 규칙을 공유한다.
+ */
+public final class ProxyBidResolver {
+
+    private ProxyBidResolver() {
+    }
+
+    /**
+     * 수동 입찰에 대한 자동입찰 반응
+     * 상한이 가장 높은 자동입찰자가 (수동입찰가 + 입찰단위)로 입찰한다.
+     *
+     * @param topTwo             상한 상위 2건
+     * @param manualBidAmount    수동 입찰가
+     * @param increment          수동 입찰가 기준 입찰단위
+     * @param currentTopBidderId 현재 최고 입찰자 (이미 최고 입찰자면 반응하지 않음)
+     */
+    public static Optional<ProxyBidExecution> resolveManualBid(List<ProxyBid> topTwo, BigDecimal manualBidAmount,
+                                                               BigDecimal increment, Long currentTopBidderId) {
+        if (topTwo.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ProxyBid highest = topTwo.get(0);
+        BigDecimal nextBidAmount = manualBidAmount.add(increment);
+
+        if (nextBidAmount.compareTo(highest.getMaxAmount()) > 0
+                || highest.getBidderId().equals(currentTopBidderId)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ProxyBidExecution(highest.getBidderId(), nextBidAmount, highest.getMaxAmount()));
+    }
+
+    /**
+     * 새 자동입찰 설정 즉시 실행
+     * 본인을 제외한 최고 상한과 경쟁하여 패자 최대금액, 승자 최종금액 순으로 반환한다.
+     *
+     * @param topTwo       상한 상위 2건 (새 설정 포함 여부 무관)
+     * @param bidderId     새 자동입찰자
+     * @param maxAmount    새 자동입찰 상한
+     * @param currentPrice 현재가
+     * @param increment    현재가 기준 입찰단위
+     */
+    public static List<ProxyBidExecution> resolveNewProxy(List<ProxyBid> topTwo, Long bidderId, BigDecimal maxAmount,
+                                                          BigDecimal currentPrice, BigDecimal increment) {
+        ProxyBid other = topTwo.stream()
+                .filter(proxyBid -> !proxyBid.getBidderId().equals(bidderId))
+                .findFirst()
+                .orElse(null);
+
+        if (other == null) {
+            // 다른 자동입찰 없음 - 현재가 + 최소 증가폭으로 입찰
+            BigDecimal nextBidAmount = currentPrice.add(increment);
+            if (nextBidAmount.compareTo(maxAmount) <= 0) {
+                return List.of(new ProxyBidExecution(bidderId, nextBidAmount, maxAmount));
+            }
+            return List.of();
+        }
+
+        BigDecimal otherMaxAmount = other.getMaxAmount();
+        int compare = maxAmount.compareTo(otherMaxAmount);
+
+        if (compare > 0) {
+            // 신규 입찰자 승리
+            return List.of(
+                    new ProxyBidExecution(other.getBidderId(), otherMaxAmount, otherMaxAmount),
+                    new ProxyBidExecution(bidderId, otherMaxAmount.add(increment).min(maxAmount), maxAmount));
+        } else if (compare < 0) {
+            // 기존 입찰자 승리
+            return List.of(
+                    new ProxyBidExecution(bidderId, maxAmount, maxAmount),
+                    new ProxyBidExecution(other.getBidderId(), maxAmount.add(increment).min(otherMaxAmount), otherMaxAmount));
+        }
+        // 동일 금액 - 먼저 설정한 사람 승리
+        return List.of(new ProxyBidExecution(other.getBidderId(), otherMaxAmount, otherMaxAmount));
+    }
+}
@@ -58,6 +58,21 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
             @Param("status") BidStatus status
     );
 
+    /**
+     * 특정 경매의 활성 자동입찰 설정 중 상한 상위 2건 조회
+     * 동일 상한이면 먼저 설정한 순 (idx_bids_auto_bid_ceiling 부분 인덱스 사용)
+     */
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder WHERE b.auction.id = :auctionId " +
+           "AND b.isAutoBid = true " +
+           "AND b.status = :status " +
+           "AND b.bidAmount = 0 " +
+           "ORDER BY b.maxAutoBidAmount DESC, b.bidTime ASC, b.id ASC " +
+           "LIMIT 2")
+    List<Bid> findTopTwoActiveAutoBidSettings(
+            @Param("auctionId") Long auctionId,
+            @Param("status") BidStatus status
+    );
+
     /**
      * 경매의 현재 최고 입찰가 조회
      */
@@ -125,4 +140,9 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
      */
     @Query("SELECT DISTINCT b.bidder FROM Bid b WHERE b.auction.id = :auctionId AND b.bidAmount > 0")
     List<User> findDistinctBiddersByAuctionId(@Param("auctionId") Long auctionId);
-}
\ No newline at end of file
+
+    /**
+     * 호가창 저널 항목이 이미 반영되었는지 확인 (복구 시 중복 기록 방지)
+     */
+    boolean existsByJournalSeq(Long journalSeq);
+}
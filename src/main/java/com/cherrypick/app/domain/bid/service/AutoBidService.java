@@ -1,22 +1,33 @@
 package com.cherrypick.app.domain.bid.service;
 
 import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.event.AuctionEndTimeChangedEvent;
 import com.cherrypick.app.domain.auction.repository.AuctionRepository;
 import com.cherrypick.app.domain.bid.dto.response.BidResponse;
 import com.cherrypick.app.domain.bid.entity.Bid;
 import com.cherrypick.app.domain.bid.enums.BidStatus;
+import com.cherrypick.app.domain.bid.orderbook.BidJournalEntry;
+import com.cherrypick.app.domain.bid.orderbook.BidOrderBookService;
+import com.cherrypick.app.domain.bid.orderbook.BidPlacementResult;
+import com.cherrypick.app.domain.bid.proxy.ProxyBid;
+import com.cherrypick.app.domain.bid.proxy.ProxyBidExecution;
+import com.cherrypick.app.domain.bid.proxy.ProxyBidResolver;
 import com.cherrypick.app.domain.bid.repository.BidRepository;
 import com.cherrypick.app.domain.user.entity.User;
 import com.cherrypick.app.domain.user.repository.UserRepository;
 import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,6 +40,8 @@ public class AutoBidService {
     private final UserRepository userRepository;
     private final BidValidationService validationService;
     private final WebSocketMessagingService webSocketMessagingService;
+    private final Optional<BidOrderBookService> bidOrderBookService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 자동 입찰 설정
@@ -38,6 +51,11 @@ public class AutoBidService {
         log.info("자동 입찰 설정 시작: auctionId={}, bidderId={}, maxAmount={}",
                 auctionId, bidderId, maxAutoBidAmount);
 
+        // 인메모리 호가창 사용 시 경매 행 잠금 없이 처리
+        if (bidOrderBookService.isPresent()) {
+            return setupAutoBidWithOrderBook(auctionId, bidderId, maxAutoBidAmount);
+        }
+
         // 1. 경매 조회 (비관적 잠금으로 동시성 보장)
         Auction auction = auctionRepository.findByIdForUpdate(auctionId)
                 .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다"));
@@ -79,6 +97,40 @@ public class AutoBidService {
         return BidResponse.from(autoBidSetting);
     }
 
+    /**
+     * 인메모리 호가창 기반 자동 입찰 설정
+     * 설정 레코드와 즉시 실행 결과는 저널을 거쳐 비동기로 기록된다.
+     */
+    private BidResponse setupAutoBidWithOrderBook(Long auctionId, Long bidderId, BigDecimal maxAutoBidAmount) {
+        User bidder = userRepository.findById(bidderId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        BidPlacementResult result = bidOrderBookService.get().setupAutoBid(auctionId, bidderId, maxAutoBidAmount);
+
+        if (result.isExtended()) {
+            eventPublisher.publishEvent(new AuctionEndTimeChangedEvent(this, auctionId, result.getEndAt()));
+            webSocketMessagingService.notifyAuctionExtended(
+                    auctionId,
+                    result.getEndAt(),
+                    result.getCurrentPrice(),
+                    result.getBidCount()
+            );
+        }
+
+        BidJournalEntry setting = result.getEntries().get(0);
+        return BidResponse.builder()
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .bidderNickname(bidder.getNickname())
+                .bidAmount(setting.getBidAmount())
+                .isAutoBid(true)
+                .maxAutoBidAmount(maxAutoBidAmount)
+                .status(BidStatus.ACTIVE)
+                .bidTime(setting.getBidTime())
+                .isHighestBid(false)
+                .build();
+    }
+
     /**
      * 자동 입찰 즉시 실행 (설정 시점)
      */
@@ -104,82 +156,22 @@ public class AutoBidService {
             return;
         }
 
-        // 다른 활성 자동입찰 설정 조회
-        List<Bid> otherAutoBids = bidRepository.findActiveAutoBidSettingsExcludingBidder(
-                auction.getId(), bidder.getId(), BidStatus.ACTIVE);
-
-        if (otherAutoBids.isEmpty()) {
-            // 다른 자동입찰 없음 - 현재가 + 최소 증가폭으로 입찰
-            BigDecimal nextBidAmount = currentPrice.add(validationService.calculateMinimumIncrement(currentPrice));
-            if (nextBidAmount.compareTo(maxAutoBidAmount) <= 0) {
-                createAutoBidExecution(auction, bidder, nextBidAmount, maxAutoBidAmount);
-                log.info("자동 입찰 실행: {}", nextBidAmount);
-            }
-        } else {
-            // 다른 자동입찰과 경쟁
-            performAutoBidCompetition(auction, bidder, maxAutoBidAmount, otherAutoBids);
-        }
-    }
-
-    /**
-     * 자동 입찰 경쟁 시뮬레이션 (eBay 스타일)
-     */
-    private void performAutoBidCompetition(Auction auction, User newBidder,
-                                           BigDecimal newMaxAmount, List<Bid> otherAutoBids) {
-        log.info("자동 입찰 경쟁 시뮬레이션 시작");
-
-        // 가장 높은 최대 금액을 가진 기존 자동입찰 찾기
-        Bid highestOtherAutoBid = otherAutoBids.stream()
-                .max((a, b) -> a.getMaxAutoBidAmount().compareTo(b.getMaxAutoBidAmount()))
-                .orElse(null);
-
-        if (highestOtherAutoBid == null) {
-            return;
-        }
-
-        BigDecimal otherMaxAmount = highestOtherAutoBid.getMaxAutoBidAmount();
-        BigDecimal currentPrice = auction.getCurrentPrice();
-        BigDecimal increment = validationService.calculateMinimumIncrement(currentPrice);
-
-        log.info("경쟁: 신규 {}원 vs 기존 {}원", newMaxAmount, otherMaxAmount);
-
-        // 경쟁 결과 결정
-        if (newMaxAmount.compareTo(otherMaxAmount) > 0) {
-            // 신규 입찰자 승리
-            BigDecimal loserFinalBid = otherMaxAmount;
-            BigDecimal winnerFinalBid = otherMaxAmount.add(increment);
-
-            // 승자의 최종 입찰가가 최대 금액을 초과하지 않도록
-            if (winnerFinalBid.compareTo(newMaxAmount) > 0) {
-                winnerFinalBid = newMaxAmount;
-            }
-
-            // 2건 저장: 패자 최대금액, 승자 최종금액
-            createAutoBidExecution(auction, highestOtherAutoBid.getBidder(), loserFinalBid, otherMaxAmount);
-            createAutoBidExecution(auction, newBidder, winnerFinalBid, newMaxAmount);
-
-            log.info("신규 입찰자 승리: {} -> {}", loserFinalBid, winnerFinalBid);
-        } else if (newMaxAmount.compareTo(otherMaxAmount) < 0) {
-            // 기존 입찰자 승리
-            BigDecimal loserFinalBid = newMaxAmount;
-            BigDecimal winnerFinalBid = newMaxAmount.add(increment);
-
-            // 승자의 최종 입찰가가 최대 금액을 초과하지 않도록
-            if (winnerFinalBid.compareTo(otherMaxAmount) > 0) {
-                winnerFinalBid = otherMaxAmount;
-            }
+        // 상한 상위 2건만 조회하여 한 번에 경쟁 해소 (최종 패자/승자 실행만 기록)
+        List<Bid> topTwo = bidRepository.findTopTwoActiveAutoBidSettings(auction.getId(), BidStatus.ACTIVE);
+        List<ProxyBidExecution> executions = ProxyBidResolver.resolveNewProxy(
+                toProxyBids(topTwo), bidder.getId(), maxAutoBidAmount, currentPrice,
+                validationService.calculateMinimumIncrement(currentPrice));
 
-            // 2건 저장: 패자 최대금액, 승자 최종금액
-            createAutoBidExecution(auction, newBidder, loserFinalBid, newMaxAmount);
-            createAutoBidExecution(auction, highestOtherAutoBid.getBidder(), winnerFinalBid, otherMaxAmount);
+        Map<Long, User> bidders = topTwo.stream()
+                .map(Bid::getBidder)
+                .collect(Collectors.toMap(User::getId, user -> user, (a, b) -> a));
+        bidders.put(bidder.getId(), bidder);
 
-            log.info("기존 입찰자 승리: {} -> {}", loserFinalBid, winnerFinalBid);
-        } else {
-            // 동일 금액 - 먼저 설정한 사람 승리
-            BigDecimal finalBid = otherMaxAmount;
-            createAutoBidExecution(auction, highestOtherAutoBid.getBidder(), finalBid, otherMaxAmount);
-            log.info("동일 금액: 기존 입찰자 승리 {}", finalBid);
+        for (ProxyBidExecution execution : executions) {
+            createAutoBidExecution(auction, bidders.get(execution.getBidderId()),
+                    execution.getBidAmount(), execution.getMaxAutoBidAmount());
         }
+        log.info("자동 입찰 즉시 실행 완료: {}건 기록", executions.size());
     }
 
     /**
@@ -204,8 +196,9 @@ public class AutoBidService {
 
             auctionRepository.save(auction);
 
-            // 스나이핑 방지 시간 연장 WebSocket 알림
+            // 스나이핑 방지 시간 연장: 종료 타이머 재등록 + WebSocket 알림
             if (extended) {
+                eventPublisher.publishEvent(new AuctionEndTimeChangedEvent(this, auction.getId(), auction.getEndAt()));
                 webSocketMessagingService.notifyAuctionExtended(
                         auction.getId(),
                         auction.getEndAt(),
@@ -225,6 +218,11 @@ public class AutoBidService {
     public void cancelAutoBid(Long auctionId, Long bidderId) {
         log.info("자동 입찰 취소: auctionId={}, bidderId={}", auctionId, bidderId);
 
+        if (bidOrderBookService.isPresent()) {
+            bidOrderBookService.get().cancelAutoBid(auctionId, bidderId);
+            return;
+        }
+
         Optional<Bid> autoBidSetting = bidRepository.findByAuctionIdAndBidderIdAndIsAutoBidTrueAndStatus(
                 auctionId, bidderId, BidStatus.ACTIVE);
 
@@ -246,48 +244,46 @@ public class AutoBidService {
         log.info("수동 입찰 반응 처리 시작: auctionId={}, manualBidAmount={}",
                 auction.getId(), manualBidAmount);
 
-        // 1. 모든 활성 자동입찰 설정 조회 (수동 입찰자는 제외되지 않음 - 전체 조회)
-        List<Bid> allActiveAutoBids = bidRepository.findActiveAutoBidSettingsExcludingBidder(
-                auction.getId(), -1L, BidStatus.ACTIVE); // -1L: 모든 자동입찰자 조회
+        // 1. 상한 상위 2건만 조회 (전체 설정을 읽어 최댓값을 찾지 않음)
+        List<Bid> topTwo = bidRepository.findTopTwoActiveAutoBidSettings(auction.getId(), BidStatus.ACTIVE);
 
-        if (allActiveAutoBids.isEmpty()) {
+        if (topTwo.isEmpty()) {
             log.info("활성 자동입찰 설정 없음 - 반응 없음");
             return;
         }
 
-        // 2. 최대 금액이 가장 높은 자동입찰자 찾기
-        Bid highestAutoBid = allActiveAutoBids.stream()
-                .max((a, b) -> a.getMaxAutoBidAmount().compareTo(b.getMaxAutoBidAmount()))
-                .orElse(null);
-
-        if (highestAutoBid == null) {
-            return;
-        }
-
-        BigDecimal maxAmount = highestAutoBid.getMaxAutoBidAmount();
-        BigDecimal increment = validationService.calculateMinimumIncrement(manualBidAmount);
-        BigDecimal nextBidAmount = manualBidAmount.add(increment);
+        // 2. 최고 자동입찰자가 이미 최고 입찰자인지 확인
+        Long highestAutoBidderId = topTwo.get(0).getBidder().getId();
+        Long currentTopBidderId = bidRepository.isHighestBidder(auction.getId(), highestAutoBidderId)
+                ? highestAutoBidderId : null;
 
-        log.info("최고 자동입찰자: {}, 최대금액: {}, 반응입찰가: {}",
-                highestAutoBid.getBidder().getId(), maxAmount, nextBidAmount);
+        // 3. 최고 자동입찰자가 (수동입찰가 + 입찰단위)로 반응할 수 있는지 결정
+        Optional<ProxyBidExecution> reaction = ProxyBidResolver.resolveManualBid(
+                toProxyBids(topTwo), manualBidAmount,
+                validationService.calculateMinimumIncrement(manualBidAmount), currentTopBidderId);
 
-        // 3. 최대 금액이 충분한지 확인
-        if (nextBidAmount.compareTo(maxAmount) > 0) {
-            log.info("자동입찰 최대 금액({}) 초과 - 반응 안 함", maxAmount);
+        if (reaction.isEmpty()) {
+            log.info("자동입찰 반응 없음 (최대 금액 초과 또는 이미 최고 입찰자)");
             return;
         }
 
-        // 4. 이미 최고 입찰자인지 확인
-        boolean isAlreadyHighest = bidRepository.isHighestBidder(
-                auction.getId(), highestAutoBid.getBidder().getId());
-        if (isAlreadyHighest) {
-            log.info("이미 최고 입찰자이므로 추가 입찰 안 함");
-            return;
-        }
+        // 4. 자동 입찰 실행
+        ProxyBidExecution execution = reaction.get();
+        createAutoBidExecution(auction, topTwo.get(0).getBidder(),
+                execution.getBidAmount(), execution.getMaxAutoBidAmount());
+        log.info("수동 입찰 반응 완료: {}원으로 자동 입찰", execution.getBidAmount());
+    }
 
-        // 5. 자동 입찰 실행
-        createAutoBidExecution(auction, highestAutoBid.getBidder(), nextBidAmount, maxAmount);
-        log.info("수동 입찰 반응 완료: {}원으로 자동 입찰", nextBidAmount);
+    /**
+     * 자동입찰 설정 레코드를 상한 순서를 유지한 프록시 입찰 목록으로 변환
+     */
+    private List<ProxyBid> toProxyBids(List<Bid> settings) {
+        List<ProxyBid> proxyBids = new ArrayList<>(settings.size());
+        for (int i = 0; i < settings.size(); i++) {
+            Bid setting = settings.get(i);
+            proxyBids.add(new ProxyBid(setting.getBidder().getId(), setting.getMaxAutoBidAmount(), i));
+        }
+        return proxyBids;
     }
 
     /**
@@ -1,9 +1,14 @@
 package com.cherrypick.app.domain.bid.service;
 
 import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.event.AuctionEndTimeChangedEvent;
 import com.cherrypick.app.domain.auction.repository.AuctionRepository;
 import com.cherrypick.app.domain.bid.dto.response.BidResponse;
 import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.enums.BidStatus;
+import com.cherrypick.app.domain.bid.orderbook.BidJournalEntry;
+import com.cherrypick.app.domain.bid.orderbook.BidOrderBookService;
+import com.cherrypick.app.domain.bid.orderbook.BidPlacementResult;
 import com.cherrypick.app.domain.bid.repository.BidRepository;
 import com.cherrypick.app.domain.user.entity.User;
 import com.cherrypick.app.domain.user.repository.UserRepository;
@@ -19,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +42,7 @@ public class BidService {
     private final WebSocketMessagingService webSocketMessagingService;
     private final FcmService fcmService;
     private final ApplicationEventPublisher eventPublisher;
+    private final Optional<BidOrderBookService> bidOrderBookService;
 
     /**
      * 내 입찰 내역 조회
@@ -64,6 +71,11 @@ public class BidService {
     public BidResponse placeBid(Long auctionId, Long bidderId, BigDecimal bidAmount) {
         log.info("수동 입찰 시작: auctionId={}, bidderId={}, bidAmount={}", auctionId, bidderId, bidAmount);
 
+        // 인메모리 호가창 사용 시 경매 행 잠금 없이 처리
+        if (bidOrderBookService.isPresent()) {
+            return placeBidWithOrderBook(auctionId, bidderId, bidAmount);
+        }
+
         // 1. 경매 조회 (비관적 잠금으로 동시성 보장)
         Auction auction = auctionRepository.findByIdForUpdate(auctionId)
                 .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다"));
@@ -115,25 +127,8 @@ public class BidService {
 
         // 스나이핑 방지 시간 연장 알림
         if (extended) {
-            // WebSocket 실시간 알림 (경매 상세 화면에 표시)
-            webSocketMessagingService.notifyAuctionExtended(
-                    auction.getId(),
-                    auction.getEndAt(),
-                    auction.getCurrentPrice(),
-                    auction.getBidCount()
-            );
-
-            // 입찰자들에게 푸시 알림 전송 (현재 입찰자 제외)
-            List<User> bidders = bidRepository.findDistinctBiddersByAuctionId(auctionId);
-            for (User bidderUser : bidders) {
-                if (!bidderUser.getId().equals(bidderId)) {
-                    try {
-                        fcmService.sendAuctionExtendedNotification(bidderUser, auctionId, auction.getTitle());
-                    } catch (Exception e) {
-                        log.warn("스나이핑 연장 알림 전송 실패: userId={}, error={}", bidderUser.getId(), e.getMessage());
-                    }
-                }
-            }
+            notifyAuctionExtended(auction.getId(), auction.getTitle(), auction.getEndAt(),
+                    auction.getCurrentPrice(), auction.getBidCount(), bidderId);
         }
 
         log.info("경매 업데이트 완료: currentPrice={}, bidCount={}", auction.getCurrentPrice(), auction.getBidCount());
@@ -147,31 +142,102 @@ public class BidService {
         }
 
         // 9. Outbid 알림 발송 (이전 최고 입찰자에게)
-        final User finalPreviousHighestBidder = previousHighestBidder;
-        final BigDecimal finalPreviousBidAmount = previousBidAmount;
-        if (finalPreviousHighestBidder != null) {
-            try {
-                String bidderNickname = bidder.getNickname() != null ?
-                        bidder.getNickname() : "익명" + bidder.getId();
-
-                eventPublisher.publishEvent(new OutbidNotificationEvent(
-                        this,
-                        finalPreviousHighestBidder.getId(),
-                        auctionId,
-                        auction.getTitle(),
-                        finalPreviousBidAmount.longValue(),
-                        bidAmount.longValue(),
-                        bidderNickname,
-                        1 // 단일 입찰, 그룹 알림은 Throttle 서비스에서 처리
-                ));
-                log.info("Outbid 알림 이벤트 발행: previousBidderId={}, auctionId={}",
-                        finalPreviousHighestBidder.getId(), auctionId);
-            } catch (Exception e) {
-                log.warn("Outbid 알림 발송 실패: {}", e.getMessage());
-            }
+        if (previousHighestBidder != null) {
+            publishOutbidEvent(previousHighestBidder.getId(), previousBidAmount, auctionId,
+                    auction.getTitle(), bidder, bidAmount);
         }
 
         // 10. 응답 생성
         return BidResponse.from(savedBid, true);
     }
-}
\ No newline at end of file
+
+    /**
+     * 인메모리 호가창 기반 수동 입찰 처리
+     * 수락/거절은 호가창에서 결정되고 bids/auctions 기록은 저널을 거쳐 비동기로 반영된다.
+     */
+    private BidResponse placeBidWithOrderBook(Long auctionId, Long bidderId, BigDecimal bidAmount) {
+        User bidder = userRepository.findById(bidderId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        BidPlacementResult result = bidOrderBookService.get().placeManualBid(auctionId, bidderId, bidAmount);
+
+        log.info("호가창 입찰 수락: auctionId={}, currentPrice={}, bidCount={}",
+                auctionId, result.getCurrentPrice(), result.getBidCount());
+
+        if (result.isExtended() || result.getPreviousTopBidderId() != null) {
+            String auctionTitle = auctionRepository.findById(auctionId)
+                    .map(Auction::getTitle)
+                    .orElse("");
+
+            if (result.isExtended()) {
+                notifyAuctionExtended(auctionId, auctionTitle, result.getEndAt(),
+                        result.getCurrentPrice(), result.getBidCount(), bidderId);
+            }
+            if (result.getPreviousTopBidderId() != null) {
+                publishOutbidEvent(result.getPreviousTopBidderId(), result.getPreviousTopBidAmount(),
+                        auctionId, auctionTitle, bidder, bidAmount);
+            }
+        }
+
+        BidJournalEntry manualBid = result.getEntries().get(0);
+        return BidResponse.builder()
+                .auctionId(auctionId)
+                .bidderId(bidderId)
+                .bidderNickname(bidder.getNickname())
+                .bidAmount(manualBid.getBidAmount())
+                .isAutoBid(false)
+                .status(BidStatus.ACTIVE)
+                .bidTime(manualBid.getBidTime())
+                .isHighestBid(true)
+                .build();
+    }
+
+    /**
+     * 스나이핑 방지 시간 연장 알림 (WebSocket + 기존 입찰자 푸시)
+     */
+    private void notifyAuctionExtended(Long auctionId, String auctionTitle, LocalDateTime endAt,
+                                       BigDecimal currentPrice, Integer bidCount, Long bidderId) {
+        // 경매 종료 타이머 재등록
+        eventPublisher.publishEvent(new AuctionEndTimeChangedEvent(this, auctionId, endAt));
+
+        // WebSocket 실시간 알림 (경매 상세 화면에 표시)
+        webSocketMessagingService.notifyAuctionExtended(auctionId, endAt, currentPrice, bidCount);
+
+        // 입찰자들에게 푸시 알림 전송 (현재 입찰자 제외)
+        List<User> bidders = bidRepository.findDistinctBiddersByAuctionId(auctionId);
+        for (User bidderUser : bidders) {
+            if (!bidderUser.getId().equals(bidderId)) {
+                try {
+                    fcmService.sendAuctionExtendedNotification(bidderUser, auctionId, auctionTitle);
+                } catch (Exception e) {
+                    log.warn("스나이핑 연장 알림 전송 실패: userId={}, error={}", bidderUser.getId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Outbid 알림 이벤트 발행 (이전 최고 입찰자에게)
+     */
+    private void publishOutbidEvent(Long previousBidderId, BigDecimal previousBidAmount, Long auctionId,
+                                    String auctionTitle, User bidder, BigDecimal bidAmount) {
+        try {
+            String bidderNickname = bidder.getNickname() != null ?
+                    bidder.getNickname() : "익명" + bidder.getId();
+
+            eventPublisher.publishEvent(new OutbidNotificationEvent(
+                    this,
+                    previousBidderId,
+                    auctionId,
+                    auctionTitle,
+                    previousBidAmount.longValue(),
+                    bidAmount.longValue(),
+                    bidderNickname,
+                    1 // 단일 입찰, 그룹 알림은 Throttle 서비스에서 처리
+            ));
+            log.info("Outbid 알림 이벤트 발행: previousBidderId={}, auctionId={}", previousBidderId, auctionId);
+        } catch (Exception e) {
+            log.warn("Outbid 알림 발송 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,15 +1,13 @@
 package com.cherrypick.app.domain.chat.service;
 
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
 import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import com.cherrypick.app.domain.websocket.event.TypingEvent;
 
-import java.time.LocalDateTime;
-import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,12 +24,13 @@ import java.util.stream.Collectors;
 public class TypingIndicatorService {
 
     private final WebSocketMessagingService webSocketMessagingService;
+    private final SessionLivenessManager livenessManager;
     
     // 채팅방별 타이핑 중인 사용자 정보 (chatRoomId -> Set<TypingUserInfo>)
     private final Map<Long, Set<TypingUserInfo>> chatRoomTypingUsers = new ConcurrentHashMap<>();
     
-    // 타이핑 타임아웃 시간 (초)
-    private static final int TYPING_TIMEOUT_SECONDS = 3;
+    // 타이핑 타임아웃 시간 (밀리초, 마지막 타이핑 이후 이 시간이 지나면 자동 중단)
+    private static final long TYPING_TIMEOUT_MILLIS = 3000;
 
     /**
      * 사용자가 타이핑을 시작함을 알림
@@ -45,19 +44,17 @@ public class TypingIndicatorService {
             chatRoomId, k -> new CopyOnWriteArraySet<>()
         );
         
-        TypingUserInfo userInfo = new TypingUserInfo(userId, userNickname, LocalDateTime.now());
+        TypingUserInfo userInfo = new TypingUserInfo(userId, userNickname);
+        TypingKey key = new TypingKey(chatRoomId, userId);
         
         // 이미 타이핑 중인 사용자인지 확인
-        boolean wasAlreadyTyping = typingUsers.stream()
-                .anyMatch(info -> info.userId.equals(userId));
+        boolean wasAlreadyTyping = !typingUsers.add(userInfo);
         
-        if (wasAlreadyTyping) {
-            // 기존 정보 업데이트 (마지막 타이핑 시간 갱신)
-            typingUsers.removeIf(info -> info.userId.equals(userId));
+        // 마지막 타이핑 시간 갱신 (처음이면 만료 등록)
+        if (!wasAlreadyTyping || !livenessManager.touch(key)) {
+            livenessManager.register(key, TYPING_TIMEOUT_MILLIS, () -> expireTyping(chatRoomId, userId));
         }
         
-        typingUsers.add(userInfo);
-        
         // 새롭게 타이핑을 시작한 경우에만 알림 전송
         if (!wasAlreadyTyping) {
             webSocketMessagingService.notifyTypingStatus(chatRoomId, userId, userNickname, true);
@@ -72,6 +69,7 @@ public class TypingIndicatorService {
      * @param userId 사용자 ID
      */
     public void stopTyping(Long chatRoomId, Long userId) {
+        livenessManager.cancel(new TypingKey(chatRoomId, userId));
         Set<TypingUserInfo> typingUsers = chatRoomTypingUsers.get(chatRoomId);
         if (typingUsers == null) {
             return;
@@ -153,6 +151,7 @@ public class TypingIndicatorService {
         if (typingUsers != null && !typingUsers.isEmpty()) {
             // 모든 사용자에게 타이핑 중단 알림 전송
             for (TypingUserInfo userInfo : typingUsers) {
+                livenessManager.cancel(new TypingKey(chatRoomId, userInfo.userId));
                 webSocketMessagingService.notifyTypingStatus(
                     chatRoomId, userInfo.userId, userInfo.userNickname, false
                 );
@@ -162,34 +161,11 @@ public class TypingIndicatorService {
     }
 
     /**
-     * 만료된 타이핑 상태 정리 (3초 이상 업데이트되지 않은 상태)
-     * 10초마다 실행되는 스케줄러
+     * 타이핑 상태 만료 처리 (마지막 타이핑 이후 3초간 갱신이 없을 때 SessionLivenessManager 가 호출)
      */
-    @Scheduled(fixedRate = 10000) // 10초마다 실행
-    public void cleanupExpiredTypingStatus() {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusSeconds(TYPING_TIMEOUT_SECONDS);
-        
-        chatRoomTypingUsers.entrySet().removeIf(entry -> {
-            Long chatRoomId = entry.getKey();
-            Set<TypingUserInfo> typingUsers = entry.getValue();
-            
-            // 만료된 사용자들 찾기 및 제거
-            Set<TypingUserInfo> expiredUsers = typingUsers.stream()
-                    .filter(info -> info.lastTypingTime.isBefore(cutoffTime))
-                    .collect(Collectors.toSet());
-            
-            for (TypingUserInfo expiredUser : expiredUsers) {
-                typingUsers.remove(expiredUser);
-                webSocketMessagingService.notifyTypingStatus(
-                    chatRoomId, expiredUser.userId, expiredUser.userNickname, false
-                );
-                log.debug("만료된 타이핑 상태 정리: chatRoomId={}, userId={}, nickname={}", 
-                         chatRoomId, expiredUser.userId, expiredUser.userNickname);
-            }
-            
-            // 타이핑 중인 사용자가 없으면 채팅방 항목 제거
-            return typingUsers.isEmpty();
-        });
+    private void expireTyping(Long chatRoomId, Long userId) {
+        log.debug("만료된 타이핑 상태 정리: chatRoomId={}, userId={}", chatRoomId, userId);
+        stopTyping(chatRoomId, userId);
     }
 
     /**
@@ -227,12 +203,10 @@ public class TypingIndicatorService {
     private static class TypingUserInfo {
         final Long userId;
         final String userNickname;
-        final LocalDateTime lastTypingTime;
         
-        TypingUserInfo(Long userId, String userNickname, LocalDateTime lastTypingTime) {
+        TypingUserInfo(Long userId, String userNickname) {
             this.userId = userId;
             this.userNickname = userNickname;
-            this.lastTypingTime = lastTypingTime;
         }
         
         @Override
@@ -248,4 +222,10 @@ public class TypingIndicatorService {
             return userId.hashCode();
         }
     }
+
+    /**
+     * 타이핑 상태 만료 관리 키
+     */
+    private record TypingKey(Long chatRoomId, Long userId) {
+    }
 }
\ No newline at end of file
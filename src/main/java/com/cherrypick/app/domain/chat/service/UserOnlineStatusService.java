@@ -1,16 +1,19 @@
 package com.cherrypick.app.domain.chat.service;
 
 import com.cherrypick.app.domain.user.enums.OnlineStatus;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
 import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import com.cherrypick.app.domain.websocket.event.UserActivityEvent;
 import com.cherrypick.app.domain.websocket.event.UserConnectionEvent;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.time.ZoneId;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -26,6 +29,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 public class UserOnlineStatusService {
 
     private final WebSocketMessagingService webSocketMessagingService;
+    private final SessionLivenessManager livenessManager;
     
     // 사용자별 활성 세션 ID들 (userId -> Set<sessionId>)
     private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
@@ -33,8 +37,8 @@ public class UserOnlineStatusService {
     // 사용자별 마지막 활동 시간 (userId -> lastSeenTime)
     private final Map<Long, LocalDateTime> userLastActivity = new ConcurrentHashMap<>();
     
-    // 사용자 비활성화 임계값 (분)
-    private static final int INACTIVITY_TIMEOUT_MINUTES = 5;
+    // 사용자 비활성화 임계값 (마지막 활동 이후 이 시간이 지나면 오프라인 처리)
+    private static final long INACTIVITY_TIMEOUT_MILLIS = Duration.ofMinutes(5).toMillis();
 
     /**
      * 사용자를 온라인 상태로 설정
@@ -48,8 +52,12 @@ public class UserOnlineStatusService {
         // 사용자 세션 추가
         userSessions.computeIfAbsent(userId, k -> new CopyOnWriteArraySet<>()).add(sessionId);
         
-        // 마지막 활동 시간 업데이트
+        // 마지막 활동 시간 업데이트 (처음이면 비활성 만료 등록)
         userLastActivity.put(userId, LocalDateTime.now());
+        PresenceKey key = new PresenceKey(userId);
+        if (!livenessManager.touch(key)) {
+            livenessManager.register(key, INACTIVITY_TIMEOUT_MILLIS, () -> expireInactiveUser(userId));
+        }
         
         // 오프라인에서 온라인으로 상태가 변경된 경우에만 알림 전송
         if (wasOffline) {
@@ -88,6 +96,7 @@ public class UserOnlineStatusService {
         Set<String> sessions = userSessions.get(userId);
         if (sessions != null && sessions.contains(sessionId)) {
             userLastActivity.put(userId, LocalDateTime.now());
+            livenessManager.touch(new PresenceKey(userId));
             log.trace("사용자 활동 시간 업데이트: userId={}, sessionId={}", userId, sessionId);
         }
     }
@@ -156,28 +165,17 @@ public class UserOnlineStatusService {
     }
 
     /**
-     * 비활성 사용자들을 자동으로 오프라인 처리
-     * 5분마다 실행되는 스케줄러
+     * 비활성 사용자 자동 오프라인 처리
+     * 마지막 활동 이후 5분간 활동이 없으면 SessionLivenessManager 가 호출
+     * (오프라인 전환 후에도 만료 등록은 유지해 마지막 활동 시간 기록을 함께 정리)
      */
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
-    public void cleanupInactiveUsers() {
-        LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(INACTIVITY_TIMEOUT_MINUTES);
-        
-        userLastActivity.entrySet().removeIf(entry -> {
-            Long userId = entry.getKey();
-            LocalDateTime lastActivity = entry.getValue();
-            
-            if (lastActivity.isBefore(cutoffTime)) {
-                // 비활성 사용자를 오프라인 처리
-                Set<String> sessions = userSessions.remove(userId);
-                if (sessions != null && !sessions.isEmpty()) {
-                    webSocketMessagingService.notifyUserOnlineStatus(userId, false);
-                    log.info("비활성 사용자 자동 오프라인 처리: userId={}, lastActivity={}", userId, lastActivity);
-                }
-                return true; // 맵에서 제거
-            }
-            return false;
-        });
+    private void expireInactiveUser(Long userId) {
+        LocalDateTime lastActivity = userLastActivity.remove(userId);
+        Set<String> sessions = userSessions.remove(userId);
+        if (sessions != null && !sessions.isEmpty()) {
+            webSocketMessagingService.notifyUserOnlineStatus(userId, false);
+            log.info("비활성 사용자 자동 오프라인 처리: userId={}, lastActivity={}", userId, lastActivity);
+        }
     }
 
     /**
@@ -212,12 +210,23 @@ public class UserOnlineStatusService {
             case DISCONNECTED:
                 setUserOffline(event.getUserId(), event.getSessionId());
                 break;
-            case ACTIVITY_UPDATE:
-                updateUserActivity(event.getUserId(), event.getSessionId());
-                break;
         }
     }
     
+    /**
+     * 하트비트 활동 시각 일괄 반영 (WebSocketHandler 가 주기적으로 모아서 발행)
+     */
+    @EventListener
+    public void handleUserActivityEvent(UserActivityEvent event) {
+        event.getLastActivityByUser().forEach((userId, lastActivityAt) -> {
+            if (isUserOnline(userId)) {
+                LocalDateTime activityTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(lastActivityAt), ZoneId.systemDefault());
+                userLastActivity.merge(userId, activityTime, (previous, next) -> next.isAfter(previous) ? next : previous);
+                livenessManager.touch(new PresenceKey(userId), lastActivityAt);
+            }
+        });
+    }
+    
     /**
      * 세션 ID로 사용자를 오프라인 처리 (WebSocket 연결 해제 시 사용)
      * 
@@ -239,4 +248,10 @@ public class UserOnlineStatusService {
             return false;
         });
     }
+
+    /**
+     * 온라인 상태 만료 관리 키
+     */
+    private record PresenceKey(Long userId) {
+    }
 }
\ No newline at end of file
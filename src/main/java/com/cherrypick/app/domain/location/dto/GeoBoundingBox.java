@@ -0,0 +1,50 @@
+package com.cherrypick.app.domain.location.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 반경 검색용 위도/경도 경계 상자
+ *
+ * 중심에서 반경 r km 인 원을 완전히 포함하는 최소 위도/경도 범위로,
+ * (latitude, longitude) B-tree 인덱스 범위 조건으로 후보를 먼저 줄인 뒤 정확한 거리는 후보에만 계산한다.
+ * 반경이 극점을 포함하면 경도 전체 범위를 사용한다. (날짜변경선은 국내 좌표만 다루므로 고려하지 않음)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoBoundingBox {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    /**
+     * 중심 좌표와 반경으로 경계 상자 계산
+     *
+     * @param radiusKm 반경 (km)
+     */
+    public static GeoBoundingBox of(double latitude, double longitude, double radiusKm) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double deltaLatitude = Math.toDegrees(angularRadius);
+
+        double minLatitude = latitude - deltaLatitude;
+        double maxLatitude = latitude + deltaLatitude;
+        if (minLatitude <= -90 || maxLatitude >= 90) {
+            return new GeoBoundingBox(Math.max(minLatitude, -90), Math.min(maxLatitude, 90), -180, 180);
+        }
+
+        // 원에 접하는 경선까지의 경도 차 (위도가 높을수록 넓어짐)
+        double deltaLongitude = Math.toDegrees(
+                Math.asin(Math.min(1.0, Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude)))));
+        return new GeoBoundingBox(minLatitude, maxLatitude, longitude - deltaLongitude, longitude + deltaLongitude);
+    }
+
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+                && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
@@ -0,0 +1,169 @@
+package com.cherrypick.app.domain.notification.cache;
+
+import com.cherrypick.app.domain.notification.entity.NotificationSetting;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 알림 설정/FCM 토큰 캐시
+ *
+ * 알림을 보낼 때마다(채팅 메시지 포함) 알림 설정을 DB 에서 다시 읽지 않도록, 사용자 ID 로 알림 설정을 캐시한다.
+ * - Caffeine(W-TinyLFU) 으로 max-size 건까지 보관하고, 자주 쓰이는 사용자를 남긴다.
+ * - 설정 변경/FCM 토큰 변경/전체 끄기/필수만 켜기는 invalidate 로 지우며, 트랜잭션 안이면 커밋 직후 한 번 더 지워
+ *   커밋 전에 다른 스레드가 옛 값을 다시 캐시하는 경우를 막는다.
+ * - 클러스터 모드에서는 NotificationSettingCacheRelay 가 무효화를 다른 노드에도 전달한다.
+ *   (전달이 유실되더라도 ttl 이 지나면 DB 에서 다시 읽음)
+ * - 설정이 없는 사용자는 캐시하지 않는다. (호출자가 기본 설정을 저장한 뒤 다음 조회 때 캐시됨)
+ *
+ * 적중률: notification.settings.cache.hit.ratio, 조회 수: cache.gets{cache=notificationSettings, result=hit|miss}
+ */
+@Slf4j
+@Component
+public class NotificationSettingCache {
+
+    static final String CACHE_NAME = "notificationSettings";
+
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final Cache<Long, NotificationSettingSnapshot> cache;
+    private final Counter invalidatedCounter;
+
+    private volatile NotificationSettingCacheRelay relay;
+
+    @Autowired
+    public NotificationSettingCache(NotificationSettingRepository notificationSettingRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.settings-cache.max-size:100000}") long maxSize,
+                                    @Value("${notification.settings-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("notification.settings.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("알림 설정 캐시 적중률 (시작 이후 누적)")
+                .register(meterRegistry);
+        this.invalidatedCounter = Counter.builder("notification.settings.cache.invalidated")
+                .description("설정 변경/토큰 삭제로 지운 알림 설정 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 알림 설정 조회 (없으면 DB 에서 읽어 캐시)
+     *
+     * @return 알림 설정이 없는 사용자면 null
+     */
+    public NotificationSettingSnapshot get(Long userId) {
+        return cache.get(userId, id -> notificationSettingRepository.findByUserId(id)
+                .map(NotificationSettingSnapshot::from)
+                .orElse(null));
+    }
+
+    /**
+     * 여러 사용자 알림 설정 조회 (캐시에 없는 사용자만 IN 쿼리 한 번으로 읽음)
+     *
+     * @return 알림 설정이 있는 사용자만 담은 맵
+     */
+    public Map<Long, NotificationSettingSnapshot> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, missing -> {
+            Map<Long, NotificationSettingSnapshot> loaded = new HashMap<>();
+            for (NotificationSetting setting : notificationSettingRepository.findByUserIdIn(new ArrayList<Long>(missing))) {
+                NotificationSettingSnapshot snapshot = NotificationSettingSnapshot.from(setting);
+                loaded.put(snapshot.getUserId(), snapshot);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 사용자 알림 설정 변경 시 호출 (트랜잭션 안이면 커밋 후 한 번 더 지우고 다른 노드에 알림)
+     */
+    public void invalidate(Long userId) {
+        evict(userId);
+        afterCommit(() -> {
+            evict(userId);
+            NotificationSettingCacheRelay current = relay;
+            if (current != null) {
+                current.publishUser(userId);
+            }
+        });
+    }
+
+    /**
+     * 무효 토큰 삭제 후 호출 (토큰으로는 사용자를 알 수 없으므로 해당 토큰을 가진 항목을 찾아 지움)
+     */
+    public void invalidateTokens(Set<String> tokens) {
+        evictTokens(tokens);
+        NotificationSettingCacheRelay current = relay;
+        if (current != null) {
+            current.publishTokens(tokens);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    void setRelay(NotificationSettingCacheRelay relay) {
+        this.relay = relay;
+    }
+
+    void evict(Long userId) {
+        if (cache.asMap().remove(userId) != null) {
+            invalidatedCounter.increment();
+        }
+    }
+
+    void evictTokens(Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        int removed = 0;
+        Iterator<NotificationSettingSnapshot> iterator = cache.asMap().values().iterator();
+        while (iterator.hasNext()) {
+            String fcmToken = iterator.next().getFcmToken();
+            if (fcmToken != null && tokens.contains(fcmToken)) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            invalidatedCounter.increment(removed);
+            log.debug("무효 FCM 토큰 캐시 삭제: {}건", removed);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
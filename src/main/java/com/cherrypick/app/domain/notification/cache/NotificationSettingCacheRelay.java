@@ -0,0 +1,83 @@
+package com.cherrypick.app.domain.notification.cache;
+
+import com.cherrypick.app.domain.websocket.cluster.ClusterTransport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 알림 설정 캐시 무효화 노드 간 전달 (Redis pub/sub)
+ *
+ * 한 노드에서 알림 설정이 바뀌면 다른 노드의 캐시에도 옛 값이 남으므로, 무효화할 사용자 ID/토큰을 채널로 발행하고
+ * 각 노드는 받은 항목을 자기 캐시에서 지운다. (자기 메시지도 받지만 다시 지워도 무해함)
+ * 메시지 형식: "u\n사용자ID" 또는 "t\n토큰1\n토큰2..."
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.cluster.enabled", havingValue = "true")
+public class NotificationSettingCacheRelay {
+
+    static final String CHANNEL = "cache:notification-settings";
+
+    private static final String USER = "u";
+    private static final String TOKENS = "t";
+
+    private final ClusterTransport transport;
+    private final NotificationSettingCache settingCache;
+    private final Counter receivedCounter;
+
+    public NotificationSettingCacheRelay(ClusterTransport transport, NotificationSettingCache settingCache,
+                                         MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.settingCache = settingCache;
+        this.receivedCounter = Counter.builder("notification.settings.cache.invalidation.received")
+                .description("다른 노드에서 받은 알림 설정 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        transport.subscribe(CHANNEL, this::receive);
+        settingCache.setRelay(this);
+    }
+
+    void publishUser(Long userId) {
+        publish(USER + '\n' + userId);
+    }
+
+    void publishTokens(Set<String> tokens) {
+        if (!tokens.isEmpty()) {
+            publish(TOKENS + '\n' + String.join("\n", tokens));
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            transport.publish(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 로컬 캐시는 이미 지웠으므로 다른 노드는 ttl 로 정리됨
+            log.error("알림 설정 캐시 무효화 발행 실패", e);
+        }
+    }
+
+    void receive(String message) {
+        String[] lines = message.split("\n");
+        try {
+            if (USER.equals(lines[0]) && lines.length > 1) {
+                settingCache.evict(Long.parseLong(lines[1]));
+            } else if (TOKENS.equals(lines[0])) {
+                settingCache.evictTokens(new HashSet<>(Arrays.asList(lines).subList(1, lines.length)));
+            }
+            receivedCounter.increment();
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 알림 설정 캐시 무효화 메시지: {}", message);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.cherrypick.app.domain.notification.cache;
+
+import com.cherrypick.app.domain.notification.entity.NotificationSetting;
+import com.cherrypick.app.domain.notification.enums.NotificationType;
+import lombok.Getter;
+
+/**
+ * 캐시에 보관하는 알림 설정 (사용자 ID, FCM 토큰, 수신 여부)
+ *
+ * 엔티티는 지연 로딩 연관(user)과 영속성 컨텍스트에 묶여 있어 스레드 간에 공유하지 않고, 필요한 값만 복사해 둔다.
+ * 조회 메서드 이름은 NotificationSetting 과 같다.
+ */
+@Getter
+public class NotificationSettingSnapshot {
+
+    private final Long userId;
+    private final String fcmToken;
+    private final Boolean bidNotification;
+    private final Boolean winningNotification;
+    private final Boolean connectionPaymentNotification;
+    private final Boolean chatActivationNotification;
+    private final Boolean messageNotification;
+    private final Boolean transactionCompletionNotification;
+    private final Boolean promotionNotification;
+    private final Boolean outbidNotification;
+    private final Boolean endingSoonNotification;
+    private final Boolean keywordNotification;
+
+    private NotificationSettingSnapshot(Long userId, NotificationSetting setting) {
+        this.userId = userId;
+        this.fcmToken = setting.getFcmToken();
+        this.bidNotification = setting.getBidNotification();
+        this.winningNotification = setting.getWinningNotification();
+        this.connectionPaymentNotification = setting.getConnectionPaymentNotification();
+        this.chatActivationNotification = setting.getChatActivationNotification();
+        this.messageNotification = setting.getMessageNotification();
+        this.transactionCompletionNotification = setting.getTransactionCompletionNotification();
+        this.promotionNotification = setting.getPromotionNotification();
+        this.outbidNotification = setting.getOutbidNotification();
+        this.endingSoonNotification = setting.getEndingSoonNotification();
+        this.keywordNotification = setting.getKeywordNotification();
+    }
+
+    public static NotificationSettingSnapshot from(NotificationSetting setting) {
+        return new NotificationSettingSnapshot(setting.getUser().getId(), setting);
+    }
+
+    /**
+     * 알림 타입별 수신 여부
+     */
+    public boolean isEnabled(NotificationType type) {
+        return switch (type) {
+            case NEW_BID -> bidNotification;
+            case AUCTION_WON -> winningNotification; // 구매자용 낙찰 알림
+            case AUCTION_SOLD -> bidNotification; // 판매자용 낙찰 알림 (입찰 관련 알림으로 처리)
+            case AUCTION_NOT_SOLD -> bidNotification; // 유찰 알림 (판매자용)
+            case AUCTION_NOT_SOLD_HIGHEST_BIDDER -> winningNotification; // 유찰 알림 (최고 입찰자용)
+            case AUCTION_ENDED -> bidNotification; // 경매 종료 알림 (일반 참여자)
+            case AUCTION_EXTENDED -> bidNotification; // 스나이핑 방지 시간 연장 알림
+            case CONNECTION_PAYMENT_REQUEST -> connectionPaymentNotification;
+            case CHAT_ACTIVATED -> chatActivationNotification;
+            case NEW_MESSAGE -> messageNotification;
+            case TRANSACTION_COMPLETED, TRANSACTION_PENDING, TRANSACTION_CANCELLED -> transactionCompletionNotification;
+            case PROMOTION -> promotionNotification;
+            case OUTBID -> outbidNotification; // 더 높은 입찰 알림
+            case AUCTION_ENDING_SOON_15M, AUCTION_ENDING_SOON_5M -> endingSoonNotification; // 마감 임박 알림
+            case KEYWORD_ALERT -> keywordNotification; // 키워드 알림
+        };
+    }
+}
@@ -4,6 +4,8 @@ import com.cherrypick.app.domain.auction.enums.Category;
 import com.cherrypick.app.domain.notification.dto.request.CreateKeywordRequest;
 import com.cherrypick.app.domain.notification.dto.response.UserKeywordResponse;
 import com.cherrypick.app.domain.notification.entity.UserKeyword;
+import com.cherrypick.app.domain.notification.keyword.KeywordSubscription;
+import com.cherrypick.app.domain.notification.keyword.UserKeywordIndex;
 import com.cherrypick.app.domain.notification.repository.UserKeywordRepository;
 import com.cherrypick.app.domain.user.entity.User;
 import com.cherrypick.app.domain.user.repository.UserRepository;
@@ -32,6 +34,7 @@ public class UserKeywordController {
 
     private final UserKeywordRepository userKeywordRepository;
     private final UserRepository userRepository;
+    private final UserKeywordIndex userKeywordIndex;
 
     private static final int MAX_KEYWORDS_PER_USER = 10;
 
@@ -81,6 +84,7 @@ public class UserKeywordController {
         }
 
         UserKeyword savedKeyword = userKeywordRepository.save(keyword);
+        userKeywordIndex.put(savedKeyword);
         log.info("키워드 등록: userId={}, keyword={}, category={}",
                 userId, normalizedKeyword, request.getCategory());
 
@@ -103,6 +107,7 @@ public class UserKeywordController {
         }
 
         userKeywordRepository.delete(keyword);
+        userKeywordIndex.remove(KeywordSubscription.from(keyword));
         log.info("키워드 삭제: userId={}, keywordId={}", userId, keywordId);
 
         return ResponseEntity.noContent().build();
@@ -125,6 +130,7 @@ public class UserKeywordController {
 
         keyword.setActive(!keyword.getIsActive());
         UserKeyword savedKeyword = userKeywordRepository.save(keyword);
+        userKeywordIndex.put(savedKeyword);
 
         log.info("키워드 상태 변경: userId={}, keywordId={}, isActive={}",
                 userId, keywordId, savedKeyword.getIsActive());
@@ -148,11 +154,15 @@ public class UserKeywordController {
             throw new IllegalStateException("본인의 키워드만 수정할 수 있습니다.");
         }
 
+        // 색인에서 이전 키워드/카테고리를 빼기 위해 수정 전 값 보관
+        KeywordSubscription previous = KeywordSubscription.from(keyword);
         String normalizedKeyword = request.getKeyword().toLowerCase().trim();
         keyword.updateKeyword(normalizedKeyword);
         keyword.updateCategory(request.getCategory());
 
         UserKeyword savedKeyword = userKeywordRepository.save(keyword);
+        userKeywordIndex.remove(previous);
+        userKeywordIndex.put(savedKeyword);
         log.info("키워드 수정: userId={}, keywordId={}, newKeyword={}, category={}",
                 userId, keywordId, normalizedKeyword, request.getCategory());
 
@@ -19,8 +19,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class NotificationHistory extends BaseEntity {
 
+    /**
+     * 시퀀스 한 번에 확보하는 ID 수 (notification_history_seq 의 INCREMENT BY 와 같아야 함)
+     * nextval 값 v 는 (v - 49) ~ v 구간을 예약한다. NotificationSink 의 JDBC 일괄 저장도 같은 규칙으로 ID 를 나눠 쓴다.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_history_id_gen")
+    @SequenceGenerator(name = "notification_history_id_gen", sequenceName = "notification_history_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -131,6 +139,24 @@ public class NotificationHistory extends BaseEntity {
                 .build();
     }
 
+    /**
+     * 미리 확보한 시퀀스 ID 지정 (JDBC 일괄 저장용)
+     */
+    public NotificationHistory withId(Long id) {
+        return NotificationHistory.builder()
+                .id(id)
+                .user(this.user)
+                .type(this.type)
+                .title(this.title)
+                .message(this.message)
+                .resourceId(this.resourceId)
+                .chatRoomId(this.chatRoomId)
+                .isRead(this.isRead)
+                .fcmSent(this.fcmSent)
+                .readAt(this.readAt)
+                .build();
+    }
+
     /**
      * FCM 발송 성공 처리
      */
@@ -0,0 +1,216 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 키워드 다중 문자열 매칭 오토마톤 (Aho–Corasick)
+ *
+ * 등록된 키워드 전체로 트라이와 실패 링크를 만들어 두고, 경매 제목을 한 번 훑으면서 제목에 포함된
+ * 키워드를 모두 찾는다. 키워드 수와 관계없이 제목 길이 + 찾은 키워드 수에 비례하는 시간이 든다.
+ * - 키워드를 정렬해 넣으므로 이전 키워드와 겹치는 접두사만 건너뛰면 되고, 트라이를 만들 때 자식 탐색이 필요 없다.
+ * - 노드의 자식은 문자순으로 배열 하나에 이어 붙여(CSR) 이진 탐색하므로 노드마다 맵을 두지 않는다.
+ * 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드에서 조회할 수 있다.
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private static final KeywordAutomaton EMPTY = build(List.of());
+
+    // 정렬된 키워드 (output 이 가리키는 번호)
+    private final String[] keywords;
+    // 노드 n 의 자식: childChars/childNodes 의 [childStart[n], childStart[n + 1]) 구간
+    private final int[] childStart;
+    private final char[] childChars;
+    private final int[] childNodes;
+    private final int[] fail;
+    // 노드에서 끝나는 키워드 번호 (없으면 -1)
+    private final int[] output;
+    // 실패 링크를 따라가며 만나는 가장 가까운 키워드 끝 노드 (없으면 -1)
+    private final int[] outputLink;
+
+    private KeywordAutomaton(String[] keywords, int[] childStart, char[] childChars, int[] childNodes,
+                             int[] fail, int[] output, int[] outputLink) {
+        this.keywords = keywords;
+        this.childStart = childStart;
+        this.childChars = childChars;
+        this.childNodes = childNodes;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+    }
+
+    public static KeywordAutomaton empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 키워드 목록으로 오토마톤 생성 (빈 문자열/중복은 무시)
+     */
+    public static KeywordAutomaton build(Collection<String> keywords) {
+        String[] sorted = keywords.stream()
+                .filter(Objects::nonNull)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+
+        int maxNodes = 1;
+        int maxLength = 0;
+        for (String keyword : sorted) {
+            maxNodes += keyword.length();
+            maxLength = Math.max(maxLength, keyword.length());
+        }
+
+        // 1. 트라이 (노드 번호는 생성 순서, 같은 부모의 자식은 문자순으로 생성됨)
+        int[] parent = new int[maxNodes];
+        char[] label = new char[maxNodes];
+        int[] output = new int[maxNodes];
+        Arrays.fill(output, NONE);
+        parent[ROOT] = NONE;
+        int nodeCount = 1;
+
+        int[] path = new int[maxLength + 1];
+        path[0] = ROOT;
+        String previous = "";
+        for (int index = 0; index < sorted.length; index++) {
+            String keyword = sorted[index];
+            int depth = commonPrefixLength(previous, keyword);
+            int node = path[depth];
+            for (; depth < keyword.length(); depth++) {
+                parent[nodeCount] = node;
+                label[nodeCount] = keyword.charAt(depth);
+                node = nodeCount++;
+                path[depth + 1] = node;
+            }
+            output[node] = index;
+            previous = keyword;
+        }
+
+        // 2. 자식 배열 (CSR)
+        int[] childStart = new int[nodeCount + 1];
+        for (int node = 1; node < nodeCount; node++) {
+            childStart[parent[node] + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            childStart[node + 1] += childStart[node];
+        }
+        char[] childChars = new char[nodeCount - 1];
+        int[] childNodes = new int[nodeCount - 1];
+        int[] cursor = Arrays.copyOf(childStart, nodeCount);
+        for (int node = 1; node < nodeCount; node++) {
+            int slot = cursor[parent[node]]++;
+            childChars[slot] = label[node];
+            childNodes[slot] = node;
+        }
+
+        KeywordAutomaton automaton = new KeywordAutomaton(sorted, childStart, childChars, childNodes,
+                new int[nodeCount], Arrays.copyOf(output, nodeCount), new int[nodeCount]);
+        automaton.linkFailures(nodeCount);
+        return automaton;
+    }
+
+    /**
+     * 3. 너비 우선으로 실패 링크/출력 링크 계산
+     */
+    private void linkFailures(int nodeCount) {
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        fail[ROOT] = ROOT;
+        outputLink[ROOT] = NONE;
+        queue[tail++] = ROOT;
+
+        while (head < tail) {
+            int node = queue[head++];
+            for (int slot = childStart[node]; slot < childStart[node + 1]; slot++) {
+                int child = childNodes[slot];
+                if (node == ROOT) {
+                    fail[child] = ROOT;
+                } else {
+                    int state = fail[node];
+                    int next;
+                    while ((next = child(state, childChars[slot])) == NONE && state != ROOT) {
+                        state = fail[state];
+                    }
+                    fail[child] = next == NONE ? ROOT : next;
+                }
+                int failure = fail[child];
+                outputLink[child] = output[failure] != NONE ? failure : outputLink[failure];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * 문자열에 포함된 키워드 조회 (한 번 훑음)
+     *
+     * @return 포함된 키워드 (처음 끝난 위치 순, 중복 없음)
+     */
+    public Set<String> findAll(CharSequence text) {
+        Set<String> found = new LinkedHashSet<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = child(state, c)) == NONE && state != ROOT) {
+                state = fail[state];
+            }
+            state = next == NONE ? ROOT : next;
+            for (int node = output[state] != NONE ? state : outputLink[state]; node != NONE; node = outputLink[node]) {
+                found.add(keywords[output[node]]);
+            }
+        }
+        return found;
+    }
+
+    public boolean contains(String keyword) {
+        return Arrays.binarySearch(keywords, keyword) >= 0;
+    }
+
+    /**
+     * 등록된 키워드 수
+     */
+    public int size() {
+        return keywords.length;
+    }
+
+    /**
+     * 트라이 노드 수 (메모리 사용량 확인용)
+     */
+    public int nodeCount() {
+        return fail.length;
+    }
+
+    private int child(int node, char c) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = childChars[mid];
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return childNodes[mid];
+            }
+        }
+        return NONE;
+    }
+
+    private static int commonPrefixLength(String left, String right) {
+        int max = Math.min(left.length(), right.length());
+        int i = 0;
+        while (i < max && left.charAt(i) == right.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
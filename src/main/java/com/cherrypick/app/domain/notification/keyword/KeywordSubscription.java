@@ -0,0 +1,32 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.notification.entity.UserKeyword;
+import com.cherrypick.app.domain.notification.repository.UserKeywordRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키워드 색인에 보관하는 활성 키워드 (엔티티 대신 알림에 필요한 값만 보관)
+ */
+@Getter
+@AllArgsConstructor
+public class KeywordSubscription {
+
+    private final Long keywordId;
+    private final Long userId;
+    // 소문자/공백 제거된 키워드
+    private final String keyword;
+    // null 이면 모든 카테고리
+    private final Category category;
+
+    public static KeywordSubscription from(UserKeyword userKeyword) {
+        return new KeywordSubscription(userKeyword.getId(), userKeyword.getUser().getId(),
+                userKeyword.getKeyword(), userKeyword.getCategory());
+    }
+
+    public static KeywordSubscription from(UserKeywordRepository.ActiveKeyword activeKeyword) {
+        return new KeywordSubscription(activeKeyword.getId(), activeKeyword.getUserId(),
+                activeKeyword.getKeyword(), activeKeyword.getCategory());
+    }
+}
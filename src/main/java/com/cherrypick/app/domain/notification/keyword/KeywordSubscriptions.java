@@ -0,0 +1,96 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리별 키워드 → 구독 목록
+ *
+ * 카테고리를 지정하지 않은 구독과 카테고리별 구독을 따로 두어, 경매 카테고리가 C 이면
+ * 전체 카테고리 구독과 C 구독만 본다. 같은 키워드 ID 는 한 번만 들어간다.
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽(UserKeywordIndex)이 잠금을 건다.
+ */
+class KeywordSubscriptions {
+
+    private final Map<String, List<KeywordSubscription>> anyCategory = new HashMap<>();
+    private final Map<Category, Map<String, List<KeywordSubscription>>> byCategory = new EnumMap<>(Category.class);
+    // 키워드별 구독 수 (카테고리 합계)
+    private final Map<String, Integer> keywordCounts = new HashMap<>();
+    private int size;
+
+    /**
+     * 구독 추가 (같은 키워드 ID 가 이미 있으면 무시)
+     */
+    void add(KeywordSubscription subscription) {
+        List<KeywordSubscription> list = bucket(subscription.getCategory())
+                .computeIfAbsent(subscription.getKeyword(), keyword -> new ArrayList<>(1));
+        for (KeywordSubscription existing : list) {
+            if (existing.getKeywordId().equals(subscription.getKeywordId())) {
+                return;
+            }
+        }
+        list.add(subscription);
+        keywordCounts.merge(subscription.getKeyword(), 1, Integer::sum);
+        size++;
+    }
+
+    /**
+     * 구독 제거 (키워드 ID 로 찾음)
+     */
+    void remove(KeywordSubscription subscription) {
+        Map<String, List<KeywordSubscription>> bucket = bucket(subscription.getCategory());
+        List<KeywordSubscription> list = bucket.get(subscription.getKeyword());
+        if (list == null || !list.removeIf(existing -> existing.getKeywordId().equals(subscription.getKeywordId()))) {
+            return;
+        }
+        if (list.isEmpty()) {
+            bucket.remove(subscription.getKeyword());
+        }
+        keywordCounts.computeIfPresent(subscription.getKeyword(), (keyword, count) -> count == 1 ? null : count - 1);
+        size--;
+    }
+
+    /**
+     * 키워드를 구독한 사용자 중 경매 카테고리에 해당하는 구독을 out 에 추가
+     *
+     * @param category 경매 카테고리 (null 이면 전체 카테고리 구독만)
+     */
+    void collect(String keyword, Category category, List<KeywordSubscription> out) {
+        List<KeywordSubscription> any = anyCategory.get(keyword);
+        if (any != null) {
+            out.addAll(any);
+        }
+        if (category != null) {
+            Map<String, List<KeywordSubscription>> bucket = byCategory.get(category);
+            List<KeywordSubscription> matched = bucket != null ? bucket.get(keyword) : null;
+            if (matched != null) {
+                out.addAll(matched);
+            }
+        }
+    }
+
+    boolean containsKeyword(String keyword) {
+        return keywordCounts.containsKey(keyword);
+    }
+
+    /**
+     * 구독 중인 키워드 (중복 없음)
+     */
+    Set<String> keywords() {
+        return keywordCounts.keySet();
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Map<String, List<KeywordSubscription>> bucket(Category category) {
+        return category == null ? anyCategory : byCategory.computeIfAbsent(category, c -> new HashMap<>());
+    }
+}
@@ -0,0 +1,309 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.notification.entity.UserKeyword;
+import com.cherrypick.app.domain.notification.repository.UserKeywordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 키워드 알림 색인 (경매 제목 → 구독자)
+ *
+ * 기동 시 활성 user_keywords 를 모두 읽어 카테고리별 구독 목록(KeywordSubscriptions)과
+ * 전체 키워드의 Aho–Corasick 오토마톤(KeywordAutomaton)을 만든다. 경매가 등록되면 제목을 한 번 훑어
+ * 포함된 키워드를 모두 찾고, 전체 카테고리 구독과 경매 카테고리 구독만 모아 돌려준다.
+ * - 키워드 추가/삭제/수정/활성화 변경은 UserKeywordController 가 저장 직후 바로 반영한다.
+ *   구독 목록은 즉시 바뀌고, 오토마톤에 없는 새 키워드는 잠시 따로 두어 제목에 직접 포함 여부를 확인하다가
+ *   automaton-rebuild-delay-ms 동안 모인 변경을 한 번에 반영해 오토마톤을 다시 만든다.
+ * - 이벤트 유실과 다른 노드의 변경에 대비해 주기적으로 전체를 다시 적재한다.
+ * 대소문자 무시 부분 문자열 매칭으로, 기존 LIKE '%키워드%' 쿼리와 같은 결과를 돌려준다.
+ */
+@Slf4j
+@Component
+public class UserKeywordIndex {
+
+    private final UserKeywordRepository userKeywordRepository;
+    private final int loadBatchSize;
+    private final long automatonRebuildDelayMillis;
+    private final ScheduledExecutorService automatonExecutor;
+    private final AtomicBoolean automatonRebuildScheduled = new AtomicBoolean();
+    private final Timer automatonBuildTimer;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 으로 보호
+    private KeywordSubscriptions subscriptions = new KeywordSubscriptions();
+    private KeywordAutomaton automaton = KeywordAutomaton.empty();
+    private final Set<String> pendingKeywords = new HashSet<>();
+    private boolean reloading;
+    private final List<Change> changedDuringReload = new ArrayList<>();
+
+    private volatile boolean ready;
+
+    public UserKeywordIndex(UserKeywordRepository userKeywordRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${notification.keyword-index.load-batch-size:10000}") int loadBatchSize,
+                            @Value("${notification.keyword-index.automaton-rebuild-delay-ms:1000}") long automatonRebuildDelayMillis) {
+        this.userKeywordRepository = userKeywordRepository;
+        this.loadBatchSize = Math.max(1, loadBatchSize);
+        this.automatonRebuildDelayMillis = automatonRebuildDelayMillis;
+        this.automatonExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "keyword-index-automaton");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("notification.keyword.index.subscriptions", this, UserKeywordIndex::size)
+                .description("키워드 색인에 적재된 활성 키워드 구독 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.keyword.index.keywords", this, UserKeywordIndex::keywordCount)
+                .description("키워드 색인의 서로 다른 키워드 수")
+                .register(meterRegistry);
+        this.automatonBuildTimer = Timer.builder("notification.keyword.index.automaton.build")
+                .description("키워드 오토마톤 생성에 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 최초 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+    }
+
+    @PreDestroy
+    public void stop() {
+        automatonExecutor.shutdownNow();
+    }
+
+    /**
+     * 활성 키워드 전체 재적재
+     * 적재하는 동안 들어온 변경은 교체 후 다시 반영해 이전 조회 결과로 덮어쓰지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${notification.keyword-index.rebuild-interval-ms:600000}",
+               initialDelayString = "${notification.keyword-index.rebuild-interval-ms:600000}")
+    public synchronized void reload() {
+        lock.writeLock().lock();
+        try {
+            reloading = true;
+            changedDuringReload.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        KeywordSubscriptions loaded = new KeywordSubscriptions();
+        try {
+            long afterId = 0;
+            List<UserKeywordRepository.ActiveKeyword> page;
+            do {
+                page = userKeywordRepository.findActiveKeywordsAfter(afterId, PageRequest.of(0, loadBatchSize));
+                for (UserKeywordRepository.ActiveKeyword row : page) {
+                    loaded.add(KeywordSubscription.from(row));
+                    afterId = row.getId();
+                }
+            } while (page.size() == loadBatchSize);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                reloading = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("키워드 색인 적재 실패", e);
+            return;
+        }
+        KeywordAutomaton built = buildAutomaton(loaded.keywords());
+
+        lock.writeLock().lock();
+        try {
+            subscriptions = loaded;
+            automaton = built;
+            pendingKeywords.clear();
+            reloading = false;
+            for (Change change : changedDuringReload) {
+                apply(change);
+            }
+            changedDuringReload.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("키워드 색인 적재 완료: 구독 {}건, 키워드 {}개, 노드 {}개",
+                loaded.size(), built.size(), built.nodeCount());
+    }
+
+    /**
+     * 키워드 등록/수정/활성화 변경 반영 (저장 후 호출, 비활성 키워드는 색인에서 뺌)
+     */
+    public void put(UserKeyword userKeyword) {
+        change(new Change(KeywordSubscription.from(userKeyword), Boolean.TRUE.equals(userKeyword.getIsActive())));
+    }
+
+    /**
+     * 활성 키워드 추가
+     */
+    public void add(KeywordSubscription subscription) {
+        change(new Change(subscription, true));
+    }
+
+    /**
+     * 키워드 삭제/수정 전 값 반영 (삭제 후 호출)
+     */
+    public void remove(KeywordSubscription subscription) {
+        change(new Change(subscription, false));
+    }
+
+    /**
+     * 경매 제목에 포함된 키워드를 구독한 사용자 조회 (제목을 한 번 훑음)
+     *
+     * @param category 경매 카테고리 (카테고리를 지정하지 않은 구독과 같은 카테고리 구독만 반환)
+     */
+    public List<KeywordSubscription> findMatches(String auctionTitle, Category category) {
+        String text = auctionTitle.toLowerCase();
+        List<KeywordSubscription> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<String> keywords = automaton.findAll(text);
+            for (String keyword : pendingKeywords) {
+                if (text.contains(keyword)) {
+                    keywords.add(keyword);
+                }
+            }
+            for (String keyword : keywords) {
+                subscriptions.collect(keyword, category, matches);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    /**
+     * 최초 적재가 끝나 매칭에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return subscriptions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int keywordCount() {
+        lock.readLock().lock();
+        try {
+            return subscriptions.keywords().size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 구독 키워드로 오토마톤을 다시 만들어 교체 (대기 중인 새 키워드 반영, 삭제된 키워드 정리)
+     */
+    void rebuildAutomaton() {
+        automatonRebuildScheduled.set(false);
+        KeywordSubscriptions source;
+        List<String> keywords;
+        lock.readLock().lock();
+        try {
+            source = subscriptions;
+            keywords = new ArrayList<>(subscriptions.keywords());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        KeywordAutomaton built = buildAutomaton(keywords);
+
+        lock.writeLock().lock();
+        try {
+            // 그사이 전체 재적재로 교체되었으면 재적재 결과를 그대로 사용
+            if (source != subscriptions) {
+                return;
+            }
+            automaton = built;
+            pendingKeywords.removeIf(built::contains);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("키워드 오토마톤 재생성: 키워드 {}개", built.size());
+    }
+
+    private KeywordAutomaton buildAutomaton(Collection<String> keywords) {
+        return automatonBuildTimer.record(() -> KeywordAutomaton.build(keywords));
+    }
+
+    private void change(Change change) {
+        lock.writeLock().lock();
+        try {
+            if (reloading) {
+                changedDuringReload.add(change);
+            }
+            apply(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 구독 목록 변경 (lock 안에서 호출)
+     * 오토마톤에 없는 키워드가 생기거나 오토마톤의 키워드가 모두 삭제되면 오토마톤 재생성을 예약한다.
+     */
+    private void apply(Change change) {
+        String keyword = change.subscription().getKeyword();
+        if (change.added()) {
+            subscriptions.add(change.subscription());
+            if (!automaton.contains(keyword) && pendingKeywords.add(keyword)) {
+                scheduleAutomatonRebuild();
+            }
+        } else {
+            subscriptions.remove(change.subscription());
+            if (!subscriptions.containsKeyword(keyword)) {
+                pendingKeywords.remove(keyword);
+                if (automaton.contains(keyword)) {
+                    scheduleAutomatonRebuild();
+                }
+            }
+        }
+    }
+
+    private void scheduleAutomatonRebuild() {
+        if (automatonRebuildScheduled.compareAndSet(false, true)) {
+            automatonExecutor.schedule(() -> {
+                try {
+                    rebuildAutomaton();
+                } catch (RuntimeException e) {
+                    log.error("키워드 오토마톤 재생성 실패", e);
+                }
+            }, automatonRebuildDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private record Change(KeywordSubscription subscription, boolean added) {
+    }
+}
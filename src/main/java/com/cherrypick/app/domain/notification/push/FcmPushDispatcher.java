@@ -0,0 +1,345 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
+import com.cherrypick.app.domain.notification.repository.NotificationHistoryRepository;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.google.firebase.messaging.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 푸시 일괄 발송 디스패처
+ *
+ * 알림마다 FirebaseMessaging.send 를 호출하던 방식은 경매 종료/마감 임박 알림처럼 수백 건이 한꺼번에 생길 때
+ * 비동기 리스너 스레드마다 HTTP 요청 하나씩을 막고 기다린다. 디스패처는 요청을 제한된 대기열에 넣고 바로 반환하며,
+ * 발송 스레드 하나가 대기열을 비워 최대 batch-size(최대 500) 건씩 sendEach 로 보낸다.
+ * - 첫 요청 이후 linger-ms 동안 배치가 차기를 기다려, 몰릴 때는 큰 배치로 보내고 한가할 때는 지연을 짧게 유지한다.
+ * - 일시적 실패(서버 오류/할당량 초과/네트워크)는 지수 백오프로 max-attempts 까지 다시 대기열에 넣는다.
+ * - 해지/만료된 토큰은 알림 설정(과 설정 캐시)에서 일괄 삭제하고, 성공한 알림 내역은 일괄로 fcm_sent 처리한다.
+ * - 대기열이 가득 차면 요청을 버리고 notification.push.rejected 로 집계한다. (호출 스레드를 막지 않음)
+ * - 급한 요청(채팅 메시지 푸시)은 대기열 앞에 넣고 대기열의 10% 를 따로 남겨두어,
+ *   마감 임박 알림이 몰려도 채팅 푸시가 그 뒤에서 기다리거나 버려지지 않게 한다.
+ */
+@Slf4j
+@Component
+public class FcmPushDispatcher {
+
+    // FCM sendEach 1회 최대 메시지 수
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final long IDLE_POLL_MILLIS = 1000;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+    // 급한 요청용으로 남겨두는 대기열 비율 (1/10)
+    private static final int URGENT_RESERVE_DIVISOR = 10;
+
+    private final PushSender pushSender;
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationHistoryRepository notificationHistoryRepository;
+    private final NotificationSettingCache notificationSettingCache;
+    private final BlockingDeque<PushRequest> queue;
+    // 일반 요청이 채울 수 있는 최대 대기열 크기
+    private final int normalCapacity;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long maxBackoffMillis;
+    private final ScheduledExecutorService retryScheduler;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+    private final Counter rejectedCounter;
+    private final Counter prunedTokenCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    @Autowired
+    public FcmPushDispatcher(PushSender pushSender,
+                             NotificationSettingRepository notificationSettingRepository,
+                             NotificationHistoryRepository notificationHistoryRepository,
+                             NotificationSettingCache notificationSettingCache,
+                             MeterRegistry meterRegistry,
+                             @Value("${notification.push.queue-capacity:10000}") int queueCapacity,
+                             @Value("${notification.push.batch-size:500}") int batchSize,
+                             @Value("${notification.push.linger-ms:50}") long lingerMillis,
+                             @Value("${notification.push.max-attempts:3}") int maxAttempts,
+                             @Value("${notification.push.retry-backoff-ms:1000}") long retryBackoffMillis,
+                             @Value("${notification.push.max-backoff-ms:30000}") long maxBackoffMillis) {
+        this(pushSender, notificationSettingRepository, notificationHistoryRepository, notificationSettingCache, meterRegistry,
+                queueCapacity, batchSize, lingerMillis, maxAttempts, retryBackoffMillis, maxBackoffMillis,
+                Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "fcm-push-retry");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    FcmPushDispatcher(PushSender pushSender,
+                      NotificationSettingRepository notificationSettingRepository,
+                      NotificationHistoryRepository notificationHistoryRepository,
+                      NotificationSettingCache notificationSettingCache,
+                      MeterRegistry meterRegistry,
+                      int queueCapacity, int batchSize, long lingerMillis,
+                      int maxAttempts, long retryBackoffMillis, long maxBackoffMillis,
+                      ScheduledExecutorService retryScheduler) {
+        this.pushSender = pushSender;
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.notificationHistoryRepository = notificationHistoryRepository;
+        this.notificationSettingCache = notificationSettingCache;
+        this.queue = new LinkedBlockingDeque<>(queueCapacity);
+        this.normalCapacity = queueCapacity - queueCapacity / URGENT_RESERVE_DIVISOR;
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        this.lingerMillis = lingerMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retryScheduler = retryScheduler;
+
+        this.sentCounter = Counter.builder("notification.push.sent")
+                .description("FCM 발송 성공 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.push.failed")
+                .description("재시도 없이 실패 처리한 FCM 발송 수 (토큰 무효/재시도 한도 초과 포함)")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("notification.push.retried")
+                .description("백오프 후 재시도로 다시 대기열에 넣은 FCM 발송 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("notification.push.rejected")
+                .description("대기열이 가득 차 버린 FCM 발송 요청 수")
+                .register(meterRegistry);
+        this.prunedTokenCounter = Counter.builder("notification.push.pruned.tokens")
+                .description("무효 응답을 받아 알림 설정에서 삭제한 FCM 토큰 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.push.batch.size")
+                .description("sendEach 1회당 메시지 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.push.batch")
+                .description("sendEach 1회 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("notification.push.queue", queue, BlockingQueue::size)
+                .description("발송 대기 중인 FCM 요청 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "fcm-push-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 - 재시도 예약은 버리고 대기열에 남은 요청은 발송 스레드가 마저 보낸다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        List<Runnable> pendingRetries = retryScheduler.shutdownNow();
+        if (!pendingRetries.isEmpty()) {
+            log.warn("종료로 FCM 재시도 {}건을 발송하지 못했습니다.", pendingRetries.size());
+        }
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * 발송 요청 (호출자 트랜잭션이 있으면 커밋 후 대기열에 넣음)
+     */
+    public void submit(PushRequest request) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(request);
+                }
+            });
+        } else {
+            enqueue(request);
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    boolean enqueue(PushRequest request) {
+        boolean queued = request.isUrgent()
+                ? queue.offerFirst(request)
+                : queue.size() < normalCapacity && queue.offerLast(request);
+        if (!queued) {
+            rejectedCounter.increment();
+            log.warn("FCM 발송 대기열이 가득 차 푸시를 버립니다. notificationId: {}", request.getNotificationId());
+            return false;
+        }
+        return true;
+    }
+
+    private void runWorker() {
+        List<PushRequest> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PushRequest first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("FCM 발송 스레드 중단: 미발송 {}건", batch.size() + queue.size());
+                return;
+            }
+
+            try {
+                dispatch(batch);
+            } catch (RuntimeException e) {
+                log.error("FCM 배치 처리 실패: size={}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 요청 이후 linger-ms 동안 배치가 차기를 기다림
+     */
+    private void fillBatch(List<PushRequest> batch) throws InterruptedException {
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PushRequest next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * 배치 하나 발송 후 결과 반영
+     */
+    void dispatch(List<PushRequest> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (PushRequest request : batch) {
+            request.markAttempt();
+            messages.add(request.getMessage());
+        }
+
+        List<PushOutcome> outcomes;
+        Timer.Sample sample = Timer.start();
+        try {
+            outcomes = pushSender.sendEach(messages);
+        } catch (RuntimeException e) {
+            log.error("FCM 일괄 발송 중 예외 발생: size={}, error={}", batch.size(), e.getMessage());
+            outcomes = Collections.nCopies(batch.size(), PushOutcome.RETRY);
+        }
+        sample.stop(batchTimer);
+        batchSizeSummary.record(batch.size());
+
+        List<Long> sentNotificationIds = new ArrayList<>();
+        Set<String> invalidTokens = new HashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PushRequest request = batch.get(i);
+            switch (outcomes.get(i)) {
+                case SENT:
+                    sentCounter.increment();
+                    if (request.getNotificationId() != null) {
+                        sentNotificationIds.add(request.getNotificationId());
+                    }
+                    break;
+                case RETRY:
+                    scheduleRetry(request);
+                    break;
+                case INVALID_TOKEN:
+                    failedCounter.increment();
+                    invalidTokens.add(request.getToken());
+                    break;
+                default:
+                    failedCounter.increment();
+                    break;
+            }
+        }
+
+        markSent(sentNotificationIds);
+        pruneTokens(invalidTokens);
+    }
+
+    private void scheduleRetry(PushRequest request) {
+        if (request.getAttempts() >= maxAttempts) {
+            failedCounter.increment();
+            log.warn("FCM 발송 재시도 한도 초과. notificationId: {}, attempts: {}",
+                    request.getNotificationId(), request.getAttempts());
+            return;
+        }
+
+        long delay = Math.min(retryBackoffMillis << Math.min(request.getAttempts() - 1, MAX_BACKOFF_SHIFT), maxBackoffMillis);
+        try {
+            retryScheduler.schedule(() -> enqueue(request), delay, TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            failedCounter.increment();
+        }
+    }
+
+    private void markSent(List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        try {
+            notificationHistoryRepository.markFcmSentByIds(notificationIds);
+        } catch (Exception e) {
+            log.error("FCM 발송 완료 표시 실패: count={}, error={}", notificationIds.size(), e.getMessage());
+        }
+    }
+
+    private void pruneTokens(Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        try {
+            int cleared = notificationSettingRepository.clearFcmTokens(tokens);
+            notificationSettingCache.invalidateTokens(tokens);
+            prunedTokenCounter.increment(cleared);
+            log.info("유효하지 않은 FCM 토큰 삭제: {}건", cleared);
+        } catch (Exception e) {
+            log.error("유효하지 않은 FCM 토큰 삭제 실패: count={}, error={}", tokens.size(), e.getMessage());
+        }
+    }
+}
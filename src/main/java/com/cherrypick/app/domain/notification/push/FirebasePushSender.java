@@ -0,0 +1,80 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Firebase Admin SDK sendEach 기반 발송
+ *
+ * sendEach 는 메시지마다 HTTP v1 요청을 보내되 SDK 스레드 풀에서 동시에 처리하므로,
+ * 배치 하나의 소요 시간은 메시지 수가 아니라 가장 느린 요청 하나에 가깝다.
+ */
+@Slf4j
+@Component
+public class FirebasePushSender implements PushSender {
+
+    @Override
+    public List<PushOutcome> sendEach(List<Message> messages) {
+        if (FirebaseApp.getApps().isEmpty()) {
+            log.warn("Firebase가 초기화되지 않았습니다. 푸시 알림 {}건을 발송할 수 없습니다.", messages.size());
+            return Collections.nCopies(messages.size(), PushOutcome.FAILED);
+        }
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance().sendEach(messages);
+            List<PushOutcome> outcomes = new ArrayList<>(messages.size());
+            for (SendResponse sendResponse : response.getResponses()) {
+                if (sendResponse.isSuccessful()) {
+                    outcomes.add(PushOutcome.SENT);
+                } else {
+                    FirebaseMessagingException e = sendResponse.getException();
+                    log.debug("FCM 푸시 발송 실패: errorCode={}, error={}", e.getMessagingErrorCode(), e.getMessage());
+                    outcomes.add(classify(e.getMessagingErrorCode()));
+                }
+            }
+            log.debug("FCM 일괄 발송 완료: 성공 {}건, 실패 {}건", response.getSuccessCount(), response.getFailureCount());
+            return outcomes;
+
+        } catch (FirebaseMessagingException e) {
+            // 요청 전체 실패 - 특정 토큰의 문제가 아니므로 토큰은 삭제하지 않음
+            log.error("FCM 일괄 발송 실패: size={}, errorCode={}, error={}",
+                    messages.size(), e.getMessagingErrorCode(), e.getMessage());
+            PushOutcome outcome = classify(e.getMessagingErrorCode());
+            return Collections.nCopies(messages.size(), outcome == PushOutcome.INVALID_TOKEN ? PushOutcome.FAILED : outcome);
+        }
+    }
+
+    /**
+     * FCM 오류 코드별 처리 방식
+     * INVALID_ARGUMENT 는 토큰 형식 오류뿐 아니라 페이로드 크기 초과 등 메시지 자체의 문제로도 오므로
+     * 토큰을 지우지 않고 해당 메시지만 실패 처리한다. 토큰 삭제는 FCM 이 토큰 해지를 확정한 경우에만 한다.
+     */
+    static PushOutcome classify(MessagingErrorCode errorCode) {
+        if (errorCode == null) {
+            // 오류 코드가 없는 실패는 네트워크 오류
+            return PushOutcome.RETRY;
+        }
+        switch (errorCode) {
+            case UNREGISTERED:
+            case SENDER_ID_MISMATCH:
+                return PushOutcome.INVALID_TOKEN;
+            case UNAVAILABLE:
+            case INTERNAL:
+            case QUOTA_EXCEEDED:
+                return PushOutcome.RETRY;
+            default:
+                return PushOutcome.FAILED;
+        }
+    }
+}
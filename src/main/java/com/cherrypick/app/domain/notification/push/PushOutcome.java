@@ -0,0 +1,15 @@
+package com.cherrypick.app.domain.notification.push;
+
+/**
+ * 메시지별 FCM 발송 결과
+ */
+public enum PushOutcome {
+    /** 발송 성공 */
+    SENT,
+    /** 일시적 실패 (FCM 서버 오류, 할당량 초과, 네트워크 오류) - 백오프 후 재시도 */
+    RETRY,
+    /** 만료/해지되었거나 다른 프로젝트에 등록된 토큰 - 알림 설정에서 토큰 삭제 */
+    INVALID_TOKEN,
+    /** 재시도해도 성공할 수 없는 실패 (인증 설정 오류, 잘못된 메시지 등) - 토큰은 유지 */
+    FAILED
+}
@@ -0,0 +1,38 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.google.firebase.messaging.Message;
+import lombok.Getter;
+
+/**
+ * FCM 발송 요청 (토큰 하나에 보낼 메시지)
+ */
+@Getter
+public class PushRequest {
+
+    private final String token;
+    private final Message message;
+
+    // 발송 성공 시 fcm_sent 로 표시할 알림 내역 ID (내역을 남기지 않는 채팅 푸시는 null)
+    private final Long notificationId;
+
+    // 대량 알림보다 먼저 보낼 요청 (채팅 메시지 푸시)
+    private final boolean urgent;
+
+    // 발송 시도 횟수 (디스패처 스레드에서만 변경)
+    private int attempts;
+
+    public PushRequest(String token, Message message, Long notificationId) {
+        this(token, message, notificationId, false);
+    }
+
+    public PushRequest(String token, Message message, Long notificationId, boolean urgent) {
+        this.token = token;
+        this.message = message;
+        this.notificationId = notificationId;
+        this.urgent = urgent;
+    }
+
+    void markAttempt() {
+        attempts++;
+    }
+}
@@ -0,0 +1,19 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.google.firebase.messaging.Message;
+
+import java.util.List;
+
+/**
+ * FCM 일괄 발송 (FcmPushDispatcher 가 모은 배치를 한 번에 보냄)
+ */
+public interface PushSender {
+
+    /**
+     * 메시지 일괄 발송
+     *
+     * @param messages 최대 FcmPushDispatcher.MAX_BATCH_SIZE 개
+     * @return 입력과 같은 순서의 메시지별 결과
+     */
+    List<PushOutcome> sendEach(List<Message> messages);
+}
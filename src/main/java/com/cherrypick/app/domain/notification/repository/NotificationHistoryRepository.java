@@ -9,6 +9,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
 
 /**
  * 알림 히스토리 리포지토리
@@ -49,4 +52,12 @@ public interface NotificationHistoryRepository extends JpaRepository<Notificatio
     @Modifying
     @Query("DELETE FROM NotificationHistory n WHERE n.user.id = :userId")
     int deleteAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * FCM 발송 완료 일괄 표시 (FCM 발송 스레드에서 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationHistory n SET n.fcmSent = true WHERE n.id IN :ids")
+    int markFcmSentByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -2,8 +2,14 @@ package com.cherrypick.app.domain.notification.repository;
 
 import com.cherrypick.app.domain.notification.entity.NotificationSetting;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,9 +22,22 @@ public interface NotificationSettingRepository extends JpaRepository<Notificatio
      * 사용자별 알림 설정 조회
      */
     Optional<NotificationSetting> findByUserId(Long userId);
+
+    /**
+     * 여러 사용자의 알림 설정 일괄 조회 (알림 일괄 저장 시 IN 쿼리 한 번)
+     */
+    List<NotificationSetting> findByUserIdIn(Collection<Long> userIds);
     
     /**
      * FCM 토큰으로 알림 설정 조회
      */
     Optional<NotificationSetting> findByFcmToken(String fcmToken);
+
+    /**
+     * 유효하지 않은 FCM 토큰 일괄 삭제 (FCM 발송 스레드에서 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationSetting s SET s.fcmToken = null WHERE s.fcmToken IN :tokens")
+    int clearFcmTokens(@Param("tokens") Collection<String> tokens);
 }
\ No newline at end of file
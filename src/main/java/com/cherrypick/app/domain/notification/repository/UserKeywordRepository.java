@@ -2,6 +2,7 @@ package com.cherrypick.app.domain.notification.repository;
 
 import com.cherrypick.app.domain.auction.enums.Category;
 import com.cherrypick.app.domain.notification.entity.UserKeyword;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,6 +34,22 @@ public interface UserKeywordRepository extends JpaRepository<UserKeyword, Long>
             @Param("auctionTitle") String auctionTitle,
             @Param("category") Category category);
 
+    /**
+     * ID 순 활성 키워드 조회 (키워드 색인 적재용, 엔티티 적재 없이)
+     */
+    @Query("SELECT uk.id AS id, uk.user.id AS userId, uk.keyword AS keyword, uk.category AS category " +
+           "FROM UserKeyword uk " +
+           "WHERE uk.isActive = true AND uk.id > :afterId " +
+           "ORDER BY uk.id")
+    List<ActiveKeyword> findActiveKeywordsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface ActiveKeyword {
+        Long getId();
+        Long getUserId();
+        String getKeyword();
+        Category getCategory();
+    }
+
     /**
      * 특정 키워드가 포함된 활성 사용자 키워드 조회 (정확한 키워드 매칭)
      */
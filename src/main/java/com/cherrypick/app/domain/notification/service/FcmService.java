@@ -1,16 +1,18 @@
 package com.cherrypick.app.domain.notification.service;
 
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
+import com.cherrypick.app.domain.notification.cache.NotificationSettingSnapshot;
 import com.cherrypick.app.domain.notification.entity.NotificationHistory;
 import com.cherrypick.app.domain.notification.entity.NotificationSetting;
 import com.cherrypick.app.domain.notification.enums.NotificationType;
+import com.cherrypick.app.domain.notification.push.FcmPushDispatcher;
+import com.cherrypick.app.domain.notification.push.PushRequest;
 import com.cherrypick.app.domain.notification.repository.NotificationHistoryRepository;
 import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
 import com.cherrypick.app.domain.user.entity.User;
 import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
 import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
 import com.google.firebase.FirebaseApp;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.Notification;
 import com.google.firebase.messaging.AndroidConfig;
@@ -34,6 +36,8 @@ public class FcmService {
     private final NotificationSettingRepository notificationSettingRepository;
     private final NotificationHistoryRepository notificationHistoryRepository;
     private final WebSocketMessagingService webSocketMessagingService;
+    private final FcmPushDispatcher fcmPushDispatcher;
+    private final NotificationSettingCache notificationSettingCache;
     
     /**
      * 연결 서비스 결제 요청 알림 (판매자용)
@@ -41,7 +45,7 @@ public class FcmService {
     @Transactional
     public void sendConnectionPaymentRequestNotification(User seller, Long connectionId, String auctionTitle) {
         // 알림 설정 확인
-        NotificationSetting setting = getOrCreateNotificationSetting(seller);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(seller);
         if (!setting.getConnectionPaymentNotification()) {
             log.info("연결 서비스 결제 요청 알림이 비활성화되어 있습니다. userId: {}", seller.getId());
             return;
@@ -70,7 +74,7 @@ public class FcmService {
     @Transactional
     public void sendChatActivationNotification(User buyer, Long connectionId, String auctionTitle) {
         // 알림 설정 확인
-        NotificationSetting setting = getOrCreateNotificationSetting(buyer);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(buyer);
         if (!setting.getChatActivationNotification()) {
             log.info("채팅 활성화 알림이 비활성화되어 있습니다. userId: {}", buyer.getId());
             return;
@@ -98,7 +102,7 @@ public class FcmService {
      */
     @Transactional
     public void sendNewBidNotification(User seller, Long auctionId, String auctionTitle, Long bidAmount) {
-        NotificationSetting setting = getOrCreateNotificationSetting(seller);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(seller);
         if (!setting.getBidNotification()) {
             return;
         }
@@ -121,7 +125,7 @@ public class FcmService {
      */
     @Transactional
     public void sendAuctionWonNotification(User buyer, Long auctionId, String auctionTitle, Long finalPrice, String sellerNickname) {
-        NotificationSetting setting = getOrCreateNotificationSetting(buyer);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(buyer);
         if (!setting.getWinningNotification()) {
             return;
         }
@@ -144,7 +148,7 @@ public class FcmService {
      */
     @Transactional
     public void sendAuctionSoldNotification(User seller, Long auctionId, String auctionTitle, Long finalPrice, String buyerNickname) {
-        NotificationSetting setting = getOrCreateNotificationSetting(seller);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(seller);
         if (!setting.getBidNotification()) {
             return;
         }
@@ -167,7 +171,7 @@ public class FcmService {
      */
     @Transactional
     public void sendTransactionCompletedNotification(User user, Long connectionId, String auctionTitle, boolean isSeller) {
-        NotificationSetting setting = getOrCreateNotificationSetting(user);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(user);
         if (!setting.getTransactionCompletionNotification()) {
             return;
         }
@@ -203,19 +207,21 @@ public class FcmService {
         if (setting != null) {
             setting.updateFcmToken(fcmToken);
             notificationSettingRepository.save(setting);
+            notificationSettingCache.invalidate(userId);
             log.info("FCM 토큰 업데이트 완료. userId: {}", userId);
         }
     }
     
     /**
-     * 알림 설정 조회 또는 생성
+     * 알림 설정 조회 또는 생성 (캐시 우선)
      */
-    private NotificationSetting getOrCreateNotificationSetting(User user) {
-        return notificationSettingRepository.findByUserId(user.getId())
-                .orElseGet(() -> {
-                    NotificationSetting setting = NotificationSetting.createDefaultSetting(user);
-                    return notificationSettingRepository.save(setting);
-                });
+    private NotificationSettingSnapshot getOrCreateNotificationSetting(User user) {
+        NotificationSettingSnapshot cached = notificationSettingCache.get(user.getId());
+        if (cached != null) {
+            return cached;
+        }
+        NotificationSetting setting = NotificationSetting.createDefaultSetting(user);
+        return NotificationSettingSnapshot.from(notificationSettingRepository.save(setting));
     }
     
     /**
@@ -290,7 +296,7 @@ public class FcmService {
     @Transactional
     public void sendOutbidNotification(User previousBidder, Long auctionId, String auctionTitle,
                                         Long previousBidAmount, Long newBidAmount, String newBidderNickname, int outbidCount) {
-        NotificationSetting setting = getOrCreateNotificationSetting(previousBidder);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(previousBidder);
         if (!setting.getOutbidNotification()) {
             log.debug("Outbid 알림이 비활성화되어 있습니다. userId: {}", previousBidder.getId());
             return;
@@ -334,7 +340,7 @@ public class FcmService {
     @Transactional
     public void sendEndingSoonNotification(User user, Long auctionId, String auctionTitle,
                                             Long currentPrice, int minutesRemaining) {
-        NotificationSetting setting = getOrCreateNotificationSetting(user);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(user);
         if (!setting.getEndingSoonNotification()) {
             log.debug("마감 임박 알림이 비활성화되어 있습니다. userId: {}", user.getId());
             return;
@@ -372,7 +378,7 @@ public class FcmService {
     @Transactional
     public void sendKeywordAlertNotification(User user, Long auctionId, String auctionTitle,
                                               String matchedKeyword, Long startingPrice) {
-        NotificationSetting setting = getOrCreateNotificationSetting(user);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(user);
         if (!setting.getKeywordNotification()) {
             log.debug("키워드 알림이 비활성화되어 있습니다. userId: {}", user.getId());
             return;
@@ -403,7 +409,7 @@ public class FcmService {
      */
     @Transactional
     public void sendAuctionExtendedNotification(User bidder, Long auctionId, String auctionTitle) {
-        NotificationSetting setting = getOrCreateNotificationSetting(bidder);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(bidder);
         if (!setting.getBidNotification()) {
             log.debug("입찰 알림이 비활성화되어 있습니다. userId: {}", bidder.getId());
             return;
@@ -433,7 +439,7 @@ public class FcmService {
      */
     @Transactional
     public void sendNewMessageNotification(User receiver, Long chatRoomId, String senderNickname, String messagePreview) {
-        NotificationSetting setting = getOrCreateNotificationSetting(receiver);
+        NotificationSettingSnapshot setting = getOrCreateNotificationSetting(receiver);
         if (!setting.getMessageNotification()) {
             log.debug("메시지 알림이 비활성화되어 있습니다. userId: {}", receiver.getId());
             return;
@@ -494,13 +500,13 @@ public class FcmService {
                     .putData("resourceId", String.valueOf(chatRoomId))
                     .putData("id", String.valueOf(chatRoomId));
 
-            // FCM 메시지 발송
-            String response = FirebaseMessaging.getInstance().send(messageBuilder.build());
+            // FCM 발송 대기열 앞쪽에 등록 (대량 알림보다 먼저 발송)
+            fcmPushDispatcher.submit(new PushRequest(fcmToken, messageBuilder.build(), null, true));
 
-            log.info("FCM Chat Push 발송 성공: messageId={}", response);
+            log.debug("FCM Chat Push 발송 요청: chatRoomId={}", chatRoomId);
 
         } catch (Exception e) {
-            log.error("FCM Chat Push 발송 실패: error={}", e.getMessage());
+            log.error("FCM Chat Push 발송 요청 실패: error={}", e.getMessage());
         }
     }
 
@@ -593,32 +599,13 @@ public class FcmService {
             }
             messageBuilder.putData("notificationId", String.valueOf(notification.getId()));
 
-            // FCM 메시지 발송
-            String response = FirebaseMessaging.getInstance().send(messageBuilder.build());
-
-            log.info("FCM 푸시 발송 성공: messageId={}, title={}", response, title);
-
-            // 발송 성공 처리 (불변 객체 패턴)
-            NotificationHistory updatedNotification = notification.markFcmSent();
-            notificationHistoryRepository.save(updatedNotification);
+            // FCM 발송 대기열에 등록 (일괄 발송, 성공 시 발송 스레드에서 fcm_sent 표시)
+            fcmPushDispatcher.submit(new PushRequest(fcmToken, messageBuilder.build(), notification.getId()));
 
-        } catch (FirebaseMessagingException e) {
-            log.error("FCM 푸시 발송 실패. notificationId: {}, errorCode: {}, error: {}",
-                    notification.getId(), e.getMessagingErrorCode(), e.getMessage());
+            log.debug("FCM 푸시 발송 요청: notificationId={}, title={}", notification.getId(), title);
 
-            // 토큰이 유효하지 않은 경우 처리
-            if (e.getMessagingErrorCode() != null) {
-                switch (e.getMessagingErrorCode()) {
-                    case UNREGISTERED:
-                    case INVALID_ARGUMENT:
-                        log.warn("유효하지 않은 FCM 토큰입니다. 토큰 삭제가 필요합니다.");
-                        break;
-                    default:
-                        break;
-                }
-            }
         } catch (Exception e) {
-            log.error("FCM 푸시 발송 중 예외 발생. notificationId: {}, error: {}", notification.getId(), e.getMessage());
+            log.error("FCM 푸시 발송 요청 중 예외 발생. notificationId: {}, error: {}", notification.getId(), e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -1,9 +1,12 @@
 package com.cherrypick.app.domain.notification.service;
 
+import com.cherrypick.app.config.AsyncConfig;
 import com.cherrypick.app.domain.auction.entity.Auction;
 import com.cherrypick.app.domain.auction.enums.Category;
 import com.cherrypick.app.domain.notification.entity.UserKeyword;
 import com.cherrypick.app.domain.notification.event.KeywordAlertEvent;
+import com.cherrypick.app.domain.notification.keyword.KeywordSubscription;
+import com.cherrypick.app.domain.notification.keyword.UserKeywordIndex;
 import com.cherrypick.app.domain.notification.repository.UserKeywordRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +22,7 @@ import java.util.Set;
 /**
  * 키워드 알림 서비스
  * 경매 생성 시 비동기로 키워드 매칭 및 알림 발송
+ * 매칭은 메모리 키워드 색인(UserKeywordIndex)으로 하며, 최초 적재 전에만 DB LIKE 쿼리를 사용한다.
  */
 @Slf4j
 @Service
@@ -28,20 +32,20 @@ public class KeywordAlertService {
     private final UserKeywordRepository userKeywordRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final NotificationThrottleService throttleService;
+    private final UserKeywordIndex userKeywordIndex;
 
     /**
      * 경매 생성 시 키워드 알림 처리 (비동기)
      * API 응답 시간에 영향을 주지 않도록 비동기 처리
      */
-    @Async
-    @Transactional(readOnly = true)
+    @Async(AsyncConfig.KEYWORD_MATCH_EXECUTOR)
     public void processKeywordAlerts(Auction auction) {
         log.info("🔔 [키워드 알림 처리 시작] auctionId={}, title={}, category={}",
                 auction.getId(), auction.getTitle(), auction.getCategory());
 
         try {
             // 1. 경매 제목에서 키워드 추출 및 매칭
-            List<UserKeyword> matchedKeywords = findMatchingKeywords(
+            List<KeywordSubscription> matchedKeywords = findMatchingKeywords(
                     auction.getTitle(),
                     auction.getCategory()
             );
@@ -56,8 +60,8 @@ public class KeywordAlertService {
             // 2. 중복 사용자 제거 (한 사용자에게 하나의 알림만)
             Set<Long> notifiedUserIds = new HashSet<>();
 
-            for (UserKeyword userKeyword : matchedKeywords) {
-                Long userId = userKeyword.getUser().getId();
+            for (KeywordSubscription userKeyword : matchedKeywords) {
+                Long userId = userKeyword.getUserId();
 
                 // 판매자 본인 제외
                 if (userId.equals(auction.getSeller().getId())) {
@@ -103,12 +107,17 @@ public class KeywordAlertService {
     /**
      * 경매 제목과 매칭되는 사용자 키워드 조회
      */
-    private List<UserKeyword> findMatchingKeywords(String auctionTitle, Category category) {
-        // 제목을 소문자로 변환하여 검색
-        String lowerTitle = auctionTitle.toLowerCase();
+    private List<KeywordSubscription> findMatchingKeywords(String auctionTitle, Category category) {
+        // 제목을 한 번 훑어 포함된 키워드의 구독자 조회
+        if (userKeywordIndex.isReady()) {
+            return userKeywordIndex.findMatches(auctionTitle, category);
+        }
 
-        // 활성화된 모든 키워드 중 제목에 포함된 것 조회
-        return userKeywordRepository.findMatchingKeywords(lowerTitle, category);
+        // 색인 적재 전: 제목을 소문자로 변환하여 활성화된 모든 키워드 중 제목에 포함된 것 조회
+        String lowerTitle = auctionTitle.toLowerCase();
+        return userKeywordRepository.findMatchingKeywords(lowerTitle, category).stream()
+                .map(KeywordSubscription::from)
+                .toList();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.cherrypick.app.domain.notification.service;
 
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
 import com.cherrypick.app.domain.notification.dto.request.UpdateNotificationSettingRequest;
 import com.cherrypick.app.domain.notification.dto.response.NotificationHistoryResponse;
 import com.cherrypick.app.domain.notification.dto.response.NotificationSettingResponse;
@@ -29,6 +30,7 @@ public class NotificationService {
     private final NotificationSettingRepository notificationSettingRepository;
     private final NotificationHistoryRepository notificationHistoryRepository;
     private final UserRepository userRepository;
+    private final NotificationSettingCache notificationSettingCache;
 
     /**
      * 사용자 알림 설정 조회
@@ -70,6 +72,7 @@ public class NotificationService {
         );
 
         NotificationSetting savedSetting = notificationSettingRepository.save(updatedSetting);
+        notificationSettingCache.invalidate(userId);
         
         return NotificationSettingResponse.from(savedSetting);
     }
@@ -88,6 +91,7 @@ public class NotificationService {
 
         NotificationSetting updatedSetting = setting.updateFcmToken(fcmToken);
         notificationSettingRepository.save(updatedSetting);
+        notificationSettingCache.invalidate(userId);
     }
 
     /**
@@ -160,6 +164,7 @@ public class NotificationService {
 
         NotificationSetting updatedSetting = setting.disableAllNotifications();
         NotificationSetting savedSetting = notificationSettingRepository.save(updatedSetting);
+        notificationSettingCache.invalidate(userId);
         
         return NotificationSettingResponse.from(savedSetting);
     }
@@ -178,6 +183,7 @@ public class NotificationService {
 
         NotificationSetting updatedSetting = setting.enableEssentialNotificationsOnly();
         NotificationSetting savedSetting = notificationSettingRepository.save(updatedSetting);
+        notificationSettingCache.invalidate(userId);
 
         return NotificationSettingResponse.from(savedSetting);
     }
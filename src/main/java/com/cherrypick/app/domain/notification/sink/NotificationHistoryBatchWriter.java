@@ -0,0 +1,85 @@
+package com.cherrypick.app.domain.notification.sink;
+
+import com.cherrypick.app.domain.notification.entity.NotificationHistory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림 내역 JDBC 일괄 저장
+ *
+ * JPA save 는 엔티티마다 INSERT 를 한 번씩 보내므로, 시퀀스에서 ID 를 미리 받아 한 번의 배치 INSERT 로 저장한다.
+ * ID 구간은 Hibernate pooled 최적화기와 같은 규칙(nextval 값 v → (v - 49) ~ v)으로 나눠 써서
+ * JPA 로 저장하는 다른 알림 내역과 ID 가 겹치지 않는다. 호출자 트랜잭션 안에서 실행해야 한다.
+ */
+@Component
+public class NotificationHistoryBatchWriter {
+
+    private static final String NEXT_ID_BLOCKS_SQL =
+            "SELECT nextval('notification_history_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification_history "
+                    + "(id, user_id, type, title, message, resource_id, chat_room_id, is_read, fcm_sent, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, false, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationHistoryBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * ID 를 지정해 일괄 저장 (쿼리 2번: 시퀀스 구간 확보 + 배치 INSERT)
+     */
+    public List<NotificationHistory> insertAll(List<NotificationHistory> notifications) {
+        if (notifications.isEmpty()) {
+            return notifications;
+        }
+
+        List<Long> ids = allocateIds(notifications.size());
+        List<NotificationHistory> saved = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            saved.add(notifications.get(i).withId(ids.get(i)));
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(saved.size());
+        for (NotificationHistory notification : saved) {
+            batchArgs.add(new Object[]{
+                    notification.getId(),
+                    notification.getUser().getId(),
+                    notification.getType().name(),
+                    notification.getTitle(),
+                    notification.getMessage(),
+                    notification.getResourceId(),
+                    notification.getChatRoomId(),
+                    now,
+                    now
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+        return saved;
+    }
+
+    /**
+     * count 개의 ID 확보 (nextval 한 번당 ID_ALLOCATION_SIZE 개)
+     */
+    List<Long> allocateIds(int count) {
+        int blockSize = NotificationHistory.ID_ALLOCATION_SIZE;
+        int blocks = (count + blockSize - 1) / blockSize;
+        List<Long> highValues = jdbcTemplate.queryForList(NEXT_ID_BLOCKS_SQL, Long.class, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long high : highValues) {
+            for (long id = high - blockSize + 1; id <= high && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,502 @@
+package com.cherrypick.app.domain.notification.sink;
+
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
+import com.cherrypick.app.domain.notification.cache.NotificationSettingSnapshot;
+import com.cherrypick.app.domain.notification.entity.NotificationHistory;
+import com.cherrypick.app.domain.notification.entity.NotificationSetting;
+import com.cherrypick.app.domain.notification.enums.NotificationType;
+import com.cherrypick.app.domain.notification.event.*;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.cherrypick.app.domain.notification.service.FcmService;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 일괄 저장/발송 싱크
+ *
+ * 알림 이벤트마다 트랜잭션을 열어 사용자 조회 → 알림 설정 조회 → 알림 내역 INSERT 를 하면
+ * 1,000명에게 퍼지는 알림이 DB 왕복 약 3,000번과 커밋 1,000번이 된다.
+ * 싱크는 이벤트를 대기열에 모았다가 저장 스레드가 최대 batch-size 건씩 꺼내
+ * - 사용자를 IN 쿼리 한 번으로 조회하고, 알림 설정은 캐시에 없는 사용자만 IN 쿼리로 읽음 (설정이 없는 사용자만 기본 설정 생성)
+ * - 알림 내역을 시퀀스 ID + JDBC 배치 INSERT 로 저장해 배치당 한 번 커밋한 뒤
+ * - 커밋된 알림만 FCM 발송 대기열과 WebSocket 으로 내보낸다.
+ * 첫 이벤트 이후 linger-ms 동안 배치가 차기를 기다린다. 배치 저장이 실패하면 이벤트마다 따로 저장해
+ * 문제가 된 알림만 버린다. 대기열이 가득 차면 이벤트를 버리고 notification.sink.rejected 로 집계한다.
+ *
+ * 대기열과 저장 스레드는 즉시 알림(낙찰/판매/거래 등)과 대량 알림(마감 임박/경매 종료 참여자/키워드)으로 나뉜다.
+ * 한 경매에 수천 명이 몰린 대량 알림이 대기열을 채우거나 배치를 오래 잡고 있어도
+ * 즉시 알림은 자기 대기열에서 따로 저장/발송된다. (AsyncConfig 의 알림 실행기 분리와 같은 기준)
+ */
+@Slf4j
+@Component
+public class NotificationSink {
+
+    private static final long IDLE_POLL_MILLIS = 1000;
+
+    private final UserRepository userRepository;
+    private final NotificationSettingRepository notificationSettingRepository;
+    private final NotificationSettingCache notificationSettingCache;
+    private final NotificationHistoryBatchWriter historyBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final FcmService fcmService;
+    private final WebSocketMessagingService webSocketMessagingService;
+    private final Lane interactiveLane;
+    private final Lane bulkLane;
+    private final int batchSize;
+    private final long lingerMillis;
+
+    private final Counter persistedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+
+    @Autowired
+    public NotificationSink(UserRepository userRepository,
+                            NotificationSettingRepository notificationSettingRepository,
+                            NotificationSettingCache notificationSettingCache,
+                            NotificationHistoryBatchWriter historyBatchWriter,
+                            TransactionTemplate transactionTemplate,
+                            FcmService fcmService,
+                            WebSocketMessagingService webSocketMessagingService,
+                            MeterRegistry meterRegistry,
+                            @Value("${notification.sink.interactive.queue-capacity:5000}") int interactiveQueueCapacity,
+                            @Value("${notification.sink.bulk.queue-capacity:20000}") int bulkQueueCapacity,
+                            @Value("${notification.sink.batch-size:500}") int batchSize,
+                            @Value("${notification.sink.linger-ms:50}") long lingerMillis) {
+        this.userRepository = userRepository;
+        this.notificationSettingRepository = notificationSettingRepository;
+        this.notificationSettingCache = notificationSettingCache;
+        this.historyBatchWriter = historyBatchWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.fcmService = fcmService;
+        this.webSocketMessagingService = webSocketMessagingService;
+        this.batchSize = Math.max(1, batchSize);
+        this.lingerMillis = lingerMillis;
+
+        this.persistedCounter = Counter.builder("notification.sink.persisted")
+                .description("저장 후 발송한 알림 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("notification.sink.skipped")
+                .description("수신 설정 꺼짐/사용자 없음으로 건너뛴 알림 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.sink.failed")
+                .description("저장에 실패해 버린 알림 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.sink.batch.size")
+                .description("커밋 1회당 알림 이벤트 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("notification.sink.batch")
+                .description("배치 하나 저장(조회 + INSERT + 커밋)에 걸린 시간")
+                .register(meterRegistry);
+        this.interactiveLane = new Lane("interactive", "notification-sink", interactiveQueueCapacity, meterRegistry);
+        this.bulkLane = new Lane("bulk", "notification-sink-bulk", bulkQueueCapacity, meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        interactiveLane.start();
+        bulkLane.start();
+    }
+
+    /**
+     * 종료 - 대기열에 남은 알림은 저장 스레드가 마저 저장/발송한다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // 두 저장 스레드가 동시에 남은 알림을 비우도록 먼저 모두 깨운 뒤 기다림
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        interactiveLane.awaitStop(deadline);
+        bulkLane.awaitStop(deadline);
+    }
+
+    /**
+     * 알림 이벤트 등록 (해당 대기열이 가득 차면 버리고 false)
+     */
+    public boolean submit(NotificationEvent event) {
+        return (isBulk(event) ? bulkLane : interactiveLane).offer(event);
+    }
+
+    /**
+     * 즉시 알림 대기열에 쌓인 이벤트 수
+     */
+    public int getQueueSize() {
+        return interactiveLane.queue.size();
+    }
+
+    /**
+     * 대량 알림 대기열에 쌓인 이벤트 수
+     */
+    public int getBulkQueueSize() {
+        return bulkLane.queue.size();
+    }
+
+    /**
+     * 한 번에 많은 사용자에게 퍼지는 알림인지 (BULK_NOTIFICATION_EXECUTOR 에서 처리하는 이벤트와 같음)
+     */
+    static boolean isBulk(NotificationEvent event) {
+        return event instanceof AuctionEndingSoonEvent
+                || event instanceof AuctionEndedForParticipantEvent
+                || event instanceof KeywordAlertEvent;
+    }
+
+    /**
+     * 배치 하나를 한 트랜잭션으로 저장하고, 커밋된 알림을 발송
+     */
+    void flush(List<NotificationEvent> batch) {
+        Timer.Sample sample = Timer.start();
+        List<Delivery> deliveries;
+        try {
+            deliveries = transactionTemplate.execute(status -> persist(batch));
+        } catch (RuntimeException e) {
+            log.error("알림 일괄 저장 실패 - 건별로 다시 저장합니다. size={}, error={}", batch.size(), e.getMessage());
+            deliveries = persistOneByOne(batch);
+        }
+        sample.stop(batchTimer);
+        batchSizeSummary.record(batch.size());
+
+        for (Delivery delivery : deliveries) {
+            sendFcmNotification(delivery);
+            sendWebSocketNotification(delivery.event().getTargetUserId(), delivery.event());
+        }
+        persistedCounter.increment(deliveries.size());
+        log.info("🔔 [알림 일괄 처리] 이벤트 {}건 → 저장/발송 {}건", batch.size(), deliveries.size());
+    }
+
+    private List<Delivery> persistOneByOne(List<NotificationEvent> batch) {
+        List<Delivery> deliveries = new ArrayList<>(batch.size());
+        for (NotificationEvent event : batch) {
+            try {
+                deliveries.addAll(transactionTemplate.execute(status -> persist(List.of(event))));
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("  - ❌ [알림 처리 오류] 이벤트: {}, 사용자 ID: {}, 오류: {}",
+                        event.getClass().getSimpleName(), event.getTargetUserId(), e.getMessage(), e);
+            }
+        }
+        return deliveries;
+    }
+
+    /**
+     * 사용자/설정 일괄 조회 → 수신 설정 확인 → 알림 내역 일괄 저장 (트랜잭션 안에서 실행)
+     */
+    private List<Delivery> persist(List<NotificationEvent> batch) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (NotificationEvent event : batch) {
+            userIds.add(event.getTargetUserId());
+        }
+
+        Map<Long, User> users = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            users.put(user.getId(), user);
+        }
+        Map<Long, NotificationSettingSnapshot> settings = loadOrCreateSettings(users);
+
+        List<NotificationEvent> accepted = new ArrayList<>(batch.size());
+        List<NotificationHistory> notifications = new ArrayList<>(batch.size());
+        for (NotificationEvent event : batch) {
+            User user = users.get(event.getTargetUserId());
+            if (user == null) {
+                skippedCounter.increment();
+                log.warn("  - ⏩ [알림 건너뜀] 사용자를 찾을 수 없습니다. userId: {}", event.getTargetUserId());
+                continue;
+            }
+
+            // 계정 복구 알림은 설정과 무관하게 항상 발송 (중요 알림)
+            NotificationSettingSnapshot setting = settings.get(user.getId());
+            if (!(event instanceof AccountRestoredEvent) && !setting.isEnabled(event.getNotificationType())) {
+                skippedCounter.increment();
+                log.debug("  - ⏩ [알림 건너뜀] 사용자 설정이 비활성화되어 있습니다. userId: {}, type: {}",
+                        user.getId(), event.getNotificationType());
+                continue;
+            }
+
+            Long chatRoomId = extractChatRoomId(event);
+            notifications.add(chatRoomId != null
+                    ? NotificationHistory.createNotificationWithChatRoom(
+                            user, event.getNotificationType(), event.getTitle(),
+                            event.getMessage(), event.getResourceId(), chatRoomId)
+                    : NotificationHistory.createNotification(
+                            user, event.getNotificationType(), event.getTitle(),
+                            event.getMessage(), event.getResourceId()));
+            accepted.add(event);
+        }
+
+        List<NotificationHistory> saved = historyBatchWriter.insertAll(notifications);
+        List<Delivery> deliveries = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            NotificationEvent event = accepted.get(i);
+            deliveries.add(new Delivery(event, saved.get(i), settings.get(event.getTargetUserId()).getFcmToken()));
+        }
+        return deliveries;
+    }
+
+    /**
+     * 알림 설정 일괄 조회 (캐시 우선), 설정이 없는 사용자는 기본 설정 생성
+     */
+    private Map<Long, NotificationSettingSnapshot> loadOrCreateSettings(Map<Long, User> users) {
+        if (users.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, NotificationSettingSnapshot> settings = new HashMap<>(notificationSettingCache.getAll(users.keySet()));
+
+        List<NotificationSetting> created = new ArrayList<>();
+        for (User user : users.values()) {
+            if (!settings.containsKey(user.getId())) {
+                created.add(NotificationSetting.createDefaultSetting(user));
+            }
+        }
+        if (!created.isEmpty()) {
+            for (NotificationSetting setting : notificationSettingRepository.saveAll(created)) {
+                settings.put(setting.getUser().getId(), NotificationSettingSnapshot.from(setting));
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * chatRoomId 추출 (경매 낙찰 또는 거래 관련 알림인 경우)
+     */
+    private Long extractChatRoomId(NotificationEvent event) {
+        if (event instanceof AuctionSoldNotificationEvent) {
+            return ((AuctionSoldNotificationEvent) event).getChatRoomId();
+        } else if (event instanceof AuctionWonNotificationEvent) {
+            return ((AuctionWonNotificationEvent) event).getChatRoomId();
+        } else if (event instanceof TransactionPendingNotificationEvent) {
+            return ((TransactionPendingNotificationEvent) event).getChatRoomId();
+        } else if (event instanceof TransactionCancelledNotificationEvent) {
+            return ((TransactionCancelledNotificationEvent) event).getChatRoomId();
+        }
+        return null;
+    }
+
+    /**
+     * FCM 푸시 알림 발송 (커밋 후 호출되므로 발송 대기열에 바로 들어감)
+     */
+    private void sendFcmNotification(Delivery delivery) {
+        String fcmToken = delivery.fcmToken();
+        if (fcmToken == null || fcmToken.isEmpty()) {
+            log.debug("  - ⚠️ [FCM 건너뜀] FCM 토큰이 없습니다. notificationId: {}", delivery.notification().getId());
+            return;
+        }
+
+        NotificationEvent event = delivery.event();
+        try {
+            fcmService.sendFcmPushWithDeepLink(
+                    fcmToken, event.getTitle(), event.getMessage(), delivery.notification(),
+                    event.getResourceId(), event.getNotificationType().name(),
+                    determineDeepLinkRoute(event.getNotificationType()));
+        } catch (Exception e) {
+            log.warn("  - ⚠️ [FCM 발송 실패] notificationId: {}, error: {}", delivery.notification().getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 알림 타입에 따른 Deep Link 라우트 결정
+     */
+    private String determineDeepLinkRoute(NotificationType type) {
+        return switch (type) {
+            case NEW_BID, AUCTION_WON, AUCTION_SOLD, AUCTION_NOT_SOLD,
+                 AUCTION_NOT_SOLD_HIGHEST_BIDDER, AUCTION_ENDED, AUCTION_EXTENDED,
+                 OUTBID, AUCTION_ENDING_SOON_15M, AUCTION_ENDING_SOON_5M, KEYWORD_ALERT
+                 -> "/auction/detail";
+            case CONNECTION_PAYMENT_REQUEST, CHAT_ACTIVATED, NEW_MESSAGE
+                 -> "/chat";
+            default -> "/home";
+        };
+    }
+
+    /**
+     * WebSocket 실시간 알림 발송
+     */
+    private void sendWebSocketNotification(Long userId, NotificationEvent event) {
+        try {
+            // 유찰 알림의 경우 추가 정보 포함
+            Boolean hasHighestBidder = null;
+            Long winnerId = null;
+            String winnerNickname = null;
+
+            if (event instanceof AuctionNotSoldNotificationEvent) {
+                AuctionNotSoldNotificationEvent notSoldEvent = (AuctionNotSoldNotificationEvent) event;
+                if (notSoldEvent.getHighestBid() != null) {
+                    hasHighestBidder = true;
+                    winnerId = notSoldEvent.getHighestBid().getBidder().getId();
+                    winnerNickname = notSoldEvent.getHighestBid().getBidder().getNickname();
+                } else {
+                    hasHighestBidder = false;
+                }
+            }
+
+            // 프론트엔드 NotificationMessage 형식에 맞춰 JSON 메시지 생성
+            NotificationWebSocketMessage wsNotification = NotificationWebSocketMessage.builder()
+                    .id(String.valueOf(System.currentTimeMillis())) // 임시 ID (실제로는 NotificationHistory의 ID 사용 가능)
+                    .type(event.getNotificationType().name())
+                    .title(event.getTitle())
+                    .message(event.getMessage())
+                    .timestamp(System.currentTimeMillis())
+                    .isRead(false)
+                    .resourceId(event.getResourceId())
+                    .chatRoomId(extractChatRoomId(event))
+                    .hasHighestBidder(hasHighestBidder)
+                    .winnerId(winnerId)
+                    .winnerNickname(winnerNickname)
+                    .build();
+
+            webSocketMessagingService.sendNotificationToUser(userId, wsNotification);
+
+        } catch (Exception e) {
+            // WebSocket 실시간 알림 발송 실패 무시
+        }
+    }
+
+    /**
+     * 대기열 하나와 그 대기열을 비우는 저장 스레드
+     */
+    private final class Lane {
+
+        private final String name;
+        private final String threadName;
+        private final BlockingQueue<NotificationEvent> queue;
+        private final Counter rejectedCounter;
+        private Thread worker;
+
+        private Lane(String name, String threadName, int capacity, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.threadName = threadName;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.rejectedCounter = Counter.builder("notification.sink.rejected")
+                    .description("대기열이 가득 차 버린 알림 수")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            Gauge.builder("notification.sink.queue", queue, BlockingQueue::size)
+                    .description("저장 대기 중인 알림 이벤트 수")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            worker = new Thread(this::run, threadName);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        private void awaitStop(long deadline) throws InterruptedException {
+            if (worker != null) {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+                worker.interrupt();
+            }
+        }
+
+        private boolean offer(NotificationEvent event) {
+            if (!queue.offer(event)) {
+                rejectedCounter.increment();
+                log.warn("알림 저장 대기열({})이 가득 차 알림을 버립니다. 이벤트: {}, 사용자 ID: {}",
+                        name, event.getClass().getSimpleName(), event.getTargetUserId());
+                return false;
+            }
+            return true;
+        }
+
+        private void run() {
+            List<NotificationEvent> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    NotificationEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    fillBatch(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("알림 저장 스레드 중단({}): 미저장 {}건", name, batch.size() + queue.size());
+                    return;
+                }
+
+                try {
+                    flush(batch);
+                } catch (RuntimeException e) {
+                    log.error("알림 배치 처리 실패({}): size={}", name, batch.size(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * 첫 이벤트 이후 linger-ms 동안 배치가 차기를 기다림
+         */
+        private void fillBatch(List<NotificationEvent> batch) throws InterruptedException {
+            queue.drainTo(batch, batchSize - batch.size());
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+            while (batch.size() < batchSize) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return;
+                }
+                NotificationEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    return;
+                }
+                batch.add(next);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+        }
+    }
+
+    /**
+     * 커밋된 알림 하나의 발송 정보
+     */
+    private record Delivery(NotificationEvent event, NotificationHistory notification, String fcmToken) {
+    }
+
+    /**
+     * WebSocket 알림 메시지 DTO (프론트엔드 NotificationMessage와 동일 구조)
+     */
+    @lombok.Builder
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    @lombok.NoArgsConstructor
+    private static class NotificationWebSocketMessage {
+        private String id;
+        private String type;
+        private String title;
+        private String message;
+        private long timestamp;
+        private boolean isRead;
+        private Long resourceId;
+        private Long chatRoomId;
+        private Boolean hasHighestBidder;
+        private Long winnerId;
+        private String winnerNickname;
+    }
+}
@@ -0,0 +1,66 @@
+package com.cherrypick.app.domain.websocket.cluster;
+
+/**
+ * WebSocket 클러스터 채널 이름
+ *
+ * 토픽(경매, 채팅방, 사용자)마다 채널을 따로 두어, 각 노드는 로컬 구독자가 있는 채널만 구독하고
+ * 관련 없는 트래픽은 Redis 에서 받지 않는다.
+ */
+public final class ClusterChannels {
+
+    private static final String PREFIX = "ws:";
+
+    private ClusterChannels() {
+    }
+
+    public static String auction(String auctionId) {
+        return PREFIX + "auction:" + auctionId;
+    }
+
+    public static String auction(long auctionId) {
+        return PREFIX + "auction:" + auctionId;
+    }
+
+    public static String chatRoom(String roomId) {
+        return PREFIX + "chat:" + roomId;
+    }
+
+    public static String chatRoom(long roomId) {
+        return PREFIX + "chat:" + roomId;
+    }
+
+    public static String user(long userId) {
+        return PREFIX + "user:" + userId;
+    }
+
+    /**
+     * 전송 경로(destination)에 대응하는 채널
+     *
+     * @return 다른 노드에 전달할 필요가 없는 경로(로컬에서도 전달 대상이 없는 경로)면 null
+     */
+    public static String of(String destination) {
+        if (destination.startsWith("/topic/auctions/")) {
+            return auction(destination.substring("/topic/auctions/".length()));
+        }
+        if (destination.startsWith("/topic/chat/")) {
+            String roomId = destination.substring("/topic/chat/".length());
+            return roomId.indexOf('/') < 0 ? chatRoom(roomId) : null;
+        }
+        String userId = null;
+        if (destination.startsWith("/topic/notifications/")) {
+            userId = destination.substring("/topic/notifications/".length());
+        } else if (destination.startsWith("/topic/users/")) {
+            String remaining = destination.substring("/topic/users/".length());
+            int slashIndex = remaining.indexOf('/');
+            userId = slashIndex != -1 ? remaining.substring(0, slashIndex) : remaining;
+        }
+        if (userId != null) {
+            try {
+                return user(Long.parseLong(userId));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
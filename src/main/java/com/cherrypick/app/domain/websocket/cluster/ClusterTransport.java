@@ -0,0 +1,18 @@
+package com.cherrypick.app.domain.websocket.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 메시지 전달 수단 (운영: Redis pub/sub, 테스트: 메모리 구현)
+ */
+public interface ClusterTransport {
+
+    void publish(String channel, String message);
+
+    /**
+     * 채널 구독 (같은 채널을 다시 구독하면 리스너를 교체)
+     */
+    void subscribe(String channel, Consumer<String> listener);
+
+    void unsubscribe(String channel);
+}
@@ -0,0 +1,78 @@
+package com.cherrypick.app.domain.websocket.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 노드 간 메시지 전달
+ *
+ * 수신 메시지는 단일 스레드에서 처리해 채널별 발행 순서(예: 현재가 갱신 순서)를 유지한다.
+ * 수신 처리는 세션 송신 대기열에 넣는 것까지만 하므로 단일 스레드로 충분하다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.cluster.enabled", havingValue = "true")
+public class RedisClusterTransport implements ClusterTransport {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final ExecutorService dispatcher;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisClusterTransport(RedisTemplate<String, String> redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ws-cluster-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.setTaskExecutor(dispatcher);
+        this.container.afterPropertiesSet();
+        this.container.start();
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public synchronized void subscribe(String channel, Consumer<String> listener) {
+        MessageListener redisListener = (message, pattern) ->
+                listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        MessageListener previous = listeners.put(channel, redisListener);
+        ChannelTopic topic = new ChannelTopic(channel);
+        if (previous != null) {
+            container.removeMessageListener(previous, topic);
+        }
+        container.addMessageListener(redisListener, topic);
+    }
+
+    @Override
+    public synchronized void unsubscribe(String channel) {
+        MessageListener listener = listeners.remove(channel);
+        if (listener != null) {
+            container.removeMessageListener(listener, new ChannelTopic(channel));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        container.destroy();
+        dispatcher.shutdownNow();
+    }
+}
@@ -0,0 +1,113 @@
+package com.cherrypick.app.domain.websocket.cluster;
+
+import com.cherrypick.app.config.WebSocketHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import jakarta.annotation.PostConstruct;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket 클러스터 브로드캐스트 버스
+ *
+ * 각 노드는 자기 세션의 구독 정보만 가지고 있으므로, 한 노드에서 발생한 경매/채팅/사용자 메시지를
+ * 토픽별 채널로 발행하고 다른 노드는 받은 메시지를 자기 로컬 구독자에게만 전달한다.
+ * 채널은 로컬 구독자가 생길 때 구독하고 모두 떠나면 해제하므로, 노드는 필요한 토픽의 트래픽만 받는다.
+ *
+ * 발행한 노드는 로컬 전달을 이미 마쳤으므로 자기 메시지는 무시한다.
+ * 메시지 형식: nodeId \n destination \n coalesceKey \n JSON
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.cluster.enabled", havingValue = "true")
+public class WebSocketClusterBus implements WebSocketClusterRelay {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ClusterTransport transport;
+    private final WebSocketHandler webSocketHandler;
+    private final Set<String> channels = ConcurrentHashMap.newKeySet();
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+
+    public WebSocketClusterBus(ClusterTransport transport, WebSocketHandler webSocketHandler, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.webSocketHandler = webSocketHandler;
+        this.publishedCounter = Counter.builder("websocket.cluster.published")
+                .description("다른 노드로 발행한 메시지 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("websocket.cluster.received")
+                .description("다른 노드에서 받아 로컬 구독자에게 전달한 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.cluster.channels", channels, Set::size)
+                .description("이 노드가 구독 중인 클러스터 채널 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        webSocketHandler.setClusterRelay(this);
+        log.info("WebSocket 클러스터 버스 시작: nodeId={}", nodeId);
+    }
+
+    @Override
+    public void publish(String destination, TextMessage encoded, String coalesceKey) {
+        String channel = ClusterChannels.of(destination);
+        if (channel == null) {
+            return;
+        }
+        try {
+            transport.publish(channel, nodeId + '\n' + destination + '\n'
+                    + (coalesceKey != null ? coalesceKey : "") + '\n' + encoded.getPayload());
+            publishedCounter.increment();
+        } catch (RuntimeException e) {
+            // 로컬 전달은 이미 끝났으므로 다른 노드 전달 실패만 기록
+            log.error("클러스터 메시지 발행 실패: channel={}", channel, e);
+        }
+    }
+
+    @Override
+    public synchronized void topicActivated(String channel) {
+        if (channels.add(channel)) {
+            transport.subscribe(channel, this::receive);
+        }
+    }
+
+    @Override
+    public synchronized void topicDeactivated(String channel) {
+        if (channels.remove(channel)) {
+            transport.unsubscribe(channel);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다른 노드에서 발행된 메시지를 로컬 구독자에게 전달
+     */
+    void receive(String message) {
+        int nodeEnd = message.indexOf('\n');
+        int destinationEnd = message.indexOf('\n', nodeEnd + 1);
+        int keyEnd = message.indexOf('\n', destinationEnd + 1);
+        if (nodeEnd < 0 || destinationEnd < 0 || keyEnd < 0) {
+            log.warn("잘못된 클러스터 메시지 형식 - 무시");
+            return;
+        }
+        if (message.regionMatches(0, nodeId, 0, nodeEnd) && nodeEnd == nodeId.length()) {
+            return;
+        }
+
+        String destination = message.substring(nodeEnd + 1, destinationEnd);
+        String coalesceKey = keyEnd > destinationEnd + 1 ? message.substring(destinationEnd + 1, keyEnd) : null;
+        webSocketHandler.deliverLocal(destination, new TextMessage(message.substring(keyEnd + 1)), coalesceKey);
+        receivedCounter.increment();
+    }
+}
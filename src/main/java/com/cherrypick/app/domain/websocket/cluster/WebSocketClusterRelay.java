@@ -0,0 +1,40 @@
+package com.cherrypick.app.domain.websocket.cluster;
+
+import org.springframework.web.socket.TextMessage;
+
+/**
+ * WebSocketHandler 가 로컬 전달 외에 다른 노드로 메시지를 중계하기 위한 연결점
+ *
+ * 클러스터 모드가 꺼져 있으면 NONE 을 사용해 단일 노드로 동작한다.
+ */
+public interface WebSocketClusterRelay {
+
+    WebSocketClusterRelay NONE = new WebSocketClusterRelay() {
+        @Override
+        public void publish(String destination, TextMessage encoded, String coalesceKey) {
+        }
+
+        @Override
+        public void topicActivated(String channel) {
+        }
+
+        @Override
+        public void topicDeactivated(String channel) {
+        }
+    };
+
+    /**
+     * 로컬에서 전달한 메시지를 다른 노드에 중계
+     */
+    void publish(String destination, TextMessage encoded, String coalesceKey);
+
+    /**
+     * 이 노드에 토픽의 첫 구독자가 생김 (채널 구독 시작)
+     */
+    void topicActivated(String channel);
+
+    /**
+     * 이 노드에서 토픽의 마지막 구독자가 떠남 (채널 구독 해제)
+     */
+    void topicDeactivated(String channel);
+}
@@ -0,0 +1,67 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * 한 번 직렬화해 여러 세션에 보내는 메시지
+ *
+ * JSON 텍스트 프레임은 항상 만들고 (기본 클라이언트와 클러스터 중계용),
+ * CBOR 프레임은 CBOR 를 협상한 세션에 처음 보낼 때 JSON 에서 변환해 이후 재사용한다.
+ * 동시에 처음 요청되면 변환이 두 번 일어날 수 있지만 결과가 같으므로 잠그지 않는다.
+ */
+public final class EncodedFrame {
+
+    private final TextMessage json;
+    private final WebSocketCodec codec;
+    private volatile byte[] cbor;
+
+    EncodedFrame(TextMessage json, WebSocketCodec codec) {
+        this.json = json;
+        this.codec = codec;
+    }
+
+    public TextMessage json() {
+        return json;
+    }
+
+    /**
+     * 토픽 메시지 순번을 붙인 프레임 ({"seq":N, ...})
+     * 직렬화된 JSON 객체 앞에 필드만 끼워 넣으므로 메시지를 다시 직렬화하지 않는다.
+     */
+    public EncodedFrame withSequence(long seq) {
+        String payload = json.getPayload();
+        if (payload.isEmpty() || payload.charAt(0) != '{') {
+            return this;
+        }
+        StringBuilder sequenced = new StringBuilder(payload.length() + 24)
+                .append("{\"seq\":").append(seq);
+        if (payload.length() > 2) {
+            sequenced.append(',');
+        }
+        sequenced.append(payload, 1, payload.length());
+        return new EncodedFrame(new TextMessage(sequenced.toString()), codec);
+    }
+
+    /**
+     * 세션 인코딩에 맞는 프레임
+     *
+     * @return CBOR 변환 실패 시 null
+     */
+    public WebSocketMessage<?> forFormat(WireFormat format) {
+        if (format == WireFormat.JSON) {
+            return json;
+        }
+        byte[] encoded = cbor;
+        if (encoded == null) {
+            encoded = codec.transcodeToCbor(json);
+            if (encoded == null) {
+                return null;
+            }
+            cbor = encoded;
+        }
+        // 전송 시 ByteBuffer 위치가 소비되므로 바이트 배열만 공유하고 메시지는 세션마다 새로 감싼다
+        return new BinaryMessage(encoded);
+    }
+}
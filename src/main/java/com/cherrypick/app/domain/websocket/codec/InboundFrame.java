@@ -0,0 +1,160 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트 요청 프레임
+ *
+ * 요청 처리에 쓰는 최상위 필드만 스트리밍 파서로 읽어 담는다. (JsonNode 트리를 만들지 않음)
+ * JSON 텍스트 프레임과 CBOR 바이너리 프레임 모두 같은 방식으로 읽으며,
+ * 모르는 필드와 중첩 객체/배열은 건너뛰고 null 값은 필드가 없는 것으로 취급한다.
+ *
+ * 하트비트마다 객체를 만들지 않도록 스레드별 인스턴스를 재사용하므로 (WebSocketCodec.decode)
+ * 요청을 처리하는 호출 안에서만 유효하다.
+ */
+@Getter
+public final class InboundFrame {
+
+    private InboundType type;
+    // 오류 응답용 원래 타입 문자열 (알려진 타입은 enum 이름을 그대로 사용)
+    private String typeName;
+    private long userId;
+    private String auctionId;
+    private String roomId;
+    private long chatRoomId;
+    private String userNickname;
+    private String destination;
+    private String content;
+    private long timestamp;
+    // 재연결 시 이어받을 기준 (클라이언트가 마지막으로 받은 토픽 메시지 순번과 기록 세대)
+    private long lastSeq;
+    private String epoch;
+
+    @Getter(AccessLevel.NONE)
+    private boolean hasUserId;
+    @Getter(AccessLevel.NONE)
+    private boolean hasChatRoomId;
+    @Getter(AccessLevel.NONE)
+    private boolean hasTimestamp;
+    @Getter(AccessLevel.NONE)
+    private boolean hasLastSeq;
+
+    InboundFrame() {
+        reset();
+    }
+
+    public boolean hasUserId() {
+        return hasUserId;
+    }
+
+    public boolean hasChatRoomId() {
+        return hasChatRoomId;
+    }
+
+    public boolean hasTimestamp() {
+        return hasTimestamp;
+    }
+
+    public boolean hasLastSeq() {
+        return hasLastSeq;
+    }
+
+    /**
+     * 파서에서 프레임 하나 읽기 (최상위 값이 객체가 아니면 UNKNOWN 타입)
+     */
+    static InboundFrame read(JsonParser parser, InboundFrame frame) throws IOException {
+        frame.reset();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return frame;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+                case "type":
+                    readType(parser, value, frame);
+                    break;
+                case "userId":
+                    frame.userId = parser.getValueAsLong();
+                    frame.hasUserId = true;
+                    break;
+                case "auctionId":
+                    frame.auctionId = parser.getValueAsString();
+                    break;
+                case "roomId":
+                    frame.roomId = parser.getValueAsString();
+                    break;
+                case "chatRoomId":
+                    frame.chatRoomId = parser.getValueAsLong();
+                    frame.hasChatRoomId = true;
+                    break;
+                case "userNickname":
+                    frame.userNickname = parser.getValueAsString();
+                    break;
+                case "destination":
+                    frame.destination = parser.getValueAsString();
+                    break;
+                case "content":
+                    frame.content = parser.getValueAsString();
+                    break;
+                case "timestamp":
+                    frame.timestamp = parser.getValueAsLong();
+                    frame.hasTimestamp = true;
+                    break;
+                case "lastSeq":
+                    frame.lastSeq = parser.getValueAsLong();
+                    frame.hasLastSeq = true;
+                    break;
+                case "epoch":
+                    frame.epoch = parser.getValueAsString();
+                    break;
+                default:
+                    break;
+            }
+        }
+        return frame;
+    }
+
+    private static void readType(JsonParser parser, JsonToken value, InboundFrame frame) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            frame.type = InboundType.match(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            frame.typeName = frame.type != InboundType.UNKNOWN ? frame.type.name() : parser.getText();
+        } else {
+            frame.type = InboundType.UNKNOWN;
+            frame.typeName = parser.getValueAsString("");
+        }
+    }
+
+    private void reset() {
+        type = InboundType.UNKNOWN;
+        typeName = "";
+        userId = 0;
+        auctionId = null;
+        roomId = null;
+        chatRoomId = 0;
+        userNickname = null;
+        destination = null;
+        content = null;
+        timestamp = 0;
+        lastSeq = 0;
+        epoch = null;
+        hasUserId = false;
+        hasChatRoomId = false;
+        hasTimestamp = false;
+        hasLastSeq = false;
+    }
+}
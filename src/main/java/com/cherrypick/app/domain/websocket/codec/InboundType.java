@@ -0,0 +1,50 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+/**
+ * 클라이언트 요청 타입
+ *
+ * 파서 내부 문자 버퍼와 직접 비교해 찾으므로 알려진 타입은 String 을 만들지 않는다.
+ */
+public enum InboundType {
+
+    AUTH,
+    SUBSCRIBE,
+    UNSUBSCRIBE,
+    CHAT_SUBSCRIBE,
+    CHAT_UNSUBSCRIBE,
+    PING,
+    TYPING_START,
+    TYPING_STOP,
+    MESSAGE,
+    UNKNOWN;
+
+    private static final InboundType[] KNOWN = {
+            PING, SUBSCRIBE, UNSUBSCRIBE, AUTH, MESSAGE, CHAT_SUBSCRIBE, CHAT_UNSUBSCRIBE, TYPING_START, TYPING_STOP
+    };
+
+    private final char[] chars = name().toCharArray();
+
+    /**
+     * 문자 버퍼 구간과 같은 이름의 타입 (하트비트가 가장 많으므로 PING 부터 비교)
+     */
+    static InboundType match(char[] buffer, int offset, int length) {
+        for (InboundType type : KNOWN) {
+            if (type.matches(buffer, offset, length)) {
+                return type;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private boolean matches(char[] buffer, int offset, int length) {
+        if (chars.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[offset + i] != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
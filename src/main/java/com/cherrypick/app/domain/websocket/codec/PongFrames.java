@@ -0,0 +1,84 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * PONG 응답 프레임
+ *
+ * 하트비트 응답은 연결 수만큼 자주 보내므로 Map 생성과 ObjectMapper 직렬화 없이 미리 만든 틀에 값만 채운다.
+ * - JSON: {"type":"PONG","timestamp":..,"serverTime":..} 를 스레드별 StringBuilder 로 조립
+ * - CBOR: 정수를 항상 8바이트로 인코딩해 길이가 고정된 틀을 복사한 뒤 두 시각만 덮어씀
+ */
+public final class PongFrames {
+
+    private static final String JSON_PREFIX = "{\"type\":\"PONG\",\"timestamp\":";
+    private static final String JSON_SERVER_TIME = ",\"serverTime\":";
+    private static final ThreadLocal<StringBuilder> JSON_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    private static final byte[] CBOR_TEMPLATE;
+    private static final int CBOR_TIMESTAMP_OFFSET;
+    private static final int CBOR_SERVER_TIME_OFFSET;
+
+    static {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xA3); // 항목 3개인 map
+        writeCborText(out, "type");
+        writeCborText(out, "PONG");
+        writeCborText(out, "timestamp");
+        CBOR_TIMESTAMP_OFFSET = out.size();
+        out.write(new byte[9], 0, 9);
+        writeCborText(out, "serverTime");
+        CBOR_SERVER_TIME_OFFSET = out.size();
+        out.write(new byte[9], 0, 9);
+        CBOR_TEMPLATE = out.toByteArray();
+    }
+
+    private PongFrames() {
+    }
+
+    /**
+     * PONG 프레임 생성
+     *
+     * @param timestamp 클라이언트가 PING 에 담아 보낸 시각
+     * @param serverTime 서버 현재 시각
+     */
+    public static WebSocketMessage<?> of(WireFormat format, long timestamp, long serverTime) {
+        if (format == WireFormat.CBOR) {
+            byte[] frame = CBOR_TEMPLATE.clone();
+            writeCborInt64(frame, CBOR_TIMESTAMP_OFFSET, timestamp);
+            writeCborInt64(frame, CBOR_SERVER_TIME_OFFSET, serverTime);
+            return new BinaryMessage(frame);
+        }
+
+        StringBuilder json = JSON_BUFFER.get();
+        json.setLength(0);
+        json.append(JSON_PREFIX).append(timestamp).append(JSON_SERVER_TIME).append(serverTime).append('}');
+        return new TextMessage(json);
+    }
+
+    private static void writeCborText(ByteArrayOutputStream out, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        out.write(0x60 | bytes.length); // 길이 23 이하 text string
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeCborInt64(byte[] frame, int offset, long value) {
+        // 음수는 주 타입 1 로 (-1 - value) 를 기록
+        long magnitude = value;
+        if (value >= 0) {
+            frame[offset] = 0x1B;
+        } else {
+            frame[offset] = 0x3B;
+            magnitude = -1 - value;
+        }
+        for (int i = 8; i >= 1; i--) {
+            frame[offset + i] = (byte) magnitude;
+            magnitude >>>= 8;
+        }
+    }
+}
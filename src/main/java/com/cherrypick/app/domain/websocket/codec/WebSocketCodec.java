@@ -0,0 +1,101 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * WebSocket 프레임 인코딩/디코딩
+ *
+ * - 송신: 메시지를 JSON 으로 한 번 직렬화하고, CBOR 세션용 프레임은 JSON 토큰을 그대로 옮겨 만든다.
+ *   (객체를 다시 직렬화하지 않으므로 클러스터에서 중계된 JSON 프레임도 같은 방식으로 변환된다)
+ * - 수신: 텍스트 프레임은 JSON, 바이너리 프레임은 CBOR 스트리밍 파서로 InboundFrame 을 읽는다.
+ *   InboundFrame 은 스레드별로 재사용하므로 반환값은 요청을 처리하는 호출 안에서만 사용한다.
+ */
+@Slf4j
+public class WebSocketCodec {
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+    private final CBORFactory cborFactory = new CBORFactory();
+    private final ThreadLocal<InboundFrame> inboundFrames = ThreadLocal.withInitial(InboundFrame::new);
+
+    public WebSocketCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 메시지 직렬화
+     *
+     * @return 직렬화 실패 시 null
+     */
+    public EncodedFrame encode(Object message) {
+        try {
+            return new EncodedFrame(new TextMessage(objectMapper.writeValueAsBytes(message)), this);
+        } catch (Exception e) {
+            log.error("WebSocket 메시지 직렬화 실패: {}", message.getClass().getSimpleName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * 이미 직렬화된 JSON 프레임 감싸기 (다른 노드에서 중계된 메시지용)
+     */
+    public EncodedFrame wrap(TextMessage json) {
+        return new EncodedFrame(json, this);
+    }
+
+    public InboundFrame decode(TextMessage message) throws IOException {
+        // 수신 프레임은 String 으로 오므로 바이트로 바꾸지 않고 파서의 재사용 문자 버퍼에 복사해 읽음
+        try (JsonParser parser = jsonFactory.createParser(message.getPayload())) {
+            return InboundFrame.read(parser, inboundFrames.get());
+        }
+    }
+
+    public InboundFrame decode(BinaryMessage message) throws IOException {
+        ByteBuffer payload = message.getPayload();
+        byte[] bytes;
+        int offset;
+        int length = payload.remaining();
+        if (payload.hasArray()) {
+            bytes = payload.array();
+            offset = payload.arrayOffset() + payload.position();
+        } else {
+            bytes = new byte[length];
+            payload.duplicate().get(bytes);
+            offset = 0;
+        }
+        try (JsonParser parser = cborFactory.createParser(bytes, offset, length)) {
+            return InboundFrame.read(parser, inboundFrames.get());
+        }
+    }
+
+    /**
+     * JSON 프레임을 CBOR 로 변환
+     *
+     * @return 변환 실패 시 null
+     */
+    byte[] transcodeToCbor(TextMessage json) {
+        byte[] source = json.asBytes();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(source.length);
+        try (JsonParser parser = jsonFactory.createParser(source);
+             JsonGenerator generator = cborFactory.createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            log.error("WebSocket 메시지 CBOR 변환 실패", e);
+            return null;
+        }
+        return out.toByteArray();
+    }
+}
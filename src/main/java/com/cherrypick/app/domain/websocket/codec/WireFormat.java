@@ -0,0 +1,44 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+/**
+ * WebSocket 프레임 인코딩 방식
+ *
+ * 연결 시 Sec-WebSocket-Protocol 헤더로 협상한다.
+ * 클라이언트가 "cherrypick.cbor" 를 요청하면 CBOR 바이너리 프레임, 아무것도 요청하지 않으면
+ * 기존과 같은 JSON 텍스트 프레임을 사용하므로 기존 React Native 클라이언트는 변경 없이 동작한다.
+ */
+public enum WireFormat {
+
+    JSON("cherrypick.json"),
+    CBOR("cherrypick.cbor");
+
+    private static final List<String> SUB_PROTOCOLS = List.of(CBOR.subProtocol, JSON.subProtocol);
+
+    private final String subProtocol;
+
+    WireFormat(String subProtocol) {
+        this.subProtocol = subProtocol;
+    }
+
+    public String getSubProtocol() {
+        return subProtocol;
+    }
+
+    /**
+     * 세션이 협상한 인코딩 (협상하지 않았으면 JSON)
+     */
+    public static WireFormat of(WebSocketSession session) {
+        return CBOR.subProtocol.equals(session.getAcceptedProtocol()) ? CBOR : JSON;
+    }
+
+    /**
+     * 서버가 지원하는 서브프로토콜 목록 (핸드셰이크 협상용)
+     */
+    public static List<String> subProtocols() {
+        return SUB_PROTOCOLS;
+    }
+}
@@ -0,0 +1,25 @@
+package com.cherrypick.app.domain.websocket.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Map;
+
+/**
+ * WebSocket 사용자 활동 이벤트 (일정 주기로 모아서 한 번 발행)
+ */
+public class UserActivityEvent extends ApplicationEvent {
+
+    private final Map<Long, Long> lastActivityByUser;
+
+    public UserActivityEvent(Object source, Map<Long, Long> lastActivityByUser) {
+        super(source);
+        this.lastActivityByUser = lastActivityByUser;
+    }
+
+    /**
+     * 사용자 ID별 마지막 활동 시각 (epoch ms)
+     */
+    public Map<Long, Long> getLastActivityByUser() {
+        return lastActivityByUser;
+    }
+}
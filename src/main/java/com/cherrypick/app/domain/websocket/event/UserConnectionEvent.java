@@ -30,7 +30,10 @@ public class UserConnectionEvent extends ApplicationEvent {
         return eventType;
     }
     
+    /**
+     * 연결/해제만 개별 이벤트로 발행 (하트비트 활동은 UserActivityEvent 로 모아서 발행)
+     */
     public enum ConnectionEventType {
-        CONNECTED, DISCONNECTED, ACTIVITY_UPDATE
+        CONNECTED, DISCONNECTED
     }
 }
\ No newline at end of file
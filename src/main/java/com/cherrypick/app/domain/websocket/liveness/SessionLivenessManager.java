@@ -0,0 +1,160 @@
+package com.cherrypick.app.domain.websocket.liveness;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * WebSocket 세션/사용자 상태의 유휴 만료 관리
+ *
+ * WebSocket 세션, 타이핑 상태, 온라인 상태처럼 "일정 시간 활동이 없으면 정리"해야 하는 항목을
+ * 키별 임대(lease)로 등록하고 하나의 타이밍 휠로 만료시킨다.
+ * - touch 는 마지막 활동 시각만 기록한다. (잠금/할당 없음, 하트비트마다 호출 가능)
+ * - 휠에서 꺼낸 항목은 마지막 활동 시각을 다시 확인해, 그 사이 활동이 있었으면 남은 시간만큼 다시 예약하고
+ *   없었으면 등록 시 받은 만료 콜백을 실행한다.
+ * 따라서 틱마다 전체 목록을 훑지 않고 만료 시각이 된 항목만 확인한다.
+ *
+ * 키는 종류별로 겹치지 않게 쓴다. (세션 ID 문자열, TypingIndicatorService/UserOnlineStatusService 의 record 키)
+ */
+@Slf4j
+@Component
+public class SessionLivenessManager {
+
+    private static final int WHEEL_SIZE = 512;
+
+    private final TimingWheel<Lease> wheel;
+    private final Map<Object, Lease> leases = new ConcurrentHashMap<>();
+    private final long sessionIdleTimeoutMillis;
+    private final LongSupplier clock;
+    private final Counter expiredCounter;
+
+    @Autowired
+    public SessionLivenessManager(MeterRegistry meterRegistry,
+                                  @Value("${websocket.liveness.tick-ms:1000}") long tickMillis,
+                                  @Value("${websocket.liveness.session-idle-timeout-ms:90000}") long sessionIdleTimeoutMillis) {
+        this(meterRegistry, tickMillis, sessionIdleTimeoutMillis, System::currentTimeMillis);
+    }
+
+    SessionLivenessManager(MeterRegistry meterRegistry, long tickMillis, long sessionIdleTimeoutMillis, LongSupplier clock) {
+        this.wheel = new TimingWheel<>(tickMillis, WHEEL_SIZE, clock.getAsLong());
+        this.sessionIdleTimeoutMillis = sessionIdleTimeoutMillis;
+        this.clock = clock;
+        this.expiredCounter = Counter.builder("websocket.liveness.expired")
+                .description("활동이 없어 만료된 세션/타이핑/온라인 상태 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.liveness.leases", leases, Map::size)
+                .description("만료를 관리 중인 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료 관리 등록 (같은 키가 있으면 교체)
+     *
+     * @param timeoutMillis 마지막 활동 이후 이 시간이 지나면 만료
+     * @param onExpire 만료 시 실행 (타이머 스레드에서 실행되므로 짧게 끝나야 함)
+     */
+    public void register(Object key, long timeoutMillis, Runnable onExpire) {
+        long now = clock.getAsLong();
+        Lease lease = new Lease(key, timeoutMillis, onExpire, now);
+        Lease previous = leases.put(key, lease);
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+        wheel.schedule(lease, now + timeoutMillis);
+    }
+
+    /**
+     * WebSocket 세션 유휴 만료 등록 (websocket.liveness.session-idle-timeout-ms 동안 수신 프레임이 없으면 onIdle)
+     */
+    public void watchSession(String sessionId, Runnable onIdle) {
+        register(sessionId, sessionIdleTimeoutMillis, onIdle);
+    }
+
+    /**
+     * 활동 기록
+     *
+     * @return 등록된 키면 true
+     */
+    public boolean touch(Object key) {
+        return touch(key, clock.getAsLong());
+    }
+
+    public boolean touch(Object key, long activityAt) {
+        Lease lease = leases.get(key);
+        if (lease == null) {
+            return false;
+        }
+        if (activityAt > lease.lastActivityAt) {
+            lease.lastActivityAt = activityAt;
+        }
+        return true;
+    }
+
+    /**
+     * 만료 관리 해제 (콜백 실행 없음)
+     */
+    public void cancel(Object key) {
+        Lease lease = leases.remove(key);
+        if (lease != null) {
+            wheel.cancel(lease);
+        }
+    }
+
+    public boolean isWatched(Object key) {
+        return leases.containsKey(key);
+    }
+
+    /**
+     * 만료 시각이 된 항목 처리
+     */
+    @Scheduled(fixedDelayString = "${websocket.liveness.tick-ms:1000}")
+    public void tick() {
+        long now = clock.getAsLong();
+        for (Lease lease : wheel.advance(now)) {
+            long deadline = lease.lastActivityAt + lease.timeoutMillis;
+            if (deadline > now) {
+                // 그 사이 활동이 있었으면 남은 시간만큼 다시 예약 (교체/해제된 항목은 버림)
+                if (leases.get(lease.key) == lease) {
+                    wheel.schedule(lease, deadline);
+                }
+                continue;
+            }
+
+            if (leases.remove(lease.key, lease)) {
+                expiredCounter.increment();
+                try {
+                    lease.onExpire.run();
+                } catch (RuntimeException e) {
+                    log.error("유휴 만료 처리 실패: key={}", lease.key, e);
+                }
+            }
+        }
+    }
+
+    public int size() {
+        return leases.size();
+    }
+
+    private static final class Lease {
+        private final Object key;
+        private final long timeoutMillis;
+        private final Runnable onExpire;
+        private volatile long lastActivityAt;
+
+        private Lease(Object key, long timeoutMillis, Runnable onExpire, long now) {
+            this.key = key;
+            this.timeoutMillis = timeoutMillis;
+            this.onExpire = onExpire;
+            this.lastActivityAt = now;
+        }
+    }
+}
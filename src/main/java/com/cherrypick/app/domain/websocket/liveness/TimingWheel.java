@@ -0,0 +1,136 @@
+package com.cherrypick.app.domain.websocket.liveness;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * 만료 시각을 틱 단위 버킷(원형 배열)에 나눠 담고, advance 는 지난번 이후 도래한 틱의 버킷만 확인한다.
+ * 전체 항목을 훑지 않으므로 틱당 비용은 그 틱에 걸린 항목 수에 비례한다.
+ * 휠 한 바퀴보다 먼 만료 시각은 같은 버킷에 남아 있다가 시각이 된 바퀴에서 만료된다.
+ *
+ * 버킷은 만료 시각을 올림한 틱에 담으므로 항목은 만료 시각 이후 최대 한 틱 안에 반환된다.
+ * 키당 항목은 하나이며 다시 schedule 하면 만료 시각이 교체된다. (스레드 안전)
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final Node<K>[] buckets;
+    private final int mask;
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    // 다음에 확인할 틱
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, long now) {
+        if (tickMillis <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis 는 양수, wheelSize 는 2의 거듭제곱이어야 합니다");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Node[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = Node.sentinel();
+        }
+        this.currentTick = now / tickMillis;
+    }
+
+    /**
+     * 만료 예약 (이미 예약된 키면 만료 시각 교체, 이미 지난 시각이면 다음 advance 에서 만료)
+     */
+    public synchronized void schedule(K key, long deadline) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            node = new Node<>(key);
+            nodes.put(key, node);
+        } else {
+            node.unlink();
+        }
+        node.deadline = deadline;
+        long tick = Math.max(ceilDiv(deadline, tickMillis), currentTick);
+        node.linkBefore(buckets[(int) (tick & mask)]);
+    }
+
+    /**
+     * 예약 취소
+     *
+     * @return 예약되어 있었으면 true
+     */
+    public synchronized boolean cancel(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    /**
+     * now 까지 도래한 틱의 버킷에서 만료된 키를 꺼냄
+     */
+    public synchronized List<K> advance(long now) {
+        List<K> expired = new ArrayList<>();
+        long nowTick = now / tickMillis;
+        if (nowTick < currentTick) {
+            return expired;
+        }
+
+        // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인
+        long ticks = Math.min(nowTick - currentTick + 1, buckets.length);
+        for (long i = 0; i < ticks; i++) {
+            Node<K> head = buckets[(int) ((currentTick + i) & mask)];
+            Node<K> node = head.next;
+            while (node != head) {
+                Node<K> next = node.next;
+                if (node.deadline <= now) {
+                    node.unlink();
+                    nodes.remove(node.key);
+                    expired.add(node.key);
+                }
+                node = next;
+            }
+        }
+        currentTick = nowTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return -Math.floorDiv(-value, divisor);
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private long deadline;
+        private Node<K> prev = this;
+        private Node<K> next = this;
+
+        private Node(K key) {
+            this.key = key;
+        }
+
+        private static <K> Node<K> sentinel() {
+            return new Node<>(null);
+        }
+
+        private void linkBefore(Node<K> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.cherrypick.app.domain.websocket.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 비동기 송신 디스패처
+ *
+ * 세션마다 OutboundSessionQueue 를 두고, 브로드캐스트 스레드는 대기열에 넣기만 한 뒤 반환한다.
+ * 실제 전송은 제한된 크기의 작성자 스레드 풀이 세션별로 한 번에 한 스레드씩 처리하므로
+ * 느린 클라이언트 하나가 입찰 처리 스레드나 다른 세션의 전송을 붙잡지 않는다.
+ *
+ * 대기열 한도(프레임 수/바이트 수)를 넘거나 전송 하나가 제한 시간 안에 끝나지 않는 세션은
+ * 느린 소비자로 보고 대기열을 버린 뒤 SESSION_NOT_RELIABLE 로 종료한다. (클라이언트는 재연결 후 최신 상태를 다시 조회)
+ */
+@Slf4j
+@Component
+public class OutboundMessageDispatcher {
+
+    // 작성자 스레드가 한 세션을 연속으로 처리하는 최대 프레임 수 (이후 다른 세션에 양보)
+    private static final int DRAIN_BATCH = 64;
+
+    private final Map<String, OutboundSessionQueue> queues = new ConcurrentHashMap<>();
+    private final Executor writers;
+    private final ExecutorService ownedWriters;
+    private final int maxFrames;
+    private final long maxBytes;
+    private final long sendTimeLimitMillis;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary backlogSummary;
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+
+    @Autowired
+    public OutboundMessageDispatcher(MeterRegistry meterRegistry,
+                                     @Value("${websocket.outbound.writers:4}") int writerCount,
+                                     @Value("${websocket.outbound.max-frames:256}") int maxFrames,
+                                     @Value("${websocket.outbound.max-bytes:524288}") long maxBytes,
+                                     @Value("${websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMillis) {
+        this(meterRegistry, Executors.newFixedThreadPool(writerCount, daemonThreadFactory("ws-outbound-writer")),
+                maxFrames, maxBytes, sendTimeLimitMillis);
+    }
+
+    /**
+     * 작성자 실행기를 직접 지정하는 생성자 (테스트/벤치마크에서 호출 스레드 실행기 사용)
+     */
+    public OutboundMessageDispatcher(MeterRegistry meterRegistry, Executor writers,
+                                     int maxFrames, long maxBytes, long sendTimeLimitMillis) {
+        this.writers = writers;
+        this.ownedWriters = writers instanceof ExecutorService executorService ? executorService : null;
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.meterRegistry = meterRegistry;
+
+        this.backlogSummary = DistributionSummary.builder("websocket.outbound.session.backlog")
+                .description("프레임 추가 시점의 세션별 송신 대기 프레임 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("websocket.outbound.sent")
+                .description("작성자 스레드가 전송한 프레임 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("websocket.outbound.coalesced")
+                .description("대기 중인 이전 프레임을 대체한 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.backlog.frames", this, dispatcher -> dispatcher.getBacklogSnapshot().totalFrames())
+                .description("전체 세션의 송신 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.backlog.bytes", this, dispatcher -> dispatcher.getBacklogSnapshot().totalBytes())
+                .description("전체 세션의 송신 대기 바이트 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.backlog.max-frames", this, dispatcher -> dispatcher.getBacklogSnapshot().maxFrames())
+                .description("송신 대기 프레임이 가장 많은 세션의 대기 프레임 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션 송신 대기열 등록 (연결 수립 시)
+     */
+    public void register(WebSocketSession session) {
+        queues.computeIfAbsent(session.getId(),
+                id -> new OutboundSessionQueue(session, maxFrames, maxBytes, sendTimeLimitMillis));
+    }
+
+    /**
+     * 세션 송신 대기열 제거 (연결 종료 시, 남은 프레임은 버림)
+     */
+    public void unregister(String sessionId) {
+        OutboundSessionQueue queue = queues.remove(sessionId);
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    /**
+     * 프레임 전송 예약 (즉시 반환)
+     *
+     * @param coalesceKey 병합 키 - 같은 키의 프레임이 아직 대기 중이면 새 프레임으로 대체 (null 이면 병합하지 않음)
+     * @return 대기열에 들어갔거나 병합되었으면 true, 미등록/종료/한도 초과로 버려졌으면 false
+     */
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message, String coalesceKey) {
+        return send(session, message, coalesceKey, false);
+    }
+
+    /**
+     * 프레임 전송 예약 (즉시 반환)
+     *
+     * @param coalesceKey 병합 키 (null 이면 병합하지 않음)
+     * @param ordered 순번이 붙은 프레임 - 병합 시 대기 프레임을 버리고 새 프레임을 맨 뒤에 넣어 순번 순서를 지킴
+     * @return 대기열에 들어갔거나 병합되었으면 true, 미등록/종료/한도 초과로 버려졌으면 false
+     */
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message, String coalesceKey, boolean ordered) {
+        OutboundSessionQueue queue = queues.get(session.getId());
+        if (queue == null) {
+            return false;
+        }
+
+        switch (queue.offer(message, coalesceKey, ordered, System.currentTimeMillis())) {
+            case QUEUED:
+                backlogSummary.record(queue.getBacklogFrames());
+                scheduleDrain(queue);
+                return true;
+            case COALESCED:
+                coalescedCounter.increment();
+                return true;
+            case OVERFLOW:
+                evict(queue, "overflow");
+                return false;
+            case SEND_TIMEOUT:
+                evict(queue, "send_timeout");
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 전송이 제한 시간 이상 멈춘 세션 정리
+     * (새 프레임이 들어오지 않아 send 에서 감지되지 않는 세션용)
+     */
+    @Scheduled(fixedDelayString = "${websocket.outbound.sweep-interval-ms:5000}")
+    public void evictStalledSessions() {
+        long now = System.currentTimeMillis();
+        for (OutboundSessionQueue queue : queues.values()) {
+            if (queue.isSendTimedOut(now)) {
+                evict(queue, "send_timeout");
+            }
+        }
+    }
+
+    /**
+     * 현재 송신 대기 현황
+     */
+    public BacklogSnapshot getBacklogSnapshot() {
+        long totalFrames = 0;
+        long totalBytes = 0;
+        int maxSessionFrames = 0;
+        for (OutboundSessionQueue queue : queues.values()) {
+            int frames = queue.getBacklogFrames();
+            totalFrames += frames;
+            totalBytes += queue.getBacklogBytes();
+            maxSessionFrames = Math.max(maxSessionFrames, frames);
+        }
+        return new BacklogSnapshot(queues.size(), totalFrames, totalBytes, maxSessionFrames);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (ownedWriters != null) {
+            ownedWriters.shutdown();
+            ownedWriters.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void scheduleDrain(OutboundSessionQueue queue) {
+        if (!queue.tryStartDrain()) {
+            return;
+        }
+        try {
+            writers.execute(() -> drain(queue));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            queue.cancelDrain();
+        }
+    }
+
+    private void drain(OutboundSessionQueue queue) {
+        try {
+            sentCounter.increment(queue.drain(DRAIN_BATCH));
+        } catch (IOException | RuntimeException e) {
+            log.debug("WebSocket 전송 실패 - 세션 종료: {}", queue.getSession().getId(), e);
+            evict(queue, "send_failed");
+            return;
+        }
+        // 남은 프레임 또는 drain 종료 직전에 추가된 프레임 처리
+        scheduleDrain(queue);
+    }
+
+    private void evict(OutboundSessionQueue queue, String reason) {
+        WebSocketSession session = queue.getSession();
+        if (!queues.remove(session.getId(), queue)) {
+            return;
+        }
+        int backlogFrames = queue.getBacklogFrames();
+        queue.close();
+        Counter.builder("websocket.outbound.evicted")
+                .description("느린 소비자로 판단되어 종료된 세션 수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.warn("느린 WebSocket 세션 종료 [{}] - 사유: {}, 대기 프레임: {}", session.getId(), reason, backlogFrames);
+
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException | RuntimeException e) {
+            log.debug("WebSocket 세션 종료 실패: {}", session.getId(), e);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 송신 대기 현황
+     *
+     * @param sessions 등록된 세션 수
+     * @param totalFrames 전체 대기 프레임 수
+     * @param totalBytes 전체 대기 바이트 수
+     * @param maxFrames 세션별 대기 프레임 수 최대값
+     */
+    public record BacklogSnapshot(int sessions, long totalFrames, long totalBytes, int maxFrames) {
+    }
+}
@@ -0,0 +1,208 @@
+package com.cherrypick.app.domain.websocket.outbound;
+
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * WebSocket 세션 1개의 송신 대기열
+ *
+ * 브로드캐스트 스레드는 offer 로 프레임만 넣고 바로 돌아가며, 실제 전송은 작성자(writer) 스레드 하나가
+ * drain 으로 순서대로 처리한다. 한 세션에 동시에 전송하는 스레드가 하나뿐이므로 세션 전송이 스레드 안전하다.
+ *
+ * - 병합: 같은 병합 키(예: 경매별 현재가 갱신)를 가진 프레임이 아직 대기 중이면 새 내용으로 교체한다.
+ *   대기열에서의 위치는 유지되므로 대기열이 길어지지 않는다.
+ *   순번이 붙은 프레임(ordered)은 위치를 유지하면 사이 프레임과 순번이 뒤바뀌므로, 대기 프레임을 버리고
+ *   새 프레임을 맨 뒤에 넣는다. 버린 순번은 클라이언트가 빈 순번으로 감지해 재전송 기록에서 받아 간다.
+ * - 한도: 대기 프레임 수/바이트 수 한도를 넘거나 전송 하나가 제한 시간 이상 끝나지 않으면
+ *   OVERFLOW / SEND_TIMEOUT 을 반환하고, 호출자(OutboundMessageDispatcher)가 세션을 종료한다.
+ */
+public class OutboundSessionQueue {
+
+    public enum OfferResult {
+        QUEUED,
+        COALESCED,
+        OVERFLOW,
+        SEND_TIMEOUT,
+        CLOSED
+    }
+
+    private final WebSocketSession session;
+    private final int maxFrames;
+    private final long maxBytes;
+    private final long sendTimeLimitMillis;
+
+    // this 로 보호
+    private final ArrayDeque<Frame> frames = new ArrayDeque<>();
+    private final Map<String, Frame> framesByKey = new HashMap<>();
+    // 순서 유지 병합으로 버려져 frames 에 남아 있는 항목 수 (전송 시 건너뜀)
+    private int discardedFrames;
+    private long backlogBytes;
+    private boolean closed;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // 진행 중인 전송 시작 시각 (전송 중이 아니면 0)
+    private volatile long sendStartedAt;
+
+    public OutboundSessionQueue(WebSocketSession session, int maxFrames, long maxBytes, long sendTimeLimitMillis) {
+        this.session = session;
+        this.maxFrames = maxFrames;
+        this.maxBytes = maxBytes;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+    }
+
+    /**
+     * 프레임 추가
+     *
+     * @param coalesceKey 병합 키 (null 이면 병합하지 않음)
+     * @param ordered 순번이 붙은 프레임 여부 (병합 시 대기 위치에서 교체하지 않고 맨 뒤로 보냄)
+     * @param now 현재 시각 (ms)
+     */
+    public synchronized OfferResult offer(WebSocketMessage<?> message, String coalesceKey, boolean ordered, long now) {
+        if (closed) {
+            return OfferResult.CLOSED;
+        }
+        if (isSendTimedOut(now)) {
+            return OfferResult.SEND_TIMEOUT;
+        }
+
+        if (coalesceKey != null) {
+            Frame pending = framesByKey.get(coalesceKey);
+            if (pending != null) {
+                backlogBytes += message.getPayloadLength() - pending.message.getPayloadLength();
+                if (!ordered) {
+                    pending.message = message;
+                    return OfferResult.COALESCED;
+                }
+                pending.message = null;
+                discardedFrames++;
+                append(message, coalesceKey);
+                return OfferResult.COALESCED;
+            }
+        }
+
+        if (getBacklogFrames() >= maxFrames || backlogBytes + message.getPayloadLength() > maxBytes) {
+            return OfferResult.OVERFLOW;
+        }
+        append(message, coalesceKey);
+        backlogBytes += message.getPayloadLength();
+        return OfferResult.QUEUED;
+    }
+
+    /**
+     * 작성자 스레드 실행 권한 획득 (대기열이 비어 있지 않고 실행 중인 작성자가 없을 때만 true)
+     */
+    public boolean tryStartDrain() {
+        synchronized (this) {
+            if (frames.isEmpty() || closed) {
+                return false;
+            }
+        }
+        return draining.compareAndSet(false, true);
+    }
+
+    /**
+     * 작성자 실행 권한 반납 (작업 제출에 실패한 경우)
+     */
+    public void cancelDrain() {
+        draining.set(false);
+    }
+
+    /**
+     * 대기 중인 프레임을 순서대로 전송 (tryStartDrain 이 true 를 반환한 스레드만 호출)
+     *
+     * @return 전송한 프레임 수
+     * @throws IOException 전송 실패 (세션을 더 쓸 수 없음)
+     */
+    public int drain(long maxBatch) throws IOException {
+        int sent = 0;
+        try {
+            while (sent < maxBatch) {
+                Frame frame = poll();
+                if (frame == null) {
+                    break;
+                }
+                sendStartedAt = System.currentTimeMillis();
+                try {
+                    session.sendMessage(frame.message);
+                } finally {
+                    sendStartedAt = 0;
+                }
+                sent++;
+            }
+        } finally {
+            draining.set(false);
+        }
+        return sent;
+    }
+
+    /**
+     * 대기 프레임을 모두 버리고 이후 추가를 거부
+     */
+    public synchronized void close() {
+        closed = true;
+        frames.clear();
+        framesByKey.clear();
+        discardedFrames = 0;
+        backlogBytes = 0;
+    }
+
+    public synchronized boolean isSendTimedOut(long now) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && now - startedAt > sendTimeLimitMillis;
+    }
+
+    public synchronized int getBacklogFrames() {
+        return frames.size() - discardedFrames;
+    }
+
+    public synchronized long getBacklogBytes() {
+        return backlogBytes;
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    private synchronized Frame poll() {
+        if (closed) {
+            return null;
+        }
+        Frame frame = frames.pollFirst();
+        while (frame != null && frame.message == null) {
+            discardedFrames--;
+            frame = frames.pollFirst();
+        }
+        if (frame == null) {
+            return null;
+        }
+        if (frame.coalesceKey != null) {
+            framesByKey.remove(frame.coalesceKey);
+        }
+        backlogBytes -= frame.message.getPayloadLength();
+        return frame;
+    }
+
+    private void append(WebSocketMessage<?> message, String coalesceKey) {
+        Frame frame = new Frame(message, coalesceKey);
+        frames.addLast(frame);
+        if (coalesceKey != null) {
+            framesByKey.put(coalesceKey, frame);
+        }
+    }
+
+    private static final class Frame {
+        private WebSocketMessage<?> message;
+        private final String coalesceKey;
+
+        private Frame(WebSocketMessage<?> message, String coalesceKey) {
+            this.message = message;
+            this.coalesceKey = coalesceKey;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cherrypick.app.domain.websocket.replay;
+
+import com.cherrypick.app.domain.websocket.codec.EncodedFrame;
+
+/**
+ * 구독 참여 시 이어받기 결과 수신 (TopicReplayLog.join 의 잠금 안에서 호출되므로 송신 대기열에 넣기만 한다)
+ */
+public interface ReplayListener {
+
+    /**
+     * 이어받기 판정 (재전송보다 먼저 호출)
+     *
+     * @param epoch 토픽 기록 세대 (다음 재연결 때 그대로 보내야 함)
+     * @param seq 현재 마지막 순번
+     * @param resyncRequired 요청한 순번을 이어받을 수 없어 전체 조회가 필요하면 true
+     */
+    void resumed(String epoch, long seq, boolean resyncRequired);
+
+    /**
+     * 놓친 메시지 재전송 (순번 순서대로 호출, 순번이 빠지지 않도록 병합하지 않고 보내야 함)
+     */
+    void replay(EncodedFrame frame);
+}
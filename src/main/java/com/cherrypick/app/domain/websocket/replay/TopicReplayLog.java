@@ -0,0 +1,195 @@
+package com.cherrypick.app.domain.websocket.replay;
+
+import com.cherrypick.app.domain.websocket.codec.EncodedFrame;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongPredicate;
+
+/**
+ * 토픽(경매/채팅방)별 최근 메시지 기록
+ *
+ * 구독 중인 토픽의 송신 메시지마다 토픽 안에서 1씩 증가하는 순번(seq)을 붙이고 최근 capacity 개를 링 버퍼에 보관한다.
+ * 재연결한 클라이언트가 마지막으로 받은 순번(lastSeq)과 기록 세대(epoch)를 보내면 놓친 메시지만 다시 보내고,
+ * 링에서 이미 밀려났거나 세대가 다르면(서버 재시작, 기록 만료) 전체 조회가 필요하다고 알린다.
+ *
+ * 마지막 구독자가 떠난 뒤에도 retention 동안은 기록을 유지해 잠깐 끊겼던 클라이언트가 이어받을 수 있게 하고,
+ * 그 사이 다시 구독하지 않으면 SessionLivenessManager 만료로 기록을 버린다.
+ */
+public class TopicReplayLog {
+
+    private final String topicKind;
+    private final int capacity;
+    private final long retentionMillis;
+    private final SessionLivenessManager livenessManager;
+    private final Map<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    public TopicReplayLog(String topicKind, int capacity, long retentionMillis, SessionLivenessManager livenessManager) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity 는 양수여야 합니다");
+        }
+        this.topicKind = topicKind;
+        this.capacity = capacity;
+        this.retentionMillis = retentionMillis;
+        this.livenessManager = livenessManager;
+    }
+
+    /**
+     * 토픽 메시지에 순번을 붙여 기록
+     *
+     * @return 순번을 붙인 프레임 (기록 중인 토픽이 아니면 받은 프레임 그대로)
+     */
+    public EncodedFrame append(long topicId, EncodedFrame frame) {
+        Ring ring = rings.get(topicId);
+        if (ring == null) {
+            return frame;
+        }
+        synchronized (ring) {
+            return ring.retired ? frame : ring.append(frame);
+        }
+    }
+
+    /**
+     * 구독 참여
+     *
+     * 잠금 안에서 이어받기 판정 -> 놓친 메시지 재전송 -> 구독 등록(subscribe) 순서로 수행한다.
+     * 그 사이 다른 스레드가 기록한 메시지는 재전송에 포함되거나 등록 이후 실시간으로 전달되므로 빠지지 않는다.
+     * (기록 직후 구독자 목록을 읽은 브로드캐스트와 겹치면 같은 순번을 두 번 받을 수 있어 클라이언트는 순번으로 중복을 거른다)
+     *
+     * @param epoch 클라이언트가 알고 있는 기록 세대 (없으면 null)
+     * @param lastSeq 클라이언트가 마지막으로 받은 순번 (이어받지 않으면 음수)
+     */
+    public void join(long topicId, String epoch, long lastSeq, ReplayListener listener, Runnable subscribe) {
+        while (true) {
+            Ring ring = rings.computeIfAbsent(topicId, id -> new Ring(capacity));
+            synchronized (ring) {
+                if (ring.retired) {
+                    // 만료 처리와 겹침 - 새 기록으로 다시 시도
+                    continue;
+                }
+                if (ring.retiring) {
+                    ring.retiring = false;
+                    livenessManager.cancel(new LeaseKey(topicKind, topicId));
+                }
+                ring.replay(epoch, lastSeq, listener);
+                subscribe.run();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 마지막 구독자가 떠난 토픽의 기록 정리 예약
+     *
+     * @param hasSubscribers 만료 시점에 다시 구독자가 생겼는지 확인
+     */
+    public void retire(long topicId, LongPredicate hasSubscribers) {
+        Ring ring = rings.get(topicId);
+        if (ring == null) {
+            return;
+        }
+        synchronized (ring) {
+            if (ring.retired || ring.retiring || hasSubscribers.test(topicId)) {
+                return;
+            }
+            ring.retiring = true;
+            livenessManager.register(new LeaseKey(topicKind, topicId), retentionMillis,
+                    () -> expire(topicId, ring, hasSubscribers));
+        }
+    }
+
+    /**
+     * 기록 즉시 폐기 (이후 메시지를 받지 못하게 되어 기록을 이어갈 수 없을 때)
+     */
+    public void discard(long topicId, LongPredicate hasSubscribers) {
+        Ring ring = rings.get(topicId);
+        if (ring == null) {
+            return;
+        }
+        synchronized (ring) {
+            if (!ring.retired && !hasSubscribers.test(topicId)) {
+                retire(topicId, ring);
+            }
+        }
+    }
+
+    /**
+     * 기록 중인 토픽인지 (구독자가 있거나 보존 기간 안)
+     */
+    public boolean isTracking(long topicId) {
+        return rings.containsKey(topicId);
+    }
+
+    public int size() {
+        return rings.size();
+    }
+
+    private void expire(long topicId, Ring ring, LongPredicate hasSubscribers) {
+        synchronized (ring) {
+            if (!ring.retiring) {
+                return;
+            }
+            ring.retiring = false;
+            if (!hasSubscribers.test(topicId)) {
+                retire(topicId, ring);
+            }
+        }
+    }
+
+    private void retire(long topicId, Ring ring) {
+        if (ring.retiring) {
+            ring.retiring = false;
+            livenessManager.cancel(new LeaseKey(topicKind, topicId));
+        }
+        ring.retired = true;
+        rings.remove(topicId, ring);
+    }
+
+    /**
+     * 토픽 하나의 링 버퍼 (객체 잠금 안에서만 접근)
+     */
+    private static final class Ring {
+        // 재시작/만료 후 새로 만든 기록과 순번이 겹쳐도 구분되도록 기록마다 임의 값
+        private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+        private final EncodedFrame[] frames;
+        private long lastSeq;
+        private boolean retiring;
+        private boolean retired;
+
+        private Ring(int capacity) {
+            this.frames = new EncodedFrame[capacity];
+        }
+
+        private EncodedFrame append(EncodedFrame frame) {
+            long seq = ++lastSeq;
+            EncodedFrame sequenced = frame.withSequence(seq);
+            frames[slotOf(seq)] = sequenced;
+            return sequenced;
+        }
+
+        private void replay(String clientEpoch, long clientSeq, ReplayListener listener) {
+            if (clientSeq < 0) {
+                listener.resumed(epoch, lastSeq, false);
+                return;
+            }
+            long oldestSeq = Math.max(1, lastSeq - frames.length + 1);
+            if (!epoch.equals(clientEpoch) || clientSeq > lastSeq || clientSeq < oldestSeq - 1) {
+                listener.resumed(epoch, lastSeq, true);
+                return;
+            }
+            listener.resumed(epoch, lastSeq, false);
+            for (long seq = clientSeq + 1; seq <= lastSeq; seq++) {
+                listener.replay(frames[slotOf(seq)]);
+            }
+        }
+
+        private int slotOf(long seq) {
+            return (int) (seq % frames.length);
+        }
+    }
+
+    private record LeaseKey(String topicKind, long topicId) {
+    }
+}
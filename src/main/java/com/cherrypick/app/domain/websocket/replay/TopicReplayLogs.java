@@ -0,0 +1,30 @@
+package com.cherrypick.app.domain.websocket.replay;
+
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경매/채팅방 토픽 메시지 기록 (WebSocketHandler 가 재연결 이어받기에 사용)
+ */
+@Component
+public class TopicReplayLogs {
+
+    private final TopicReplayLog auctions;
+    private final TopicReplayLog chatRooms;
+
+    public TopicReplayLogs(SessionLivenessManager livenessManager,
+                           @Value("${websocket.replay.capacity:64}") int capacity,
+                           @Value("${websocket.replay.retention-ms:60000}") long retentionMillis) {
+        this.auctions = new TopicReplayLog("auction", capacity, retentionMillis, livenessManager);
+        this.chatRooms = new TopicReplayLog("chat", capacity, retentionMillis, livenessManager);
+    }
+
+    public TopicReplayLog auctions() {
+        return auctions;
+    }
+
+    public TopicReplayLog chatRooms() {
+        return chatRooms;
+    }
+}
@@ -3,6 +3,7 @@ package com.cherrypick.app.domain.websocket.service;
 import com.cherrypick.app.domain.chat.dto.response.ChatMessageResponse;
 import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
 import com.cherrypick.app.config.WebSocketHandler;
+import com.cherrypick.app.domain.websocket.tick.AuctionTickAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,15 +18,23 @@ import org.springframework.context.annotation.Lazy;
 /**
  * WebSocket 실시간 메시징 서비스
  * 경매 관련 실시간 업데이트를 클라이언트에게 전송
+ *
+ * 입찰/자동입찰 경쟁/입찰 수/시간 연장 갱신은 AuctionTickAggregator 가 경매별로 짧은 창 동안 병합해 보내고,
+ * 종료/유찰/자동입찰 결과는 대기 중인 갱신을 먼저 보낸 뒤 바로 전송한다.
+ *
+ * 여러 인스턴스로 운영할 때(websocket.cluster.enabled=true)는 WebSocketHandler 가 로컬 구독자에게 전달한 뒤
+ * WebSocketClusterBus 를 통해 경매/채팅방/사용자별 Redis 채널로 중계하므로, 다른 노드에 연결된 구독자도 같은 메시지를 받는다.
  */
 @Slf4j
 @Service
 public class WebSocketMessagingService {
 
     private final WebSocketHandler webSocketHandler;
+    private final AuctionTickAggregator tickAggregator;
 
-    public WebSocketMessagingService(@Lazy WebSocketHandler webSocketHandler) {
+    public WebSocketMessagingService(@Lazy WebSocketHandler webSocketHandler, AuctionTickAggregator tickAggregator) {
         this.webSocketHandler = webSocketHandler;
+        this.tickAggregator = tickAggregator;
     }
     
     @PostConstruct
@@ -119,7 +128,7 @@ public class WebSocketMessagingService {
                 auctionId, currentPrice, bidCount, bidderNickname
             );
             
-            broadcastToAuction(auctionId, message);
+            tickAggregator.submit(message);
             
         } catch (Exception e) {
             // notifyNewBid 실행 중 예외 무시
@@ -134,6 +143,7 @@ public class WebSocketMessagingService {
         AuctionUpdateMessage message = AuctionUpdateMessage.auctionEnded(
             auctionId, finalPrice, winnerNickname
         );
+        tickAggregator.flush(auctionId);
         broadcastToAuction(auctionId, message);
     }
     
@@ -142,7 +152,7 @@ public class WebSocketMessagingService {
      */
     public void notifyAutoBidCompeting(Long auctionId, java.math.BigDecimal currentPrice, Integer bidCount) {
         AuctionUpdateMessage message = AuctionUpdateMessage.autoBidCompeting(auctionId, currentPrice, bidCount);
-        broadcastToAuction(auctionId, message);
+        tickAggregator.submit(message);
     }
 
     /**
@@ -150,6 +160,7 @@ public class WebSocketMessagingService {
      */
     public void notifyAutoBidResult(Long auctionId, java.math.BigDecimal currentPrice, Integer bidCount, String winnerNickname) {
         AuctionUpdateMessage message = AuctionUpdateMessage.autoBidResult(auctionId, currentPrice, bidCount, winnerNickname);
+        tickAggregator.flush(auctionId);
         broadcastToAuction(auctionId, message);
     }
 
@@ -175,6 +186,7 @@ public class WebSocketMessagingService {
         log.info("🔴 [DEBUG] Created message - messageType: {}, hasHighestBidder: {}, winnerId: {}, winnerNickname: {}",
                 message.getMessageType(), message.getHasHighestBidder(), message.getWinnerId(), message.getWinnerNickname());
 
+        tickAggregator.flush(auctionId);
         broadcastToAuction(auctionId, message);
     }
 
@@ -183,7 +195,7 @@ public class WebSocketMessagingService {
      */
     public void notifyBidCountUpdate(Long auctionId, Integer bidCount) {
         AuctionUpdateMessage message = AuctionUpdateMessage.bidCountUpdate(auctionId, bidCount);
-        broadcastToAuction(auctionId, message);
+        tickAggregator.submit(message);
     }
 
     /**
@@ -194,7 +206,7 @@ public class WebSocketMessagingService {
         AuctionUpdateMessage message = AuctionUpdateMessage.auctionExtended(
             auctionId, newEndAt, currentPrice, bidCount
         );
-        broadcastToAuction(auctionId, message);
+        tickAggregator.submit(message);
         log.info("🕐 스나이핑 방지: 경매 시간 연장 알림 전송 - auctionId: {}, newEndAt: {}", auctionId, newEndAt);
     }
 
@@ -203,7 +215,7 @@ public class WebSocketMessagingService {
      */
     public void notifyBidderCountChanged(Long auctionId, Integer bidderCount) {
         AuctionUpdateMessage message = AuctionUpdateMessage.bidderCountChanged(auctionId, bidderCount);
-        broadcastToAuction(auctionId, message);
+        tickAggregator.submit(message);
     }
     
     // === 채팅 관련 WebSocket 메서드 ===
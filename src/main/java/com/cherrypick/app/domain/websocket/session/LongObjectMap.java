@@ -0,0 +1,169 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * long 키 해시 맵 (개방 주소법, 선형 탐사)
+ *
+ * 키를 long 배열에 그대로 저장하므로 Long 박싱과 엔트리 객체 할당이 없다.
+ * 삭제는 뒤쪽 엔트리를 당겨오는 방식(backward shift)이라 삭제 표시가 쌓이지 않는다.
+ *
+ * 스레드 안전하지 않으므로 호출자가 동기화한다.
+ */
+public class LongObjectMap<V> {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int shift;
+    private int size;
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 값 저장 (value 는 null 일 수 없음)
+     *
+     * @return 이전 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value 는 null 일 수 없습니다");
+        }
+        int index = slotOf(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = (V) values[index];
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            resize((mask + 1) << 1);
+        }
+        return null;
+    }
+
+    /**
+     * 값이 없으면 생성해 저장
+     */
+    public V computeIfAbsent(long key, LongFunction<V> factory) {
+        V value = get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return 제거된 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) values[index];
+        shiftBack(index);
+        size--;
+        return previous;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    private int indexOf(long key) {
+        int index = slotOf(key);
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 빈 칸 뒤의 엔트리 중 원래 자리(slot)에서 빈 칸을 거쳐 와야 하는 것들을 당겨 탐사 경로를 유지
+     */
+    private void shiftBack(int hole) {
+        int index = hole;
+        while (true) {
+            index = (index + 1) & mask;
+            if (values[index] == null) {
+                break;
+            }
+            int home = slotOf(keys[index]);
+            // home 이 (hole, index] 구간 밖이면 hole 로 옮겨도 탐사 경로가 끊기지 않는다
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = slotOf(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = Long.numberOfLeadingZeros(mask);
+    }
+
+    private int slotOf(long key) {
+        // 피보나치 해싱 - 곱의 상위 비트를 사용해 연속된 ID 나 하위 비트가 같은 ID 도 고르게 흩어진다
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증된 WebSocket 세션의 마지막 활동 시각
+ *
+ * 하트비트(PING)마다 이벤트를 발행하지 않고 세션별 슬롯에 시각만 기록한다. (조회/쓰기 모두 할당 없음)
+ * 주기적으로 drain 하면 지난 drain 이후 활동한 사용자별 최신 시각을 모아 돌려준다.
+ */
+public class SessionActivityTracker {
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 등록 (인증 시, 같은 세션의 재인증이면 사용자 교체)
+     */
+    public void register(String sessionId, long userId, long now) {
+        slots.put(sessionId, new Slot(userId, now));
+    }
+
+    public void unregister(String sessionId) {
+        slots.remove(sessionId);
+    }
+
+    /**
+     * 활동 시각 기록 (미인증 세션은 무시)
+     */
+    public void touch(String sessionId, long now) {
+        Slot slot = slots.get(sessionId);
+        if (slot != null) {
+            slot.lastActivityAt = now;
+            slot.touched = true;
+        }
+    }
+
+    /**
+     * 지난 drain 이후 활동한 사용자별 마지막 활동 시각 (epoch ms)
+     */
+    public synchronized Map<Long, Long> drain() {
+        Map<Long, Long> activity = new HashMap<>();
+        for (Slot slot : slots.values()) {
+            if (slot.touched) {
+                // 플래그를 먼저 내리므로 그 사이 기록된 활동은 다음 drain 에서 보고됨
+                slot.touched = false;
+                activity.merge(slot.userId, slot.lastActivityAt, Math::max);
+            }
+        }
+        return activity;
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private static final class Slot {
+        private final long userId;
+        private volatile long lastActivityAt;
+        // 지난 drain 이후 활동 여부
+        private volatile boolean touched;
+
+        private Slot(long userId, long now) {
+            this.userId = userId;
+            this.lastActivityAt = now;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 토픽(경매/채팅방) ID -> 구독 세션 색인
+ *
+ * 토픽 ID 로 스트라이프를 나눈 LongObjectMap 에 토픽별 구독자 배열을 저장한다.
+ * - 추가/제거는 배열 끝에 붙이거나 마지막 원소와 자리를 바꿔 빼므로 구독자 수와 무관하게 상수 시간이다.
+ *   (CopyOnWriteArraySet 처럼 구독할 때마다 전체를 복사하지 않음)
+ * - members 는 현재 배열을 그대로 스냅샷으로 넘기고 "공유 중" 표시만 남긴다.
+ *   공유 중인 배열은 다음 변경 때 한 번만 복사하므로, 복사 비용은 구독 변경 횟수가 아니라
+ *   브로드캐스트 횟수에 비례하고 스냅샷은 잠금 밖에서 안전하게 순회할 수 있다.
+ */
+public class SubscriptionRegistry {
+
+    private static final int STRIPES = 32;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final LongObjectMap<Topic>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public SubscriptionRegistry() {
+        stripes = new LongObjectMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LongObjectMap<>();
+        }
+    }
+
+    /**
+     * 구독 세션 추가 (이미 구독 중인 세션은 무시)
+     *
+     * @return 토픽의 첫 구독자면 true
+     */
+    public boolean add(long topicId, WebSocketSession session) {
+        LongObjectMap<Topic> stripe = stripeOf(topicId);
+        synchronized (stripe) {
+            Topic topic = stripe.get(topicId);
+            boolean created = topic == null;
+            if (created) {
+                topic = new Topic();
+                stripe.put(topicId, topic);
+            }
+            topic.add(session);
+            return created;
+        }
+    }
+
+    /**
+     * 구독 세션 제거 (마지막 구독자면 토픽 항목도 제거)
+     *
+     * @return 토픽의 마지막 구독자가 제거되었으면 true
+     */
+    public boolean remove(long topicId, String sessionId) {
+        LongObjectMap<Topic> stripe = stripeOf(topicId);
+        synchronized (stripe) {
+            Topic topic = stripe.get(topicId);
+            if (topic == null || !topic.remove(sessionId)) {
+                return false;
+            }
+            if (topic.size == 0) {
+                stripe.remove(topicId);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 토픽 구독자 스냅샷 (이후 변경의 영향을 받지 않음)
+     */
+    public Members members(long topicId) {
+        LongObjectMap<Topic> stripe = stripeOf(topicId);
+        synchronized (stripe) {
+            Topic topic = stripe.get(topicId);
+            if (topic == null) {
+                return Members.EMPTY;
+            }
+            topic.shared = true;
+            return new Members(topic.sessions, topic.size);
+        }
+    }
+
+    public int size(long topicId) {
+        LongObjectMap<Topic> stripe = stripeOf(topicId);
+        synchronized (stripe) {
+            Topic topic = stripe.get(topicId);
+            return topic != null ? topic.size : 0;
+        }
+    }
+
+    /**
+     * 구독자가 하나 이상인 토픽 수
+     */
+    public int topicCount() {
+        int count = 0;
+        for (LongObjectMap<Topic> stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.size();
+            }
+        }
+        return count;
+    }
+
+    private LongObjectMap<Topic> stripeOf(long topicId) {
+        return stripes[(int) (topicId ^ (topicId >>> 32)) & (STRIPES - 1)];
+    }
+
+    /**
+     * 구독자 스냅샷 (순회 전용)
+     */
+    public static final class Members {
+
+        private static final Members EMPTY = new Members(new WebSocketSession[0], 0);
+
+        private final WebSocketSession[] sessions;
+        private final int size;
+
+        private Members(WebSocketSession[] sessions, int size) {
+            this.sessions = sessions;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public WebSocketSession get(int index) {
+            if (index >= size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return sessions[index];
+        }
+    }
+
+    /**
+     * 토픽별 구독자 배열 (스트라이프 잠금 안에서만 접근)
+     */
+    private static final class Topic {
+        private WebSocketSession[] sessions = new WebSocketSession[INITIAL_CAPACITY];
+        private final Map<String, Integer> positions = new HashMap<>();
+        private int size;
+        // 현재 배열을 스냅샷으로 넘겼는지 (넘긴 배열은 다시 쓰지 않음)
+        private boolean shared;
+
+        private void add(WebSocketSession session) {
+            if (positions.putIfAbsent(session.getId(), size) != null) {
+                return;
+            }
+            if (shared || size == sessions.length) {
+                sessions = Arrays.copyOf(sessions, size == sessions.length ? size << 1 : sessions.length);
+                shared = false;
+            }
+            sessions[size++] = session;
+        }
+
+        private boolean remove(String sessionId) {
+            Integer position = positions.remove(sessionId);
+            if (position == null) {
+                return false;
+            }
+            if (shared) {
+                sessions = Arrays.copyOf(sessions, sessions.length);
+                shared = false;
+            }
+            // 마지막 구독자를 빈 자리로 옮김
+            int last = --size;
+            if (position != last) {
+                WebSocketSession moved = sessions[last];
+                sessions[position] = moved;
+                positions.put(moved.getId(), position);
+            }
+            sessions[last] = null;
+            return true;
+        }
+    }
+}
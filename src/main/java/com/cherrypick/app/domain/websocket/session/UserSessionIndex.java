@@ -0,0 +1,111 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Arrays;
+
+/**
+ * 사용자 ID -> WebSocket 세션 역색인
+ *
+ * 인증(AUTH) 시 등록하고 연결 종료 시 제거해, 사용자 대상 전송이 전체 세션 순회 없이
+ * 해당 사용자의 세션 수만큼만 비용이 들게 한다.
+ * 사용자 ID 로 스트라이프를 나눈 LongObjectMap 에 세션 배열을 저장하며,
+ * 배열은 변경 시 복사(copy-on-write)하므로 조회 결과는 잠금 밖에서 그대로 순회할 수 있다.
+ */
+public class UserSessionIndex {
+
+    private static final int STRIPES = 16;
+    private static final WebSocketSession[] NO_SESSIONS = new WebSocketSession[0];
+
+    private final LongObjectMap<WebSocketSession[]>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public UserSessionIndex() {
+        stripes = new LongObjectMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new LongObjectMap<>();
+        }
+    }
+
+    /**
+     * 사용자 세션 등록 (이미 등록된 세션은 무시)
+     *
+     * @return 사용자의 첫 세션이면 true
+     */
+    public boolean add(long userId, WebSocketSession session) {
+        LongObjectMap<WebSocketSession[]> stripe = stripeOf(userId);
+        synchronized (stripe) {
+            WebSocketSession[] sessions = stripe.get(userId);
+            if (sessions == null) {
+                stripe.put(userId, new WebSocketSession[]{session});
+                return true;
+            }
+            for (WebSocketSession registered : sessions) {
+                if (registered.getId().equals(session.getId())) {
+                    return false;
+                }
+            }
+            WebSocketSession[] grown = Arrays.copyOf(sessions, sessions.length + 1);
+            grown[sessions.length] = session;
+            stripe.put(userId, grown);
+            return false;
+        }
+    }
+
+    /**
+     * 사용자 세션 제거 (마지막 세션이면 사용자 항목도 제거)
+     *
+     * @return 사용자의 마지막 세션이 제거되었으면 true
+     */
+    public boolean remove(long userId, String sessionId) {
+        LongObjectMap<WebSocketSession[]> stripe = stripeOf(userId);
+        synchronized (stripe) {
+            WebSocketSession[] sessions = stripe.get(userId);
+            if (sessions == null) {
+                return false;
+            }
+            for (int i = 0; i < sessions.length; i++) {
+                if (sessions[i].getId().equals(sessionId)) {
+                    if (sessions.length == 1) {
+                        stripe.remove(userId);
+                        return true;
+                    }
+                    WebSocketSession[] shrunk = new WebSocketSession[sessions.length - 1];
+                    System.arraycopy(sessions, 0, shrunk, 0, i);
+                    System.arraycopy(sessions, i + 1, shrunk, i, sessions.length - i - 1);
+                    stripe.put(userId, shrunk);
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 사용자의 세션 목록 (반환 배열은 수정하지 않는다)
+     */
+    public WebSocketSession[] sessionsOf(long userId) {
+        LongObjectMap<WebSocketSession[]> stripe = stripeOf(userId);
+        synchronized (stripe) {
+            WebSocketSession[] sessions = stripe.get(userId);
+            return sessions != null ? sessions : NO_SESSIONS;
+        }
+    }
+
+    /**
+     * 세션이 하나 이상 연결된 사용자 수
+     */
+    public int userCount() {
+        int count = 0;
+        for (LongObjectMap<WebSocketSession[]> stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.size();
+            }
+        }
+        return count;
+    }
+
+    private LongObjectMap<WebSocketSession[]> stripeOf(long userId) {
+        return stripes[(int) (userId ^ (userId >>> 32)) & (STRIPES - 1)];
+    }
+}
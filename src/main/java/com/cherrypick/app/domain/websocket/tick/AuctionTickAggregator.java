@@ -0,0 +1,251 @@
+package com.cherrypick.app.domain.websocket.tick;
+
+import com.cherrypick.app.config.WebSocketHandler;
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage.MessageType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경매별 가격 갱신(틱) 병합기
+ *
+ * 입찰 경쟁 중에는 입찰/자동입찰 경쟁/입찰 수 변경/시간 연장 메시지가 짧은 간격으로 연달아 발생한다.
+ * 경매마다 첫 갱신은 바로 보내고(leading), 이후 창(window) 동안 들어온 갱신은 최신 가격·입찰 수·종료 시각을
+ * 담은 스냅샷 하나로 합쳐 창이 끝날 때 보낸다(trailing). 따라서 마지막 상태는 항상 전송된다.
+ *
+ * 종료/유찰/자동입찰 결과처럼 상태를 확정하는 메시지를 보내기 전에는 flush 로 대기 중인 스냅샷을 먼저 보내
+ * 순서가 뒤바뀌지 않게 한다.
+ */
+@Slf4j
+@Component
+public class AuctionTickAggregator {
+
+    private static final String DESTINATION_PREFIX = "/topic/auctions/";
+
+    private final WebSocketHandler webSocketHandler;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Long, TickState> ticks = new ConcurrentHashMap<>();
+    private final Counter receivedCounter;
+    private final Counter sentCounter;
+
+    @Autowired
+    public AuctionTickAggregator(@Lazy WebSocketHandler webSocketHandler,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${websocket.tick.window-ms:150}") long windowMillis) {
+        this(webSocketHandler, meterRegistry, windowMillis, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auction-tick-flusher");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    public AuctionTickAggregator(WebSocketHandler webSocketHandler, MeterRegistry meterRegistry,
+                                 long windowMillis, ScheduledExecutorService scheduler) {
+        this.webSocketHandler = webSocketHandler;
+        this.windowMillis = windowMillis;
+        this.scheduler = scheduler;
+        this.receivedCounter = Counter.builder("websocket.tick.received")
+                .description("병합 대상 경매 갱신 메시지 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("websocket.tick.sent")
+                .description("병합 후 실제로 브로드캐스트한 경매 갱신 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.tick.active", ticks, Map::size)
+                .description("병합 창이 열려 있는 경매 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경매 갱신 제출 (NEW_BID, AUTO_BID_COMPETING, BIDDER_COUNT_CHANGED, AUCTION_EXTENDED)
+     */
+    public void submit(AuctionUpdateMessage update) {
+        if (update.getAuctionId() == null) {
+            log.warn("auctionId 없는 경매 갱신 메시지 무시: {}", update.getMessageType());
+            return;
+        }
+        receivedCounter.increment();
+        if (windowMillis <= 0) {
+            send(update);
+            return;
+        }
+
+        Long auctionId = update.getAuctionId();
+        while (true) {
+            TickState state = ticks.computeIfAbsent(auctionId, TickState::new);
+            synchronized (state) {
+                if (state.retired) {
+                    // 창이 닫히며 제거된 상태 - 새 상태로 다시 시도
+                    continue;
+                }
+                state.merge(update);
+                if (!state.windowOpen) {
+                    // 한동안 갱신이 없던 경매는 바로 보내고 창을 연다
+                    state.windowOpen = true;
+                    send(state.drainSnapshot());
+                    scheduleWindowEnd(state);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 스냅샷 즉시 전송 (확정 메시지 전송 전에 호출)
+     */
+    public void flush(Long auctionId) {
+        TickState state = ticks.get(auctionId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (!state.retired && state.dirty) {
+                send(state.drainSnapshot());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        // 종료 전 대기 중인 마지막 상태 전송
+        ticks.keySet().forEach(this::flush);
+    }
+
+    /**
+     * 창 종료 - 그 사이 갱신이 있었으면 스냅샷을 보내고 창을 한 번 더 유지, 없으면 상태 제거
+     */
+    void closeWindow(Long auctionId) {
+        TickState state = ticks.get(auctionId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            if (state.dirty) {
+                send(state.drainSnapshot());
+                scheduleWindowEnd(state);
+            } else {
+                state.retired = true;
+                ticks.remove(auctionId, state);
+            }
+        }
+    }
+
+    private void scheduleWindowEnd(TickState state) {
+        try {
+            scheduler.schedule(() -> closeWindow(state.auctionId), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 창을 닫고 이후 갱신은 바로 전송
+            state.retired = true;
+            ticks.remove(state.auctionId, state);
+        }
+    }
+
+    private void send(AuctionUpdateMessage message) {
+        try {
+            webSocketHandler.sendToAuctionSubscribers(DESTINATION_PREFIX + message.getAuctionId(), message);
+            sentCounter.increment();
+        } catch (Exception e) {
+            log.error("경매 갱신 브로드캐스트 실패: auctionId={}", message.getAuctionId(), e);
+        }
+    }
+
+    /**
+     * 경매 하나의 병합 상태 (잠금: 인스턴스 자신)
+     */
+    private static final class TickState {
+
+        private final Long auctionId;
+        private boolean windowOpen;
+        private boolean retired;
+        private boolean dirty;
+
+        // 창 안에서 가장 우선순위가 높은 메시지 유형과 그 안내 문구
+        private MessageType type;
+        private String text;
+
+        // 최신 상태 (창이 바뀌어도 유지)
+        private BigDecimal currentPrice;
+        private Integer bidCount;
+        private String highestBidderNickname;
+        private LocalDateTime endAt;
+
+        private TickState(Long auctionId) {
+            this.auctionId = auctionId;
+        }
+
+        private void merge(AuctionUpdateMessage update) {
+            if (update.getCurrentPrice() != null) {
+                currentPrice = update.getCurrentPrice();
+            }
+            if (update.getBidCount() != null) {
+                bidCount = update.getBidCount();
+            }
+            if (update.getHighestBidderNickname() != null) {
+                highestBidderNickname = update.getHighestBidderNickname();
+            }
+            if (update.getEndAt() != null) {
+                endAt = update.getEndAt();
+            }
+            if (type == null || priority(update.getMessageType()) >= priority(type)) {
+                type = update.getMessageType();
+                text = update.getMessage();
+            }
+            dirty = true;
+        }
+
+        private AuctionUpdateMessage drainSnapshot() {
+            AuctionUpdateMessage snapshot = AuctionUpdateMessage.builder()
+                    .messageType(type)
+                    .auctionId(auctionId)
+                    .currentPrice(currentPrice)
+                    .bidCount(bidCount)
+                    .highestBidderNickname(highestBidderNickname)
+                    .endAt(endAt)
+                    .message(text)
+                    .timestamp(LocalDateTime.now())
+                    .build();
+            type = null;
+            text = null;
+            dirty = false;
+            return snapshot;
+        }
+
+        /**
+         * 스냅샷 유형 우선순위 (연장 > 입찰 > 자동입찰 경쟁 > 입찰 수 변경)
+         */
+        private static int priority(MessageType type) {
+            if (type == null) {
+                return 0;
+            }
+            switch (type) {
+                case AUCTION_EXTENDED:
+                    return 4;
+                case NEW_BID:
+                    return 3;
+                case AUTO_BID_COMPETING:
+                    return 2;
+                case BIDDER_COUNT_CHANGED:
+                    return 1;
+                default:
+                    return 0;
+            }
+        }
+    }
+}
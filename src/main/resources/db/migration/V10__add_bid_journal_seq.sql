@@ -0,0 +1,6 @@
+-- 인메모리 호가창 비동기 기록용 저널 시퀀스 추가
+-- 크래시 후 저널 복구 시 이미 반영된 입찰을 건너뛰기 위해 사용
+ALTER TABLE bids
+ADD COLUMN journal_seq BIGINT;
+
+CREATE UNIQUE INDEX idx_bids_journal_seq ON bids(journal_seq);
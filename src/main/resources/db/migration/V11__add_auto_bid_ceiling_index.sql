@@ -0,0 +1,5 @@
+-- 자동입찰 상한 상위 N건 조회용 부분 인덱스
+-- 입찰마다 전체 자동입찰 설정을 읽지 않고 인덱스 순서대로 상위 2건만 읽는다
+CREATE INDEX idx_bids_auto_bid_ceiling
+ON bids(auction_id, max_auto_bid_amount DESC, bid_time, id)
+WHERE is_auto_bid = true AND bid_amount = 0 AND status = 'ACTIVE';
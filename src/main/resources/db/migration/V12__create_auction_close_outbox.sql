@@ -0,0 +1,25 @@
+-- 경매 종료 후처리 아웃박스
+-- 경매 상태 변경과 같은 트랜잭션에 첫 단계를 기록하고, 단계별 작업자가 순서대로 처리/재시도
+CREATE TABLE IF NOT EXISTS auction_close_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    auction_id BIGINT NOT NULL,
+    stage VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    payload TEXT,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    deleted_at TIMESTAMP,
+    deleted_by BIGINT,
+
+    CONSTRAINT uk_auction_close_outbox_auction_stage UNIQUE (auction_id, stage)
+);
+
+-- 단계별 처리 대기 작업 선점 (FOR UPDATE SKIP LOCKED)
+CREATE INDEX IF NOT EXISTS idx_auction_close_outbox_due
+    ON auction_close_outbox(stage, status, next_attempt_at);
+
+COMMENT ON TABLE auction_close_outbox IS '경매 종료 후처리 단계 아웃박스 (TRANSACTION → EXPERIENCE → CONNECTION → CHAT_ROOM → NOTIFY_SOLD / NOTIFY_NOT_SOLD)';
+COMMENT ON COLUMN auction_close_outbox.status IS 'PENDING: 대기/재시도 대기, DONE: 완료, DEAD: 최대 재시도 초과';
@@ -0,0 +1,8 @@
+-- 경매 북마크 수 비정규화 컬럼
+-- 목록/상세 조회 시 auction_bookmarks 행을 세지 않고 이 값을 사용한다 (증감은 BookmarkCountFlusher 가 일괄 반영)
+ALTER TABLE auctions ADD COLUMN IF NOT EXISTS bookmark_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE auctions a
+SET bookmark_count = b.cnt
+FROM (SELECT auction_id, COUNT(*) AS cnt FROM auction_bookmarks GROUP BY auction_id) b
+WHERE b.auction_id = a.id;
@@ -0,0 +1,5 @@
+-- 내 주변 경매 검색용 위치 인덱스
+-- 위도/경도 경계 상자 조건(status = ? AND latitude BETWEEN ? AND ? AND longitude BETWEEN ? AND ?)을
+-- 인덱스 범위 스캔으로 처리하고, 정확한 거리(Haversine)는 범위를 통과한 후보에만 계산한다
+CREATE INDEX IF NOT EXISTS idx_auctions_status_location
+ON auctions(status, latitude, longitude);
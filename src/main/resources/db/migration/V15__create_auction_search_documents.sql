@@ -0,0 +1,12 @@
+-- 경매 검색 문서 (제목/설명 n-gram 전문 검색)
+-- LIKE '%키워드%' 전체 스캔 대신 AuctionSearchTokenizer 의 2-gram 토큰 tsvector 를 GIN 인덱스로 검색한다
+-- 토큰화는 애플리케이션에서 하므로 기존 경매는 기동 후 AuctionSearchIndexer 가 채운다
+CREATE TABLE IF NOT EXISTS auction_search_documents (
+    auction_id BIGINT PRIMARY KEY REFERENCES auctions(id) ON DELETE CASCADE,
+    document TSVECTOR NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_auction_search_documents_document
+ON auction_search_documents USING GIN (document);
+
+COMMENT ON TABLE auction_search_documents IS '경매 검색 문서 (제목 가중치 A, 설명 가중치 B 의 2-gram tsvector)';
@@ -0,0 +1,7 @@
+-- 알림 내역 ID 를 IDENTITY 대신 시퀀스로 발급
+-- 알림을 모아 JDBC 배치 INSERT 로 저장하려면 INSERT 전에 ID 를 미리 확보해야 함
+-- INCREMENT BY 는 NotificationHistory.ID_ALLOCATION_SIZE(50) 와 같아야 하며, nextval 값 v 가 (v - 49) ~ v 구간을 예약함
+CREATE SEQUENCE IF NOT EXISTS notification_history_seq START WITH 1 INCREMENT BY 50;
+
+-- 기존 ID 와 겹치지 않도록 다음 nextval 이 MAX(id) + 50 이 되게 맞춤 (첫 구간: MAX(id) + 1 ~ MAX(id) + 50)
+SELECT setval('notification_history_seq', COALESCE((SELECT MAX(id) FROM notification_history), 0) + 50, false);
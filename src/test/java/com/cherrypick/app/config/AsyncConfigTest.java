@@ -0,0 +1,120 @@
+package com.cherrypick.app.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기(@Async) 전용 실행기 단위 테스트
+ */
+@DisplayName("@Async 전용 실행기 단위 테스트")
+class AsyncConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncConfig asyncConfig;
+    private ThreadPoolExecutor executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        asyncConfig = new AsyncConfig(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실행기별 이름의 스레드에서 실행하고 대기열 크기를 지표로 노출한다")
+    void executor_UsesNamedThreadsAndExposesQueueSize() throws Exception {
+        executor = asyncConfig.bulkNotificationExecutor(1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        String[] threadName = new String[1];
+
+        executor.execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            started.countDown();
+            await(release);
+        });
+        executor.execute(() -> { });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(threadName[0]).startsWith("notification-bulk-");
+        assertThat(meterRegistry.get("async.executor.queue.size").tag("executor", "notification-bulk").gauge().value())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.active").tag("executor", "notification-bulk").gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 상태가 이어지면 작업을 버리고 집계한다")
+    void executor_DropsWhenQueueStaysFull() {
+        ReflectionTestUtils.setField(asyncConfig, "offerTimeoutMillis", 0L);
+        executor = asyncConfig.notificationExecutor(1, 1);
+        AtomicInteger ran = new AtomicInteger();
+
+        executor.execute(() -> await(release));
+        executor.execute(ran::incrementAndGet);
+        executor.execute(ran::incrementAndGet);
+
+        assertThat(executor.getQueue()).hasSize(1);
+        assertThat(meterRegistry.get("async.executor.rejected").tag("executor", "notification").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.dropped").tag("executor", "notification").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 제출 스레드가 자리가 날 때까지 기다린다")
+    void executor_BlocksSubmitterUntilQueueHasRoom() throws Exception {
+        ReflectionTestUtils.setField(asyncConfig, "offerTimeoutMillis", 5000L);
+        executor = asyncConfig.keywordMatchExecutor(1, 1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        executor.execute(() -> await(release));
+        executor.execute(done::countDown);
+        new Thread(() -> {
+            sleep(100);
+            release.countDown();
+        }).start();
+        // 대기열이 빌 때까지 기다렸다가 들어감
+        executor.execute(done::countDown);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("async.executor.rejected").tag("executor", "keyword-match").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("async.executor.dropped").tag("executor", "keyword-match").counter().count())
+                .isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.cherrypick.app.config;
+
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.cherrypick.app.domain.websocket.event.UserActivityEvent;
+import com.cherrypick.app.domain.websocket.event.UserConnectionEvent;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.cherrypick.app.domain.websocket.outbound.OutboundMessageDispatcher;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLogs;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 브로드캐스트 단위 테스트
+ */
+@DisplayName("WebSocket 브로드캐스트 단위 테스트")
+class WebSocketHandlerBroadcastTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private WebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        SessionLivenessManager livenessManager = new SessionLivenessManager(new SimpleMeterRegistry(), 1000, 90_000);
+        // 송신 대기열은 호출 스레드에서 바로 비움
+        handler = new WebSocketHandler(events::add, null,
+                new OutboundMessageDispatcher(new SimpleMeterRegistry(), Runnable::run, 1024, 1 << 20, 10_000),
+                livenessManager, new TopicReplayLogs(livenessManager, 64, 60_000));
+    }
+
+    @Test
+    @DisplayName("경매 구독자 모두에게 한 번 직렬화한 같은 메시지 인스턴스를 보낸다")
+    void broadcastToAuction_SharesEncodedMessage() throws Exception {
+        WebSocketSession first = subscribedSession("s1", "10");
+        WebSocketSession second = subscribedSession("s2", "10");
+
+        handler.broadcastToAuction("10", AuctionUpdateMessage.newBid(10L, BigDecimal.valueOf(5000), 3, "체리****"));
+
+        ArgumentCaptor<TextMessage> firstCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        ArgumentCaptor<TextMessage> secondCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(first).sendMessage(firstCaptor.capture());
+        verify(second).sendMessage(secondCaptor.capture());
+
+        assertThat(firstCaptor.getValue()).isSameAs(secondCaptor.getValue());
+        assertThat(firstCaptor.getValue().getPayload())
+                .contains("\"messageType\":\"NEW_BID\"")
+                .contains("\"auctionId\":10");
+    }
+
+    @Test
+    @DisplayName("닫힌 세션에는 보내지 않고 구독에서 제거한다")
+    void broadcastToAuction_RemovesClosedSession() throws Exception {
+        WebSocketSession open = subscribedSession("s1", "10");
+        WebSocketSession closed = subscribedSession("s2", "10");
+        when(closed.isOpen()).thenReturn(false);
+
+        handler.broadcastToAuction("10", AuctionUpdateMessage.bidCountUpdate(10L, 1));
+
+        verify(open).sendMessage(any());
+        verify(closed, never()).sendMessage(any());
+        assertThat(handler.getAuctionSubscriberCount("10")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 대상 전송은 인증한 사용자의 세션에만 가고 연결 종료 후에는 가지 않는다")
+    void sendToUser_UsesAuthenticatedSessions() throws Exception {
+        WebSocketSession phone = authenticatedSession("s1", 7L);
+        WebSocketSession tablet = authenticatedSession("s2", 7L);
+        WebSocketSession other = authenticatedSession("s3", 8L);
+
+        handler.sendToUser("7", Map.of("type", "UNREAD_COUNT", "count", 1));
+
+        verify(phone).sendMessage(any());
+        verify(tablet).sendMessage(any());
+        verify(other, never()).sendMessage(any());
+
+        handler.afterConnectionClosed(phone, CloseStatus.NORMAL);
+        clearInvocations(phone, tablet);
+        handler.sendToUser("7", Map.of("type", "UNREAD_COUNT", "count", 2));
+
+        verify(phone, never()).sendMessage(any());
+        verify(tablet).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("CBOR 를 협상한 세션은 바이너리 프레임으로 요청하고 받으며 JSON 세션은 그대로 텍스트를 받는다")
+    void broadcastToAuction_UsesNegotiatedWireFormat() throws Exception {
+        ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+        WebSocketSession json = subscribedSession("s1", "10");
+        WebSocketSession cbor = mock(WebSocketSession.class);
+        when(cbor.getId()).thenReturn("s2");
+        when(cbor.isOpen()).thenReturn(true);
+        when(cbor.getAcceptedProtocol()).thenReturn("cherrypick.cbor");
+        handler.afterConnectionEstablished(cbor);
+        handler.handleBinaryMessage(cbor, new BinaryMessage(
+                cborMapper.writeValueAsBytes(Map.of("type", "SUBSCRIBE", "auctionId", "10"))));
+        clearInvocations(cbor);
+
+        assertThat(handler.getAuctionSubscriberCount("10")).isEqualTo(2);
+
+        handler.broadcastToAuction("10", AuctionUpdateMessage.newBid(10L, BigDecimal.valueOf(5000), 3, "체리****"));
+
+        ArgumentCaptor<WebSocketMessage<?>> jsonCaptor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        ArgumentCaptor<WebSocketMessage<?>> cborCaptor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(json).sendMessage(jsonCaptor.capture());
+        verify(cbor).sendMessage(cborCaptor.capture());
+
+        assertThat(jsonCaptor.getValue()).isInstanceOf(TextMessage.class);
+        assertThat(cborCaptor.getValue()).isInstanceOf(BinaryMessage.class);
+        byte[] cborPayload = ((BinaryMessage) cborCaptor.getValue()).getPayload().array();
+        assertThat(cborMapper.readTree(cborPayload).get("messageType").asText()).isEqualTo("NEW_BID");
+    }
+
+    @Test
+    @DisplayName("PING 은 PONG 으로 바로 응답하고 활동 이벤트는 주기마다 한 번만 발행한다")
+    void ping_RepliesPongAndBatchesActivity() throws Exception {
+        WebSocketSession session = authenticatedSession("s1", 7L);
+        events.clear();
+
+        for (int i = 0; i < 3; i++) {
+            handler.handleTextMessage(session, new TextMessage("{\"type\":\"PING\",\"timestamp\":" + i + "}"));
+        }
+
+        ArgumentCaptor<TextMessage> pongCaptor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(3)).sendMessage(pongCaptor.capture());
+        assertThat(pongCaptor.getAllValues().get(2).getPayload())
+                .startsWith("{\"type\":\"PONG\",\"timestamp\":2,\"serverTime\":");
+        assertThat(events).noneMatch(UserConnectionEvent.class::isInstance);
+
+        handler.flushUserActivity();
+        handler.flushUserActivity();
+
+        assertThat(events).hasSize(1);
+        assertThat(((UserActivityEvent) events.get(0)).getLastActivityByUser()).containsOnlyKeys(7L);
+    }
+
+    @Test
+    @DisplayName("재연결해 lastSeq 와 epoch 를 보내면 놓친 경매 메시지만 순서대로 다시 받는다")
+    void subscribeWithLastSeq_ReplaysMissedMessages() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        WebSocketSession first = mock(WebSocketSession.class);
+        when(first.getId()).thenReturn("s1");
+        when(first.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(first);
+        handler.handleTextMessage(first, new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"10\"}"));
+        JsonNode subscribed = objectMapper.readTree(sentPayloads(first, 2).get(1));
+        String epoch = subscribed.get("epoch").asText();
+        assertThat(subscribed.get("seq").asLong()).isZero();
+        clearInvocations(first);
+
+        for (int count = 1; count <= 3; count++) {
+            handler.broadcastToAuction("10", AuctionUpdateMessage.bidCountUpdate(10L, count));
+        }
+        assertThat(sentPayloads(first, 3)).extracting(payload -> objectMapper.readTree(payload).get("seq").asLong())
+                .containsExactly(1L, 2L, 3L);
+
+        // 연결이 끊긴 동안의 메시지도 보존 기간 안에는 기록됨
+        handler.afterConnectionClosed(first, CloseStatus.GOING_AWAY);
+        handler.broadcastToAuction("10", AuctionUpdateMessage.bidCountUpdate(10L, 4));
+        handler.broadcastToAuction("10", AuctionUpdateMessage.bidCountUpdate(10L, 5));
+
+        WebSocketSession resumed = mock(WebSocketSession.class);
+        when(resumed.getId()).thenReturn("s2");
+        when(resumed.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(resumed);
+        handler.handleTextMessage(resumed, new TextMessage(
+                "{\"type\":\"SUBSCRIBE\",\"auctionId\":\"10\",\"lastSeq\":3,\"epoch\":\"" + epoch + "\"}"));
+
+        List<String> payloads = sentPayloads(resumed, 4);
+        JsonNode confirm = objectMapper.readTree(payloads.get(1));
+        assertThat(confirm.get("type").asText()).isEqualTo("SUBSCRIBED");
+        assertThat(confirm.get("seq").asLong()).isEqualTo(5L);
+        assertThat(confirm.get("resyncRequired").asBoolean()).isFalse();
+        assertThat(payloads.subList(2, 4)).extracting(payload -> objectMapper.readTree(payload).get("seq").asLong())
+                .containsExactly(4L, 5L);
+
+        // 다른 세대의 순번은 이어받을 수 없으므로 전체 조회 요청
+        WebSocketSession stale = mock(WebSocketSession.class);
+        when(stale.getId()).thenReturn("s3");
+        when(stale.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(stale);
+        handler.handleTextMessage(stale, new TextMessage(
+                "{\"type\":\"SUBSCRIBE\",\"auctionId\":\"10\",\"lastSeq\":3,\"epoch\":\"other\"}"));
+
+        JsonNode staleConfirm = objectMapper.readTree(sentPayloads(stale, 2).get(1));
+        assertThat(staleConfirm.get("resyncRequired").asBoolean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("순번을 붙인 현재가 메시지는 대기 프레임을 맨 뒤로 옮겨 병합되어 순번이 뒤바뀌지 않고, 재전송 프레임은 병합되지 않는다")
+    void sequencedFrames_CoalesceInSeqOrder() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        // 작성자 작업을 쌓아 두었다가 한꺼번에 실행해 송신 대기열에 프레임이 남아 있게 함
+        List<Runnable> writerTasks = new ArrayList<>();
+        SessionLivenessManager livenessManager = new SessionLivenessManager(new SimpleMeterRegistry(), 1000, 90_000);
+        WebSocketHandler queuedHandler = new WebSocketHandler(events::add, null,
+                new OutboundMessageDispatcher(new SimpleMeterRegistry(), writerTasks::add, 1024, 1 << 20, 10_000),
+                livenessManager, new TopicReplayLogs(livenessManager, 64, 60_000));
+
+        WebSocketSession live = mock(WebSocketSession.class);
+        when(live.getId()).thenReturn("s1");
+        when(live.isOpen()).thenReturn(true);
+        queuedHandler.afterConnectionEstablished(live);
+        queuedHandler.handleTextMessage(live, new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"10\"}"));
+        runAll(writerTasks);
+        String epoch = objectMapper.readTree(sentPayloads(live, 2).get(1)).get("epoch").asText();
+        clearInvocations(live);
+
+        // 병합 가능한 NEW_BID 사이에 병합하지 않는 연장 메시지, 세 번째는 다른 노드에서 중계된 NEW_BID
+        queuedHandler.broadcastToAuction("10", AuctionUpdateMessage.newBid(10L, BigDecimal.valueOf(5000), 1, "체리****"));
+        queuedHandler.broadcastToAuction("10", AuctionUpdateMessage.auctionExtended(10L, null, BigDecimal.valueOf(5000), 1));
+        queuedHandler.deliverLocal("/topic/auctions/10",
+                new TextMessage("{\"messageType\":\"NEW_BID\",\"auctionId\":10,\"currentPrice\":6000}"), "NEW_BID:10");
+
+        // 놓친 메시지를 재전송받는 세션은 재전송 프레임이 실시간 NEW_BID 와 병합되지 않아야 함
+        WebSocketSession resumed = mock(WebSocketSession.class);
+        when(resumed.getId()).thenReturn("s2");
+        when(resumed.isOpen()).thenReturn(true);
+        queuedHandler.afterConnectionEstablished(resumed);
+        queuedHandler.handleTextMessage(resumed, new TextMessage(
+                "{\"type\":\"SUBSCRIBE\",\"auctionId\":\"10\",\"lastSeq\":0,\"epoch\":\"" + epoch + "\"}"));
+        queuedHandler.broadcastToAuction("10", AuctionUpdateMessage.newBid(10L, BigDecimal.valueOf(7000), 3, "체리****"));
+
+        runAll(writerTasks);
+
+        // 실시간 세션: 대기 중이던 NEW_BID(1, 3)는 최신 NEW_BID 로 대체되고, 남은 프레임은 순번 순서
+        List<JsonNode> liveFrames = new ArrayList<>();
+        for (String payload : sentPayloads(live, 2)) {
+            liveFrames.add(objectMapper.readTree(payload));
+        }
+        assertThat(liveFrames).extracting(frame -> frame.get("seq").asLong()).containsExactly(2L, 4L);
+        assertThat(liveFrames).extracting(frame -> frame.get("messageType").asText())
+                .containsExactly("AUCTION_EXTENDED", "NEW_BID");
+        assertThat(liveFrames.get(1).get("currentPrice").asInt()).isEqualTo(7000);
+
+        List<String> resumedPayloads = sentPayloads(resumed, 6);
+        assertThat(resumedPayloads.subList(2, 6)).extracting(payload -> objectMapper.readTree(payload).get("seq").asLong())
+                .containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private List<String> sentPayloads(WebSocketSession session, int expected) throws Exception {
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(expected)).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(TextMessage::getPayload).toList();
+    }
+
+    private WebSocketSession authenticatedSession(String sessionId, long userId) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("{\"type\":\"AUTH\",\"userId\":" + userId + "}"));
+        clearInvocations(session);
+        return session;
+    }
+
+    private WebSocketSession subscribedSession(String sessionId, String auctionId) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session,
+                new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"" + auctionId + "\"}"));
+        // 연결/구독 확인 메시지는 검증 대상에서 제외
+        clearInvocations(session);
+        return session;
+    }
+}
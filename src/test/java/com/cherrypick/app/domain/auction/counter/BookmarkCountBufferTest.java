@@ -0,0 +1,116 @@
+package com.cherrypick.app.domain.auction.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 북마크 수 증감 버퍼 단위 테스트
+ */
+@DisplayName("북마크 수 증감 버퍼 단위 테스트")
+class BookmarkCountBufferTest {
+
+    @Test
+    @DisplayName("증감값은 경매별로 합산되고 drain 후 비워진다")
+    void drain_ReturnsSummedDeltas() {
+        BookmarkCountBuffer buffer = new BookmarkCountBuffer();
+        buffer.record(1L, 1);
+        buffer.record(1L, 1);
+        buffer.record(2L, 1);
+        buffer.record(2L, -1);
+        buffer.record(3L, -1);
+
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(2L);
+
+        Map<Long, Long> drained = buffer.drain();
+
+        // 합이 0인 경매는 반영할 필요가 없음
+        assertThat(drained).containsOnly(Map.entry(1L, 2L), Map.entry(3L, -1L));
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패로 되돌린 증감값은 그 사이 기록된 값과 합쳐진다")
+    void restore_MergesWithNewDeltas() {
+        BookmarkCountBuffer buffer = new BookmarkCountBuffer();
+        buffer.record(1L, 3);
+        Map<Long, Long> drained = buffer.drain();
+
+        buffer.record(1L, -1);
+        buffer.restore(drained);
+
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중 기록은 같은 스레드에서만 보이고 커밋 후 버퍼에 합쳐지며 롤백 시 버려진다")
+    void record_InTransaction_AppliedOnlyAfterCommit() {
+        BookmarkCountBuffer buffer = new BookmarkCountBuffer();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.record(1L, 1);
+            assertThat(buffer.getPendingDelta(1L)).isEqualTo(1L);
+            assertThat(buffer.drain()).isEmpty();
+            completeTransaction(true);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.record(1L, 5);
+            completeTransaction(false);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 증감값이 유실되지 않는다")
+    void record_Concurrent_NoLostUpdates() throws InterruptedException {
+        BookmarkCountBuffer buffer = new BookmarkCountBuffer();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        buffer.record((long) (i % 100), 1);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        long total = buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        assertThat(total).isEqualTo((long) threads * perThread);
+    }
+
+    private void completeTransaction(boolean committed) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (committed) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        int status = committed ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,86 @@
+package com.cherrypick.app.domain.auction.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 증가 버퍼 단위 테스트
+ */
+@DisplayName("조회수 증가 버퍼 단위 테스트")
+class ViewCountBufferTest {
+
+    @Test
+    @DisplayName("경매별 조회수가 누적되고 drain 후 초기화된다")
+    void drain_ReturnsAccumulatedViews() {
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.record(1L);
+        buffer.record(1L);
+        buffer.record(2L);
+
+        assertThat(buffer.getPendingTotal()).isEqualTo(3L);
+        assertThat(buffer.drain()).containsOnly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        assertThat(buffer.getPendingTotal()).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 실패로 되돌린 조회수는 다음 drain 에 포함된다")
+    void restore_IncludedInNextDrain() {
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        buffer.record(1L);
+        Map<Long, Long> drained = buffer.drain();
+
+        buffer.record(1L);
+        buffer.restore(drained);
+
+        assertThat(buffer.getPendingViews(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("기록과 drain 이 동시에 일어나도 조회수가 유실되지 않는다")
+    void drain_ConcurrentWithRecord_NoLostViews() throws InterruptedException {
+        ViewCountBuffer buffer = new ViewCountBuffer();
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        AtomicBoolean recording = new AtomicBoolean(true);
+        AtomicLong flushed = new AtomicLong();
+
+        Thread flusher = new Thread(() -> {
+            while (recording.get()) {
+                buffer.drain().values().forEach(flushed::addAndGet);
+            }
+        });
+        flusher.start();
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        buffer.record((long) (i % 50));
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        recording.set(false);
+        flusher.join();
+        executor.shutdown();
+
+        buffer.drain().values().forEach(flushed::addAndGet);
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+    }
+}
@@ -0,0 +1,64 @@
+package com.cherrypick.app.domain.auction.entity;
+
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseTaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 경매 종료 후처리 아웃박스 단위 테스트
+ */
+@DisplayName("경매 종료 후처리 아웃박스 단위 테스트")
+class AuctionCloseTaskTest {
+
+    @Test
+    @DisplayName("낙찰 후처리는 거래 → 경험치 → 연결 → 채팅방 → 낙찰 알림 순서로 진행된다")
+    void stage_SoldChain() {
+        AuctionCloseStage stage = AuctionCloseStage.TRANSACTION;
+        StringBuilder chain = new StringBuilder(stage.name());
+        while ((stage = stage.next()) != null) {
+            chain.append(" > ").append(stage.name());
+        }
+
+        assertThat(chain.toString()).isEqualTo("TRANSACTION > EXPERIENCE > CONNECTION > CHAT_ROOM > NOTIFY_SOLD");
+        assertThat(AuctionCloseStage.NOTIFY_NOT_SOLD.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("의존 단계는 낙찰 알림을 독립 단계로 두고, 알림 단계는 뒤따르는 알림이 없다")
+    void stage_NotificationIsIndependent() {
+        for (AuctionCloseStage stage : List.of(AuctionCloseStage.TRANSACTION, AuctionCloseStage.EXPERIENCE,
+                AuctionCloseStage.CONNECTION, AuctionCloseStage.CHAT_ROOM)) {
+            assertThat(stage.isNotification()).isFalse();
+            assertThat(stage.notification()).isEqualTo(AuctionCloseStage.NOTIFY_SOLD);
+        }
+        assertThat(AuctionCloseStage.NOTIFY_SOLD.isNotification()).isTrue();
+        assertThat(AuctionCloseStage.NOTIFY_NOT_SOLD.isNotification()).isTrue();
+        assertThat(AuctionCloseStage.NOTIFY_SOLD.notification()).isNull();
+        assertThat(AuctionCloseStage.NOTIFY_NOT_SOLD.notification()).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 시 재시도 시각이 뒤로 밀리고, 최대 시도 횟수에 도달하면 DEAD 가 된다")
+    void recordFailure_BackoffThenDead() {
+        AuctionCloseTask task = AuctionCloseTask.create(1L, AuctionCloseStage.CONNECTION, null);
+
+        boolean dead = task.recordFailure("timeout", 2, 60_000);
+
+        assertThat(dead).isFalse();
+        assertThat(task.getStatus()).isEqualTo(AuctionCloseTaskStatus.PENDING);
+        assertThat(task.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+
+        dead = task.recordFailure("timeout", 2, 60_000);
+
+        assertThat(dead).isTrue();
+        assertThat(task.getStatus()).isEqualTo(AuctionCloseTaskStatus.DEAD);
+        assertThat(task.getAttempts()).isEqualTo(2);
+        assertThat(task.getLastError()).isEqualTo("timeout");
+    }
+}
@@ -0,0 +1,102 @@
+package com.cherrypick.app.domain.auction.geo;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 위치 격자 인덱스 단위 테스트
+ */
+@DisplayName("경매 위치 격자 인덱스 단위 테스트")
+class AuctionGeoGridTest {
+
+    // 서울시청
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LNG = 126.9780;
+
+    @Test
+    @DisplayName("반경 안의 경매만 반환하고 판매자 노출 반경 밖의 구매자에게는 보이지 않는다")
+    void findWithin_AppliesBuyerAndSellerRadius() {
+        AuctionGeoGrid grid = new AuctionGeoGrid();
+        grid.put(entry(1L, 37.5700, 126.9800, null, Category.ELECTRONICS));   // 약 0.4km
+        grid.put(entry(2L, 37.6500, 127.0500, null, Category.ELECTRONICS));   // 약 11km
+        grid.put(entry(3L, 37.6000, 127.0000, 1, Category.ELECTRONICS));      // 약 4km, 판매자 반경 1km
+        grid.put(entry(4L, 35.1796, 129.0756, null, Category.ELECTRONICS));   // 부산
+
+        Set<Long> ids = auctionIds(grid.findWithin(CENTER_LAT, CENTER_LNG, 10, null));
+
+        assertThat(ids).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("카테고리를 지정하면 해당 카테고리 경매만 반환한다")
+    void findWithin_FiltersCategory() {
+        AuctionGeoGrid grid = new AuctionGeoGrid();
+        grid.put(entry(1L, 37.5700, 126.9800, null, Category.ELECTRONICS));
+        grid.put(entry(2L, 37.5710, 126.9810, null, Category.CLOTHING));
+
+        assertThat(auctionIds(grid.findWithin(CENTER_LAT, CENTER_LNG, 5, Category.CLOTHING))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("위치가 바뀌면 이전 셀에서 빠지고 제거된 경매는 더 이상 검색되지 않는다")
+    void putAndRemove_UpdatesCells() {
+        AuctionGeoGrid grid = new AuctionGeoGrid();
+        grid.put(entry(1L, 35.1796, 129.0756, null, Category.ELECTRONICS));
+        grid.put(entry(1L, 37.5700, 126.9800, null, Category.ELECTRONICS));
+
+        assertThat(grid.size()).isEqualTo(1);
+        assertThat(auctionIds(grid.findWithin(CENTER_LAT, CENTER_LNG, 5, null))).containsExactly(1L);
+        assertThat(grid.findWithin(35.1796, 129.0756, 5, null)).isEmpty();
+
+        assertThat(grid.remove(1L)).isTrue();
+        assertThat(grid.remove(1L)).isFalse();
+        assertThat(grid.findWithin(CENTER_LAT, CENTER_LNG, 5, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("격자 검색 결과는 전체 경매를 거리 계산으로 거른 결과와 같다")
+    void findWithin_MatchesBruteForce() {
+        AuctionGeoGrid grid = new AuctionGeoGrid();
+        Random random = new Random(42);
+        List<AuctionGeoGrid.Entry> all = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            Integer sellerRadius = random.nextInt(4) == 0 ? 1 + random.nextInt(20) : null;
+            AuctionGeoGrid.Entry entry = entry(id, 33.0 + random.nextDouble() * 5.5,
+                    124.5 + random.nextDouble() * 7.0, sellerRadius, Category.ELECTRONICS);
+            grid.put(entry);
+            all.add(entry);
+        }
+
+        for (double radiusKm : new double[]{1, 5, 20, 100, 20000}) {
+            Set<Long> expected = all.stream()
+                    .filter(e -> {
+                        double distance = AuctionGeoGrid.distanceKm(CENTER_LAT, CENTER_LNG, e.getLatitude(), e.getLongitude());
+                        return distance <= radiusKm && (e.getRegionRadiusKm() == null || distance <= e.getRegionRadiusKm());
+                    })
+                    .map(AuctionGeoGrid.Entry::getAuctionId)
+                    .collect(Collectors.toSet());
+
+            assertThat(auctionIds(grid.findWithin(CENTER_LAT, CENTER_LNG, radiusKm, null)))
+                    .as("radius %skm", radiusKm)
+                    .isEqualTo(expected);
+        }
+    }
+
+    private AuctionGeoGrid.Entry entry(Long id, double lat, double lng, Integer sellerRadiusKm, Category category) {
+        return new AuctionGeoGrid.Entry(id, lat, lng, sellerRadiusKm, category, LocalDateTime.now());
+    }
+
+    private Set<Long> auctionIds(List<AuctionGeoGrid.Match> matches) {
+        return matches.stream().map(match -> match.getEntry().getAuctionId()).collect(Collectors.toSet());
+    }
+}
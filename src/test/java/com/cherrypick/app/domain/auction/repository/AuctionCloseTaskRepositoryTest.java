@@ -0,0 +1,121 @@
+package com.cherrypick.app.domain.auction.repository;
+
+import com.cherrypick.app.domain.auction.entity.AuctionCloseTask;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseTaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 종료 후처리 아웃박스 선점 쿼리 테스트
+ * 작업자 두 개가 각자 트랜잭션에서 claimNext 를 실행할 때 FOR UPDATE SKIP LOCKED 로
+ * 서로 다른 작업을 선점하는지 실제 DB 잠금으로 검증한다. (트랜잭션을 커밋해야 하므로 @Transactional 을 쓰지 않음)
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    // 파이프라인 작업자가 테스트 작업을 먼저 가져가지 않도록 CONNECTION 단계 작업자는 띄우지 않음
+    "auction.close.pipeline.concurrency.connection=0"
+})
+class AuctionCloseTaskRepositoryTest {
+
+    // 다른 테스트가 남긴 작업과 섞이지 않도록 테스트 작업만 이 시각에 처리 대상이 됨
+    private static final LocalDateTime DUE_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private AuctionCloseTaskRepository taskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> createdTaskIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllById(createdTaskIds);
+    }
+
+    @Test
+    @DisplayName("다른 작업자가 선점해 잠근 작업은 기다리지 않고 건너뛰어 다음 작업을 선점한다")
+    void claimNext_SkipsRowsLockedByAnotherWorker() throws Exception {
+        long auctionIdBase = System.currentTimeMillis() * 10;
+        AuctionCloseTask first = saveTask(auctionIdBase + 1);
+        AuctionCloseTask second = saveTask(auctionIdBase + 2);
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService otherWorker = Executors.newSingleThreadExecutor();
+        try {
+            // 다른 작업자: 첫 작업을 선점한 채 트랜잭션을 열어 둠
+            Future<Long> otherClaim = otherWorker.submit(() -> transactionTemplate.execute(status -> {
+                Long taskId = claimId();
+                claimed.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return taskId;
+            }));
+            assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Long claimedHere = transactionTemplate.execute(status -> claimId());
+            release.countDown();
+
+            assertThat(otherClaim.get(10, TimeUnit.SECONDS)).isEqualTo(first.getId());
+            assertThat(claimedHere).isEqualTo(second.getId());
+        } finally {
+            release.countDown();
+            otherWorker.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("완료되었거나 재시도 시각 전인 작업은 선점하지 않는다")
+    void claimNext_OnlyDuePendingTasks() {
+        long auctionIdBase = System.currentTimeMillis() * 10 + 5;
+        AuctionCloseTask done = saveTask(auctionIdBase + 1);
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.findById(done.getId()).orElseThrow().complete());
+        AuctionCloseTask retrying = saveTask(auctionIdBase + 2);
+        transactionTemplate.executeWithoutResult(status ->
+                taskRepository.findById(retrying.getId()).orElseThrow().recordFailure("timeout", 8, 60_000));
+
+        assertThat(transactionTemplate.execute(status -> claimId())).isNull();
+    }
+
+    private Long claimId() {
+        return taskRepository.claimNext(AuctionCloseStage.CONNECTION.name(), DUE_AT)
+                .map(AuctionCloseTask::getId)
+                .orElse(null);
+    }
+
+    private AuctionCloseTask saveTask(long auctionId) {
+        AuctionCloseTask task = taskRepository.save(AuctionCloseTask.builder()
+                .auctionId(auctionId)
+                .stage(AuctionCloseStage.CONNECTION)
+                .status(AuctionCloseTaskStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(DUE_AT)
+                .build());
+        createdTaskIds.add(task.getId());
+        return task;
+    }
+}
@@ -0,0 +1,145 @@
+package com.cherrypick.app.domain.auction.repository;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.enums.AuctionStatus;
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.auction.enums.RegionScope;
+import com.cherrypick.app.domain.auction.search.AuctionSearchIndexer;
+import com.cherrypick.app.domain.auction.search.AuctionSearchTokenizer;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 키워드 검색 쿼리 테스트
+ * auction_search_documents 의 n-gram tsvector 에 AuctionSearchTokenizer.toTsQuery 를 실제로 실행해
+ * 검색어가 제목/설명에 연속해서 나오는 경매만 찾는지 검증한다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN"
+})
+class AuctionKeywordSearchTest {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuctionSearchIndexer searchIndexer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 경매 ID -> 제목
+    private final Map<Long, String> titles = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 스키마는 ddl-auto 로 만들므로 V15 마이그레이션의 GIN 인덱스를 직접 생성
+        entityManager.createNativeQuery("CREATE INDEX IF NOT EXISTS idx_auction_search_documents_document "
+                + "ON auction_search_documents USING GIN (document)").executeUpdate();
+
+        String timestamp = String.valueOf(System.currentTimeMillis() % 100000000);
+        User seller = userRepository.save(User.builder()
+            .phoneNumber("010" + timestamp.substring(0, 8))
+            .nickname("검색판매자_" + timestamp)
+            .email("search_seller_" + timestamp + "@test.com")
+            .password("password")
+            .build());
+
+        createAuction(seller, "애플 아이폰15 프로 256GB", "박스 포함");
+        createAuction(seller, "아이폰 케이스 투명", "새상품");
+        createAuction(seller, "아이폰 13 실리콘 케이스", "15개 묶음");
+        createAuction(seller, "중고 노트북", "아이폰15 와 함께 쓰던 제품");
+        createAuction(seller, "폰거치대 차량용", "15cm");
+        createAuction(seller, "무선 충전기", "거치대 포함");
+        entityManager.flush();
+        titles.keySet().forEach(id -> searchIndexer.index(auctionRepository.findById(id).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("붙여 쓴 검색어는 제목이나 설명에 연속해서 나오는 경매만 찾는다")
+    void searchByKeyword_AdjacentRuns() {
+        assertThat(search("폰15")).containsExactlyInAnyOrder("애플 아이폰15 프로 256GB", "중고 노트북");
+        assertThat(search("아이폰15 프로")).containsExactly("애플 아이폰15 프로 256GB");
+    }
+
+    @Test
+    @DisplayName("띄어 쓴 검색어는 단어가 떨어져 있는 경매와 일치하지 않는다")
+    void searchByKeyword_WordsArePhrase() {
+        assertThat(search("아이폰 케이스")).containsExactly("아이폰 케이스 투명");
+        assertThat(search("케이스")).containsExactlyInAnyOrder("아이폰 케이스 투명", "아이폰 13 실리콘 케이스");
+    }
+
+    @Test
+    @DisplayName("제목 끝과 설명 앞에 걸친 검색어는 일치하지 않는다")
+    void searchByKeyword_DoesNotSpanTitleAndDescription() {
+        assertThat(search("충전기 거치대")).isEmpty();
+        assertThat(search("무선 충전기")).containsExactly("무선 충전기");
+        assertThat(search("거치대 포함")).containsExactly("무선 충전기");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 구간 끝 글자와 그 글자로 시작하는 구간을 모두 찾는다")
+    void searchByKeyword_SingleCharacter() {
+        assertThat(search("폰")).containsExactlyInAnyOrder("애플 아이폰15 프로 256GB", "아이폰 케이스 투명",
+                "아이폰 13 실리콘 케이스", "중고 노트북", "폰거치대 차량용");
+        assertThat(search("gb")).containsExactly("애플 아이폰15 프로 256GB");
+    }
+
+    /**
+     * 이 테스트에서 만든 경매 중 검색된 경매 제목 (같은 DB 의 다른 데이터는 제외)
+     */
+    private List<String> search(String keyword) {
+        String tsQuery = AuctionSearchTokenizer.toTsQuery(keyword);
+        return auctionRepository.searchByKeyword(tsQuery, AuctionStatus.ACTIVE.name(), PageRequest.of(0, 1000))
+            .getContent().stream()
+            .map(Auction::getId)
+            .filter(titles::containsKey)
+            .map(titles::get)
+            .toList();
+    }
+
+    private void createAuction(User seller, String title, String description) {
+        Auction auction = auctionRepository.save(Auction.builder()
+            .title(title)
+            .description(description)
+            .category(Category.ELECTRONICS)
+            .startPrice(BigDecimal.valueOf(10000))
+            .currentPrice(BigDecimal.valueOf(10000))
+            .hopePrice(BigDecimal.valueOf(50000))
+            .regionScope(RegionScope.NATIONWIDE)
+            .regionCode("11")
+            .status(AuctionStatus.ACTIVE)
+            .seller(seller)
+            .startAt(LocalDateTime.now())
+            .endAt(LocalDateTime.now().plusHours(24))
+            .auctionTimeHours(24)
+            .viewCount(0)
+            .bidCount(0)
+            .build());
+        titles.put(auction.getId(), title);
+    }
+}
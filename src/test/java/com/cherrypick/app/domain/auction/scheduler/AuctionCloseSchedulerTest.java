@@ -0,0 +1,177 @@
+package com.cherrypick.app.domain.auction.scheduler;
+
+import com.cherrypick.app.domain.auction.event.AuctionEndTimeChangedEvent;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.auction.service.AuctionSchedulerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 타이머 휠 기반 경매 종료 스케줄러 단위 테스트
+ * 실제 틱/작업 스레드로 실행하고, AuctionSchedulerService.closeAuction 은 DB 종료 시각을 흉내 내는 가짜 응답으로 대신한다.
+ */
+@DisplayName("타이머 휠 기반 경매 종료 스케줄러 단위 테스트")
+class AuctionCloseSchedulerTest {
+
+    private static final ZoneId KOREA_ZONE = ZoneId.of("Asia/Seoul");
+    private static final long TICK_MS = 20;
+
+    private AuctionRepository auctionRepository;
+    private AuctionSchedulerService auctionSchedulerService;
+    private MeterRegistry meterRegistry;
+    private AuctionCloseScheduler scheduler;
+
+    // DB 의 경매별 종료 시각 (closeAuction 이 다시 확인하는 값)
+    private final Map<Long, LocalDateTime> endAtInDb = new ConcurrentHashMap<>();
+    // closeAuction 이 실제로 경매를 종료한 시각
+    private final List<Long> closedAt = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        auctionRepository = mock(AuctionRepository.class);
+        auctionSchedulerService = mock(AuctionSchedulerService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new AuctionCloseScheduler(auctionRepository, auctionSchedulerService, meterRegistry);
+        ReflectionTestUtils.setField(scheduler, "tickMillis", TICK_MS);
+        ReflectionTestUtils.setField(scheduler, "workerCount", 2);
+        ReflectionTestUtils.setField(scheduler, "queueCapacity", 100);
+        ReflectionTestUtils.setField(scheduler, "retryDelayMillis", 100L);
+
+        // AuctionSchedulerService.closeAuction 과 같은 규칙: 종료 시각 전이면 그 시각을 돌려주고, 지났으면 종료
+        when(auctionSchedulerService.closeAuction(anyLong())).thenAnswer(invocation -> {
+            Long auctionId = invocation.getArgument(0);
+            LocalDateTime endAt = endAtInDb.get(auctionId);
+            if (endAt == null) {
+                return Optional.empty();
+            }
+            if (!endAt.isBefore(now())) {
+                return Optional.of(endAt);
+            }
+            endAtInDb.remove(auctionId);
+            closedAt.add(System.currentTimeMillis());
+            return Optional.empty();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 종료 시각이 되면 closeAuction 에 종료를 넘긴다")
+    void start_HandsExpiredAuctionToCloseAuction() throws InterruptedException {
+        endAtInDb.put(1L, now().minusSeconds(1));
+        startWith(deadline(1L, now().minusSeconds(1)));
+
+        verify(auctionSchedulerService, timeout(2000)).closeAuction(1L);
+        // 처리 중인 작업까지 끝낸 뒤 결과 확인
+        scheduler.stop();
+        assertThat(closedAt).hasSize(1);
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "closed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적재 후 연장된 경매는 closeAuction 이 돌려준 새 종료 시각으로 재등록해 그 시각 이후 한 번만 종료한다")
+    void close_RearmsExtendedAuction() throws InterruptedException {
+        // 휠에는 원래 종료 시각, DB 에는 스나이핑 연장된 종료 시각 (연장 이벤트를 받지 못한 경우)
+        LocalDateTime extendedEndAt = now().plusNanos(300_000_000);
+        endAtInDb.put(1L, extendedEndAt);
+        startWith(deadline(1L, now().minusSeconds(1)));
+
+        // 연장 시각 전에 넘긴 호출은 재등록되고, 연장 시각이 지난 뒤 종료됨
+        verify(auctionSchedulerService, timeout(3000).atLeast(2)).closeAuction(1L);
+        // 종료 후에는 더 넘기지 않아야 함 (넘기면 closed 가 다시 늘어남)
+        Thread.sleep(TICK_MS * 10);
+        scheduler.stop();
+
+        assertThat(closedAt).hasSize(1);
+        assertThat(closedAt.get(0)).isGreaterThanOrEqualTo(toMillis(extendedEndAt));
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "rescheduled").count()).isGreaterThanOrEqualTo(1.0);
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "closed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시각 변경 이벤트를 받으면 새 시각으로 재등록한다")
+    void onEndTimeChanged_Reschedules() throws InterruptedException {
+        endAtInDb.put(1L, now().plusHours(1));
+        startWith(deadline(1L, now().plusHours(1)));
+
+        // 시간 조정으로 종료 시각이 앞당겨짐
+        LocalDateTime newEndAt = now().plusNanos(100_000_000);
+        endAtInDb.put(1L, newEndAt);
+        scheduler.onEndTimeChanged(new AuctionEndTimeChangedEvent(this, 1L, newEndAt));
+
+        verify(auctionSchedulerService, timeout(2000).atLeast(1)).closeAuction(1L);
+        scheduler.stop();
+        assertThat(closedAt).hasSize(1);
+        assertThat(closedAt.get(0)).isGreaterThanOrEqualTo(toMillis(newEndAt));
+    }
+
+    @Test
+    @DisplayName("종료 처리가 실패하면 재시도 간격 뒤 다시 넘긴다")
+    void close_RetriesAfterFailure() throws InterruptedException {
+        doThrow(new IllegalStateException("DB 연결 실패"))
+                .doAnswer(invocation -> {
+                    closedAt.add(System.currentTimeMillis());
+                    return Optional.empty();
+                })
+                .when(auctionSchedulerService).closeAuction(1L);
+        startWith(deadline(1L, now().minusSeconds(1)));
+
+        verify(auctionSchedulerService, timeout(3000).times(2)).closeAuction(1L);
+        scheduler.stop();
+        assertThat(meterRegistry.counter("auction.close.processed", "result", "failed").count()).isEqualTo(1.0);
+        assertThat(closedAt).hasSize(1);
+    }
+
+    private void startWith(AuctionRepository.AuctionDeadline... deadlines) {
+        when(auctionRepository.findActiveAuctionDeadlines()).thenReturn(List.of(deadlines));
+        scheduler.start();
+    }
+
+    private static AuctionRepository.AuctionDeadline deadline(Long auctionId, LocalDateTime endAt) {
+        return new AuctionRepository.AuctionDeadline() {
+            @Override
+            public Long getId() {
+                return auctionId;
+            }
+
+            @Override
+            public LocalDateTime getEndAt() {
+                return endAt;
+            }
+        };
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now(KOREA_ZONE);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(KOREA_ZONE).toInstant().toEpochMilli();
+    }
+}
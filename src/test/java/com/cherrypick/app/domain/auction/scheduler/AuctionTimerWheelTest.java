@@ -0,0 +1,100 @@
+package com.cherrypick.app.domain.auction.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 경매 종료 타이머 휠 단위 테스트
+ */
+@DisplayName("경매 종료 타이머 휠 단위 테스트")
+class AuctionTimerWheelTest {
+
+    private static final long TICK = 1000L;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("종료 시각이 된 틱에 만료되고 그 전에는 만료되지 않는다")
+    void advance_ExpiresAtDeadline() {
+        AuctionTimerWheel wheel = new AuctionTimerWheel(TICK, START);
+        wheel.schedule(1L, START + 5_000);
+
+        assertThat(wheel.advance(START + 4_000)).isEmpty();
+        assertThat(wheel.advance(START + 5_000)).extracting(AuctionTimerWheel.Timer::getAuctionId).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 단계에 등록된 먼 종료 시각도 하위 단계로 내려와 정확한 틱에 만료된다")
+    void advance_CascadesFromUpperLevels() {
+        AuctionTimerWheel wheel = new AuctionTimerWheel(TICK, START);
+        long[] offsetsSeconds = {63, 64, 65, 4_095, 4_096, 86_400, 3 * 86_400 + 17};
+        for (int i = 0; i < offsetsSeconds.length; i++) {
+            wheel.schedule((long) i, START + offsetsSeconds[i] * TICK);
+        }
+
+        for (int i = 0; i < offsetsSeconds.length; i++) {
+            long deadline = START + offsetsSeconds[i] * TICK;
+            assertThat(wheel.advance(deadline - TICK)).as("offset %d 이전", offsetsSeconds[i]).isEmpty();
+            assertThat(wheel.advance(deadline)).extracting(AuctionTimerWheel.Timer::getAuctionId)
+                    .as("offset %d", offsetsSeconds[i])
+                    .containsExactly((long) i);
+        }
+    }
+
+    @Test
+    @DisplayName("재등록하면 이전 종료 시각은 무시되고 새 시각에 만료된다")
+    void schedule_ReschedulesExisting() {
+        AuctionTimerWheel wheel = new AuctionTimerWheel(TICK, START);
+        wheel.schedule(1L, START + 10_000);
+
+        // 스나이핑 방지 연장
+        wheel.schedule(1L, START + 190_000);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 189_000)).isEmpty();
+        assertThat(wheel.advance(START + 190_000)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("이미 지난 종료 시각은 다음 틱에 만료되고 취소된 타이머는 만료되지 않는다")
+    void schedule_PastDeadlineAndCancel() {
+        AuctionTimerWheel wheel = new AuctionTimerWheel(TICK, START);
+        wheel.schedule(1L, START - 60_000);
+        wheel.schedule(2L, START + 3_000);
+
+        assertThat(wheel.cancel(2L)).isTrue();
+        assertThat(wheel.cancel(2L)).isFalse();
+        assertThat(wheel.advance(START + 10_000)).extracting(AuctionTimerWheel.Timer::getAuctionId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("무작위 종료 시각 다수도 모두 한 번씩, 종료 시각 이후 1틱 이내에 만료된다")
+    void advance_RandomDeadlines() {
+        AuctionTimerWheel wheel = new AuctionTimerWheel(TICK, START);
+        Random random = new Random(7);
+        int count = 2_000;
+        for (long id = 0; id < count; id++) {
+            wheel.schedule(id, START + 1 + random.nextInt(7 * 86_400_000));
+        }
+
+        List<AuctionTimerWheel.Timer> expired = new ArrayList<>();
+        for (long now = START; now <= START + 7L * 86_400_000 + TICK; now += 60_000) {
+            for (AuctionTimerWheel.Timer timer : wheel.advance(now)) {
+                assertThat(now).isGreaterThanOrEqualTo(timer.getDeadlineMillis());
+                assertThat(timer.getTick() * TICK).isGreaterThanOrEqualTo(timer.getDeadlineMillis());
+                assertThat(timer.getTick() * TICK - timer.getDeadlineMillis()).isLessThan(TICK);
+                expired.add(timer);
+            }
+        }
+
+        assertThat(expired).hasSize(count);
+        assertThat(expired).extracting(AuctionTimerWheel.Timer::getAuctionId).doesNotHaveDuplicates();
+        assertThat(wheel.size()).isZero();
+    }
+}
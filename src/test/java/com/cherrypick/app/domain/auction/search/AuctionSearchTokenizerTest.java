@@ -0,0 +1,52 @@
+package com.cherrypick.app.domain.auction.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 검색 n-gram 토크나이저 단위 테스트
+ */
+@DisplayName("경매 검색 n-gram 토크나이저 단위 테스트")
+class AuctionSearchTokenizerTest {
+
+    @Test
+    @DisplayName("한글/영문/숫자 구간별로 2-gram 과 마지막 글자를 만들고 영문은 소문자로 바꾼다")
+    void documentTokens_SplitsRunsIntoBigrams() {
+        assertThat(AuctionSearchTokenizer.documentTokens("아이폰15 케이스"))
+                .isEqualTo("아이 이폰 폰 15 5 케이 이스 스");
+        assertThat(AuctionSearchTokenizer.documentTokens("iPhone-Pro!"))
+                .isEqualTo("ip ph ho on ne e pr ro o");
+    }
+
+    @Test
+    @DisplayName("한 글자 구간은 그 글자만 토큰이 된다")
+    void documentTokens_SingleCharacterRun() {
+        assertThat(AuctionSearchTokenizer.documentTokens("A급 책")).isEqualTo("a 급 책");
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 모두 인접 연산자로 잇고 다음 구간이 이어지면 구간 끝 글자를 넣는다")
+    void toTsQuery_JoinsAllTokensAsPhrase() {
+        assertThat(AuctionSearchTokenizer.toTsQuery("아이폰 15"))
+                .isEqualTo("(아이:A <-> 이폰:A <-> 폰:A <-> 15:A) | (아이:B <-> 이폰:B <-> 폰:B <-> 15:B)");
+        assertThat(AuctionSearchTokenizer.toTsQuery("폰15")).isEqualTo("(폰:A <-> 15:A) | (폰:B <-> 15:B)");
+        assertThat(AuctionSearchTokenizer.toTsQuery("가방")).isEqualTo("(가방:A) | (가방:B)");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어는 구간 끝 글자 또는 그 글자로 시작하는 2-gram 과 일치한다")
+    void toTsQuery_SingleCharacterUsesPrefix() {
+        assertThat(AuctionSearchTokenizer.toTsQuery("방")).isEqualTo("((방:A | 방:*A)) | ((방:B | 방:*B))");
+        assertThat(AuctionSearchTokenizer.toTsQuery("A급 책"))
+                .isEqualTo("(a:A <-> 급:A <-> (책:A | 책:*A)) | (a:B <-> 급:B <-> (책:B | 책:*B))");
+    }
+
+    @Test
+    @DisplayName("검색할 글자가 없으면 null 을 반환한다")
+    void toTsQuery_NoSearchableCharacters() {
+        assertThat(AuctionSearchTokenizer.toTsQuery("  !! ")).isNull();
+        assertThat(AuctionSearchTokenizer.toTsQuery(null)).isNull();
+    }
+}
@@ -0,0 +1,299 @@
+package com.cherrypick.app.domain.auction.service;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.entity.AuctionCloseTask;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseTaskStatus;
+import com.cherrypick.app.domain.auction.enums.AuctionStatus;
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.auction.enums.RegionScope;
+import com.cherrypick.app.domain.auction.repository.AuctionCloseTaskRepository;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.enums.BidStatus;
+import com.cherrypick.app.domain.bid.repository.BidRepository;
+import com.cherrypick.app.domain.user.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경매 종료 후처리 파이프라인 단위 테스트
+ * 아웃박스 저장소는 메모리 목록으로 대신하고(선점 쿼리의 SKIP LOCKED 는 AuctionCloseTaskRepositoryTest),
+ * 작업자 스레드 대신 processNext 를 직접 호출해 단계 진행/재시도를 검증한다.
+ */
+@DisplayName("경매 종료 후처리 파이프라인 단위 테스트")
+class AuctionClosePipelineTest {
+
+    private static final Long AUCTION_ID = 100L;
+
+    private final List<AuctionCloseTask> outbox = new ArrayList<>();
+    private AuctionCloseTaskRepository taskRepository;
+    private AuctionRepository auctionRepository;
+    private BidRepository bidRepository;
+    private AuctionCloseStageHandler stageHandler;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionClosePipeline pipeline;
+    private Auction auction;
+    private User buyer;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(AuctionCloseTaskRepository.class);
+        auctionRepository = mock(AuctionRepository.class);
+        bidRepository = mock(BidRepository.class);
+        stageHandler = mock(AuctionCloseStageHandler.class);
+        // 트랜잭션 경계 없이 콜백만 실행
+        transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        stubOutbox();
+        meterRegistry = new SimpleMeterRegistry();
+
+        pipeline = new AuctionClosePipeline(taskRepository, auctionRepository, stageHandler, transactionTemplate,
+                new ObjectMapper(), meterRegistry, mock(Environment.class));
+        ReflectionTestUtils.setField(pipeline, "maxAttempts", 3);
+        ReflectionTestUtils.setField(pipeline, "retryBackoffMillis", 60_000L);
+        ReflectionTestUtils.setField(pipeline, "maxBackoffMillis", 300_000L);
+
+        User seller = User.builder().id(1L).nickname("판매자").build();
+        buyer = User.builder().id(2L).nickname("구매자").build();
+        auction = Auction.createAuction(seller, "아이폰 14 Pro", "테스트 경매 설명", Category.ELECTRONICS,
+                new BigDecimal("10000"), new BigDecimal("100000"), null, 24,
+                RegionScope.NATIONWIDE, null, null, 5, "2024-01");
+        ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+        when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auction));
+        when(auctionRepository.findByIdForUpdate(AUCTION_ID)).thenReturn(Optional.of(auction));
+    }
+
+    @Test
+    @DisplayName("선점한 작업을 실행하면 완료 처리하고 결과 payload 와 함께 다음 단계를 기록한다")
+    void processNext_CompletesAndEnqueuesNextStage() {
+        doAnswer(invocation -> {
+            Map<String, Object> payload = invocation.getArgument(2);
+            payload.put("chatRoomId", 77);
+            return null;
+        }).when(stageHandler).execute(eq(AuctionCloseStage.CHAT_ROOM), any(), anyMap());
+        pipeline.enqueue(AUCTION_ID, AuctionCloseStage.CHAT_ROOM, Map.of());
+
+        assertThat(pipeline.processNext(AuctionCloseStage.CHAT_ROOM)).isTrue();
+
+        assertThat(task(AuctionCloseStage.CHAT_ROOM).getStatus()).isEqualTo(AuctionCloseTaskStatus.DONE);
+        AuctionCloseTask next = task(AuctionCloseStage.NOTIFY_SOLD);
+        assertThat(next.getStatus()).isEqualTo(AuctionCloseTaskStatus.PENDING);
+        assertThat(next.getPayload()).isEqualTo("{\"chatRoomId\":77}");
+        // 완료된 작업은 다시 선점되지 않음
+        assertThat(pipeline.processNext(AuctionCloseStage.CHAT_ROOM)).isFalse();
+
+        assertThat(pipeline.processNext(AuctionCloseStage.NOTIFY_SOLD)).isTrue();
+        verify(stageHandler).execute(AuctionCloseStage.NOTIFY_SOLD, auction, Map.of("chatRoomId", 77));
+        assertThat(outbox).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("실패한 단계는 다음 단계로 넘어가지 않고 재시도 시각이 되면 다시 실행된다")
+    void processNext_RetriesFailedStage() {
+        doThrow(new IllegalStateException("채팅 서버 응답 없음"))
+                .doNothing()
+                .when(stageHandler).execute(eq(AuctionCloseStage.CONNECTION), any(), anyMap());
+        pipeline.enqueue(AUCTION_ID, AuctionCloseStage.CONNECTION, Map.of());
+
+        assertThat(pipeline.processNext(AuctionCloseStage.CONNECTION)).isTrue();
+
+        AuctionCloseTask failed = task(AuctionCloseStage.CONNECTION);
+        assertThat(failed.getStatus()).isEqualTo(AuctionCloseTaskStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("IllegalStateException: 채팅 서버 응답 없음");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(50));
+        assertThat(outbox).hasSize(1);
+        // 재시도 시각 전에는 선점되지 않음
+        assertThat(pipeline.processNext(AuctionCloseStage.CONNECTION)).isFalse();
+
+        ReflectionTestUtils.setField(failed, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+        assertThat(pipeline.processNext(AuctionCloseStage.CONNECTION)).isTrue();
+
+        assertThat(failed.getStatus()).isEqualTo(AuctionCloseTaskStatus.DONE);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getLastError()).isNull();
+        assertThat(task(AuctionCloseStage.CHAT_ROOM).getStatus()).isEqualTo(AuctionCloseTaskStatus.PENDING);
+        verify(stageHandler, times(2)).execute(eq(AuctionCloseStage.CONNECTION), any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘긴 의존 단계는 DEAD 로 남기고 뒤 단계는 멈추되, 알림 단계는 기록한다")
+    void processNext_DeadStageStopsDependentChain() {
+        IllegalStateException failure = new IllegalStateException("경험치 지급 실패");
+        doThrow(failure, failure, failure)
+                .doNothing()
+                .when(stageHandler).execute(eq(AuctionCloseStage.EXPERIENCE), any(), anyMap());
+        pipeline.enqueue(AUCTION_ID, AuctionCloseStage.EXPERIENCE, Map.of());
+        AuctionCloseTask task = task(AuctionCloseStage.EXPERIENCE);
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            ReflectionTestUtils.setField(task, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+            assertThat(pipeline.processNext(AuctionCloseStage.EXPERIENCE)).isTrue();
+        }
+
+        assertThat(task.getStatus()).isEqualTo(AuctionCloseTaskStatus.DEAD);
+        assertThat(task.getAttempts()).isEqualTo(3);
+        assertThat(outbox).extracting(AuctionCloseTask::getStage)
+                .containsExactly(AuctionCloseStage.EXPERIENCE, AuctionCloseStage.NOTIFY_SOLD);
+        assertThat(meterRegistry.counter("auction.close.dead", "stage", "EXPERIENCE").count()).isEqualTo(1.0);
+        assertThat(pipeline.processNext(AuctionCloseStage.EXPERIENCE)).isFalse();
+
+        // 수동 복구: status 를 PENDING 으로 되돌리면 멈췄던 다음 단계부터 이어서 진행 (알림은 다시 기록하지 않음)
+        ReflectionTestUtils.setField(task, "status", AuctionCloseTaskStatus.PENDING);
+        assertThat(pipeline.processNext(AuctionCloseStage.EXPERIENCE)).isTrue();
+        assertThat(task.getStatus()).isEqualTo(AuctionCloseTaskStatus.DONE);
+        assertThat(outbox).extracting(AuctionCloseTask::getStage).containsExactly(
+                AuctionCloseStage.EXPERIENCE, AuctionCloseStage.NOTIFY_SOLD, AuctionCloseStage.CONNECTION);
+    }
+
+    @Test
+    @DisplayName("알림 단계는 DEAD 가 되어도 더 기록할 단계가 없다")
+    void processNext_DeadNotificationStageEndsChain() {
+        doThrow(new IllegalStateException("알림 발송 준비 실패"))
+                .when(stageHandler).execute(eq(AuctionCloseStage.NOTIFY_NOT_SOLD), any(), anyMap());
+        pipeline.enqueue(AUCTION_ID, AuctionCloseStage.NOTIFY_NOT_SOLD, Map.of());
+        AuctionCloseTask task = task(AuctionCloseStage.NOTIFY_NOT_SOLD);
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            ReflectionTestUtils.setField(task, "nextAttemptAt", LocalDateTime.now().minusSeconds(1));
+            assertThat(pipeline.processNext(AuctionCloseStage.NOTIFY_NOT_SOLD)).isTrue();
+        }
+
+        assertThat(task.getStatus()).isEqualTo(AuctionCloseTaskStatus.DEAD);
+        assertThat(outbox).hasSize(1);
+        assertThat(meterRegistry.counter("auction.close.dead", "stage", "NOTIFY_NOT_SOLD").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("완료된 단계는 실행 결과 payload 를 자기 작업에도 남긴다")
+    void processNext_StoresResultPayloadOnTask() {
+        doAnswer(invocation -> {
+            Map<String, Object> payload = invocation.getArgument(2);
+            payload.put("notifiedAt", "2024-01-01T00:00");
+            return null;
+        }).when(stageHandler).execute(eq(AuctionCloseStage.NOTIFY_SOLD), any(), anyMap());
+        pipeline.enqueue(AUCTION_ID, AuctionCloseStage.NOTIFY_SOLD, Map.of("chatRoomId", 77));
+
+        assertThat(pipeline.processNext(AuctionCloseStage.NOTIFY_SOLD)).isTrue();
+
+        assertThat(task(AuctionCloseStage.NOTIFY_SOLD).getPayload())
+                .isEqualTo("{\"chatRoomId\":77,\"notifiedAt\":\"2024-01-01T00:00\"}");
+    }
+
+    @Test
+    @DisplayName("낙찰된 경매는 종료 처리를 두 번 호출해도 거래 → 경험치 → 연결 → 채팅방 → 낙찰 알림을 한 번씩만 실행한다")
+    void closeAuctionTwice_RunsSoldChainOnce() {
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        AuctionSchedulerService schedulerService = new AuctionSchedulerService(auctionRepository, bidRepository,
+                pipeline, Optional.empty(), transactionTemplate, eventPublisher);
+        ReflectionTestUtils.setField(auction, "endAt", LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusSeconds(1));
+        Bid highestBid = Bid.builder()
+                .auction(auction)
+                .bidder(buyer)
+                .bidAmount(new BigDecimal("60000"))
+                .isAutoBid(false)
+                .status(BidStatus.ACTIVE)
+                .bidTime(LocalDateTime.now())
+                .build();
+        when(bidRepository.findTopByAuctionIdOrderByBidAmountDesc(AUCTION_ID)).thenReturn(Optional.of(highestBid));
+        doNothing().when(stageHandler).execute(any(), any(), anyMap());
+
+        // 타이머 휠과 안전망 스윕이 같은 경매를 연달아 종료
+        assertThat(schedulerService.closeAuction(AUCTION_ID)).isEmpty();
+        assertThat(schedulerService.closeAuction(AUCTION_ID)).isEmpty();
+
+        assertThat(auction.getStatus()).isEqualTo(AuctionStatus.ENDED);
+        assertThat(auction.getWinner()).isEqualTo(buyer);
+        assertThat(outbox).extracting(AuctionCloseTask::getStage).containsExactly(AuctionCloseStage.TRANSACTION);
+
+        // 모든 단계 작업자가 더 처리할 작업이 없을 때까지 실행
+        boolean processed;
+        do {
+            processed = false;
+            for (AuctionCloseStage stage : AuctionCloseStage.values()) {
+                processed |= pipeline.processNext(stage);
+            }
+        } while (processed);
+
+        InOrder order = inOrder(stageHandler);
+        for (AuctionCloseStage stage : List.of(AuctionCloseStage.TRANSACTION, AuctionCloseStage.EXPERIENCE,
+                AuctionCloseStage.CONNECTION, AuctionCloseStage.CHAT_ROOM, AuctionCloseStage.NOTIFY_SOLD)) {
+            order.verify(stageHandler).execute(eq(stage), eq(auction), anyMap());
+        }
+        verify(stageHandler, times(5)).execute(any(), any(), anyMap());
+        verify(stageHandler, never()).execute(eq(AuctionCloseStage.NOTIFY_NOT_SOLD), any(), anyMap());
+        assertThat(outbox).extracting(AuctionCloseTask::getStage).containsExactly(
+                AuctionCloseStage.TRANSACTION, AuctionCloseStage.EXPERIENCE, AuctionCloseStage.CONNECTION,
+                AuctionCloseStage.CHAT_ROOM, AuctionCloseStage.NOTIFY_SOLD);
+        assertThat(outbox).extracting(AuctionCloseTask::getStatus).containsOnly(AuctionCloseTaskStatus.DONE);
+
+        // 이미 기록된 단계는 다시 기록하지 않음
+        pipeline.enqueue(AUCTION_ID, AuctionCloseStage.TRANSACTION, Map.of());
+        assertThat(outbox).hasSize(5);
+    }
+
+    private AuctionCloseTask task(AuctionCloseStage stage) {
+        return outbox.stream().filter(task -> task.getStage() == stage).findFirst().orElseThrow();
+    }
+
+    /**
+     * 아웃박스 저장소를 메모리 목록으로 대체 (선점은 단계/상태/재시도 시각 조건만 적용)
+     */
+    private void stubOutbox() {
+        when(taskRepository.save(any(AuctionCloseTask.class))).thenAnswer(invocation -> {
+            AuctionCloseTask task = invocation.getArgument(0);
+            ReflectionTestUtils.setField(task, "id", (long) outbox.size() + 1);
+            outbox.add(task);
+            return task;
+        });
+        when(taskRepository.existsByAuctionIdAndStage(anyLong(), any())).thenAnswer(invocation -> outbox.stream()
+                .anyMatch(task -> task.getAuctionId().equals(invocation.getArgument(0))
+                        && task.getStage() == invocation.getArgument(1)));
+        when(taskRepository.findById(anyLong())).thenAnswer(invocation -> outbox.stream()
+                .filter(task -> task.getId().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(taskRepository.claimNext(anyString(), any())).thenAnswer(invocation -> {
+            String stage = invocation.getArgument(0);
+            LocalDateTime now = invocation.getArgument(1);
+            return outbox.stream()
+                    .filter(task -> task.getStage().name().equals(stage)
+                            && task.getStatus() == AuctionCloseTaskStatus.PENDING
+                            && !task.getNextAttemptAt().isAfter(now))
+                    .findFirst();
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package com.cherrypick.app.domain.auction.service;
+
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.enums.AuctionCloseStage;
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.auction.enums.RegionScope;
+import com.cherrypick.app.domain.bid.repository.BidRepository;
+import com.cherrypick.app.domain.chat.service.ChatService;
+import com.cherrypick.app.domain.connection.service.ConnectionServiceImpl;
+import com.cherrypick.app.domain.notification.event.AuctionNotSoldNotificationEvent;
+import com.cherrypick.app.domain.transaction.service.TransactionService;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.service.ExperienceService;
+import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경매 종료 후처리 단계 실행기 단위 테스트
+ * 알림 단계의 커밋 후 발송과 발송 표시(중복 발송 방지)를 검증한다.
+ */
+@DisplayName("경매 종료 후처리 단계 실행기 단위 테스트")
+class AuctionCloseStageHandlerTest {
+
+    private static final Long AUCTION_ID = 100L;
+
+    private BidRepository bidRepository;
+    private WebSocketMessagingService webSocketMessagingService;
+    private ApplicationEventPublisher eventPublisher;
+    private AuctionCloseStageHandler handler;
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        bidRepository = mock(BidRepository.class);
+        webSocketMessagingService = mock(WebSocketMessagingService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        handler = new AuctionCloseStageHandler(bidRepository, mock(ConnectionServiceImpl.class),
+                webSocketMessagingService, eventPublisher, mock(ChatService.class),
+                mock(TransactionService.class), mock(ExperienceService.class));
+
+        User seller = User.builder().id(1L).nickname("판매자").build();
+        auction = Auction.createAuction(seller, "아이폰 14 Pro", "테스트 경매 설명", Category.ELECTRONICS,
+                new BigDecimal("10000"), new BigDecimal("100000"), null, 24,
+                RegionScope.NATIONWIDE, null, null, 5, "2024-01");
+        ReflectionTestUtils.setField(auction, "id", AUCTION_ID);
+        when(bidRepository.findTopByAuctionIdOrderByBidAmountDesc(AUCTION_ID)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("발송 표시가 남은 알림 단계는 다시 실행해도 알림을 보내지 않는다")
+    void notify_SkipsWhenAlreadyNotified() {
+        Map<String, Object> payload = new HashMap<>();
+
+        handler.execute(AuctionCloseStage.NOTIFY_NOT_SOLD, auction, payload);
+        handler.execute(AuctionCloseStage.NOTIFY_NOT_SOLD, auction, payload);
+
+        assertThat(payload).containsKey(AuctionCloseStageHandler.NOTIFIED_AT);
+        verify(webSocketMessagingService, times(1)).notifyAuctionNotSold(
+                eq(AUCTION_ID), anyInt(), anyBoolean(), any(), any(), anyBoolean());
+        verify(eventPublisher, times(1)).publishEvent(any(AuctionNotSoldNotificationEvent.class));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋된 뒤에 알림을 보낸다")
+    void notify_SendsAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            handler.execute(AuctionCloseStage.NOTIFY_NOT_SOLD, auction, new HashMap<>());
+
+            // 커밋 전: 발송 없음 (롤백되면 그대로 버려짐)
+            verify(webSocketMessagingService, never()).notifyAuctionNotSold(
+                    anyLong(), anyInt(), anyBoolean(), any(), any(), anyBoolean());
+            verify(eventPublisher, never()).publishEvent(any(AuctionNotSoldNotificationEvent.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(webSocketMessagingService, times(1)).notifyAuctionNotSold(
+                eq(AUCTION_ID), anyInt(), anyBoolean(), any(), any(), anyBoolean());
+        verify(eventPublisher, times(1)).publishEvent(any(AuctionNotSoldNotificationEvent.class));
+    }
+}
@@ -0,0 +1,159 @@
+package com.cherrypick.app.domain.auction.service;
+
+import com.cherrypick.app.domain.auction.dto.AuctionResponse;
+import com.cherrypick.app.domain.auction.entity.Auction;
+import com.cherrypick.app.domain.auction.enums.AuctionStatus;
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.auction.enums.RegionScope;
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경매 목록 응답 조립 쿼리 수 벤치마크
+ * 페이지 크기가 커져도 목록 1건당 실행되는 SQL 수가 일정한지 Hibernate 통계로 검증한다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=WARN",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AuctionListQueryCountTest {
+
+    private static final int AUCTION_COUNT = 60;
+
+    @Autowired
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuctionBookmarkService bookmarkService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private User viewer;
+    private final Set<Long> auctionIds = new HashSet<>();
+    private final Set<Long> viewerBookmarkedIds = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        String timestamp = String.valueOf(System.currentTimeMillis() % 100000000);
+
+        User seller = userRepository.save(User.builder()
+            .phoneNumber("010" + timestamp.substring(0, 8))
+            .nickname("판매자_" + timestamp)
+            .email("seller_" + timestamp + "@test.com")
+            .password("password")
+            .build());
+
+        viewer = userRepository.save(User.builder()
+            .phoneNumber("010" + (Long.parseLong(timestamp) + 1))
+            .nickname("조회자_" + timestamp)
+            .email("viewer_" + timestamp + "@test.com")
+            .password("password")
+            .build());
+
+        for (int i = 0; i < AUCTION_COUNT; i++) {
+            Auction auction = auctionRepository.save(Auction.builder()
+                .title("쿼리 수 테스트 경매 " + i)
+                .description("테스트 설명")
+                .category(Category.ELECTRONICS)
+                .startPrice(BigDecimal.valueOf(10000))
+                .currentPrice(BigDecimal.valueOf(10000))
+                .hopePrice(BigDecimal.valueOf(50000))
+                .regionScope(RegionScope.NATIONWIDE)
+                .regionCode("11")
+                .status(AuctionStatus.ACTIVE)
+                .seller(seller)
+                .startAt(LocalDateTime.now())
+                .endAt(LocalDateTime.now().plusHours(24))
+                .auctionTimeHours(24)
+                .viewCount(0)
+                .bidCount(0)
+                .build());
+            auctionIds.add(auction.getId());
+
+            // 판매자는 모든 경매, 조회자는 3개 중 1개를 북마크
+            bookmarkService.toggleBookmark(auction.getId(), seller.getId());
+            if (i % 3 == 0) {
+                bookmarkService.toggleBookmark(auction.getId(), viewer.getId());
+                viewerBookmarkedIds.add(auction.getId());
+            }
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 5, 20, 50으로 커져도 목록 조회 SQL 수는 일정하다")
+    void getActiveAuctions_QueryCountIsConstantPerPage() {
+        Map<Integer, Long> queryCounts = new LinkedHashMap<>();
+        for (int pageSize : new int[]{5, 20, 50}) {
+            queryCounts.put(pageSize, countQueries(pageSize));
+        }
+
+        assertThat(queryCounts.values())
+                .as("페이지 크기별 SQL 수: %s", queryCounts)
+                .containsOnly(queryCounts.get(5));
+    }
+
+    @Test
+    @DisplayName("목록의 북마크 수와 사용자 북마크 여부가 경매별로 정확하다")
+    void getActiveAuctions_BookmarkSummaryIsAccurate() {
+        Page<AuctionResponse> page = auctionService.getActiveAuctions(PageRequest.of(0, AUCTION_COUNT), viewer.getId());
+
+        assertThat(page.getContent()).extracting(AuctionResponse::getId).containsAll(auctionIds);
+        for (AuctionResponse response : page.getContent()) {
+            if (!auctionIds.contains(response.getId())) {
+                continue;
+            }
+            boolean bookmarked = viewerBookmarkedIds.contains(response.getId());
+            assertThat(response.isBookmarked()).isEqualTo(bookmarked);
+            assertThat(response.getBookmarkCount()).isEqualTo(bookmarked ? 2L : 1L);
+        }
+    }
+
+    private long countQueries(int pageSize) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<AuctionResponse> page = auctionService.getActiveAuctions(PageRequest.of(0, pageSize), viewer.getId());
+        assertThat(page.getContent()).hasSize(pageSize);
+
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,160 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import com.cherrypick.app.domain.bid.service.BidValidationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인메모리 호가창 단위 테스트
+ * JPA 입찰 경로(BidService / AutoBidService)와 동일한 규칙으로 수락/거절하는지 검증
+ */
+@DisplayName("인메모리 호가창 단위 테스트")
+class AuctionOrderBookTest {
+
+    private static final Long SELLER_ID = 1L;
+    private static final Long BIDDER_A = 10L;
+    private static final Long BIDDER_B = 20L;
+
+    private BidValidationService validationService;
+    private LocalDateTime now;
+    private AuctionOrderBook book;
+
+    @BeforeEach
+    void setUp() {
+        validationService = new BidValidationService();
+        now = LocalDateTime.now();
+        book = new AuctionOrderBook(100L, SELLER_ID, new BigDecimal("10000"), new BigDecimal("10000"),
+                0, null, null, now.plusHours(1), false);
+    }
+
+    @Test
+    @DisplayName("첫 수동 입찰은 시작가 이상이면 수락되고 현재가/입찰수가 갱신된다")
+    void placeManualBid_FirstBid_Accepted() {
+        // When
+        BidPlacementResult result = book.placeManualBid(BIDDER_A, new BigDecimal("10000"), now, validationService);
+
+        // Then
+        assertThat(result.getCurrentPrice()).isEqualByComparingTo("10000");
+        assertThat(result.getBidCount()).isEqualTo(1);
+        assertThat(result.getTopBidderId()).isEqualTo(BIDDER_A);
+        assertThat(result.getEntries()).hasSize(1);
+        assertThat(result.getPreviousTopBidderId()).isNull();
+    }
+
+    @Test
+    @DisplayName("최소 증가폭 미만 입찰과 본인 경매 입찰은 거절되고 상태는 변하지 않는다")
+    void placeManualBid_Invalid_Rejected() {
+        book.placeManualBid(BIDDER_A, new BigDecimal("10000"), now, validationService);
+
+        assertThatThrownBy(() -> book.placeManualBid(BIDDER_B, new BigDecimal("10500"), now, validationService))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> book.placeManualBid(SELLER_ID, new BigDecimal("20000"), now, validationService))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("자신의 경매");
+
+        assertThat(book.getCurrentPrice()).isEqualByComparingTo("10000");
+        assertThat(book.getBidCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수동 입찰 시 이전 최고 입찰자가 Outbid 대상으로 반환된다")
+    void placeManualBid_ReturnsPreviousTopBidder() {
+        book.placeManualBid(BIDDER_A, new BigDecimal("10000"), now, validationService);
+
+        BidPlacementResult result = book.placeManualBid(BIDDER_B, new BigDecimal("11000"), now, validationService);
+
+        assertThat(result.getPreviousTopBidderId()).isEqualTo(BIDDER_A);
+        assertThat(result.getPreviousTopBidAmount()).isEqualByComparingTo("10000");
+        assertThat(result.getTopBidderId()).isEqualTo(BIDDER_B);
+    }
+
+    @Test
+    @DisplayName("수동 입찰에 최고 자동입찰자가 (입찰가 + 입찰단위)로 즉시 반응한다")
+    void placeManualBid_AutoBidReacts() {
+        // Given: A가 50,000원까지 자동입찰 (시작가로 첫 입찰)
+        book.setupAutoBid(BIDDER_A, new BigDecimal("50000"), now, validationService);
+
+        // When: B가 수동으로 20,000원 입찰
+        BidPlacementResult result = book.placeManualBid(BIDDER_B, new BigDecimal("20000"), now, validationService);
+
+        // Then: A가 21,000원으로 반응
+        assertThat(result.getEntries()).hasSize(2);
+        assertThat(result.getTopBidderId()).isEqualTo(BIDDER_A);
+        assertThat(result.getCurrentPrice()).isEqualByComparingTo("21000");
+    }
+
+    @Test
+    @DisplayName("자동입찰 경쟁 시 높은 상한이 (낮은 상한 + 입찰단위)로 승리한다")
+    void setupAutoBid_Competition_HigherCeilingWins() {
+        book.placeManualBid(BIDDER_B, new BigDecimal("10000"), now, validationService);
+        book.setupAutoBid(BIDDER_B, new BigDecimal("30000"), now, validationService);
+
+        BidPlacementResult result = book.setupAutoBid(BIDDER_A, new BigDecimal("40000"), now, validationService);
+
+        assertThat(result.getTopBidderId()).isEqualTo(BIDDER_A);
+        assertThat(result.getCurrentPrice()).isEqualByComparingTo("31000");
+        assertThat(result.getPreviousTopBidderId()).isEqualTo(BIDDER_B);
+    }
+
+    @Test
+    @DisplayName("종료 3분 이내 입찰 시 종료 시각이 연장된다")
+    void placeManualBid_WithinSnipingWindow_Extends() {
+        AuctionOrderBook endingBook = new AuctionOrderBook(200L, SELLER_ID, new BigDecimal("10000"),
+                new BigDecimal("10000"), 0, null, null, now.plusMinutes(1), false);
+
+        BidPlacementResult result = endingBook.placeManualBid(BIDDER_A, new BigDecimal("10000"), now, validationService);
+
+        assertThat(result.isExtended()).isTrue();
+        assertThat(result.getEndAt()).isEqualTo(now.plusMinutes(3));
+    }
+
+    @Test
+    @DisplayName("닫힌 호가창은 모든 입찰을 거절한다")
+    void closedBook_RejectsBids() {
+        book.close();
+
+        assertThatThrownBy(() -> book.placeManualBid(BIDDER_A, new BigDecimal("10000"), now, validationService))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("진행 중인 경매가 아닙니다");
+    }
+
+    @Test
+    @DisplayName("종료 시각 전(연장됨)이면 닫지 않고, 지났으면 닫는다")
+    void closeIfEnded_KeepsExtendedBookOpen() {
+        assertThat(book.closeIfEnded(now)).isFalse();
+        assertThat(book.isClosed()).isFalse();
+
+        assertThat(book.closeIfEnded(now.plusHours(1))).isTrue();
+        assertThat(book.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 적재 후 미반영 저널 항목을 덧입히면 최신 상태가 되고, 이미 반영된 항목을 다시 덧입혀도 같다")
+    void replay_RestoresUnpersistedEntries() {
+        // Given: 다른 호가창에서 수락되어 저널에만 있는 입찰 2건
+        AuctionOrderBook source = new AuctionOrderBook(100L, SELLER_ID, new BigDecimal("10000"),
+                new BigDecimal("10000"), 0, null, null, now.plusHours(1), false);
+        List<BidJournalEntry> entries = new ArrayList<>();
+        entries.addAll(source.setupAutoBid(BIDDER_A, new BigDecimal("50000"), now, validationService).getEntries());
+        entries.addAll(source.placeManualBid(BIDDER_B, new BigDecimal("20000"), now, validationService).getEntries());
+
+        // When: 첫 항목은 DB에도 반영된 상태에서 전체를 다시 덧입힘
+        entries.forEach(book::replay);
+        entries.forEach(book::replay);
+
+        // Then
+        assertThat(book.getCurrentPrice()).isEqualByComparingTo(source.getCurrentPrice());
+        assertThat(book.getBidCount()).isEqualTo(source.getBidCount());
+        assertThat(book.getTopBidderId()).isEqualTo(BIDDER_A);
+        assertThatThrownBy(() -> book.placeManualBid(BIDDER_B, new BigDecimal("20000"), now, validationService))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
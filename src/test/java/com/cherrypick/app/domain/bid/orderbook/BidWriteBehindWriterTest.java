@@ -0,0 +1,151 @@
+package com.cherrypick.app.domain.bid.orderbook;
+
+import com.cherrypick.app.domain.auction.repository.AuctionRepository;
+import com.cherrypick.app.domain.bid.entity.Bid;
+import com.cherrypick.app.domain.bid.repository.BidRepository;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입찰 비동기 DB 기록기 단위 테스트
+ * 실제 저널 파일과 기록 스레드로 실행하고, 저장소는 목으로 실패를 흉내 낸다.
+ */
+@DisplayName("입찰 비동기 DB 기록기 단위 테스트")
+class BidWriteBehindWriterTest {
+
+    private static final BigDecimal BAD_AMOUNT = new BigDecimal("66600");
+
+    @TempDir
+    Path tempDir;
+
+    private BidJournal journal;
+    private BidRepository bidRepository;
+    private BidWriteBehindWriter writer;
+    private boolean started;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        journal = new BidJournal();
+        ReflectionTestUtils.setField(journal, "journalPath", tempDir.resolve("bid-journal.log").toString());
+        ReflectionTestUtils.setField(journal, "deadLetterPath", tempDir.resolve("bid-journal-dead.log").toString());
+        ReflectionTestUtils.setField(journal, "fsync", false);
+        ReflectionTestUtils.setField(journal, "compactBytes", Long.MAX_VALUE);
+        journal.open();
+
+        bidRepository = mock(BidRepository.class);
+        writer = new BidWriteBehindWriter(journal, bidRepository, mock(AuctionRepository.class),
+                mock(UserRepository.class), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(writer, "batchSize", 200);
+        ReflectionTestUtils.setField(writer, "maxAttempts", 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (started) {
+            writer.stop();
+        }
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("경매 종료 대기는 해당 경매의 미반영 입찰만 기다린다")
+    void awaitDrained_WaitsOnlyForGivenAuctions() throws Exception {
+        writer.enqueue(journal.append(List.of(execution(1L, "10000"))));
+
+        // 기록 스레드 시작 전: 1번 경매만 대기 중
+        assertThat(writer.awaitDrained(List.of(2L), 100)).isTrue();
+        assertThat(writer.awaitDrained(List.of(1L, 2L), 100)).isFalse();
+
+        start();
+        assertThat(writer.awaitDrained(List.of(1L), 5000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 입찰만 격리하고 같은 배치의 나머지 입찰은 기록한다")
+    void persist_DeadLettersOnlyFailingEntry() throws Exception {
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> {
+            Bid bid = invocation.getArgument(0);
+            if (bid.getBidAmount().compareTo(BAD_AMOUNT) == 0) {
+                throw new DataIntegrityViolationException("bids_bidder_fk");
+            }
+            return bid;
+        });
+        List<BidJournalEntry> entries = journal.append(List.of(
+                execution(1L, "10000"), execution(2L, BAD_AMOUNT.toPlainString()), execution(1L, "11000")));
+        writer.enqueue(entries);
+
+        start();
+
+        assertThat(writer.awaitDrained(List.of(1L, 2L), 5000)).isTrue();
+        assertThat(journal.getPendingCount()).isZero();
+        assertThat(journal.hasDeadLettered(1L)).isFalse();
+        assertThat(journal.hasDeadLettered(2L)).isTrue();
+        // 격리된 입찰은 호가창 재적재 시 계속 반영됨
+        assertThat(journal.unpersisted(2L)).extracting(BidJournalEntry::getSeq)
+                .containsExactly(entries.get(1).getSeq());
+        assertThat(Files.readAllLines(tempDir.resolve("bid-journal-dead.log"), StandardCharsets.UTF_8))
+                .singleElement().asString()
+                .startsWith("E\t" + entries.get(1).getSeq())
+                .contains("bids_bidder_fk");
+    }
+
+    @Test
+    @DisplayName("DB 잠금 대기 같은 일시적 오류는 재시도 한도와 무관하게 재시도해 격리하지 않는다")
+    void persist_TransientFailureIsRetried() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() <= 3) {
+                throw new CannotAcquireLockException("lock timeout");
+            }
+            return invocation.getArgument(0);
+        });
+        writer.enqueue(journal.append(List.of(execution(1L, "10000"))));
+
+        start();
+
+        assertThat(writer.awaitDrained(List.of(1L), 5000)).isTrue();
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(journal.hasDeadLettered(1L)).isFalse();
+        assertThat(journal.unpersisted(1L)).isEmpty();
+    }
+
+    private void start() {
+        writer.start();
+        started = true;
+    }
+
+    private static BidJournalEntry execution(Long auctionId, String amount) {
+        BigDecimal bidAmount = new BigDecimal(amount);
+        return BidJournalEntry.builder()
+                .type(BidJournalEntry.Type.EXECUTION)
+                .auctionId(auctionId)
+                .bidderId(10L)
+                .bidAmount(bidAmount)
+                .bidTime(LocalDateTime.now())
+                .priceAfter(bidAmount)
+                .bidCountAfter(1)
+                .endAtAfter(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+}
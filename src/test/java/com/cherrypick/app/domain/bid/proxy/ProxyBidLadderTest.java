@@ -0,0 +1,90 @@
+package com.cherrypick.app.domain.bid.proxy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 프록시 입찰 정렬 구조 및 해소 규칙 단위 테스트
+ */
+@DisplayName("프록시 입찰 엔진 단위 테스트")
+class ProxyBidLadderTest {
+
+    private static final BigDecimal INCREMENT = new BigDecimal("1000");
+
+    @Test
+    @DisplayName("상위 2건은 상한 내림차순, 동일 상한이면 먼저 등록한 순")
+    void topTwo_OrderedByMaxThenRegistration() {
+        ProxyBidLadder ladder = new ProxyBidLadder();
+        ladder.register(1L, new BigDecimal("30000"));
+        ladder.register(2L, new BigDecimal("50000"));
+        ladder.register(3L, new BigDecimal("50000"));
+
+        List<ProxyBid> topTwo = ladder.topTwo();
+
+        assertThat(topTwo).extracting(ProxyBid::getBidderId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("재등록은 기존 설정을 대체하고 순번이 뒤로 밀린다")
+    void register_ReplacesExisting() {
+        ProxyBidLadder ladder = new ProxyBidLadder();
+        ladder.register(1L, new BigDecimal("50000"));
+        ladder.register(2L, new BigDecimal("50000"));
+        ladder.register(1L, new BigDecimal("50000"));
+
+        assertThat(ladder.size()).isEqualTo(2);
+        assertThat(ladder.topTwo()).extracting(ProxyBid::getBidderId).containsExactly(2L, 1L);
+
+        assertThat(ladder.remove(2L)).isTrue();
+        assertThat(ladder.remove(2L)).isFalse();
+        assertThat(ladder.topTwo()).extracting(ProxyBid::getBidderId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("신규 상한이 더 높으면 패자 최대금액, 승자 (패자 상한 + 입찰단위) 2건만 기록")
+    void resolveNewProxy_NewHigherWins() {
+        ProxyBidLadder ladder = new ProxyBidLadder();
+        ladder.register(1L, new BigDecimal("30000"));
+        ladder.register(2L, new BigDecimal("20000"));
+        ladder.register(3L, new BigDecimal("40000"));
+
+        List<ProxyBidExecution> executions = ProxyBidResolver.resolveNewProxy(
+                ladder.topTwo(), 3L, new BigDecimal("40000"), new BigDecimal("15000"), INCREMENT);
+
+        assertThat(executions).hasSize(2);
+        assertThat(executions.get(0).getBidderId()).isEqualTo(1L);
+        assertThat(executions.get(0).getBidAmount()).isEqualByComparingTo("30000");
+        assertThat(executions.get(1).getBidderId()).isEqualTo(3L);
+        assertThat(executions.get(1).getBidAmount()).isEqualByComparingTo("31000");
+    }
+
+    @Test
+    @DisplayName("동일 상한이면 먼저 설정한 기존 입찰자가 상한 금액으로 승리")
+    void resolveNewProxy_TieGoesToEarlier() {
+        ProxyBidLadder ladder = new ProxyBidLadder();
+        ladder.register(1L, new BigDecimal("30000"));
+        ladder.register(2L, new BigDecimal("30000"));
+
+        List<ProxyBidExecution> executions = ProxyBidResolver.resolveNewProxy(
+                ladder.topTwo(), 2L, new BigDecimal("30000"), new BigDecimal("15000"), INCREMENT);
+
+        assertThat(executions).singleElement()
+                .satisfies(execution -> assertThat(execution.getBidderId()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("수동 입찰 + 입찰단위가 최고 상한을 넘거나 이미 최고 입찰자면 반응하지 않음")
+    void resolveManualBid_NoReaction() {
+        List<ProxyBid> topTwo = List.of(new ProxyBid(1L, new BigDecimal("20000"), 0));
+
+        assertThat(ProxyBidResolver.resolveManualBid(topTwo, new BigDecimal("19500"), INCREMENT, null)).isEmpty();
+        assertThat(ProxyBidResolver.resolveManualBid(topTwo, new BigDecimal("15000"), INCREMENT, 1L)).isEmpty();
+        assertThat(ProxyBidResolver.resolveManualBid(topTwo, new BigDecimal("15000"), INCREMENT, 2L))
+                .hasValueSatisfying(execution -> assertThat(execution.getBidAmount()).isEqualByComparingTo("16000"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.cherrypick.app.domain.location.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반경 검색 경계 상자 단위 테스트
+ */
+@DisplayName("반경 검색 경계 상자 단위 테스트")
+class GeoBoundingBoxTest {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    @Test
+    @DisplayName("반경 안의 모든 지점은 경계 상자에 포함된다")
+    void of_ContainsEveryPointWithinRadius() {
+        Random random = new Random(42);
+        double[] radii = {1, 5, 10, 50, 300};
+
+        for (double radiusKm : radii) {
+            for (int i = 0; i < 2_000; i++) {
+                double centerLat = 33.0 + random.nextDouble() * 10;
+                double centerLng = 124.0 + random.nextDouble() * 8;
+                GeoBoundingBox box = GeoBoundingBox.of(centerLat, centerLng, radiusKm);
+
+                // 중심에서 임의 방향, 반경 이내 거리의 지점
+                double[] point = destination(centerLat, centerLng,
+                        random.nextDouble() * 360, random.nextDouble() * radiusKm);
+                assertThat(box.contains(point[0], point[1]))
+                        .as("center=(%f,%f) r=%f point=(%f,%f)", centerLat, centerLng, radiusKm, point[0], point[1])
+                        .isTrue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("경계 상자는 반경보다 크게 벗어나지 않는다")
+    void of_IsTight() {
+        GeoBoundingBox box = GeoBoundingBox.of(37.5665, 126.9780, 10);
+
+        // 위도 1도 ≈ 111.2km, 서울 위도에서 경도 1도 ≈ 88.2km
+        assertThat(box.getMaxLatitude() - box.getMinLatitude()).isBetween(0.179, 0.181);
+        assertThat(box.getMaxLongitude() - box.getMinLongitude()).isBetween(0.225, 0.229);
+        assertThat(box.contains(37.80, 126.9780)).isFalse();
+    }
+
+    @Test
+    @DisplayName("극점을 포함하는 반경은 경도 전체 범위를 사용한다")
+    void of_PoleUsesFullLongitude() {
+        GeoBoundingBox box = GeoBoundingBox.of(89.9, 0, 50);
+
+        assertThat(box.getMaxLatitude()).isEqualTo(90);
+        assertThat(box.getMinLongitude()).isEqualTo(-180);
+        assertThat(box.getMaxLongitude()).isEqualTo(180);
+    }
+
+    private static double[] destination(double latitude, double longitude, double bearingDegrees, double distanceKm) {
+        double angular = distanceKm / EARTH_RADIUS_KM;
+        double bearing = Math.toRadians(bearingDegrees);
+        double lat1 = Math.toRadians(latitude);
+        double lng1 = Math.toRadians(longitude);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+                + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lng2 = lng1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        return new double[]{Math.toDegrees(lat2), Math.toDegrees(lng2)};
+    }
+}
@@ -0,0 +1,149 @@
+package com.cherrypick.app.domain.notification.cache;
+
+import com.cherrypick.app.domain.notification.entity.NotificationSetting;
+import com.cherrypick.app.domain.notification.enums.NotificationType;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.websocket.cluster.ClusterTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 설정 캐시 단위 테스트
+ */
+@DisplayName("알림 설정 캐시 단위 테스트")
+class NotificationSettingCacheTest {
+
+    private NotificationSettingRepository notificationSettingRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationSettingCache cache;
+
+    private final User buyer = User.builder().id(1L).nickname("구매자").build();
+    private final User seller = User.builder().id(2L).nickname("판매자").build();
+
+    @BeforeEach
+    void setUp() {
+        notificationSettingRepository = mock(NotificationSettingRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new NotificationSettingCache(notificationSettingRepository, meterRegistry, 1000, 30);
+    }
+
+    @Test
+    @DisplayName("처음 조회한 설정은 캐시되어 다음 조회는 DB 를 읽지 않는다")
+    void get_ReadThrough() {
+        when(notificationSettingRepository.findByUserId(1L)).thenReturn(Optional.of(
+                NotificationSetting.builder().user(buyer).fcmToken("buyer-token").outbidNotification(false).build()));
+
+        NotificationSettingSnapshot first = cache.get(1L);
+        NotificationSettingSnapshot second = cache.get(1L);
+
+        verify(notificationSettingRepository, times(1)).findByUserId(1L);
+        assertThat(second).isSameAs(first);
+        assertThat(first.getFcmToken()).isEqualTo("buyer-token");
+        assertThat(first.isEnabled(NotificationType.OUTBID)).isFalse();
+        assertThat(first.isEnabled(NotificationType.NEW_BID)).isTrue();
+        assertThat(meterRegistry.get("notification.settings.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("설정이 없는 사용자는 캐시하지 않는다")
+    void get_MissingNotCached() {
+        when(notificationSettingRepository.findByUserId(1L)).thenReturn(Optional.empty());
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+
+        verify(notificationSettingRepository, times(2)).findByUserId(1L);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 사용자 조회는 캐시에 없는 사용자만 IN 쿼리 한 번으로 읽는다")
+    void getAll_LoadsOnlyMissing() {
+        when(notificationSettingRepository.findByUserId(1L)).thenReturn(Optional.of(
+                NotificationSetting.builder().user(buyer).build()));
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(
+                NotificationSetting.builder().user(seller).build()));
+        cache.get(1L);
+
+        Map<Long, NotificationSettingSnapshot> settings = cache.getAll(List.of(1L, 2L, 3L));
+
+        assertThat(settings).containsOnlyKeys(1L, 2L);
+        ArgumentCaptor<List<Long>> missing = ArgumentCaptor.forClass(List.class);
+        verify(notificationSettingRepository, times(1)).findByUserIdIn(missing.capture());
+        assertThat(missing.getValue()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 바뀐 설정을 읽는다")
+    void invalidate_ReloadsChangedSetting() {
+        when(notificationSettingRepository.findByUserId(1L))
+                .thenReturn(Optional.of(NotificationSetting.builder().user(buyer).fcmToken("old-token").build()))
+                .thenReturn(Optional.of(NotificationSetting.builder().user(buyer).fcmToken("new-token").build()));
+        cache.get(1L);
+
+        cache.invalidate(1L);
+
+        assertThat(cache.get(1L).getFcmToken()).isEqualTo("new-token");
+        assertThat(meterRegistry.counter("notification.settings.cache.invalidated").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효 토큰을 가진 항목만 지운다")
+    void invalidateTokens_EvictsMatchingEntries() {
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(
+                NotificationSetting.builder().user(buyer).fcmToken("buyer-token").build(),
+                NotificationSetting.builder().user(seller).fcmToken("seller-token").build()));
+        cache.getAll(List.of(1L, 2L));
+
+        cache.invalidateTokens(Set.of("seller-token", "unknown-token"));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getAll(List.of(1L)).get(1L).getFcmToken()).isEqualTo("buyer-token");
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서는 무효화를 발행하고, 받은 무효화로 로컬 캐시를 지운다")
+    void relay_PublishesAndReceives() {
+        ClusterTransport transport = mock(ClusterTransport.class);
+        NotificationSettingCacheRelay relay = new NotificationSettingCacheRelay(transport, cache, meterRegistry);
+        relay.init();
+        ArgumentCaptor<Consumer<String>> listener = ArgumentCaptor.forClass(Consumer.class);
+        verify(transport).subscribe(eq(NotificationSettingCacheRelay.CHANNEL), listener.capture());
+
+        cache.invalidate(1L);
+        cache.invalidateTokens(Set.of("seller-token"));
+        verify(transport).publish(NotificationSettingCacheRelay.CHANNEL, "u\n1");
+        verify(transport).publish(NotificationSettingCacheRelay.CHANNEL, "t\nseller-token");
+
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(
+                NotificationSetting.builder().user(buyer).fcmToken("buyer-token").build(),
+                NotificationSetting.builder().user(seller).fcmToken("seller-token").build()));
+        cache.getAll(List.of(1L, 2L));
+
+        listener.getValue().accept("u\n1");
+        listener.getValue().accept("t\nseller-token");
+
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.counter("notification.settings.cache.invalidation.received").count()).isEqualTo(2);
+        verify(transport, times(2)).publish(eq(NotificationSettingCacheRelay.CHANNEL), any());
+    }
+}
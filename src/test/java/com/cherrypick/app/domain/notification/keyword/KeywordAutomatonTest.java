@@ -0,0 +1,82 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 Aho–Corasick 오토마톤 단위 테스트
+ */
+@DisplayName("키워드 Aho–Corasick 오토마톤 단위 테스트")
+class KeywordAutomatonTest {
+
+    @Test
+    @DisplayName("겹치거나 다른 키워드의 일부인 키워드를 한 번에 모두 찾는다")
+    void findAll_OverlappingKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("he", "she", "his", "hers", "아이폰", "폰", "아이패드"));
+
+        assertThat(automaton.findAll("ushers")).containsExactlyInAnyOrder("she", "he", "hers");
+        assertThat(automaton.findAll("애플 아이폰 15 프로 팝니다")).containsExactlyInAnyOrder("아이폰", "폰");
+        assertThat(automaton.findAll("아이패드 미니")).containsExactly("아이패드");
+        assertThat(automaton.findAll("갤럭시 탭")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키워드가 여러 번 나와도 한 번만 돌려준다")
+    void findAll_Distinct() {
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("캠핑", "캠핑", ""));
+
+        assertThat(automaton.size()).isEqualTo(1);
+        assertThat(automaton.findAll("캠핑 의자 캠핑 테이블")).containsExactly("캠핑");
+        assertThat(automaton.contains("캠핑")).isTrue();
+        assertThat(automaton.contains("의자")).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 오토마톤은 아무것도 찾지 않는다")
+    void empty_FindsNothing() {
+        assertThat(KeywordAutomaton.empty().findAll("아이폰")).isEmpty();
+        assertThat(KeywordAutomaton.empty().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("무작위 키워드/제목에서 부분 문자열 검사와 같은 결과를 돌려준다")
+    void findAll_MatchesSubstringScan() {
+        Random random = new Random(42);
+        String alphabet = "ab아이폰c";
+        for (int round = 0; round < 500; round++) {
+            List<String> keywords = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                keywords.add(randomString(random, alphabet, 1 + random.nextInt(4)));
+            }
+            KeywordAutomaton automaton = KeywordAutomaton.build(keywords);
+
+            for (int t = 0; t < 10; t++) {
+                String title = randomString(random, alphabet, random.nextInt(15));
+                Set<String> expected = new HashSet<>();
+                for (String keyword : keywords) {
+                    if (title.contains(keyword)) {
+                        expected.add(keyword);
+                    }
+                }
+                assertThat(automaton.findAll(title)).as("keywords=%s, title=%s", keywords, title)
+                        .containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,143 @@
+package com.cherrypick.app.domain.notification.keyword;
+
+import com.cherrypick.app.domain.auction.enums.Category;
+import com.cherrypick.app.domain.notification.entity.UserKeyword;
+import com.cherrypick.app.domain.notification.repository.UserKeywordRepository;
+import com.cherrypick.app.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 활성 키워드 알림 색인 단위 테스트
+ */
+@DisplayName("활성 키워드 알림 색인 단위 테스트")
+class UserKeywordIndexTest {
+
+    private UserKeywordRepository userKeywordRepository;
+    private UserKeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        userKeywordRepository = mock(UserKeywordRepository.class);
+        // 오토마톤 재생성은 테스트에서 직접 호출
+        index = new UserKeywordIndex(userKeywordRepository, new SimpleMeterRegistry(), 2, 60_000);
+
+        when(userKeywordRepository.findActiveKeywordsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                row(1L, 10L, "아이폰", null),
+                row(2L, 11L, "아이폰", Category.MOBILE_DEVICES)));
+        when(userKeywordRepository.findActiveKeywordsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(
+                row(3L, 12L, "아이폰", Category.CLOTHING),
+                row(4L, 13L, "맥북", null)));
+        when(userKeywordRepository.findActiveKeywordsAfter(eq(4L), any(Pageable.class))).thenReturn(List.of());
+        index.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    @DisplayName("ID 순으로 나눠 읽어 전체 활성 키워드를 적재한다")
+    void reload_LoadsAllPages() {
+        verify(userKeywordRepository, times(3)).findActiveKeywordsAfter(any(), any(Pageable.class));
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.keywordCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("전체 카테고리 구독과 경매 카테고리 구독만 돌려준다")
+    void findMatches_FiltersCategory() {
+        assertThat(userIds(index.findMatches("애플 아이폰 15 팝니다", Category.MOBILE_DEVICES))).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(userIds(index.findMatches("아이폰 케이스", null))).containsExactly(10L);
+        assertThat(userIds(index.findMatches("MacBook 맥북 Pro", Category.COMPUTERS))).containsExactly(13L);
+    }
+
+    @Test
+    @DisplayName("새 키워드는 오토마톤을 다시 만들기 전에도 매칭되고, 재생성 후에도 한 번만 돌려준다")
+    void put_NewKeywordMatchesBeforeRebuild() {
+        index.put(keyword(5L, 14L, "macbook", Category.COMPUTERS));
+
+        assertThat(userIds(index.findMatches("MacBook Air", Category.COMPUTERS))).containsExactly(14L);
+
+        index.rebuildAutomaton();
+
+        assertThat(userIds(index.findMatches("MacBook Air", Category.COMPUTERS))).containsExactly(14L);
+        assertThat(index.keywordCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비활성화/삭제한 키워드는 바로 매칭되지 않는다")
+    void putInactiveAndRemove_StopMatching() {
+        UserKeyword macbook = keyword(4L, 13L, "맥북", null);
+        macbook.setActive(false);
+        index.put(macbook);
+        index.remove(new KeywordSubscription(2L, 11L, "아이폰", Category.MOBILE_DEVICES));
+
+        assertThat(index.findMatches("맥북 프로", Category.COMPUTERS)).isEmpty();
+        assertThat(userIds(index.findMatches("아이폰", Category.MOBILE_DEVICES))).containsExactly(10L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키워드를 여러 번 반영해도 한 번만 보관한다")
+    void put_Idempotent() {
+        index.put(keyword(1L, 10L, "아이폰", null));
+        index.put(keyword(1L, 10L, "아이폰", null));
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.findMatches("아이폰", null)).hasSize(1);
+    }
+
+    private static List<Long> userIds(List<KeywordSubscription> subscriptions) {
+        return subscriptions.stream().map(KeywordSubscription::getUserId).toList();
+    }
+
+    private static UserKeyword keyword(Long id, Long userId, String keyword, Category category) {
+        return UserKeyword.builder()
+                .id(id)
+                .user(User.builder().id(userId).build())
+                .keyword(keyword)
+                .category(category)
+                .build();
+    }
+
+    private static UserKeywordRepository.ActiveKeyword row(Long id, Long userId, String keyword, Category category) {
+        return new UserKeywordRepository.ActiveKeyword() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getKeyword() {
+                return keyword;
+            }
+
+            @Override
+            public Category getCategory() {
+                return category;
+            }
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
+import com.cherrypick.app.domain.notification.repository.NotificationHistoryRepository;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.google.firebase.messaging.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * FCM 푸시 일괄 발송 디스패처 단위 테스트
+ */
+@DisplayName("FCM 푸시 일괄 발송 디스패처 단위 테스트")
+class FcmPushDispatcherTest {
+
+    // 발송 결과를 배치마다 미리 정해두는 가짜 발송기
+    private final Queue<List<PushOutcome>> scriptedOutcomes = new ArrayDeque<>();
+    private final List<Integer> sentBatchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<Message> sentMessages = Collections.synchronizedList(new ArrayList<>());
+    private final PushSender pushSender = messages -> {
+        sentBatchSizes.add(messages.size());
+        sentMessages.addAll(messages);
+        List<PushOutcome> outcomes = scriptedOutcomes.poll();
+        return outcomes != null ? outcomes : Collections.nCopies(messages.size(), PushOutcome.SENT);
+    };
+
+    private NotificationSettingRepository notificationSettingRepository;
+    private NotificationHistoryRepository notificationHistoryRepository;
+    private NotificationSettingCache notificationSettingCache;
+    private ScheduledExecutorService retryScheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private FcmPushDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        notificationSettingRepository = mock(NotificationSettingRepository.class);
+        notificationHistoryRepository = mock(NotificationHistoryRepository.class);
+        notificationSettingCache = mock(NotificationSettingCache.class);
+        retryScheduler = mock(ScheduledExecutorService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = dispatcher(100, 500);
+    }
+
+    @Test
+    @DisplayName("성공한 알림은 일괄 fcm_sent 처리하고 무효 토큰은 알림 설정에서 삭제한다")
+    void dispatch_MarksSentAndPrunesInvalidTokens() {
+        when(notificationSettingRepository.clearFcmTokens(anyCollection())).thenReturn(1);
+        scriptedOutcomes.add(List.of(PushOutcome.SENT, PushOutcome.INVALID_TOKEN, PushOutcome.SENT, PushOutcome.FAILED));
+
+        dispatcher.dispatch(List.of(
+                request("token-1", 1L),
+                request("token-2", 2L),
+                request("token-3", null),
+                request("token-4", 4L)));
+
+        verify(notificationHistoryRepository).markFcmSentByIds(List.of(1L));
+        verify(notificationSettingRepository).clearFcmTokens(Set.of("token-2"));
+        verify(notificationSettingCache).invalidateTokens(Set.of("token-2"));
+        verify(retryScheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+        assertThat(meterRegistry.counter("notification.push.sent").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notification.push.failed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notification.push.pruned.tokens").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적 실패는 지수 백오프로 다시 대기열에 넣고 최대 시도 횟수를 넘으면 실패 처리한다")
+    void dispatch_RetriesWithBackoffUntilMaxAttempts() {
+        PushRequest request = request("token-1", 1L);
+
+        scriptedOutcomes.add(List.of(PushOutcome.RETRY));
+        dispatcher.dispatch(List.of(request));
+        runScheduledRetry(1000);
+        assertThat(dispatcher.getQueueSize()).isEqualTo(1);
+
+        scriptedOutcomes.add(List.of(PushOutcome.RETRY));
+        dispatcher.dispatch(List.of(request));
+        runScheduledRetry(2000);
+
+        // 세 번째 시도(max-attempts)도 실패하면 더 이상 예약하지 않음
+        scriptedOutcomes.add(List.of(PushOutcome.RETRY));
+        dispatcher.dispatch(List.of(request));
+
+        assertThat(request.getAttempts()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.push.retried").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notification.push.failed").count()).isEqualTo(1);
+        verify(notificationHistoryRepository, never()).markFcmSentByIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("발송기 예외는 배치 전체를 재시도 대상으로 처리한다")
+    void dispatch_SenderExceptionRetriesWholeBatch() {
+        PushSender failingSender = messages -> {
+            throw new IllegalStateException("connection reset");
+        };
+        FcmPushDispatcher failingDispatcher = new FcmPushDispatcher(failingSender,
+                notificationSettingRepository, notificationHistoryRepository, notificationSettingCache, new SimpleMeterRegistry(),
+                100, 500, 0, 3, 1000, 30_000, retryScheduler);
+
+        failingDispatcher.dispatch(List.of(request("token-1", 1L), request("token-2", 2L)));
+
+        verify(retryScheduler, times(2)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(notificationSettingRepository, never()).clearFcmTokens(anyCollection());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청을 버리고 집계한다")
+    void enqueue_RejectsWhenQueueFull() {
+        FcmPushDispatcher small = dispatcher(2, 500);
+
+        assertThat(small.enqueue(request("token-1", 1L))).isTrue();
+        assertThat(small.enqueue(request("token-2", 2L))).isTrue();
+        assertThat(small.enqueue(request("token-3", 3L))).isFalse();
+
+        assertThat(small.getQueueSize()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notification.push.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("급한 요청은 대기열 앞에 들어가고 일반 요청이 채울 수 없는 예비 공간을 쓴다")
+    void enqueue_UrgentRequestsSkipAheadAndUseReserve() throws Exception {
+        FcmPushDispatcher reserved = dispatcher(10, 1);
+        List<PushRequest> bulk = new ArrayList<>();
+        for (long i = 0; i < 9; i++) {
+            PushRequest request = request("bulk-" + i, i);
+            bulk.add(request);
+            assertThat(reserved.enqueue(request)).isTrue();
+        }
+        // 일반 요청은 90% 까지만
+        assertThat(reserved.enqueue(request("bulk-9", 9L))).isFalse();
+
+        PushRequest chat = new PushRequest("chat", Message.builder().setToken("chat").build(), null, true);
+        assertThat(reserved.enqueue(chat)).isTrue();
+
+        reserved.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sentMessages.size() < 10 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        reserved.stop();
+
+        assertThat(sentMessages).hasSize(10);
+        assertThat(sentMessages.get(0)).isSameAs(chat.getMessage());
+        assertThat(sentMessages.get(1)).isSameAs(bulk.get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("발송 스레드는 대기 중인 요청을 배치 크기만큼 묶어 보낸다")
+    void worker_GroupsQueuedRequestsIntoBatches() throws Exception {
+        FcmPushDispatcher batching = dispatcher(2000, 500);
+        for (long i = 0; i < 1200; i++) {
+            batching.enqueue(request("token-" + i, i));
+        }
+
+        batching.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sentBatchSizes.stream().mapToInt(Integer::intValue).sum() < 1200 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        batching.stop();
+
+        assertThat(sentBatchSizes).containsExactly(500, 500, 200);
+        assertThat(meterRegistry.counter("notification.push.sent").count()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("배치 크기 설정은 FCM 제한(500)을 넘지 않는다")
+    void batchSize_IsCappedAtFcmLimit() throws Exception {
+        FcmPushDispatcher oversized = dispatcher(2000, 1000);
+        for (long i = 0; i < 600; i++) {
+            oversized.enqueue(request("token-" + i, i));
+        }
+
+        oversized.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (sentBatchSizes.stream().mapToInt(Integer::intValue).sum() < 600 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        oversized.stop();
+
+        assertThat(sentBatchSizes).containsExactly(500, 100);
+    }
+
+    private FcmPushDispatcher dispatcher(int queueCapacity, int batchSize) {
+        return new FcmPushDispatcher(pushSender, notificationSettingRepository, notificationHistoryRepository,
+                notificationSettingCache, meterRegistry, queueCapacity, batchSize, 0, 3, 1000, 30_000, retryScheduler);
+    }
+
+    /**
+     * 예약된 재시도의 지연 시간을 확인하고 바로 실행 (다시 대기열에 들어감)
+     */
+    private void runScheduledRetry(long expectedDelayMillis) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(retryScheduler).schedule(captor.capture(), eq(expectedDelayMillis), eq(TimeUnit.MILLISECONDS));
+        captor.getValue().run();
+    }
+
+    private static PushRequest request(String token, Long notificationId) {
+        return new PushRequest(token, Message.builder().setToken(token).build(), notificationId);
+    }
+}
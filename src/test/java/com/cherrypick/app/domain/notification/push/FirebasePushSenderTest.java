@@ -0,0 +1,42 @@
+package com.cherrypick.app.domain.notification.push;
+
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FCM 오류 코드 분류 단위 테스트
+ */
+@DisplayName("FCM 오류 코드 분류 단위 테스트")
+class FirebasePushSenderTest {
+
+    @Test
+    @DisplayName("해지/만료되었거나 다른 프로젝트의 토큰만 토큰 삭제 대상이다")
+    void classify_InvalidTokens() {
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.UNREGISTERED)).isEqualTo(PushOutcome.INVALID_TOKEN);
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.SENDER_ID_MISMATCH)).isEqualTo(PushOutcome.INVALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지(INVALID_ARGUMENT)는 해당 메시지만 실패 처리하고 토큰은 지우지 않는다")
+    void classify_InvalidArgumentFailsMessageOnly() {
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.INVALID_ARGUMENT)).isEqualTo(PushOutcome.FAILED);
+    }
+
+    @Test
+    @DisplayName("서버 오류/할당량 초과/네트워크 오류는 재시도 대상이다")
+    void classify_Retryable() {
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.UNAVAILABLE)).isEqualTo(PushOutcome.RETRY);
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.INTERNAL)).isEqualTo(PushOutcome.RETRY);
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.QUOTA_EXCEEDED)).isEqualTo(PushOutcome.RETRY);
+        assertThat(FirebasePushSender.classify(null)).isEqualTo(PushOutcome.RETRY);
+    }
+
+    @Test
+    @DisplayName("인증 설정 오류는 재시도하지 않는다")
+    void classify_Failed() {
+        assertThat(FirebasePushSender.classify(MessagingErrorCode.THIRD_PARTY_AUTH_ERROR)).isEqualTo(PushOutcome.FAILED);
+    }
+}
@@ -0,0 +1,59 @@
+package com.cherrypick.app.domain.notification.sink;
+
+import com.cherrypick.app.domain.notification.entity.NotificationHistory;
+import com.cherrypick.app.domain.notification.enums.NotificationType;
+import com.cherrypick.app.domain.user.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 내역 JDBC 일괄 저장 단위 테스트
+ */
+@DisplayName("알림 내역 JDBC 일괄 저장 단위 테스트")
+class NotificationHistoryBatchWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final NotificationHistoryBatchWriter writer = new NotificationHistoryBatchWriter(jdbcTemplate);
+
+    @Test
+    @DisplayName("nextval 한 번으로 (v - 49) ~ v 구간을 나눠 쓴다")
+    void allocateIds_SplitsSequenceBlocks() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(3))).thenReturn(List.of(50L, 250L, 300L));
+
+        List<Long> ids = writer.allocateIds(120);
+
+        assertThat(ids).hasSize(120);
+        assertThat(ids.subList(0, 50)).containsExactlyElementsOf(LongStream.rangeClosed(1, 50).boxed().toList());
+        assertThat(ids.subList(50, 100)).containsExactlyElementsOf(LongStream.rangeClosed(201, 250).boxed().toList());
+        assertThat(ids.subList(100, 120)).containsExactlyElementsOf(LongStream.rangeClosed(251, 270).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("확보한 ID 로 한 번의 배치 INSERT 를 실행하고 ID 가 지정된 알림을 돌려준다")
+    void insertAll_SingleBatch() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(100L));
+        User user = User.builder().id(7L).nickname("구매자").build();
+
+        List<NotificationHistory> saved = writer.insertAll(List.of(
+                NotificationHistory.createNotification(user, NotificationType.OUTBID, "더 높은 입찰", "다시 입찰해보세요", 3L),
+                NotificationHistory.createNotificationWithChatRoom(user, NotificationType.AUCTION_WON, "낙찰", "축하합니다", 4L, 9L)));
+
+        assertThat(saved).extracting(NotificationHistory::getId).containsExactly(51L, 52L);
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batchArgs.capture());
+        assertThat(batchArgs.getValue()).hasSize(2);
+        assertThat(batchArgs.getValue().get(1)).startsWith(52L, 7L, "AUCTION_WON", "낙찰", "축하합니다", 4L, 9L);
+    }
+}
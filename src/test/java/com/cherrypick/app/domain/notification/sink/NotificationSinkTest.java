@@ -0,0 +1,203 @@
+package com.cherrypick.app.domain.notification.sink;
+
+import com.cherrypick.app.domain.notification.cache.NotificationSettingCache;
+import com.cherrypick.app.domain.notification.entity.NotificationHistory;
+import com.cherrypick.app.domain.notification.entity.NotificationSetting;
+import com.cherrypick.app.domain.notification.event.AccountRestoredEvent;
+import com.cherrypick.app.domain.notification.event.AuctionWonNotificationEvent;
+import com.cherrypick.app.domain.notification.event.KeywordAlertEvent;
+import com.cherrypick.app.domain.notification.repository.NotificationSettingRepository;
+import com.cherrypick.app.domain.notification.service.FcmService;
+import com.cherrypick.app.domain.user.entity.User;
+import com.cherrypick.app.domain.user.repository.UserRepository;
+import com.cherrypick.app.domain.websocket.service.WebSocketMessagingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림 일괄 저장/발송 싱크 단위 테스트
+ */
+@DisplayName("알림 일괄 저장/발송 싱크 단위 테스트")
+class NotificationSinkTest {
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private UserRepository userRepository;
+    private NotificationSettingRepository notificationSettingRepository;
+    private NotificationHistoryBatchWriter historyBatchWriter;
+    private PlatformTransactionManager transactionManager;
+    private FcmService fcmService;
+    private WebSocketMessagingService webSocketMessagingService;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationSink sink;
+
+    private final User buyer = User.builder().id(1L).nickname("구매자").build();
+    private final User seller = User.builder().id(2L).nickname("판매자").build();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        notificationSettingRepository = mock(NotificationSettingRepository.class);
+        historyBatchWriter = mock(NotificationHistoryBatchWriter.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        fcmService = mock(FcmService.class);
+        webSocketMessagingService = mock(WebSocketMessagingService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        sink = sink(100);
+
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(buyer, seller));
+        when(historyBatchWriter.insertAll(anyList())).thenAnswer(invocation -> assignIds(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("배치 하나는 사용자/설정을 한 번씩 조회하고 한 번에 저장해 한 번 커밋한다")
+    void flush_LoadsOnceAndCommitsOnce() {
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(
+                NotificationSetting.builder().user(buyer).fcmToken("buyer-token").build(),
+                NotificationSetting.builder().user(seller).keywordNotification(false).build()));
+
+        sink.flush(List.of(
+                keywordAlert(1L, 10L),
+                keywordAlert(1L, 11L),
+                keywordAlert(2L, 10L),
+                new AccountRestoredEvent(this, 2L)));
+
+        verify(userRepository, times(1)).findAllById(anyIterable());
+        verify(notificationSettingRepository, times(1)).findByUserIdIn(anyCollection());
+        verify(notificationSettingRepository, never()).findByUserId(any());
+        verify(transactionManager, times(1)).commit(any());
+
+        // 판매자는 키워드 알림을 꺼두었지만 계정 복구 알림은 항상 발송
+        ArgumentCaptor<List<NotificationHistory>> saved = ArgumentCaptor.forClass(List.class);
+        verify(historyBatchWriter, times(1)).insertAll(saved.capture());
+        assertThat(saved.getValue()).hasSize(3);
+
+        // 토큰이 있는 구매자만 FCM, WebSocket 은 저장된 알림 모두
+        verify(fcmService, times(2)).sendFcmPushWithDeepLink(eq("buyer-token"), anyString(), anyString(),
+                any(NotificationHistory.class), any(), eq("KEYWORD_ALERT"), eq("/auction/detail"));
+        verify(webSocketMessagingService, times(2)).sendNotificationToUser(eq(1L), any());
+        verify(webSocketMessagingService, times(1)).sendNotificationToUser(eq(2L), any());
+        assertThat(meterRegistry.counter("notification.sink.persisted").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.sink.skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시된 알림 설정은 다음 배치에서 다시 조회하지 않는다")
+    void flush_ReusesCachedSettings() {
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(
+                NotificationSetting.builder().user(buyer).build(),
+                NotificationSetting.builder().user(seller).build()));
+
+        sink.flush(List.of(keywordAlert(1L, 10L), keywordAlert(2L, 10L)));
+        sink.flush(List.of(keywordAlert(1L, 11L), keywordAlert(2L, 11L)));
+
+        verify(notificationSettingRepository, times(1)).findByUserIdIn(anyCollection());
+        assertThat(meterRegistry.counter("notification.sink.persisted").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("알림 설정이 없는 사용자는 기본 설정을 만들어 알림을 저장한다")
+    void flush_CreatesDefaultSettings() {
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of());
+        when(notificationSettingRepository.saveAll(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        sink.flush(List.of(keywordAlert(1L, 10L), keywordAlert(2L, 10L)));
+
+        ArgumentCaptor<List<NotificationSetting>> created = ArgumentCaptor.forClass(List.class);
+        verify(notificationSettingRepository).saveAll(created.capture());
+        assertThat(created.getValue()).extracting(setting -> setting.getUser().getId())
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(meterRegistry.counter("notification.sink.persisted").count()).isEqualTo(2);
+        verify(fcmService, never()).sendFcmPushWithDeepLink(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 이벤트마다 다시 저장해 실패한 알림만 버린다")
+    void flush_FallsBackToPerEvent() {
+        when(notificationSettingRepository.findByUserIdIn(anyCollection())).thenReturn(List.of(
+                NotificationSetting.builder().user(buyer).build(),
+                NotificationSetting.builder().user(seller).build()));
+        when(historyBatchWriter.insertAll(anyList())).thenAnswer(invocation -> {
+            List<NotificationHistory> notifications = invocation.getArgument(0);
+            if (notifications.stream().anyMatch(notification -> notification.getUser().getId().equals(2L))) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return assignIds(notifications);
+        });
+
+        sink.flush(List.of(keywordAlert(1L, 10L), keywordAlert(2L, 10L)));
+
+        verify(historyBatchWriter, times(3)).insertAll(anyList());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(webSocketMessagingService, times(1)).sendNotificationToUser(eq(1L), any());
+        verify(webSocketMessagingService, never()).sendNotificationToUser(eq(2L), any());
+        assertThat(meterRegistry.counter("notification.sink.persisted").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.sink.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 이벤트를 버리고 집계한다")
+    void submit_RejectsWhenFull() {
+        NotificationSink smallSink = sink(1);
+
+        assertThat(smallSink.submit(keywordAlert(1L, 10L))).isTrue();
+        assertThat(smallSink.submit(keywordAlert(1L, 11L))).isFalse();
+        assertThat(smallSink.getBulkQueueSize()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.sink.rejected", "lane", "bulk").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대량 알림 대기열이 가득 차도 즉시 알림은 자기 대기열에 들어간다")
+    void submit_BulkBacklogDoesNotRejectInteractive() {
+        NotificationSink smallSink = sink(1);
+
+        assertThat(smallSink.submit(keywordAlert(1L, 10L))).isTrue();
+        assertThat(smallSink.submit(keywordAlert(2L, 10L))).isFalse();
+        assertThat(smallSink.submit(new AuctionWonNotificationEvent(this, 1L, 10L, "아이폰 15 프로", 1_000_000L, "판매자", 100L))).isTrue();
+
+        assertThat(smallSink.getQueueSize()).isEqualTo(1);
+        assertThat(smallSink.getBulkQueueSize()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.sink.rejected", "lane", "interactive").count()).isZero();
+    }
+
+    private NotificationSink sink(int queueCapacity) {
+        NotificationSettingCache settingCache = new NotificationSettingCache(notificationSettingRepository, meterRegistry, 1000, 30);
+        return new NotificationSink(userRepository, notificationSettingRepository, settingCache, historyBatchWriter,
+                new TransactionTemplate(transactionManager), fcmService, webSocketMessagingService,
+                meterRegistry, queueCapacity, queueCapacity, 500, 0);
+    }
+
+    private List<NotificationHistory> assignIds(List<NotificationHistory> notifications) {
+        List<NotificationHistory> saved = new ArrayList<>(notifications.size());
+        for (NotificationHistory notification : notifications) {
+            saved.add(notification.withId(nextId.getAndIncrement()));
+        }
+        return saved;
+    }
+
+    private KeywordAlertEvent keywordAlert(Long userId, Long auctionId) {
+        return new KeywordAlertEvent(this, userId, auctionId, "아이폰 15 프로", "아이폰", 1_000_000L, "디지털기기");
+    }
+}
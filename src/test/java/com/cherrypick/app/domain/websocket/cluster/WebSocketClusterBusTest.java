@@ -0,0 +1,164 @@
+package com.cherrypick.app.domain.websocket.cluster;
+
+import com.cherrypick.app.config.WebSocketHandler;
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.cherrypick.app.domain.websocket.outbound.OutboundMessageDispatcher;
+import com.cherrypick.app.domain.websocket.replay.TopicReplayLogs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 클러스터 브로드캐스트 버스 단위 테스트
+ * 두 노드가 메모리 pub/sub 으로 연결된 상황을 구성한다. (Redis 대체)
+ */
+@DisplayName("WebSocket 클러스터 브로드캐스트 버스 단위 테스트")
+class WebSocketClusterBusTest {
+
+    private InMemoryTransport transport;
+    private WebSocketHandler nodeA;
+    private WebSocketHandler nodeB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryTransport();
+        nodeA = node(transport);
+        nodeB = node(transport);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 경매 메시지가 다른 노드의 구독자에게 한 번씩 전달된다")
+    void auctionBroadcast_ReachesOtherNode() throws Exception {
+        WebSocketSession localSession = subscribedSession(nodeA, "a1", "10");
+        WebSocketSession remoteSession = subscribedSession(nodeB, "b1", "10");
+
+        nodeA.sendToAuctionSubscribers("/topic/auctions/10",
+                AuctionUpdateMessage.newBid(10L, BigDecimal.valueOf(5000), 3, "체리****"));
+
+        verify(localSession, times(1)).sendMessage(any());
+        verify(remoteSession, times(1)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("노드는 로컬 구독자가 있는 토픽 채널만 구독하고 마지막 구독자가 떠나면 해제한다")
+    void channels_FollowLocalSubscribers() throws Exception {
+        WebSocketSession session = subscribedSession(nodeB, "b1", "10");
+        assertThat(transport.subscriberCount(ClusterChannels.auction("10"))).isEqualTo(1);
+        assertThat(transport.subscriberCount(ClusterChannels.auction("20"))).isZero();
+
+        nodeB.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        assertThat(transport.subscriberCount(ClusterChannels.auction("10"))).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 알림은 사용자가 연결된 노드에만 전달된다")
+    void userNotification_ReachesUserNode() throws Exception {
+        WebSocketSession userSession = mock(WebSocketSession.class);
+        when(userSession.getId()).thenReturn("b1");
+        when(userSession.isOpen()).thenReturn(true);
+        nodeB.afterConnectionEstablished(userSession);
+        nodeB.handleTextMessage(userSession, new TextMessage("{\"type\":\"AUTH\",\"userId\":7}"));
+        clearInvocations(userSession);
+
+        nodeA.sendToAuctionSubscribers("/topic/notifications/7", Map.of("type", "UNREAD_COUNT", "count", 1));
+        nodeA.sendToAuctionSubscribers("/topic/notifications/8", Map.of("type", "UNREAD_COUNT", "count", 1));
+
+        verify(userSession, times(1)).sendMessage(any());
+        assertThat(transport.subscriberCount(ClusterChannels.user(8L))).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 중계된 메시지는 다시 발행되지 않는다")
+    void relayedMessage_IsNotRepublished() throws Exception {
+        subscribedSession(nodeA, "a1", "10");
+        WebSocketSession remoteSession = subscribedSession(nodeB, "b1", "10");
+
+        nodeA.sendToAuctionSubscribers("/topic/auctions/10", AuctionUpdateMessage.bidCountUpdate(10L, 1));
+
+        verify(remoteSession, times(1)).sendMessage(any());
+        assertThat(transport.publishedCount()).isEqualTo(1);
+    }
+
+    private WebSocketHandler node(InMemoryTransport transport) {
+        SessionLivenessManager livenessManager = new SessionLivenessManager(new SimpleMeterRegistry(), 1000, 90_000);
+        WebSocketHandler handler = new WebSocketHandler(event -> { }, null,
+                new OutboundMessageDispatcher(new SimpleMeterRegistry(), Runnable::run, 1024, 1 << 20, 10_000),
+                livenessManager, new TopicReplayLogs(livenessManager, 64, 60_000));
+        new WebSocketClusterBus(transport.forNode(), handler, new SimpleMeterRegistry()).init();
+        return handler;
+    }
+
+    private WebSocketSession subscribedSession(WebSocketHandler handler, String sessionId, String auctionId) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session,
+                new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"" + auctionId + "\"}"));
+        clearInvocations(session);
+        return session;
+    }
+
+    /**
+     * 채널별 리스너 목록을 가진 동기식 pub/sub (노드마다 subscribe 호출)
+     */
+    private static class InMemoryTransport {
+
+        private final Map<String, Set<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+        private int published;
+
+        ClusterTransport forNode() {
+            Map<String, Consumer<String>> own = new ConcurrentHashMap<>();
+            return new ClusterTransport() {
+                @Override
+                public void publish(String channel, String message) {
+                    published++;
+                    listeners.getOrDefault(channel, Set.of()).forEach(listener -> listener.accept(message));
+                }
+
+                @Override
+                public void subscribe(String channel, Consumer<String> listener) {
+                    unsubscribe(channel);
+                    own.put(channel, listener);
+                    listeners.computeIfAbsent(channel, k -> ConcurrentHashMap.newKeySet()).add(listener);
+                }
+
+                @Override
+                public void unsubscribe(String channel) {
+                    Consumer<String> listener = own.remove(channel);
+                    if (listener != null) {
+                        listeners.get(channel).remove(listener);
+                    }
+                }
+            };
+        }
+
+        int subscriberCount(String channel) {
+            return listeners.getOrDefault(channel, Set.of()).size();
+        }
+
+        int publishedCount() {
+            return published;
+        }
+    }
+}
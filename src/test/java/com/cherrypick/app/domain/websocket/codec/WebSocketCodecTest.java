@@ -0,0 +1,147 @@
+package com.cherrypick.app.domain.websocket.codec;
+
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 프레임 인코딩/디코딩 단위 테스트
+ */
+@DisplayName("WebSocket 프레임 인코딩/디코딩 단위 테스트")
+class WebSocketCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final WebSocketCodec codec = new WebSocketCodec(objectMapper);
+
+    @Test
+    @DisplayName("JSON 요청의 최상위 필드만 읽고 중첩 값과 null 은 건너뛴다")
+    void decode_Json_ReadsTopLevelFields() throws Exception {
+        InboundFrame frame = codec.decode(new TextMessage(
+                "{\"type\":\"AUTH\",\"meta\":{\"userId\":1,\"tags\":[1,2]},\"userId\":7,\"auctionId\":12,\"roomId\":null}"));
+
+        assertThat(frame.getType()).isEqualTo(InboundType.AUTH);
+        assertThat(frame.hasUserId()).isTrue();
+        assertThat(frame.getUserId()).isEqualTo(7L);
+        assertThat(frame.getAuctionId()).isEqualTo("12");
+        assertThat(frame.getRoomId()).isNull();
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 요청은 UNKNOWN, 모르는 타입은 원래 문자열을 유지한다")
+    void decode_UnknownType() throws Exception {
+        InboundFrame array = codec.decode(new TextMessage("[1,2]"));
+        assertThat(array.getType()).isEqualTo(InboundType.UNKNOWN);
+        assertThat(array.getTypeName()).isEmpty();
+
+        InboundFrame unknown = codec.decode(new TextMessage("{\"type\":\"PINGX\"}"));
+        assertThat(unknown.getType()).isEqualTo(InboundType.UNKNOWN);
+        assertThat(unknown.getTypeName()).isEqualTo("PINGX");
+    }
+
+    @Test
+    @DisplayName("재사용되는 프레임은 이전 요청의 필드를 남기지 않는다")
+    void decode_ReusedFrame_IsReset() throws Exception {
+        InboundFrame first = codec.decode(new TextMessage("{\"type\":\"PING\",\"timestamp\":123}"));
+        assertThat(first.hasTimestamp()).isTrue();
+
+        InboundFrame second = codec.decode(new TextMessage("{\"type\":\"SUBSCRIBE\",\"auctionId\":\"5\"}"));
+        assertThat(second.getType()).isEqualTo(InboundType.SUBSCRIBE);
+        assertThat(second.getAuctionId()).isEqualTo("5");
+        assertThat(second.hasTimestamp()).isFalse();
+    }
+
+    @Test
+    @DisplayName("CBOR 요청은 같은 JSON 요청보다 작고 같은 프레임으로 읽힌다")
+    void decode_Cbor_MatchesJson() throws Exception {
+        Map<String, Object> request = Map.of(
+                "type", "MESSAGE",
+                "roomId", "77",
+                "content", "안녕하세요",
+                "timestamp", 1_700_000_000_000L
+        );
+        byte[] cbor = cborMapper.writeValueAsBytes(request);
+        // 배열 중간을 가리키는 버퍼도 위치/길이대로 읽어야 함
+        byte[] padded = new byte[cbor.length + 4];
+        System.arraycopy(cbor, 0, padded, 2, cbor.length);
+
+        // 프레임은 재사용되므로 디코딩 직후 비교용 복사본을 만든다
+        InboundFrame fromJson = codec.decode(new TextMessage(objectMapper.writeValueAsString(request)));
+        Map<String, Object> jsonFields = Map.of("type", fromJson.getType(), "roomId", fromJson.getRoomId(),
+                "content", fromJson.getContent(), "timestamp", fromJson.getTimestamp());
+        InboundFrame fromCbor = codec.decode(new BinaryMessage(ByteBuffer.wrap(padded, 2, cbor.length)));
+
+        assertThat(Map.of("type", fromCbor.getType(), "roomId", fromCbor.getRoomId(),
+                "content", fromCbor.getContent(), "timestamp", fromCbor.getTimestamp())).isEqualTo(jsonFields);
+        assertThat(fromCbor.getContent()).isEqualTo("안녕하세요");
+        assertThat(cbor.length).isLessThan(objectMapper.writeValueAsBytes(request).length);
+    }
+
+    @Test
+    @DisplayName("CBOR 프레임은 JSON 과 같은 내용이고 더 작으며 세션마다 새 메시지로 감싼다")
+    void encodedFrame_CborMatchesJsonAndIsSmaller() throws Exception {
+        EncodedFrame encoded = codec.encode(
+                AuctionUpdateMessage.newBid(10L, BigDecimal.valueOf(125_000), 42, "체리****"));
+
+        WebSocketMessage<?> json = encoded.forFormat(WireFormat.JSON);
+        WebSocketMessage<?> first = encoded.forFormat(WireFormat.CBOR);
+        WebSocketMessage<?> second = encoded.forFormat(WireFormat.CBOR);
+
+        assertThat(json).isSameAs(encoded.json());
+        assertThat(first).isInstanceOf(BinaryMessage.class).isNotSameAs(second);
+
+        byte[] cborBytes = ((BinaryMessage) first).getPayload().array();
+        JsonNode fromCbor = cborMapper.readTree(cborBytes);
+        JsonNode fromJson = objectMapper.readTree(encoded.json().asBytes());
+        assertThat(fromCbor).isEqualTo(fromJson);
+
+        assertThat(first.getPayloadLength()).isLessThan(json.getPayloadLength());
+    }
+
+    @Test
+    @DisplayName("미리 만든 틀로 생성한 PONG 은 JSON/CBOR 모두 같은 값으로 읽힌다")
+    void pongFrames_MatchSerializedPong() throws Exception {
+        for (long timestamp : new long[]{0L, 1_700_000_000_000L, -5L}) {
+            TextMessage json = (TextMessage) PongFrames.of(WireFormat.JSON, timestamp, 42L);
+            BinaryMessage cbor = (BinaryMessage) PongFrames.of(WireFormat.CBOR, timestamp, 42L);
+
+            for (JsonNode pong : new JsonNode[]{
+                    objectMapper.readTree(json.getPayload()), cborMapper.readTree(cbor.getPayload().array())}) {
+                assertThat(pong.size()).isEqualTo(3);
+                assertThat(pong.get("type").asText()).isEqualTo("PONG");
+                assertThat(pong.get("timestamp").asLong()).isEqualTo(timestamp);
+                assertThat(pong.get("serverTime").asLong()).isEqualTo(42L);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("서브프로토콜을 협상하지 않은 세션은 JSON 을 사용한다")
+    void wireFormat_DefaultsToJson() {
+        WebSocketSession legacy = mock(WebSocketSession.class);
+        WebSocketSession binary = mock(WebSocketSession.class);
+        when(binary.getAcceptedProtocol()).thenReturn("cherrypick.cbor");
+
+        assertThat(WireFormat.of(legacy)).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.of(binary)).isEqualTo(WireFormat.CBOR);
+    }
+}
@@ -0,0 +1,98 @@
+package com.cherrypick.app.domain.websocket.liveness;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 유휴 만료 관리 단위 테스트
+ */
+@DisplayName("유휴 만료 관리 단위 테스트")
+class SessionLivenessManagerTest {
+
+    private final AtomicLong clock = new AtomicLong(10_000);
+    private final List<String> expired = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SessionLivenessManager manager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        manager = new SessionLivenessManager(meterRegistry, 100, 1_000, clock::get);
+    }
+
+    @Test
+    @DisplayName("활동이 없으면 제한 시간 이후 콜백을 한 번 실행하고 등록을 해제한다")
+    void tick_ExpiresIdleKey() {
+        manager.watchSession("s1", () -> expired.add("s1"));
+
+        tickAt(10_900);
+        assertThat(expired).isEmpty();
+
+        tickAt(11_000);
+        tickAt(12_000);
+        assertThat(expired).containsExactly("s1");
+        assertThat(manager.isWatched("s1")).isFalse();
+        assertThat(meterRegistry.get("websocket.liveness.expired").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("그 사이 활동이 있었으면 마지막 활동 기준으로 다시 예약한다")
+    void tick_RearmsTouchedKey() {
+        manager.register("typing", 1_000, () -> expired.add("typing"));
+        clock.set(10_800);
+        assertThat(manager.touch("typing")).isTrue();
+
+        tickAt(11_000);
+        assertThat(expired).isEmpty();
+        assertThat(manager.isWatched("typing")).isTrue();
+
+        tickAt(11_700);
+        assertThat(expired).isEmpty();
+        tickAt(11_800);
+        assertThat(expired).containsExactly("typing");
+    }
+
+    @Test
+    @DisplayName("해제하거나 교체된 등록의 콜백은 실행하지 않는다")
+    void cancelAndReplace_SkipStaleCallbacks() {
+        manager.register("cancelled", 500, () -> expired.add("cancelled"));
+        manager.register("replaced", 500, () -> expired.add("old"));
+        manager.register("replaced", 2_000, () -> expired.add("new"));
+        manager.cancel("cancelled");
+
+        assertThat(manager.touch("cancelled")).isFalse();
+        tickAt(11_000);
+        assertThat(expired).isEmpty();
+        assertThat(manager.size()).isEqualTo(1);
+
+        tickAt(12_000);
+        assertThat(expired).containsExactly("new");
+    }
+
+    @Test
+    @DisplayName("만료 콜백에서 예외가 나도 나머지 항목을 계속 처리한다")
+    void tick_ContinuesAfterCallbackFailure() {
+        manager.register("broken", 500, () -> {
+            throw new IllegalStateException("boom");
+        });
+        manager.register("ok", 500, () -> expired.add("ok"));
+
+        tickAt(10_500);
+
+        assertThat(expired).containsExactly("ok");
+        assertThat(manager.size()).isZero();
+    }
+
+    private void tickAt(long now) {
+        clock.set(now);
+        manager.tick();
+    }
+}
@@ -0,0 +1,76 @@
+package com.cherrypick.app.domain.websocket.liveness;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 타이밍 휠 단위 테스트
+ */
+@DisplayName("타이밍 휠 단위 테스트")
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 된 키만 만료 시각 이후 한 틱 안에 꺼낸다")
+    void advance_ReturnsDueKeysWithinOneTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 300);
+        wheel.schedule("c", 900);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        // 250ms 는 올림한 틱(300ms) 버킷에 있으므로 300ms 에 함께 만료
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactlyInAnyOrder("a", "b");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료 시각은 해당 바퀴가 될 때까지 남겨둔다")
+    void advance_KeepsKeysBeyondOneRotation() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        // 800ms 가 한 바퀴이므로 1,250ms 는 250ms 와 같은 버킷
+        wheel.schedule("far", 1_250);
+
+        assertThat(wheel.advance(300)).isEmpty();
+        assertThat(wheel.advance(1_000)).isEmpty();
+        assertThat(wheel.advance(1_300)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("다시 예약하면 만료 시각이 교체되고 취소한 키는 꺼내지 않는다")
+    void scheduleAndCancel_ReplaceOrRemoveKey() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, 0);
+        wheel.schedule("moved", 200);
+        wheel.schedule("moved", 600);
+        wheel.schedule("cancelled", 200);
+
+        assertThat(wheel.cancel("cancelled")).isTrue();
+        assertThat(wheel.cancel("cancelled")).isFalse();
+        assertThat(wheel.advance(500)).isEmpty();
+        assertThat(wheel.advance(600)).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각이나 오래 밀린 advance 도 빠짐없이 만료시킨다")
+    void advance_HandlesPastDeadlinesAndLongGaps() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(100, 8, 1_000);
+        wheel.schedule(1, 500);
+        for (int i = 2; i <= 20; i++) {
+            wheel.schedule(i, 1_000 + i * 100L);
+        }
+
+        assertThat(wheel.advance(1_000)).containsExactly(1);
+        assertThat(wheel.advance(10_000)).hasSize(19);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 크기는 2의 거듭제곱이어야 한다")
+    void constructor_RejectsInvalidSize() {
+        assertThatThrownBy(() -> new TimingWheel<String>(100, 6, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
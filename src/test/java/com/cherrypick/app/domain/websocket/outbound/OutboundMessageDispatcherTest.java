@@ -0,0 +1,154 @@
+package com.cherrypick.app.domain.websocket.outbound;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 비동기 송신 디스패처 단위 테스트
+ */
+@DisplayName("WebSocket 비동기 송신 디스패처 단위 테스트")
+class OutboundMessageDispatcherTest {
+
+    // 작성자 작업을 모아두었다가 테스트에서 직접 실행 (느린 작성자 흉내)
+    private final Queue<Runnable> pendingWriters = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OutboundMessageDispatcher(meterRegistry, pendingWriters::add, 3, 1024, 10_000);
+    }
+
+    @Test
+    @DisplayName("전송은 작성자 스레드에서 추가 순서대로 수행된다")
+    void send_DeliversInOrderOnWriter() throws Exception {
+        WebSocketSession session = session("s1");
+        TextMessage first = new TextMessage("first");
+        TextMessage second = new TextMessage("second");
+
+        assertThat(dispatcher.send(session, first, null)).isTrue();
+        assertThat(dispatcher.send(session, second, null)).isTrue();
+        verify(session, never()).sendMessage(any());
+        // 세션당 작성자 작업은 하나만 예약됨
+        assertThat(pendingWriters).hasSize(1);
+
+        runWriters();
+
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(first, second);
+        assertThat(dispatcher.getBacklogSnapshot().totalFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 병합 키의 대기 프레임은 최신 프레임으로 대체되고 순서는 유지된다")
+    void send_CoalescesPendingFrame() throws Exception {
+        WebSocketSession session = session("s1");
+        TextMessage price1 = new TextMessage("price-1");
+        TextMessage ended = new TextMessage("ended-other");
+        TextMessage price2 = new TextMessage("price-2");
+
+        dispatcher.send(session, price1, "NEW_BID:1");
+        dispatcher.send(session, ended, null);
+        dispatcher.send(session, price2, "NEW_BID:1");
+
+        assertThat(dispatcher.getBacklogSnapshot().totalFrames()).isEqualTo(2);
+        runWriters();
+
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(price2, ended);
+        assertThat(meterRegistry.counter("websocket.outbound.coalesced").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("순번이 붙은 프레임은 대기 프레임을 버리고 맨 뒤에 넣어 병합되므로 순서가 뒤바뀌지 않는다")
+    void send_OrderedCoalesce_MovesToBack() throws Exception {
+        WebSocketSession session = session("s1");
+        TextMessage price1 = new TextMessage("seq-1-price");
+        TextMessage extended = new TextMessage("seq-2-extended");
+        TextMessage price3 = new TextMessage("seq-3-price");
+
+        dispatcher.send(session, price1, "NEW_BID:1", true);
+        dispatcher.send(session, extended, null, true);
+        dispatcher.send(session, price3, "NEW_BID:1", true);
+
+        assertThat(dispatcher.getBacklogSnapshot().totalFrames()).isEqualTo(2);
+        runWriters();
+
+        ArgumentCaptor<TextMessage> captor = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, times(2)).sendMessage(captor.capture());
+        assertThat(captor.getAllValues()).containsExactly(extended, price3);
+        assertThat(dispatcher.getBacklogSnapshot().totalFrames()).isZero();
+        assertThat(meterRegistry.counter("websocket.outbound.coalesced").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 프레임 한도를 넘은 세션은 대기열을 버리고 종료된다")
+    void send_Overflow_EvictsSession() throws Exception {
+        WebSocketSession slow = session("slow");
+        WebSocketSession other = session("other");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(dispatcher.send(slow, new TextMessage("m" + i), null)).isTrue();
+        }
+        assertThat(dispatcher.send(slow, new TextMessage("m3"), null)).isFalse();
+        assertThat(dispatcher.send(other, new TextMessage("ok"), null)).isTrue();
+
+        verify(slow).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("websocket.outbound.evicted", "reason", "overflow").count()).isEqualTo(1.0);
+        assertThat(dispatcher.send(slow, new TextMessage("late"), null)).isFalse();
+
+        runWriters();
+        verify(slow, never()).sendMessage(any());
+        verify(other).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 세션을 정리한다")
+    void send_SendFailure_EvictsSession() throws Exception {
+        WebSocketSession session = session("s1");
+        doThrow(new IOException("broken pipe")).when(session).sendMessage(any());
+
+        dispatcher.send(session, new TextMessage("m"), null);
+        runWriters();
+
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(dispatcher.getBacklogSnapshot().sessions()).isZero();
+    }
+
+    private WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        when(session.isOpen()).thenReturn(true);
+        dispatcher.register(session);
+        return session;
+    }
+
+    private void runWriters() {
+        Runnable writer;
+        while ((writer = pendingWriters.poll()) != null) {
+            writer.run();
+        }
+    }
+}
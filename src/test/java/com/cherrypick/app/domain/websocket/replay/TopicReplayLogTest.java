@@ -0,0 +1,133 @@
+package com.cherrypick.app.domain.websocket.replay;
+
+import com.cherrypick.app.domain.websocket.codec.EncodedFrame;
+import com.cherrypick.app.domain.websocket.codec.WebSocketCodec;
+import com.cherrypick.app.domain.websocket.liveness.SessionLivenessManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 토픽 메시지 기록 단위 테스트
+ */
+@DisplayName("토픽 메시지 기록 단위 테스트")
+class TopicReplayLogTest {
+
+    private final WebSocketCodec codec = new WebSocketCodec(new ObjectMapper());
+    private SessionLivenessManager livenessManager;
+    private TopicReplayLog replayLog;
+
+    @BeforeEach
+    void setUp() {
+        livenessManager = mock(SessionLivenessManager.class);
+        replayLog = new TopicReplayLog("auction", 3, 60_000, livenessManager);
+    }
+
+    @Test
+    @DisplayName("구독한 토픽의 메시지에만 1부터 순번을 붙인다")
+    void append_StampsSequenceOnTrackedTopics() {
+        EncodedFrame frame = codec.encode(Map.of("type", "NEW_BID"));
+        assertThat(replayLog.append(1L, frame)).isSameAs(frame);
+
+        Recorder first = join(1L, null, -1);
+        assertThat(first.seq).isZero();
+        assertThat(replayLog.append(1L, frame).json().getPayload()).isEqualTo("{\"seq\":1,\"type\":\"NEW_BID\"}");
+        assertThat(replayLog.append(1L, codec.encode(Map.of())).json().getPayload()).isEqualTo("{\"seq\":2}");
+    }
+
+    @Test
+    @DisplayName("링에 남아 있는 순번 이후만 재전송하고 밀려났거나 세대가 다르면 전체 조회를 요청한다")
+    void join_ReplaysOnlyWithinRing() {
+        Recorder first = join(1L, null, -1);
+        for (int i = 1; i <= 5; i++) {
+            replayLog.append(1L, codec.encode(Map.of("n", i)));
+        }
+
+        Recorder resumed = join(1L, first.epoch, 3);
+        assertThat(resumed.resyncRequired).isFalse();
+        assertThat(resumed.seq).isEqualTo(5);
+        assertThat(resumed.replayed).containsExactly("{\"seq\":4,\"n\":4}", "{\"seq\":5,\"n\":5}");
+
+        // 용량 3 이므로 순번 3~5 만 남아 있어 2 이후는 이어받을 수 있고 1 이후는 불가
+        assertThat(join(1L, first.epoch, 2).replayed).hasSize(3);
+        assertThat(join(1L, first.epoch, 1).resyncRequired).isTrue();
+        assertThat(join(1L, first.epoch, 5).replayed).isEmpty();
+        assertThat(join(1L, first.epoch, 6).resyncRequired).isTrue();
+        assertThat(join(1L, "other", 4).resyncRequired).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 떠나면 보존 기간 뒤 기록을 버리고 다시 구독하면 새 세대로 시작한다")
+    void retire_ExpiresAfterRetention() {
+        Recorder first = join(1L, null, -1);
+        replayLog.append(1L, codec.encode(Map.of("n", 1)));
+
+        replayLog.retire(1L, id -> false);
+        ArgumentCaptor<Runnable> expiry = ArgumentCaptor.forClass(Runnable.class);
+        verify(livenessManager).register(any(), anyLong(), expiry.capture());
+        // 보존 기간 안에는 계속 기록
+        assertThat(replayLog.append(1L, codec.encode(Map.of("n", 2))).json().getPayload()).startsWith("{\"seq\":2,");
+
+        expiry.getValue().run();
+
+        assertThat(replayLog.isTracking(1L)).isFalse();
+        Recorder rejoined = join(1L, first.epoch, 2);
+        assertThat(rejoined.resyncRequired).isTrue();
+        assertThat(rejoined.epoch).isNotEqualTo(first.epoch);
+    }
+
+    @Test
+    @DisplayName("보존 기간 안에 다시 구독하면 정리 예약을 취소하고 구독자가 있으면 폐기하지 않는다")
+    void rejoin_CancelsRetirement() {
+        join(1L, null, -1);
+        replayLog.retire(1L, id -> false);
+        join(1L, null, -1);
+        verify(livenessManager).cancel(any());
+
+        replayLog.discard(1L, id -> true);
+        assertThat(replayLog.isTracking(1L)).isTrue();
+        replayLog.discard(1L, id -> false);
+        assertThat(replayLog.isTracking(1L)).isFalse();
+    }
+
+    private Recorder join(long topicId, String epoch, long lastSeq) {
+        Recorder recorder = new Recorder();
+        replayLog.join(topicId, epoch, lastSeq, recorder, () -> recorder.subscribed = true);
+        assertThat(recorder.subscribed).isTrue();
+        return recorder;
+    }
+
+    private static class Recorder implements ReplayListener {
+        private String epoch;
+        private long seq;
+        private boolean resyncRequired;
+        private boolean subscribed;
+        private final List<String> replayed = new ArrayList<>();
+
+        @Override
+        public void resumed(String epoch, long seq, boolean resyncRequired) {
+            this.epoch = epoch;
+            this.seq = seq;
+            this.resyncRequired = resyncRequired;
+        }
+
+        @Override
+        public void replay(EncodedFrame frame) {
+            // 구독 등록 전에 재전송해야 함
+            assertThat(subscribed).isFalse();
+            replayed.add(frame.json().getPayload());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * long 키 해시 맵 단위 테스트
+ */
+@DisplayName("long 키 해시 맵 단위 테스트")
+class LongObjectMapTest {
+
+    @Test
+    @DisplayName("저장, 덮어쓰기, 삭제가 HashMap 과 같은 결과를 낸다")
+    void randomOperations_MatchHashMap() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (long i = 0; i < 200_000; i++) {
+            // 하위 비트가 같은 키(스트라이프 분할 시나리오)와 삭제가 섞이도록 구성
+            long key = random.nextInt(3000) * 16L;
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(map.put(key, i)).isEqualTo(expected.put(key, i));
+                case 1 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("0과 음수 키도 저장할 수 있다")
+    void put_ZeroAndNegativeKeys() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(0L, "zero");
+        map.put(-1L, "minus");
+
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.get(-1L)).isEqualTo("minus");
+        assertThat(map.containsKey(1L)).isFalse();
+    }
+}
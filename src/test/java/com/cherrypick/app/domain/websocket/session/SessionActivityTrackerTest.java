@@ -0,0 +1,52 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 활동 시각 기록 단위 테스트
+ */
+@DisplayName("세션 활동 시각 기록 단위 테스트")
+class SessionActivityTrackerTest {
+
+    @Test
+    @DisplayName("지난 drain 이후 활동한 사용자만 세션 중 가장 최근 시각으로 모은다")
+    void drain_ReturnsLatestActivityPerUser() {
+        SessionActivityTracker tracker = new SessionActivityTracker();
+        tracker.register("phone", 7L, 1_000L);
+        tracker.register("tablet", 7L, 1_000L);
+        tracker.register("other", 8L, 1_000L);
+
+        tracker.touch("phone", 2_000L);
+        tracker.touch("tablet", 3_000L);
+        tracker.touch("phone", 2_500L);
+
+        assertThat(tracker.drain()).containsExactly(Map.entry(7L, 3_000L));
+        // 새 활동이 없으면 다시 보고하지 않음
+        assertThat(tracker.drain()).isEmpty();
+
+        tracker.touch("other", 4_000L);
+        assertThat(tracker.drain()).containsExactly(Map.entry(8L, 4_000L));
+    }
+
+    @Test
+    @DisplayName("미인증/해제된 세션의 활동은 무시하고 재인증하면 새 사용자로 보고한다")
+    void touch_IgnoresUnknownSessions() {
+        SessionActivityTracker tracker = new SessionActivityTracker();
+        tracker.touch("anonymous", 2_000L);
+        tracker.register("s1", 7L, 1_000L);
+        tracker.unregister("s1");
+        tracker.touch("s1", 2_000L);
+
+        assertThat(tracker.drain()).isEmpty();
+
+        tracker.register("s1", 9L, 3_000L);
+        tracker.touch("s1", 4_000L);
+        assertThat(tracker.drain()).containsExactly(Map.entry(9L, 4_000L));
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+}
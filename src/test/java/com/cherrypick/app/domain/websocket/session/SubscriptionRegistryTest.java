@@ -0,0 +1,93 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토픽 구독 색인 단위 테스트
+ */
+@DisplayName("토픽 구독 색인 단위 테스트")
+class SubscriptionRegistryTest {
+
+    @Test
+    @DisplayName("첫 구독자와 마지막 구독자 변경을 알려주고 중복 구독은 무시한다")
+    void addAndRemove_ReportFirstAndLastSubscriber() {
+        SubscriptionRegistry registry = new SubscriptionRegistry();
+        WebSocketSession first = session("s1");
+        WebSocketSession second = session("s2");
+
+        assertThat(registry.add(10L, first)).isTrue();
+        assertThat(registry.add(10L, second)).isFalse();
+        assertThat(registry.add(10L, first)).isFalse();
+        assertThat(registry.add(11L, first)).isTrue();
+        assertThat(registry.size(10L)).isEqualTo(2);
+        assertThat(registry.topicCount()).isEqualTo(2);
+
+        assertThat(registry.remove(10L, "s1")).isFalse();
+        assertThat(registry.remove(10L, "unknown")).isFalse();
+        assertThat(registry.remove(10L, "s2")).isTrue();
+        assertThat(registry.remove(10L, "s2")).isFalse();
+
+        assertThat(registry.size(10L)).isZero();
+        assertThat(registry.members(10L).isEmpty()).isTrue();
+        assertThat(registry.topicCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 이후 추가/제거의 영향을 받지 않는다")
+    void members_SnapshotIsStable() {
+        SubscriptionRegistry registry = new SubscriptionRegistry();
+        WebSocketSession a = session("a");
+        WebSocketSession b = session("b");
+        WebSocketSession c = session("c");
+        registry.add(10L, a);
+        registry.add(10L, b);
+        registry.add(10L, c);
+
+        SubscriptionRegistry.Members snapshot = registry.members(10L);
+        registry.remove(10L, "a");
+        registry.add(10L, session("d"));
+
+        assertThat(sessionIds(snapshot)).containsExactly("a", "b", "c");
+        assertThat(sessionIds(registry.members(10L))).containsExactlyInAnyOrder("b", "c", "d");
+    }
+
+    @Test
+    @DisplayName("많은 구독자를 추가/제거해도 남은 구독자가 정확하다")
+    void removeFromMiddle_KeepsRemainingMembers() {
+        SubscriptionRegistry registry = new SubscriptionRegistry();
+        for (int i = 0; i < 1_000; i++) {
+            registry.add(7L, session("s" + i));
+        }
+        for (int i = 0; i < 1_000; i += 2) {
+            registry.remove(7L, "s" + i);
+        }
+
+        List<String> remaining = sessionIds(registry.members(7L));
+        assertThat(remaining).hasSize(500).allMatch(id -> Integer.parseInt(id.substring(1)) % 2 == 1);
+        assertThat(registry.remove(7L, "s999")).isFalse();
+        assertThat(registry.size(7L)).isEqualTo(499);
+    }
+
+    private List<String> sessionIds(SubscriptionRegistry.Members members) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            ids.add(members.get(i).getId());
+        }
+        return ids;
+    }
+
+    private WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        return session;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cherrypick.app.domain.websocket.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 사용자 세션 역색인 단위 테스트
+ */
+@DisplayName("사용자 세션 역색인 단위 테스트")
+class UserSessionIndexTest {
+
+    @Test
+    @DisplayName("사용자별 세션을 등록 순서대로 반환하고 중복 등록은 무시한다")
+    void add_ReturnsSessionsOfUser() {
+        UserSessionIndex index = new UserSessionIndex();
+        WebSocketSession phone = session("phone");
+        WebSocketSession tablet = session("tablet");
+        WebSocketSession other = session("other");
+
+        assertThat(index.add(1L, phone)).isTrue();
+        assertThat(index.add(1L, tablet)).isFalse();
+        assertThat(index.add(1L, phone)).isFalse();
+        assertThat(index.add(2L, other)).isTrue();
+
+        assertThat(index.sessionsOf(1L)).containsExactly(phone, tablet);
+        assertThat(index.sessionsOf(2L)).containsExactly(other);
+        assertThat(index.sessionsOf(3L)).isEmpty();
+        assertThat(index.userCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 제거되면 사용자 항목도 제거되고 이전 조회 결과는 바뀌지 않는다")
+    void remove_LastSession_RemovesUser() {
+        UserSessionIndex index = new UserSessionIndex();
+        WebSocketSession phone = session("phone");
+        WebSocketSession tablet = session("tablet");
+        index.add(1L, phone);
+        index.add(1L, tablet);
+
+        WebSocketSession[] snapshot = index.sessionsOf(1L);
+        assertThat(index.remove(1L, "phone")).isFalse();
+
+        assertThat(index.sessionsOf(1L)).containsExactly(tablet);
+        assertThat(snapshot).containsExactly(phone, tablet);
+
+        assertThat(index.remove(1L, "tablet")).isTrue();
+        assertThat(index.remove(1L, "unknown")).isFalse();
+
+        assertThat(index.sessionsOf(1L)).isEmpty();
+        assertThat(index.userCount()).isZero();
+    }
+
+    private WebSocketSession session(String sessionId) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(sessionId);
+        return session;
+    }
+}
@@ -0,0 +1,110 @@
+package com.cherrypick.app.domain.websocket.tick;
+
+import com.cherrypick.app.config.WebSocketHandler;
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage;
+import com.cherrypick.app.domain.websocket.dto.AuctionUpdateMessage.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 경매 가격 갱신 병합기 단위 테스트
+ * 창 종료는 스케줄러 대신 closeWindow 를 직접 호출해 결정적으로 검증한다.
+ */
+@DisplayName("경매 가격 갱신 병합기 단위 테스트")
+class AuctionTickAggregatorTest {
+
+    private static final String DESTINATION = "/topic/auctions/1";
+
+    private WebSocketHandler handler;
+    private ScheduledExecutorService scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionTickAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        handler = mock(WebSocketHandler.class);
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        // 창이 저절로 닫히지 않도록 충분히 긴 창 사용
+        aggregator = new AuctionTickAggregator(handler, meterRegistry, 3_600_000, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("첫 갱신은 바로 보내고 창 안의 갱신은 최신 상태 스냅샷 하나로 합쳐 보낸다")
+    void submit_MergesUpdatesWithinWindow() {
+        aggregator.submit(AuctionUpdateMessage.newBid(1L, BigDecimal.valueOf(10000), 1, "A"));
+        verify(handler, times(1)).sendToAuctionSubscribers(eq(DESTINATION), any());
+        clearInvocations(handler);
+
+        for (int i = 2; i <= 20; i++) {
+            aggregator.submit(AuctionUpdateMessage.autoBidCompeting(1L, BigDecimal.valueOf(10000 + i * 500), i));
+        }
+        LocalDateTime extendedEndAt = LocalDateTime.now().plusMinutes(3);
+        aggregator.submit(AuctionUpdateMessage.auctionExtended(1L, extendedEndAt, BigDecimal.valueOf(20000), 20));
+        aggregator.submit(AuctionUpdateMessage.newBid(1L, BigDecimal.valueOf(20500), 21, "B"));
+        verify(handler, never()).sendToAuctionSubscribers(eq(DESTINATION), any());
+
+        aggregator.closeWindow(1L);
+
+        AuctionUpdateMessage snapshot = sentMessages(1).get(0);
+        assertThat(snapshot.getMessageType()).isEqualTo(MessageType.AUCTION_EXTENDED);
+        assertThat(snapshot.getCurrentPrice()).isEqualByComparingTo("20500");
+        assertThat(snapshot.getBidCount()).isEqualTo(21);
+        assertThat(snapshot.getHighestBidderNickname()).isEqualTo("B");
+        assertThat(snapshot.getEndAt()).isEqualTo(extendedEndAt);
+        assertThat(meterRegistry.counter("websocket.tick.received").count()).isEqualTo(22.0);
+        assertThat(meterRegistry.counter("websocket.tick.sent").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("flush 는 대기 중인 스냅샷을 즉시 보내고 창이 갱신 없이 닫히면 다음 갱신은 다시 바로 보낸다")
+    void flush_SendsPendingImmediately() {
+        aggregator.submit(AuctionUpdateMessage.newBid(1L, BigDecimal.valueOf(10000), 1, "A"));
+        aggregator.submit(AuctionUpdateMessage.newBid(1L, BigDecimal.valueOf(11000), 2, "B"));
+        clearInvocations(handler);
+
+        aggregator.flush(1L);
+        assertThat(sentMessages(1).get(0).getCurrentPrice()).isEqualByComparingTo("11000");
+        clearInvocations(handler);
+
+        // 대기 중인 갱신이 없으므로 창 종료 시 보내지 않고 상태를 정리
+        aggregator.closeWindow(1L);
+        aggregator.closeWindow(1L);
+        verify(handler, never()).sendToAuctionSubscribers(eq(DESTINATION), any());
+
+        aggregator.submit(AuctionUpdateMessage.bidCountUpdate(1L, 3));
+        AuctionUpdateMessage next = sentMessages(1).get(0);
+        assertThat(next.getMessageType()).isEqualTo(MessageType.BIDDER_COUNT_CHANGED);
+        assertThat(next.getBidCount()).isEqualTo(3);
+    }
+
+    private List<AuctionUpdateMessage> sentMessages(int expected) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(handler, times(expected)).sendToAuctionSubscribers(eq(DESTINATION), captor.capture());
+        return captor.getAllValues().stream().map(AuctionUpdateMessage.class::cast).toList();
+    }
+}